@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.benchmark;
+
+import com.klaytn.caver.abi.ABI;
+import com.klaytn.caver.abi.datatypes.Type;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks encoding a function call and decoding parameters with static, dynamic and struct types.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AbiBenchmark {
+    private static final String ADDRESS = "0x7b65b75d204abed71587c9e519a89277766ee1d0";
+
+    @Param({"static", "dynamic", "struct"})
+    public String kind;
+
+    private String functionSignature;
+    private List<String> solidityTypes;
+    private List<Object> params;
+    private String encodedParams;
+
+    @Setup
+    public void setup() throws Exception {
+        switch(kind) {
+            case "static":
+                functionSignature = "transferFrom(address,address,uint256)";
+                solidityTypes = Arrays.asList("address", "address", "uint256");
+                params = Arrays.asList(ADDRESS, ADDRESS, BigInteger.valueOf(12345));
+                break;
+            case "dynamic":
+                functionSignature = "setData(string,bytes,uint256[])";
+                solidityTypes = Arrays.asList("string", "bytes", "uint256[]");
+                params = Arrays.asList("caver-java benchmark", "0x0102030405060708090a0b0c0d0e0f10", numbers(16));
+                break;
+            case "struct":
+                functionSignature = "setListing(tuple(uint256,address,string),tuple(bool,int256)[])";
+                solidityTypes = Arrays.asList("tuple(uint256,address,string)", "tuple(bool,int256)[]");
+                params = Arrays.asList(
+                        Arrays.asList(BigInteger.valueOf(1), ADDRESS, "listing"),
+                        Arrays.asList(Arrays.asList(true, BigInteger.valueOf(-1)), Arrays.asList(false, BigInteger.valueOf(2)))
+                );
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported kind: " + kind);
+        }
+        encodedParams = ABI.encodeParameters(solidityTypes, params);
+    }
+
+    @Benchmark
+    public String encodeFunctionCall() throws Exception {
+        return ABI.encodeFunctionCall(functionSignature, solidityTypes, params);
+    }
+
+    @Benchmark
+    public List<Type> decodeParameters() throws ClassNotFoundException {
+        return ABI.decodeParameters(solidityTypes, encodedParams);
+    }
+
+    private static List<BigInteger> numbers(int count) {
+        List<BigInteger> numbers = new ArrayList<>();
+        for(int i = 0; i < count; i++) {
+            numbers.add(BigInteger.valueOf(i * 1000L));
+        }
+        return numbers;
+    }
+}
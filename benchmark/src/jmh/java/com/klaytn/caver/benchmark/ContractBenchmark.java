@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.benchmark;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.contract.Contract;
+import com.klaytn.caver.kct.kip7.KIP7ConstantData;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks creating a Contract instance from the KIP-7 ABI.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContractBenchmark {
+    private static final String CONTRACT_ADDRESS = "0x7b65b75d204abed71587c9e519a89277766ee1d0";
+
+    private Caver caver;
+
+    @Setup
+    public void setup() {
+        caver = new Caver();
+    }
+
+    @Benchmark
+    public Contract create() throws IOException {
+        return new Contract(caver, KIP7ConstantData.ABI, CONTRACT_ADDRESS);
+    }
+}
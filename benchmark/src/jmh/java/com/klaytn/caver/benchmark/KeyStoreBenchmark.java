@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.benchmark;
+
+import com.klaytn.caver.wallet.keyring.AbstractKeyring;
+import com.klaytn.caver.wallet.keyring.KeyStore;
+import com.klaytn.caver.wallet.keyring.KeyStoreOption;
+import com.klaytn.caver.wallet.keyring.KeyringFactory;
+import com.klaytn.caver.wallet.keyring.RoleBasedKeyring;
+import org.openjdk.jmh.annotations.*;
+import org.web3j.crypto.CipherException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks encrypting and decrypting keystores with the default scrypt and pbkdf2 options.
+ * The role-based keyring has 5 keys for each of the 3 roles.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeyStoreBenchmark {
+    private static final String PASSWORD = "password";
+
+    @Param({"scrypt", "pbkdf2"})
+    public String kdf;
+
+    private KeyStore keyStore;
+
+    private RoleBasedKeyring roleBasedKeyring;
+    private KeyStore roleBasedKeyStore;
+
+    @Setup
+    public void setup() throws CipherException {
+        keyStore = SampleTransactions.SENDER.encrypt(PASSWORD, KeyStoreOption.getDefaultOptionWithKDF(kdf));
+
+        roleBasedKeyring = KeyringFactory.createWithRoleBasedKey(
+                SampleTransactions.SENDER.getAddress(),
+                KeyringFactory.generateRoleBasedKeys(new int[]{5, 5, 5}));
+        roleBasedKeyStore = roleBasedKeyring.encrypt(PASSWORD, KeyStoreOption.getDefaultOptionWithKDF(kdf));
+    }
+
+    @Benchmark
+    public AbstractKeyring decrypt() throws CipherException {
+        return KeyringFactory.decrypt(keyStore, PASSWORD);
+    }
+
+    @Benchmark
+    public KeyStore encryptRoleBased() throws CipherException {
+        return roleBasedKeyring.encrypt(PASSWORD, KeyStoreOption.getDefaultOptionWithKDF(kdf));
+    }
+
+    @Benchmark
+    public AbstractKeyring decryptRoleBased() throws CipherException {
+        return KeyringFactory.decrypt(roleBasedKeyStore, PASSWORD);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.benchmark;
+
+import com.klaytn.caver.account.Account;
+import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
+import com.klaytn.caver.transaction.AbstractFeeDelegatedWithRatioTransaction;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.type.*;
+import com.klaytn.caver.wallet.keyring.KeyringFactory;
+import com.klaytn.caver.wallet.keyring.SingleKeyring;
+
+import java.io.IOException;
+
+/**
+ * Creates the signed transactions of every TransactionType used as inputs of the benchmarks.<p>
+ * All fields are filled in advance, so signing does not need a Klaytn node.
+ */
+final class SampleTransactions {
+    static final SingleKeyring SENDER = KeyringFactory.createFromPrivateKey("0x45a915e4d060149eb4365960e6a7a45f334393093061116b197e3240065ff2d8");
+    static final SingleKeyring FEE_PAYER = KeyringFactory.createFromPrivateKey("0xb9d5558443585bca6f225b935950e3f6e69f9da8a5809a83f51c3365dff53936");
+
+    static final String TO = "0x7b65b75d204abed71587c9e519a89277766ee1d0";
+    static final String INPUT = "0xa9059cbb0000000000000000000000008a4c9c443bb0645df646a2d5bb55def0ed1e885a0000000000000000000000000000000000000000000000000000000000003039";
+
+    private SampleTransactions() {
+    }
+
+    /**
+     * Creates a transaction of the type signed by the sender, and by the fee payer if it is a fee delegated transaction.
+     * @param type The type of the transaction.
+     * @return AbstractTransaction
+     * @throws IOException
+     */
+    static AbstractTransaction create(TransactionType type) throws IOException {
+        AbstractTransaction transaction = build(type);
+        transaction.sign(SENDER);
+        if(transaction instanceof AbstractFeeDelegatedTransaction) {
+            ((AbstractFeeDelegatedTransaction)transaction).signAsFeePayer(FEE_PAYER);
+        }
+        return transaction;
+    }
+
+    private static AbstractTransaction build(TransactionType type) {
+        switch(type) {
+            case TxTypeLegacyTransaction:
+                return fill(new LegacyTransaction.Builder()).setTo(TO).setValue("0xa").setInput(INPUT).setGasPrice("0x19").build();
+
+            case TxTypeValueTransfer:
+                return fill(new ValueTransfer.Builder()).setTo(TO).setValue("0xa").setGasPrice("0x19").build();
+            case TxTypeFeeDelegatedValueTransfer:
+                return fill(new FeeDelegatedValueTransfer.Builder()).setTo(TO).setValue("0xa").setGasPrice("0x19").build();
+            case TxTypeFeeDelegatedValueTransferWithRatio:
+                return withRatio(new FeeDelegatedValueTransferWithRatio.Builder()).setTo(TO).setValue("0xa").setGasPrice("0x19").build();
+
+            case TxTypeValueTransferMemo:
+                return fill(new ValueTransferMemo.Builder()).setTo(TO).setValue("0xa").setInput(INPUT).setGasPrice("0x19").build();
+            case TxTypeFeeDelegatedValueTransferMemo:
+                return fill(new FeeDelegatedValueTransferMemo.Builder()).setTo(TO).setValue("0xa").setInput(INPUT).setGasPrice("0x19").build();
+            case TxTypeFeeDelegatedValueTransferMemoWithRatio:
+                return withRatio(new FeeDelegatedValueTransferMemoWithRatio.Builder()).setTo(TO).setValue("0xa").setInput(INPUT).setGasPrice("0x19").build();
+
+            case TxTypeAccountUpdate:
+                return fill(new AccountUpdate.Builder()).setAccount(account()).setGasPrice("0x19").build();
+            case TxTypeFeeDelegatedAccountUpdate:
+                return fill(new FeeDelegatedAccountUpdate.Builder()).setAccount(account()).setGasPrice("0x19").build();
+            case TxTypeFeeDelegatedAccountUpdateWithRatio:
+                return withRatio(new FeeDelegatedAccountUpdateWithRatio.Builder()).setAccount(account()).setGasPrice("0x19").build();
+
+            case TxTypeSmartContractDeploy:
+                return fill(new SmartContractDeploy.Builder()).setValue("0x0").setInput(INPUT).setHumanReadable(false).setCodeFormat("0x0").setGasPrice("0x19").build();
+            case TxTypeFeeDelegatedSmartContractDeploy:
+                return fill(new FeeDelegatedSmartContractDeploy.Builder()).setValue("0x0").setInput(INPUT).setHumanReadable(false).setCodeFormat("0x0").setGasPrice("0x19").build();
+            case TxTypeFeeDelegatedSmartContractDeployWithRatio:
+                return withRatio(new FeeDelegatedSmartContractDeployWithRatio.Builder()).setValue("0x0").setInput(INPUT).setHumanReadable(false).setCodeFormat("0x0").setGasPrice("0x19").build();
+
+            case TxTypeSmartContractExecution:
+                return fill(new SmartContractExecution.Builder()).setTo(TO).setValue("0x0").setInput(INPUT).setGasPrice("0x19").build();
+            case TxTypeFeeDelegatedSmartContractExecution:
+                return fill(new FeeDelegatedSmartContractExecution.Builder()).setTo(TO).setValue("0x0").setInput(INPUT).setGasPrice("0x19").build();
+            case TxTypeFeeDelegatedSmartContractExecutionWithRatio:
+                return withRatio(new FeeDelegatedSmartContractExecutionWithRatio.Builder()).setTo(TO).setValue("0x0").setInput(INPUT).setGasPrice("0x19").build();
+
+            case TxTypeCancel:
+                return fill(new Cancel.Builder()).setGasPrice("0x19").build();
+            case TxTypeFeeDelegatedCancel:
+                return fill(new FeeDelegatedCancel.Builder()).setGasPrice("0x19").build();
+            case TxTypeFeeDelegatedCancelWithRatio:
+                return withRatio(new FeeDelegatedCancelWithRatio.Builder()).setGasPrice("0x19").build();
+
+            case TxTypeChainDataAnchoring:
+                return fill(new ChainDataAnchoring.Builder()).setInput(INPUT).setGasPrice("0x19").build();
+            case TxTypeFeeDelegatedChainDataAnchoring:
+                return fill(new FeeDelegatedChainDataAnchoring.Builder()).setInput(INPUT).setGasPrice("0x19").build();
+            case TxTypeFeeDelegatedChainDataAnchoringWithRatio:
+                return withRatio(new FeeDelegatedChainDataAnchoringWithRatio.Builder()).setInput(INPUT).setGasPrice("0x19").build();
+
+            case TxTypeEthereumAccessList:
+                return fill(new EthereumAccessList.Builder()).setTo(TO).setValue("0xa").setInput(INPUT).setGasPrice("0x19").build();
+            case TxTypeEthereumDynamicFee:
+                return fill(new EthereumDynamicFee.Builder()).setTo(TO).setValue("0xa").setInput(INPUT).setMaxPriorityFeePerGas("0x19").setMaxFeePerGas("0x19").build();
+
+            default:
+                throw new IllegalArgumentException("Unsupported transaction type: " + type);
+        }
+    }
+
+    private static <B extends AbstractTransaction.Builder<B>> B fill(B builder) {
+        return builder.setFrom(SENDER.getAddress())
+                .setNonce("0x4d2")
+                .setGas("0xf4240")
+                .setChainId("0x2710");
+    }
+
+    private static <B extends AbstractFeeDelegatedWithRatioTransaction.Builder<B>> B withRatio(B builder) {
+        return fill(builder).setFeeRatio("0x1e");
+    }
+
+    private static Account account() {
+        return Account.createWithAccountKeyPublic(SENDER.getAddress(), SENDER.getPublicKey());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.benchmark;
+
+import com.klaytn.caver.crypto.Secp256k1;
+import com.klaytn.caver.utils.Utils;
+import com.klaytn.caver.wallet.keyring.PrivateKey;
+import com.klaytn.caver.wallet.keyring.SignatureData;
+import org.openjdk.jmh.annotations.*;
+import org.web3j.crypto.ECDSASignature;
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.Sign;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.security.SignatureException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks signing and public key recovery.<p>
+ * The web3j benchmarks measure web3j's Sign class, to compare it with the {@link Secp256k1} implementation in use.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SignatureBenchmark {
+    private static final int CHAIN_ID = 10000;
+
+    private PrivateKey privateKey;
+    private String hash;
+    private byte[] hashBytes;
+    private SignatureData signatureData;
+
+    @Setup
+    public void setup() {
+        privateKey = new PrivateKey("0x45a915e4d060149eb4365960e6a7a45f334393093061116b197e3240065ff2d8");
+        hashBytes = Hash.sha3("caver-java benchmark".getBytes());
+        hash = Numeric.toHexString(hashBytes);
+        signatureData = privateKey.sign(hash, CHAIN_ID);
+    }
+
+    @Benchmark
+    public SignatureData sign() {
+        return privateKey.sign(hash, CHAIN_ID);
+    }
+
+    @Benchmark
+    public Sign.SignatureData secp256k1Sign() {
+        return Secp256k1.sign(hashBytes, privateKey.getKeyPair());
+    }
+
+    @Benchmark
+    public Sign.SignatureData web3jSign() {
+        return Sign.signMessage(hashBytes, privateKey.getKeyPair(), false);
+    }
+
+    @Benchmark
+    public String recoverPublicKey() throws SignatureException {
+        return Utils.recoverPublicKey(hashBytes, signatureData);
+    }
+
+    @Benchmark
+    public BigInteger web3jRecoverPublicKey() {
+        ECDSASignature signature = new ECDSASignature(Numeric.toBigInt(signatureData.getR()), Numeric.toBigInt(signatureData.getS()));
+        return Sign.recoverFromSignature(signatureData.getRecoverId(), signature, hashBytes);
+    }
+}
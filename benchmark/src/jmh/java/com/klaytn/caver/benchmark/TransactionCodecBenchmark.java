@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.benchmark;
+
+import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.transaction.TransactionHasher;
+import com.klaytn.caver.transaction.type.TransactionType;
+import org.openjdk.jmh.annotations.*;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the RLP encoding, decoding, hashing and signer recovery of every TransactionType.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionCodecBenchmark {
+    @Param
+    public TransactionType type;
+
+    private AbstractTransaction transaction;
+    private byte[] rlpEncoded;
+
+    @Setup
+    public void setup() throws IOException {
+        transaction = SampleTransactions.create(type);
+        rlpEncoded = Numeric.hexStringToByteArray(transaction.getRLPEncoding());
+    }
+
+    @Benchmark
+    public String getRLPEncoding() {
+        return transaction.getRLPEncoding();
+    }
+
+    @Benchmark
+    public AbstractTransaction decode() {
+        return TransactionDecoder.decode(rlpEncoded);
+    }
+
+    @Benchmark
+    public String getHashForSignature() {
+        return TransactionHasher.getHashForSignature(transaction);
+    }
+
+    @Benchmark
+    public List<String> recoverPublicKeys() {
+        return transaction.recoverPublicKeys();
+    }
+}
@@ -48,15 +48,7 @@ public class ABI {
      * @return String
      */
     public static String encodeFunctionCall(ContractMethod method, List<Object> params) throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        String functionSignature = ABI.buildFunctionString(method);
-
-        List<String> solTypeList = new ArrayList();
-
-        for (ContractIOType contractIOType : method.getInputs()) {
-            solTypeList.add(contractIOType.getTypeAsString());
-        }
-
-        return encodeFunctionCall(functionSignature, solTypeList, params);
+        return method.getFunctionSelector() + method.getInputCodec().encode(params);
     }
 
     /**
@@ -79,7 +71,7 @@ public class ABI {
      * @return String
      */
     public static String encodeFunctionCallWithSolidityWrapper(ContractMethod method, List<Type> params) {
-        String methodId = encodeFunctionSignature(method);
+        String methodId = method.getFunctionSelector();
         String encodedArguments = ABI.encodeParameters(params);
 
         return methodId + encodedArguments;
@@ -214,12 +206,7 @@ public class ABI {
      * @throws IllegalAccessException
      */
     public static String encodeParameters(ContractMethod method, List<Object> values) throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        List<String> solTypeList = new ArrayList<>();
-        for(ContractIOType type : method.getInputs()) {
-            solTypeList.add(type.getTypeAsString());
-        }
-
-        return encodeParameters(solTypeList, values);
+        return method.getInputCodec().encode(values);
     }
 
     /**
@@ -261,6 +248,15 @@ public class ABI {
         return new DefaultFunctionEncoder().encodeParameters(parameters);
     }
 
+    /**
+     * Encodes parameters based on its type to its ABI representation and returns the result as a byte array.
+     * @param parameters A List of parameters that wrappped solidity type wrapper
+     * @return byte[]
+     */
+    public static byte[] encodeParametersToBytes(List<Type> parameters) {
+        return new DefaultFunctionEncoder().encodeParametersToBytes(parameters);
+    }
+
     /**
      * Decodes an ABI encoded parameter.
      * @param solidityType A solidity type string.
@@ -289,6 +285,23 @@ public class ABI {
         return FunctionReturnDecoder.decode(encoded, params);
     }
 
+    /**
+     * Decodes an ABI encoded parameters.
+     * @param solidityTypeList A List of solidity type string.
+     * @param encoded The ABI encoded bytes to decode
+     * @return List
+     * @throws ClassNotFoundException
+     */
+    public static List<Type> decodeParameters(List<String> solidityTypeList, byte[] encoded) throws ClassNotFoundException {
+        List<TypeReference<Type>> params = new ArrayList<>();
+
+        for(String solType : solidityTypeList) {
+            params.add(TypeReference.makeTypeReference(solType));
+        }
+
+        return FunctionReturnDecoder.decode(encoded, params);
+    }
+
     /**
      * Decodes an ABI encoded output parameters.
      * @param method A ContractMethod instance.
@@ -297,13 +310,36 @@ public class ABI {
      * @throws ClassNotFoundException
      */
     public static List<Type> decodeParameters(ContractMethod method, String encoded) throws ClassNotFoundException {
-        List<TypeReference<Type>> resultParams = new ArrayList<>();
+        return method.getOutputCodec().decode(encoded);
+    }
 
-        for(ContractIOType ioType: method.getOutputs()) {
-            resultParams.add(TypeReference.makeTypeReference(ioType.getTypeAsString()));
+    /**
+     * Returns the views of ABI encoded parameters, which are decoded on access.<p>
+     * Unlike decodeParameters, an element of an array or a struct is decoded only when it is accessed.
+     * @param solidityTypeList A List of solidity type string.
+     * @param encoded The ABI byte code to decode
+     * @return List&lt;LazyValue&gt;
+     * @throws ClassNotFoundException
+     */
+    public static List<LazyValue> decodeParametersLazy(List<String> solidityTypeList, String encoded) throws ClassNotFoundException {
+        List<TypeReference<Type>> params = new ArrayList<>();
+
+        for(String solType : solidityTypeList) {
+            params.add(TypeReference.makeTypeReference(solType));
         }
 
-        return FunctionReturnDecoder.decode(encoded, resultParams);
+        return FunctionReturnDecoder.decodeLazy(encoded, params);
+    }
+
+    /**
+     * Returns the views of ABI encoded output parameters, which are decoded on access.
+     * @param method A ContractMethod instance.
+     * @param encoded The ABI byte code to decode
+     * @return List&lt;LazyValue&gt;
+     * @throws ClassNotFoundException
+     */
+    public static List<LazyValue> decodeParametersLazy(ContractMethod method, String encoded) throws ClassNotFoundException {
+        return method.getOutputCodec().decodeLazy(encoded);
     }
 
     /**
@@ -338,6 +374,28 @@ public class ABI {
         return new EventValues(indexedValues, nonIndexedValues);
     }
 
+    /**
+     * Decodes an ABI encoded log data and indexed topic data with the codecs of the event.
+     * @param event A ContractEvent instance.
+     * @param data An ABI-encoded in the data field of a log
+     * @param topics A list of indexed parameter topics of the log.
+     * @return EventValues
+     * @throws ClassNotFoundException
+     */
+    public static EventValues decodeLog(ContractEvent event, String data, List<String> topics) throws ClassNotFoundException {
+        List<Type> nonIndexedValues = event.getNonIndexedCodec().decode(data);
+        List<TypeReference<Type>> indexedList = event.getIndexedCodec().getTypeReferences();
+        List<Type> indexedValues = new ArrayList<>(indexedList.size());
+
+        for(int i=0; i < indexedList.size(); i++) {
+            Type value = FunctionReturnDecoder.decodeIndexedValue(
+                    topics.get(i + 1), indexedList.get(i));
+            indexedValues.add(value);
+        }
+
+        return new EventValues(indexedValues, nonIndexedValues);
+    }
+
     /**
      * Decodes a function call data that composed of function selector and encoded input argument.
      * <pre>Example :
@@ -410,13 +468,6 @@ public class ABI {
             throw new IllegalArgumentException("Invalid function signature: The function signature of the abi as a parameter and the function signatures extracted from the function call string do not match.");
         }
 
-        List<String> inputs = findMethod.getInputs()
-                .stream()
-                .map(ContractIOType::getTypeAsString)
-                .collect(Collectors.toList());
-
-        List<Type> decoded = decodeParameters(inputs, encodedParams);
-
-        return decoded;
+        return findMethod.getInputCodec().decode(encodedParams);
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.abi;
+
+import com.klaytn.caver.abi.datatypes.Type;
+import com.klaytn.caver.methods.response.KlayLogs;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the values of a log decoded by {@link EventDecoder}.<p>
+ * It has the values of the fields selected in the EventDecoder, in the order of the field names.
+ * <pre>Example :
+ * {@code
+ * DecodedEvent transfer = decoder.decode(log);
+ * Address from = transfer.getValue("from");
+ * Uint256 value = transfer.getValue("value");
+ * }
+ * </pre>
+ */
+public class DecodedEvent {
+    /**
+     * The decoded log.
+     */
+    private final KlayLogs.Log log;
+
+    /**
+     * The names of the decoded fields.
+     */
+    private final List<String> names;
+
+    /**
+     * The map where a field name and its position in the values mapped.
+     */
+    private final Map<String, Integer> positions;
+
+    /**
+     * The decoded values.
+     */
+    private final Type[] values;
+
+    DecodedEvent(KlayLogs.Log log, List<String> names, Map<String, Integer> positions, Type[] values) {
+        this.log = log;
+        this.names = names;
+        this.positions = positions;
+        this.values = values;
+    }
+
+    /**
+     * Getter function for log.
+     * @return KlayLogs.Log
+     */
+    public KlayLogs.Log getLog() {
+        return log;
+    }
+
+    /**
+     * Returns the names of the decoded fields.
+     * @return List&lt;String&gt;
+     */
+    public List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Returns the decoded values in the order of the field names.
+     * @return List&lt;Type&gt;
+     */
+    public List<Type> getValues() {
+        return Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    /**
+     * Returns the decoded value at the position.
+     * @param index The position of the field in the field names.
+     * @param <T> The type of the value.
+     * @return T
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Type> T getValue(int index) {
+        return (T)values[index];
+    }
+
+    /**
+     * Returns the decoded value of the field.
+     * @param name The name of the field.
+     * @param <T> The type of the value.
+     * @return T
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Type> T getValue(String name) {
+        Integer index = positions.get(name);
+        if(index == null) {
+            throw new IllegalArgumentException("The field '" + name + "' is not decoded.");
+        }
+        return (T)values[index];
+    }
+}
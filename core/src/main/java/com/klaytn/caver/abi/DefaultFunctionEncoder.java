@@ -21,8 +21,9 @@
 package com.klaytn.caver.abi;
 
 import com.klaytn.caver.abi.datatypes.*;
+import org.web3j.utils.Numeric;
 
-import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 public class DefaultFunctionEncoder extends FunctionEncoder {
@@ -34,41 +35,58 @@ public class DefaultFunctionEncoder extends FunctionEncoder {
         final String methodSignature = buildMethodSignature(function.getName(), parameters);
         final String methodId = buildMethodId(methodSignature);
 
-        final StringBuilder result = new StringBuilder();
-        result.append(methodId);
-
-        return encodeParameters(parameters, result);
+        return methodId + Numeric.toHexStringNoPrefix(encodeParametersToBytes(parameters));
     }
 
     @Override
     public String encodeParameters(final List<Type> parameters) {
-        return encodeParameters(parameters, new StringBuilder());
+        return Numeric.toHexStringNoPrefix(encodeParametersToBytes(parameters));
     }
 
-    private static String encodeParameters(
-            final List<Type> parameters, final StringBuilder result) {
-
-        int dynamicDataOffset = getLength(parameters) * Type.MAX_BYTE_LENGTH;
-        final StringBuilder dynamicData = new StringBuilder();
+    @Override
+    public byte[] encodeParametersToBytes(final List<Type> parameters) {
+        return encodeParametersToBytes(parameters, getLength(parameters) * Type.MAX_BYTE_LENGTH);
+    }
 
+    /**
+     * Encodes the parameters whose head part has the given length.
+     * @param parameters The parameters to encode.
+     * @param headLength The length of the head part in bytes.
+     * @return byte[]
+     */
+    static byte[] encodeParametersToBytes(final List<Type> parameters, final int headLength) {
+        int length = 0;
         for (Type parameter : parameters) {
-            final String encodedValue = TypeEncoder.encode(parameter);
-
             if (TypeEncoder.isDynamic(parameter)) {
-                final String encodedDataOffset =
-                        TypeEncoder.encodeNumeric(new Uint(BigInteger.valueOf(dynamicDataOffset)));
-                result.append(encodedDataOffset);
-                dynamicData.append(encodedValue);
-                dynamicDataOffset += encodedValue.length() >> 1;
-            } else {
-                result.append(encodedValue);
+                length += Type.MAX_BYTE_LENGTH;
             }
+            length += TypeEncoder.encodedLength(parameter);
         }
-        result.append(dynamicData);
 
-        return result.toString();
+        final byte[] result = new byte[length];
+        final ByteBuffer buffer = ByteBuffer.wrap(result);
+        encodeParameters(parameters, headLength, buffer);
+        return result;
     }
 
+    private static void encodeParameters(
+            final List<Type> parameters, final int headLength, final ByteBuffer buffer) {
+
+        long dynamicDataOffset = headLength;
+        for (Type parameter : parameters) {
+            if (TypeEncoder.isDynamic(parameter)) {
+                TypeEncoder.writeWord(dynamicDataOffset, buffer);
+                dynamicDataOffset += TypeEncoder.encodedLength(parameter);
+            } else {
+                TypeEncoder.encode(parameter, buffer);
+            }
+        }
+        for (Type parameter : parameters) {
+            if (TypeEncoder.isDynamic(parameter)) {
+                TypeEncoder.encode(parameter, buffer);
+            }
+        }
+    }
     @SuppressWarnings("unchecked")
     private static int getLength(final List<Type> parameters) {
         int count = 0;
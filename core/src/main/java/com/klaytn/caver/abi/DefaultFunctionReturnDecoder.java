@@ -29,7 +29,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import static com.klaytn.caver.abi.TypeDecoder.MAX_BYTE_LENGTH_FOR_HEX_STRING;
 import static com.klaytn.caver.abi.TypeDecoder.isDynamic;
 import static com.klaytn.caver.abi.Utils.*;
 
@@ -47,6 +46,17 @@ public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
 
         if (Strings.isEmpty(input)) {
             return Collections.emptyList();
+        } else {
+            return build(Numeric.hexStringToByteArray(input), outputParameters);
+        }
+    }
+
+    @Override
+    public List<Type> decodeFunctionResult(
+            byte[] input, List<TypeReference<Type>> outputParameters) {
+
+        if (input.length == 0) {
+            return Collections.emptyList();
         } else {
             return build(input, outputParameters);
         }
@@ -56,33 +66,33 @@ public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
     public <T extends Type> Type decodeEventParameter(
             String rawInput, TypeReference<T> typeReference) {
 
-        String input = Numeric.cleanHexPrefix(rawInput);
+        byte[] input = Numeric.hexStringToByteArray(rawInput);
 
         try {
             Class<T> type = typeReference.getClassType();
 
             if (Bytes.class.isAssignableFrom(type)) {
                 Class<Bytes> bytesClass = (Class<Bytes>) Class.forName(type.getName());
-                return TypeDecoder.decodeBytes(input, bytesClass);
+                return TypeDecoder.decodeBytes(input, 0, bytesClass);
             } else if (Array.class.isAssignableFrom(type)
                     || BytesType.class.isAssignableFrom(type)
                     || Utf8String.class.isAssignableFrom(type)) {
-                return TypeDecoder.decodeBytes(input, Bytes32.class);
+                return TypeDecoder.decodeBytes(input, 0, Bytes32.class);
             } else {
-                return TypeDecoder.decode(input, type);
+                return TypeDecoder.decode(input, 0, type);
             }
         } catch (ClassNotFoundException e) {
             throw new UnsupportedOperationException("Invalid class reference provided", e);
         }
     }
 
-    private static List<Type> build(String input, List<TypeReference<Type>> outputParameters) {
+    private static List<Type> build(byte[] input, List<TypeReference<Type>> outputParameters) {
         List<Type> results = new ArrayList<>(outputParameters.size());
 
         int offset = 0;
         for (TypeReference<?> typeReference : outputParameters) {
             try {
-                int hexStringDataOffset = getDataOffset(input, offset, typeReference);
+                int dataOffset = getDataOffset(input, offset, typeReference);
 
                 @SuppressWarnings("unchecked")
                 Class<Type> classType = (Class<Type>) typeReference.getClassType();
@@ -90,32 +100,32 @@ public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
                 Type result;
                 if (DynamicStruct.class.isAssignableFrom(classType)) {
                     result =
-                            TypeDecoder.decodeDynamicStruct(input, hexStringDataOffset, typeReference);
-                    offset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                            TypeDecoder.decodeDynamicStruct(input, dataOffset, typeReference);
+                    offset += Type.MAX_BYTE_LENGTH;
 
                 } else if (DynamicArray.class.isAssignableFrom(classType)) {
                     result =
-                            TypeDecoder.decodeDynamicArray(input, hexStringDataOffset, typeReference);
-                    offset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                            TypeDecoder.decodeDynamicArray(input, dataOffset, typeReference);
+                    offset += Type.MAX_BYTE_LENGTH;
 
                 } else if (typeReference instanceof TypeReference.StaticArrayTypeReference) {
                     int length = ((TypeReference.StaticArrayTypeReference) typeReference).getSize();
                     result =
-                            TypeDecoder.decodeStaticArray(input, hexStringDataOffset, typeReference, length);
+                            TypeDecoder.decodeStaticArray(input, dataOffset, typeReference, length);
                     if(isDynamic(typeReference)) {
-                        offset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                        offset += Type.MAX_BYTE_LENGTH;
                     } else {
-                        offset += getStaticArrayElementSize((TypeReference.StaticArrayTypeReference)typeReference) * MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                        offset += getStaticArrayElementSize((TypeReference.StaticArrayTypeReference)typeReference) * Type.MAX_BYTE_LENGTH;
                     }
                 } else if (StaticStruct.class.isAssignableFrom(classType)) {
                     result =
-                            TypeDecoder.decodeStaticStruct(input, hexStringDataOffset, typeReference);
+                            TypeDecoder.decodeStaticStruct(input, dataOffset, typeReference);
                     offset +=
                         getStaticStructComponentSize((TypeReference.StructTypeReference) typeReference)
-                            * MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                            * Type.MAX_BYTE_LENGTH;
                 } else {
-                    result = TypeDecoder.decode(input, hexStringDataOffset, classType);
-                    offset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                    result = TypeDecoder.decode(input, dataOffset, classType);
+                    offset += Type.MAX_BYTE_LENGTH;
                 }
                 results.add(result);
 
@@ -129,8 +139,24 @@ public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
     public static <T extends Type> int getDataOffset(
             String input, int offset, TypeReference<?> typeReference)
             throws ClassNotFoundException {
+        return getDataOffset(Numeric.hexStringToByteArray(input), offset >> 1, typeReference) << 1;
+    }
+
+    /**
+     * Returns the offset of the data of the given type in bytes. For a dynamic type it is the offset
+     * encoded at the given position, otherwise it is the position itself.
+     * @param input The encoded data.
+     * @param offset The position of the head of the value.
+     * @param typeReference The type of the value.
+     * @param <T> The type of the value.
+     * @return int
+     * @throws ClassNotFoundException
+     */
+    public static <T extends Type> int getDataOffset(
+            byte[] input, int offset, TypeReference<?> typeReference)
+            throws ClassNotFoundException {
         if(isDynamic(typeReference)){
-            return TypeDecoder.decodeUintAsInt(input, offset) << 1;
+            return TypeDecoder.decodeUintAsInt(input, offset);
         } else {
             return offset;
         }
@@ -0,0 +1,382 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.abi;
+
+import com.klaytn.caver.abi.datatypes.*;
+import com.klaytn.caver.abi.datatypes.generated.Bytes32;
+import com.klaytn.caver.contract.ContractEvent;
+import com.klaytn.caver.contract.ContractIOType;
+import com.klaytn.caver.methods.response.KlayLogs;
+
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Decodes the logs of an event into {@link DecodedEvent} instances.<p>
+ * The types and the positions of the event fields are resolved once when the decoder is created,
+ * and a log is matched by its first topic and the number of its topics before it is decoded.
+ * The iterator and the stream returned by {@link #decodeAll(Iterator)} and {@link #decodeAll(Stream)} skip the logs
+ * of the other events, and reuse their buffers to convert the data and the topics of each log to bytes.<p>
+ * If field names are given, only those fields are decoded. When no field in the data of a log is selected, the data is not read at all.<p>
+ * An EventDecoder instance is immutable and can be shared between threads.
+ * <pre>Example :
+ * {@code
+ * EventDecoder decoder = new EventDecoder(kip7.getEvent("Transfer"), Arrays.asList("from", "to"));
+ *
+ * try(Stream<DecodedEvent> transfers = decoder.decodeAll(logs.stream())) {
+ *     transfers.forEach(transfer -> {
+ *         Address from = transfer.getValue("from");
+ *         Address to = transfer.getValue("to");
+ *     });
+ * }
+ * }
+ * </pre>
+ */
+public class EventDecoder {
+    private static final int FIELD_ATOMIC = 0;
+    private static final int FIELD_COMPOSITE = 1;
+    private static final int FIELD_INDEXED_BYTES = 2;
+    private static final int FIELD_INDEXED_HASH = 3;
+    private static final int FIELD_INDEXED_ATOMIC = 4;
+
+    /**
+     * The event to decode.
+     */
+    private final ContractEvent event;
+
+    /**
+     * The event signature without "0x" prefix in lowercase, which is the first topic of a log.
+     */
+    private final String topic;
+
+    /**
+     * The number of topics of a log, the event signature and the indexed fields.
+     */
+    private final int topicCount;
+
+    /**
+     * The names of the fields to decode.
+     */
+    private final List<String> names;
+
+    /**
+     * The map where a field name and its position in the names mapped.
+     */
+    private final Map<String, Integer> positions;
+
+    /**
+     * The fields to decode.
+     */
+    private final Field[] fields;
+
+    /**
+     * The size of the head part of the data in bytes. It is 0 if no field in the data is decoded.
+     */
+    private final int dataHeadLength;
+
+    /**
+     * Creates an EventDecoder instance decoding all fields of the event.
+     * @param event The event to decode.
+     * @throws ClassNotFoundException
+     */
+    public EventDecoder(ContractEvent event) throws ClassNotFoundException {
+        this(event, null);
+    }
+
+    /**
+     * Creates an EventDecoder instance decoding the given fields of the event.
+     * @param event The event to decode.
+     * @param fieldNames The names of the fields to decode. If null, all fields are decoded.
+     * @throws ClassNotFoundException
+     */
+    public EventDecoder(ContractEvent event, List<String> fieldNames) throws ClassNotFoundException {
+        List<ContractIOType> inputs = event.getInputs();
+        List<TypeReference<Type>> indexedTypes = event.getIndexedCodec().getTypeReferences();
+        List<TypeReference<Type>> nonIndexedTypes = event.getNonIndexedCodec().getTypeReferences();
+
+        List<String> inputNames = new ArrayList<>(inputs.size());
+        Field[] inputFields = new Field[inputs.size()];
+        int indexed = 0;
+        int nonIndexed = 0;
+        int head = 0;
+
+        for(int i = 0; i < inputs.size(); i++) {
+            ContractIOType input = inputs.get(i);
+            inputNames.add(input.getName());
+
+            if(input.isIndexed()) {
+                inputFields[i] = new Field(indexedTypes.get(indexed), true, 1 + indexed);
+                indexed++;
+            } else {
+                TypeReference<Type> typeReference = nonIndexedTypes.get(nonIndexed);
+                inputFields[i] = new Field(typeReference, false, head);
+                head += LazyValue.getHeadSize(typeReference);
+                nonIndexed++;
+            }
+        }
+
+        List<String> names = fieldNames == null ? inputNames : new ArrayList<>(fieldNames);
+        Map<String, Integer> positions = new HashMap<>();
+        Field[] fields = new Field[names.size()];
+        boolean readsData = false;
+
+        for(int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            int index = inputNames.indexOf(name);
+            if(index < 0) {
+                throw new IllegalArgumentException("The event " + event.getName() + " does not have the field '" + name + "'.");
+            }
+            fields[i] = inputFields[index];
+            positions.putIfAbsent(name, i);
+            readsData |= !fields[i].indexed;
+        }
+
+        String signature = event.getSignature() != null ? event.getSignature() : ABI.encodeEventSignature(event);
+
+        this.event = event;
+        this.topic = stripHexPrefix(signature).toLowerCase();
+        this.topicCount = 1 + indexed;
+        this.names = Collections.unmodifiableList(names);
+        this.positions = positions;
+        this.fields = fields;
+        this.dataHeadLength = readsData ? head : 0;
+    }
+
+    /**
+     * Getter function for event.
+     * @return ContractEvent
+     */
+    public ContractEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * Returns the names of the fields to decode.
+     * @return List&lt;String&gt;
+     */
+    public List<String> getFieldNames() {
+        return names;
+    }
+
+    /**
+     * Returns true if the log is emitted by the event.<p>
+     * The first topic of the log must be the event signature and the number of topics must match the indexed fields of the event,
+     * so the logs of an event having the same signature with a different number of indexed fields are not matched.
+     * @param log The log to check.
+     * @return boolean
+     */
+    public boolean matches(KlayLogs.Log log) {
+        List<String> topics = log.getTopics();
+        if(topics == null || topics.size() != topicCount) {
+            return false;
+        }
+
+        String first = topics.get(0);
+        int start = first.startsWith("0x") || first.startsWith("0X") ? 2 : 0;
+        return first.length() - start == topic.length() && first.regionMatches(true, start, topic, 0, topic.length());
+    }
+
+    /**
+     * Decodes a log. If the log is not emitted by the event, it returns null.
+     * @param log The log to decode.
+     * @return DecodedEvent
+     */
+    public DecodedEvent decode(KlayLogs.Log log) {
+        return decode(log, new Buffers());
+    }
+
+    /**
+     * Returns an iterator decoding the logs emitted by the event on demand.<p>
+     * The log results that are not emitted by the event or have only a hash are skipped.
+     * @param logs The iterator of log results.
+     * @return Iterator&lt;DecodedEvent&gt;
+     */
+    public Iterator<DecodedEvent> decodeAll(Iterator<? extends KlayLogs.LogResult> logs) {
+        Buffers buffers = new Buffers();
+
+        return new Iterator<DecodedEvent>() {
+            private DecodedEvent next;
+
+            @Override
+            public boolean hasNext() {
+                while(next == null && logs.hasNext()) {
+                    KlayLogs.LogResult logResult = logs.next();
+                    if(logResult instanceof KlayLogs.Log) {
+                        next = decode((KlayLogs.Log)logResult, buffers);
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public DecodedEvent next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                DecodedEvent decoded = next;
+                next = null;
+                return decoded;
+            }
+        };
+    }
+
+    /**
+     * Returns a stream decoding the logs emitted by the event on demand.<p>
+     * The log results that are not emitted by the event or have only a hash are skipped.
+     * Closing the returned stream closes the given stream.
+     * @param logs The stream of log results.
+     * @return Stream&lt;DecodedEvent&gt;
+     */
+    public Stream<DecodedEvent> decodeAll(Stream<? extends KlayLogs.LogResult> logs) {
+        Spliterator<DecodedEvent> spliterator = Spliterators.spliteratorUnknownSize(decodeAll(logs.iterator()), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, logs.isParallel()).onClose(logs::close);
+    }
+
+    private DecodedEvent decode(KlayLogs.Log log, Buffers buffers) {
+        if(!matches(log)) {
+            return null;
+        }
+
+        byte[] data = null;
+        if(dataHeadLength > 0) {
+            data = toBytes(log.getData(), buffers.data);
+            buffers.data = data;
+            TypeDecoder.checkBounds(data, 0, dataHeadLength);
+        }
+
+        Type[] values = new Type[fields.length];
+        for(int i = 0; i < fields.length; i++) {
+            Field field = fields[i];
+            if(field.indexed) {
+                values[i] = field.decodeTopic(toBytes(log.getTopics().get(field.position), buffers.topic));
+            } else {
+                values[i] = field.decodeData(data);
+            }
+        }
+
+        return new DecodedEvent(log, names, positions, values);
+    }
+
+    /**
+     * Converts a hex string to bytes. If the buffer has the same length with the result, the result is written to the buffer.
+     * @param hex The hex string.
+     * @param buffer The buffer to reuse.
+     * @return byte[]
+     */
+    private static byte[] toBytes(String hex, byte[] buffer) {
+        int start = hex.startsWith("0x") || hex.startsWith("0X") ? 2 : 0;
+        int digits = hex.length() - start;
+        int length = (digits + 1) / 2;
+        byte[] bytes = buffer.length == length ? buffer : new byte[length];
+
+        int position = start;
+        int index = 0;
+        if(digits % 2 != 0) {
+            bytes[index++] = (byte)hexDigit(hex, position++);
+        }
+        for(; index < length; index++, position += 2) {
+            bytes[index] = (byte)((hexDigit(hex, position) << 4) | hexDigit(hex, position + 1));
+        }
+        return bytes;
+    }
+
+    private static int hexDigit(String hex, int index) {
+        int digit = Character.digit(hex.charAt(index), 16);
+        if(digit < 0) {
+            throw new IllegalArgumentException("Invalid hex string: " + hex);
+        }
+        return digit;
+    }
+
+    private static String stripHexPrefix(String hex) {
+        return hex.startsWith("0x") || hex.startsWith("0X") ? hex.substring(2) : hex;
+    }
+
+    /**
+     * The buffers used to convert the data and the topics of the logs to bytes.
+     */
+    private static final class Buffers {
+        private byte[] data = new byte[0];
+        private final byte[] topic = new byte[Type.MAX_BYTE_LENGTH];
+    }
+
+    /**
+     * A field of the event and its position in the topics or in the data of a log.
+     */
+    private static final class Field {
+        private final TypeReference<?> typeReference;
+        private final Class<Type> classType;
+        private final boolean indexed;
+        private final boolean dynamic;
+        private final int kind;
+
+        /**
+         * The index of the topic for an indexed field, or the position of the head in the data.
+         */
+        private final int position;
+
+        @SuppressWarnings("unchecked")
+        Field(TypeReference<?> typeReference, boolean indexed, int position) throws ClassNotFoundException {
+            this.typeReference = typeReference;
+            this.classType = (Class<Type>)typeReference.getClassType();
+            this.indexed = indexed;
+            this.dynamic = TypeDecoder.isDynamic(typeReference);
+            this.position = position;
+
+            // It follows the decoding rules of FunctionReturnDecoder.decodeIndexedValue(). The indexed dynamic values are hashed.
+            if(indexed) {
+                if(Bytes.class.isAssignableFrom(classType)) {
+                    this.kind = FIELD_INDEXED_BYTES;
+                } else if(Array.class.isAssignableFrom(classType)
+                        || BytesType.class.isAssignableFrom(classType)
+                        || Utf8String.class.isAssignableFrom(classType)) {
+                    this.kind = FIELD_INDEXED_HASH;
+                } else {
+                    this.kind = FIELD_INDEXED_ATOMIC;
+                }
+            } else {
+                this.kind = Array.class.isAssignableFrom(classType) ? FIELD_COMPOSITE : FIELD_ATOMIC;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Type decodeTopic(byte[] topic) {
+            switch(kind) {
+                case FIELD_INDEXED_BYTES:
+                    return TypeDecoder.decodeBytes(topic, 0, (Class<Bytes>)(Class<?>)classType);
+                case FIELD_INDEXED_HASH:
+                    return TypeDecoder.decodeBytes(topic, 0, Bytes32.class);
+                default:
+                    return TypeDecoder.decode(topic, 0, classType);
+            }
+        }
+
+        Type decodeData(byte[] data) {
+            int offset = dynamic ? TypeDecoder.decodeUintAsInt(data, position) : position;
+            if(kind == FIELD_ATOMIC) {
+                return TypeDecoder.decode(data, offset, classType);
+            }
+
+            try {
+                return new LazyValue(data, offset, typeReference).decode();
+            } catch(ClassNotFoundException e) {
+                throw new UnsupportedOperationException("Invalid class reference provided", e);
+            }
+        }
+    }
+}
@@ -57,6 +57,10 @@ public abstract class FunctionEncoder {
         return encoder().encodeParameters(parameters);
     }
 
+    public static byte[] encodeConstructorToBytes(final List<Type> parameters) {
+        return encoder().encodeParametersToBytes(parameters);
+    }
+
     public static Function makeFunction(
             String fnname,
             List<String> solidityInputTypes,
@@ -80,6 +84,17 @@ public abstract class FunctionEncoder {
 
     protected abstract String encodeParameters(List<Type> parameters);
 
+    /**
+     * Encodes the parameters into a byte array.<p>
+     * The default implementation decodes the hex string returned by {@link #encodeParameters(List)},
+     * so an encoder that writes bytes directly should override it.
+     * @param parameters The parameters to encode.
+     * @return byte[]
+     */
+    protected byte[] encodeParametersToBytes(List<Type> parameters) {
+        return Numeric.hexStringToByteArray(encodeParameters(parameters));
+    }
+
     protected static String buildMethodSignature(
             final String methodName, final List<Type> parameters) {
 
@@ -24,6 +24,7 @@ import com.klaytn.caver.abi.DefaultFunctionReturnDecoder;
 import com.klaytn.caver.abi.TypeReference;
 import com.klaytn.caver.abi.datatypes.Type;
 import com.klaytn.caver.abi.spi.FunctionReturnDecoderProvider;
+import org.web3j.utils.Numeric;
 
 import java.util.Collections;
 import java.util.Iterator;
@@ -59,6 +60,40 @@ public abstract class FunctionReturnDecoder {
         return decoder().decodeFunctionResult(rawInput, outputParameters);
     }
 
+    /**
+     * Decode ABI encoded return values from smart contract function call.
+     *
+     * @param input ABI encoded input as a byte array
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of values returned by function, {@link Collections#emptyList()} if
+     *     invalid response
+     */
+    public static List<Type> decode(byte[] input, List<TypeReference<Type>> outputParameters) {
+        return decoder().decodeFunctionResult(input, outputParameters);
+    }
+
+    /**
+     * Returns the views of ABI encoded return values, which are decoded on access.
+     *
+     * @param rawInput ABI encoded input
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of {@link LazyValue}, {@link Collections#emptyList()} if the input is empty
+     */
+    public static List<LazyValue> decodeLazy(String rawInput, List<TypeReference<Type>> outputParameters) {
+        return decodeLazy(Numeric.hexStringToByteArray(rawInput), outputParameters);
+    }
+
+    /**
+     * Returns the views of ABI encoded return values, which are decoded on access.
+     *
+     * @param input ABI encoded input as a byte array
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of {@link LazyValue}, {@link Collections#emptyList()} if the input is empty
+     */
+    public static List<LazyValue> decodeLazy(byte[] input, List<TypeReference<Type>> outputParameters) {
+        return LazyValue.of(input, outputParameters);
+    }
+
     /**
      * Decodes an indexed parameter associated with an event. Indexed parameters are individually
      * encoded, unlike non-indexed parameters which are encoded as per ABI-encoded function
@@ -89,6 +124,20 @@ public abstract class FunctionReturnDecoder {
     protected abstract List<Type> decodeFunctionResult(
             String rawInput, List<TypeReference<Type>> outputParameters);
 
+    /**
+     * Decodes the return values from a byte array.<p>
+     * The default implementation converts the input to a hex string and calls
+     * {@link #decodeFunctionResult(String, List)}, so a decoder that reads bytes directly should override it.
+     *
+     * @param input ABI encoded input as a byte array
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of values returned by function
+     */
+    protected List<Type> decodeFunctionResult(
+            byte[] input, List<TypeReference<Type>> outputParameters) {
+        return decodeFunctionResult(Numeric.toHexString(input), outputParameters);
+    }
+
     protected abstract <T extends Type> Type decodeEventParameter(
             String rawInput, TypeReference<T> typeReference);
 
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.abi;
+
+import com.klaytn.caver.abi.datatypes.*;
+
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A view of an ABI encoded value that is decoded on access.<p>
+ * It only keeps the encoded bytes and the position of the value, so the elements of an array or a struct
+ * are located by reading their offsets when they are accessed, without decoding the other elements.
+ * {@link #decode()} materializes the value and its elements as a {@link Type} like the eager decoding functions.
+ * <pre>Example :
+ * {@code
+ * // getListings() returns (tuple(uint256,address,string)[])
+ * List<LazyValue> result = caver.abi.decodeParametersLazy(Arrays.asList("tuple(uint256,address,string)[]"), encoded);
+ *
+ * LazyValue listings = result.get(0);
+ * int count = listings.size();
+ * BigInteger tokenId = listings.get(100).get(0).getBigInteger();
+ *
+ * // getBalances() returns (uint256[])
+ * long[] balances = caver.abi.decodeParametersLazy(Arrays.asList("uint256[]"), encodedBalances).get(0).getLongArray();
+ * }
+ * </pre>
+ */
+public class LazyValue {
+    /**
+     * The ABI encoded bytes containing the value.
+     */
+    private final byte[] input;
+
+    /**
+     * The position of the value in the input. For a dynamic type, it is the position the offset in its head points to.
+     */
+    private final int offset;
+
+    /**
+     * The type of the value.
+     */
+    private final TypeReference<?> typeReference;
+
+    /**
+     * The class of the value.
+     */
+    private final Class<?> classType;
+
+    /**
+     * The elements of an array or a struct, or null if the value is an atomic type.
+     */
+    private final Elements elements;
+
+    LazyValue(byte[] input, int offset, TypeReference<?> typeReference) throws ClassNotFoundException {
+        this.input = input;
+        this.offset = offset;
+        this.typeReference = typeReference;
+        this.classType = typeReference.getClassType();
+
+        if(StructType.class.isAssignableFrom(classType)) {
+            this.elements = new Elements(input, offset, ((TypeReference.StructTypeReference<?>)typeReference).getTypeList());
+        } else if(DynamicArray.class.isAssignableFrom(classType)) {
+            int length = TypeDecoder.decodeUintAsInt(input, offset);
+            this.elements = new Elements(input, offset + Type.MAX_BYTE_LENGTH, typeReference.getSubTypeReference(), length);
+        } else if(StaticArray.class.isAssignableFrom(classType)) {
+            int length = ((TypeReference.StaticArrayTypeReference<?>)typeReference).getSize();
+            this.elements = new Elements(input, offset, typeReference.getSubTypeReference(), length);
+        } else {
+            TypeDecoder.checkBounds(input, offset, Type.MAX_BYTE_LENGTH);
+            this.elements = null;
+        }
+    }
+
+    /**
+     * Returns the views of the values in the ABI encoded parameters.
+     * @param input The ABI encoded parameters.
+     * @param typeReferences The list of parameter types.
+     * @return List&lt;LazyValue&gt;
+     */
+    static List<LazyValue> of(byte[] input, List<? extends TypeReference<?>> typeReferences) {
+        if(input.length == 0) {
+            return Collections.emptyList();
+        }
+        try {
+            return new Elements(input, 0, new ArrayList<>(typeReferences));
+        } catch(ClassNotFoundException e) {
+            throw new UnsupportedOperationException("Invalid class reference provided", e);
+        }
+    }
+
+    /**
+     * Getter function for typeReference.
+     * @return TypeReference
+     */
+    public TypeReference<?> getTypeReference() {
+        return typeReference;
+    }
+
+    /**
+     * Returns true if the value is an array or a struct, which has elements.
+     * @return boolean
+     */
+    public boolean hasElements() {
+        return elements != null;
+    }
+
+    /**
+     * Returns the number of elements of an array or a struct.
+     * @return int
+     */
+    public int size() {
+        return getElements().size();
+    }
+
+    /**
+     * Returns the view of an element of an array or a struct.
+     * @param index The index of the element.
+     * @return LazyValue
+     */
+    public LazyValue get(int index) {
+        return getElements().get(index);
+    }
+
+    /**
+     * Returns the views of the elements of an array or a struct.
+     * @return List&lt;LazyValue&gt;
+     */
+    public List<LazyValue> getElements() {
+        if(elements == null) {
+            throw new UnsupportedOperationException(classType.getSimpleName() + " type does not have elements.");
+        }
+        return elements;
+    }
+
+    /**
+     * Decodes the value. For an array or a struct, all of its elements are decoded.
+     * @return Type
+     */
+    @SuppressWarnings("unchecked")
+    public Type decode() {
+        if(elements == null) {
+            return TypeDecoder.decode(input, offset, (Class<Type>)classType);
+        }
+
+        List<Type> values = new ArrayList<>(elements.size());
+        for(LazyValue element : elements) {
+            values.add(element.decode());
+        }
+
+        if(DynamicStruct.class.isAssignableFrom(classType)) {
+            return new DynamicStruct(values);
+        } else if(StaticStruct.class.isAssignableFrom(classType)) {
+            return new StaticStruct(values);
+        }
+
+        Class<Type> elementType = (Class<Type>)elements.elementClassType;
+        if(DynamicArray.class.isAssignableFrom(classType)) {
+            return new DynamicArray<>(elementType, values);
+        }
+        return TypeFactories.staticArray(values.size(), elementType, values);
+    }
+
+    /**
+     * Decodes the value and returns its Java value, like {@link Type#getValue()}.
+     * @return Object
+     */
+    public Object getValue() {
+        return decode().getValue();
+    }
+
+    /**
+     * Decodes a numeric value as a long, without creating a Type and a BigInteger.
+     * @return long
+     * @throws ArithmeticException if the value is out of the range of long.
+     */
+    public long getLong() {
+        return TypeDecoder.decodeNumericAsLong(input, offset, getNumericByteLength(classType), isSigned(classType));
+    }
+
+    /**
+     * Decodes a numeric value as a BigInteger, without creating a Type.
+     * @return BigInteger
+     */
+    public BigInteger getBigInteger() {
+        return TypeDecoder.decodeNumericValue(input, offset, getNumericByteLength(classType), isSigned(classType));
+    }
+
+    /**
+     * Decodes the elements of a numeric array as a long array, without creating a Type for each element.
+     * @return long[]
+     * @throws ArithmeticException if an element is out of the range of long.
+     */
+    public long[] getLongArray() {
+        Elements numbers = getNumericElements();
+        int byteLength = getNumericByteLength(numbers.elementClassType);
+        boolean signed = isSigned(numbers.elementClassType);
+
+        long[] values = new long[numbers.size];
+        for(int i = 0; i < values.length; i++) {
+            values[i] = TypeDecoder.decodeNumericAsLong(input, numbers.base + i * Type.MAX_BYTE_LENGTH, byteLength, signed);
+        }
+        return values;
+    }
+
+    /**
+     * Decodes the elements of a numeric array as a BigInteger array, without creating a Type for each element.
+     * @return BigInteger[]
+     */
+    public BigInteger[] getBigIntegerArray() {
+        Elements numbers = getNumericElements();
+        int byteLength = getNumericByteLength(numbers.elementClassType);
+        boolean signed = isSigned(numbers.elementClassType);
+
+        BigInteger[] values = new BigInteger[numbers.size];
+        for(int i = 0; i < values.length; i++) {
+            values[i] = TypeDecoder.decodeNumericValue(input, numbers.base + i * Type.MAX_BYTE_LENGTH, byteLength, signed);
+        }
+        return values;
+    }
+
+    private Elements getNumericElements() {
+        if(elements == null || elements.elementClassType == null || !NumericType.class.isAssignableFrom(elements.elementClassType)) {
+            throw new UnsupportedOperationException(classType.getSimpleName() + " type is not an array of a numeric type.");
+        }
+        return elements;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int getNumericByteLength(Class<?> cls) {
+        if(!NumericType.class.isAssignableFrom(cls)) {
+            throw new UnsupportedOperationException(cls.getSimpleName() + " type is not a numeric type.");
+        }
+        return TypeFactories.numeric((Class<NumericType>)cls).getByteLength();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean isSigned(Class<?> cls) {
+        return TypeDecoder.isSigned((Class<NumericType>)cls);
+    }
+
+    /**
+     * Returns the size of a type in the head of the enclosing tuple or array.
+     * @param typeReference The type.
+     * @return int
+     * @throws ClassNotFoundException
+     */
+    static int getHeadSize(TypeReference<?> typeReference) throws ClassNotFoundException {
+        if(TypeDecoder.isDynamic(typeReference)) {
+            return Type.MAX_BYTE_LENGTH;
+        }
+
+        Class<?> cls = typeReference.getClassType();
+        if(StaticStruct.class.isAssignableFrom(cls)) {
+            return Utils.getStaticStructComponentSize((TypeReference.StructTypeReference) typeReference) * Type.MAX_BYTE_LENGTH;
+        } else if(StaticArray.class.isAssignableFrom(cls)) {
+            return Utils.getStaticArrayElementSize((TypeReference.StaticArrayTypeReference) typeReference) * Type.MAX_BYTE_LENGTH;
+        }
+        return Type.MAX_BYTE_LENGTH;
+    }
+
+    /**
+     * The elements encoded as a tuple, whose heads start at the base position.
+     * The offset of a dynamic element is relative to the base position.
+     */
+    private static final class Elements extends AbstractList<LazyValue> implements RandomAccess {
+        private final byte[] input;
+        private final int base;
+        private final int size;
+
+        /**
+         * The types of the elements of a struct or parameters, or null for an array.
+         */
+        private final List<TypeReference> typeReferences;
+
+        /**
+         * The positions of the heads of the elements of a struct or parameters, or null for an array.
+         */
+        private final int[] heads;
+
+        /**
+         * The element type of an array, or null for a struct or parameters.
+         */
+        private final TypeReference<?> elementTypeReference;
+        private final Class<?> elementClassType;
+        private final int elementHeadSize;
+
+        Elements(byte[] input, int base, List<TypeReference> typeReferences) throws ClassNotFoundException {
+            this.input = input;
+            this.base = base;
+            this.size = typeReferences.size();
+            this.typeReferences = typeReferences;
+            this.heads = new int[size];
+
+            int head = base;
+            for(int i = 0; i < size; i++) {
+                heads[i] = head;
+                head += getHeadSize(typeReferences.get(i));
+            }
+            TypeDecoder.checkBounds(input, base, head - base);
+
+            this.elementTypeReference = null;
+            this.elementClassType = null;
+            this.elementHeadSize = 0;
+        }
+
+        Elements(byte[] input, int base, TypeReference<?> elementTypeReference, int size) throws ClassNotFoundException {
+            this.input = input;
+            this.base = base;
+            this.size = size;
+            this.typeReferences = null;
+            this.heads = null;
+
+            this.elementTypeReference = elementTypeReference;
+            this.elementClassType = elementTypeReference.getClassType();
+            this.elementHeadSize = getHeadSize(elementTypeReference);
+
+            long headsLength = (long)size * elementHeadSize;
+            if(size < 0 || headsLength > input.length) {
+                throw new IndexOutOfBoundsException("Invalid ABI encoded data: the array length " + size + " exceeds the data length " + input.length);
+            }
+            TypeDecoder.checkBounds(input, base, (int)headsLength);
+        }
+
+        @Override
+        public LazyValue get(int index) {
+            if(index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+
+            TypeReference<?> typeReference = typeReferences != null ? typeReferences.get(index) : elementTypeReference;
+            int head = heads != null ? heads[index] : base + index * elementHeadSize;
+
+            try {
+                int dataOffset = TypeDecoder.isDynamic(typeReference)
+                        ? base + TypeDecoder.decodeUintAsInt(input, head)
+                        : head;
+                return new LazyValue(input, dataOffset, typeReference);
+            } catch(ClassNotFoundException e) {
+                throw new UnsupportedOperationException("Invalid class reference provided", e);
+            }
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
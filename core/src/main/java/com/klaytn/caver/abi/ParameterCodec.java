@@ -0,0 +1,379 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.abi;
+
+import com.klaytn.caver.abi.datatypes.*;
+import com.klaytn.caver.abi.datatypes.generated.Uint160;
+import com.klaytn.caver.contract.ContractIOType;
+import org.web3j.utils.Numeric;
+
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Encodes and decodes a fixed list of ABI parameters.<p>
+ * The TypeReferences, the size of the head part and a factory creating each parameter from a Java value are
+ * built once when the codec is created. Encoding and decoding then skip parsing the solidity type strings
+ * and looking up constructors through reflection.
+ * <pre>Example :
+ * {@code
+ * ParameterCodec codec = ParameterCodec.of(Arrays.asList("uint256", "string"));
+ *
+ * String encoded = codec.encode(Arrays.asList(BigInteger.ONE, "Hello"));
+ * List<Type> decoded = codec.decode(encoded);
+ * }
+ * </pre>
+ */
+public class ParameterCodec {
+    /**
+     * The solidity types of the parameters.
+     */
+    private final List<String> solidityTypes;
+
+    /**
+     * The TypeReferences of the parameters.
+     */
+    private final List<TypeReference<Type>> typeReferences;
+
+    /**
+     * The factories creating each parameter from a Java value.
+     */
+    private final List<Instantiator> instantiators;
+
+    /**
+     * The size of the head part of the encoding in bytes.
+     */
+    private final int headLength;
+
+    /**
+     * Creates a value of a solidity type from a Java value.
+     */
+    @FunctionalInterface
+    private interface Instantiator {
+        Type create(Object value) throws ClassNotFoundException, NoSuchMethodException, InstantiationException,
+                IllegalAccessException, InvocationTargetException;
+    }
+
+    private ParameterCodec(List<String> solidityTypes) throws ClassNotFoundException {
+        List<TypeReference<Type>> typeReferences = new ArrayList<>(solidityTypes.size());
+        List<Instantiator> instantiators = new ArrayList<>(solidityTypes.size());
+        int headLength = 0;
+
+        for(String solidityType : solidityTypes) {
+            TypeReference<Type> typeReference = TypeReference.makeTypeReference(solidityType);
+            typeReferences.add(typeReference);
+            instantiators.add(compile(typeReference));
+            headLength += getHeadSize(typeReference) * Type.MAX_BYTE_LENGTH;
+        }
+
+        this.solidityTypes = Collections.unmodifiableList(new ArrayList<>(solidityTypes));
+        this.typeReferences = Collections.unmodifiableList(typeReferences);
+        this.instantiators = instantiators;
+        this.headLength = headLength;
+    }
+
+    /**
+     * Creates a ParameterCodec instance for the given solidity types.
+     * @param solidityTypes A List of solidity type string.
+     * @return ParameterCodec
+     * @throws ClassNotFoundException
+     */
+    public static ParameterCodec of(List<String> solidityTypes) throws ClassNotFoundException {
+        return new ParameterCodec(solidityTypes);
+    }
+
+    /**
+     * Creates a ParameterCodec instance for the given ContractIOTypes.
+     * @param ioTypes A List of ContractIOType.
+     * @return ParameterCodec
+     * @throws ClassNotFoundException
+     */
+    public static ParameterCodec fromIOTypes(List<ContractIOType> ioTypes) throws ClassNotFoundException {
+        List<String> solidityTypes = new ArrayList<>(ioTypes.size());
+        for(ContractIOType ioType : ioTypes) {
+            solidityTypes.add(ioType.getTypeAsString());
+        }
+        return new ParameterCodec(solidityTypes);
+    }
+
+    /**
+     * Creates the solidity type wrappers of the given values.
+     * @param values A List of values to convert.
+     * @return List&lt;Type&gt;
+     * @throws ClassNotFoundException
+     * @throws NoSuchMethodException
+     * @throws InstantiationException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public List<Type> instantiate(List<Object> values) throws ClassNotFoundException, NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
+        List<Type> types = new ArrayList<>(instantiators.size());
+        for(int i = 0; i < instantiators.size(); i++) {
+            types.add(instantiators.get(i).create(values.get(i)));
+        }
+        return types;
+    }
+
+    /**
+     * Encodes the values and returns the result as a hex string without "0x" prefix.
+     * @param values A List of values to encode.
+     * @return String
+     * @throws ClassNotFoundException
+     * @throws NoSuchMethodException
+     * @throws InstantiationException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public String encode(List<Object> values) throws ClassNotFoundException, NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
+        return Numeric.toHexStringNoPrefix(encodeToBytes(values));
+    }
+
+    /**
+     * Encodes the values and returns the result as a byte array.
+     * @param values A List of values to encode.
+     * @return byte[]
+     * @throws ClassNotFoundException
+     * @throws NoSuchMethodException
+     * @throws InstantiationException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public byte[] encodeToBytes(List<Object> values) throws ClassNotFoundException, NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
+        return DefaultFunctionEncoder.encodeParametersToBytes(instantiate(values), headLength);
+    }
+
+    /**
+     * Decodes an ABI encoded hex string.
+     * @param encoded The ABI encoded hex string.
+     * @return List&lt;Type&gt;
+     */
+    public List<Type> decode(String encoded) {
+        return FunctionReturnDecoder.decode(encoded, typeReferences);
+    }
+
+    /**
+     * Decodes ABI encoded bytes.
+     * @param encoded The ABI encoded bytes.
+     * @return List&lt;Type&gt;
+     */
+    public List<Type> decode(byte[] encoded) {
+        return FunctionReturnDecoder.decode(encoded, typeReferences);
+    }
+
+    /**
+     * Returns the views of the values in an ABI encoded hex string, which are decoded on access.
+     * @param encoded The ABI encoded hex string.
+     * @return List&lt;LazyValue&gt;
+     */
+    public List<LazyValue> decodeLazy(String encoded) {
+        return FunctionReturnDecoder.decodeLazy(encoded, typeReferences);
+    }
+
+    /**
+     * Returns the views of the values in ABI encoded bytes, which are decoded on access.
+     * @param encoded The ABI encoded bytes.
+     * @return List&lt;LazyValue&gt;
+     */
+    public List<LazyValue> decodeLazy(byte[] encoded) {
+        return FunctionReturnDecoder.decodeLazy(encoded, typeReferences);
+    }
+
+    /**
+     * Getter function for solidityTypes.
+     * @return List
+     */
+    public List<String> getSolidityTypes() {
+        return solidityTypes;
+    }
+
+    /**
+     * Getter function for typeReferences.
+     * @return List
+     */
+    public List<TypeReference<Type>> getTypeReferences() {
+        return typeReferences;
+    }
+
+    /**
+     * Getter function for headLength.
+     * @return int
+     */
+    public int getHeadLength() {
+        return headLength;
+    }
+
+    private static int getHeadSize(TypeReference<?> typeReference) throws ClassNotFoundException {
+        Class<?> cls = typeReference.getClassType();
+        if(StaticStruct.class.isAssignableFrom(cls)) {
+            return Utils.getStaticStructComponentSize((TypeReference.StructTypeReference) typeReference);
+        } else if(StaticArray.class.isAssignableFrom(cls) && !TypeDecoder.isDynamic(typeReference)) {
+            return Utils.getStaticArrayElementSize((TypeReference.StaticArrayTypeReference) typeReference);
+        }
+        return 1;
+    }
+
+    /**
+     * Builds the factory of the given type. It follows {@link TypeDecoder#instantiateType(TypeReference, Object)}.
+     * @param typeReference The type to create.
+     * @return Instantiator
+     * @throws ClassNotFoundException
+     */
+    @SuppressWarnings("unchecked")
+    private static Instantiator compile(TypeReference typeReference) throws ClassNotFoundException {
+        Class cls = typeReference.getClassType();
+
+        if(StructType.class.isAssignableFrom(cls)) {
+            List<TypeReference> componentReferences = ((TypeReference.StructTypeReference) typeReference).getTypeList();
+            List<Instantiator> components = new ArrayList<>(componentReferences.size());
+            for(TypeReference componentReference : componentReferences) {
+                components.add(compile(componentReference));
+            }
+            boolean isDynamic = DynamicStruct.class.isAssignableFrom(cls);
+
+            return value -> {
+                List values = toList(value);
+                List<Type> transformedList = new ArrayList<>(components.size());
+                for(int i = 0; i < components.size(); i++) {
+                    transformedList.add(components.get(i).create(values.get(i)));
+                }
+                return isDynamic ? new DynamicStruct(transformedList) : new StaticStruct(transformedList);
+            };
+        } else if(Array.class.isAssignableFrom(cls)) {
+            TypeReference subTypeReference = typeReference.getSubTypeReference();
+            Instantiator element = compile(subTypeReference);
+            Class elementType = subTypeReference.getClassType();
+            int arraySize = typeReference instanceof TypeReference.StaticArrayTypeReference
+                    ? ((TypeReference.StaticArrayTypeReference) typeReference).getSize()
+                    : -1;
+            if(arraySize > StaticArray.MAX_SIZE_OF_STATIC_ARRAY) {
+                return value -> {
+                    throw new ClassNotFoundException("com.klaytn.caver.abi.datatypes.generated.StaticArray" + arraySize);
+                };
+            }
+
+            return value -> {
+                List values = toList(value);
+                List<Type> transformedList = new ArrayList<>(values.size());
+                for(Object o : values) {
+                    transformedList.add(element.create(o));
+                }
+                try {
+                    return arraySize <= 0
+                            ? new DynamicArray(elementType, transformedList)
+                            : TypeFactories.staticArray(arraySize, elementType, transformedList);
+                } catch(RuntimeException e) {
+                    throw new InvocationTargetException(e);
+                }
+            };
+        }
+
+        return compileAtomic(cls);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Instantiator compileAtomic(Class<?> cls) {
+        if(NumericType.class.isAssignableFrom(cls)) {
+            TypeFactories.Factory<BigInteger, ? extends NumericType> factory = TypeFactories.numeric((Class<NumericType>) cls);
+            return value -> {
+                BigInteger arg = TypeDecoder.asBigInteger(value);
+                if(arg == null) {
+                    throw cannotCreate(cls, value);
+                }
+                try {
+                    return factory.create(arg);
+                } catch(RuntimeException e) {
+                    throw new InvocationTargetException(e);
+                }
+            };
+        } else if(Bytes.class.isAssignableFrom(cls) || DynamicBytes.class.isAssignableFrom(cls)) {
+            TypeFactories.Factory<byte[], ? extends Bytes> factory = Bytes.class.isAssignableFrom(cls)
+                    ? TypeFactories.bytes((Class<Bytes>) cls)
+                    : null;
+            return value -> {
+                byte[] arg = null;
+                if(value instanceof byte[]) {
+                    arg = (byte[]) value;
+                } else if(value instanceof BigInteger) {
+                    arg = ((BigInteger) value).toByteArray();
+                } else if(value instanceof String) {
+                    arg = Numeric.hexStringToByteArray((String) value);
+                }
+                if(arg == null) {
+                    throw cannotCreate(cls, value);
+                }
+                try {
+                    return factory != null ? factory.create(arg) : new DynamicBytes(arg);
+                } catch(RuntimeException e) {
+                    throw new InvocationTargetException(e);
+                }
+            };
+        } else if(Utf8String.class.isAssignableFrom(cls)) {
+            return value -> new Utf8String(value.toString());
+        } else if(Address.class.isAssignableFrom(cls)) {
+            return value -> {
+                try {
+                    if(value instanceof BigInteger) {
+                        return new Address((BigInteger) value);
+                    } else if(value instanceof Uint160) {
+                        return new Address((Uint160) value);
+                    }
+                    return new Address(value.toString());
+                } catch(RuntimeException e) {
+                    throw new InvocationTargetException(e);
+                }
+            };
+        } else if(Bool.class.isAssignableFrom(cls)) {
+            return value -> {
+                if(value instanceof Boolean) {
+                    return new Bool((Boolean) value);
+                }
+                BigInteger arg = TypeDecoder.asBigInteger(value);
+                if(arg == null) {
+                    throw cannotCreate(cls, value);
+                }
+                return new Bool(!arg.equals(BigInteger.ZERO));
+            };
+        }
+
+        return value -> TypeDecoder.instantiateAtomicType(cls, value);
+    }
+
+    private static List toList(Object value) {
+        if(value instanceof List) {
+            return (List) value;
+        } else if(value.getClass().isArray()) {
+            return TypeDecoder.arrayToList(value);
+        }
+        throw new ClassCastException(
+                "Arg of type "
+                        + value.getClass()
+                        + " should be a list to instantiate Array");
+    }
+
+    private static InstantiationException cannotCreate(Class<?> cls, Object value) {
+        return new InstantiationException(
+                "Could not create type "
+                        + cls
+                        + " from arg "
+                        + value.toString()
+                        + " of type "
+                        + value.getClass());
+    }
+}
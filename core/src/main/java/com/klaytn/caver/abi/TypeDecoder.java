@@ -33,19 +33,18 @@ import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.BiFunction;
 
-import static com.klaytn.caver.abi.DefaultFunctionReturnDecoder.getDataOffset;
 import static com.klaytn.caver.abi.TypeReference.makeTypeReference;
 import static com.klaytn.caver.abi.Utils.getSimpleTypeName;
 
 /**
  * Contract Application Binary Interface (ABI) decoding for types. Decoding is not
  * documented, but is the reverse of the encoding details located <a
- * href="https://docs.soliditylang.org/en/latest/abi-spec.html">here</a>.
+ * href="https://docs.soliditylang.org/en/latest/abi-spec.html">here</a>.<p>
+ * Values are decoded from a byte array with byte offsets, so the encoded data is neither copied into substrings
+ * nor converted from hex for each value. The String functions convert the hex string once and delegate to them.
  */
 public class TypeDecoder {
 
-    static final int MAX_BYTE_LENGTH_FOR_HEX_STRING = Type.MAX_BYTE_LENGTH << 1;
-
     public static Type instantiateType(String solidityType, Object value)
             throws InvocationTargetException, NoSuchMethodException, InstantiationException,
             IllegalAccessException, ClassNotFoundException {
@@ -68,6 +67,11 @@ public class TypeDecoder {
 
     public static <T extends Array> T decode(
             String input, int offset, TypeReference<T> typeReference) {
+        return decode(Numeric.hexStringToByteArray(input), offset >> 1, typeReference);
+    }
+
+    public static <T extends Array> T decode(
+            byte[] input, int offset, TypeReference<T> typeReference) {
         Class cls = ((ParameterizedType) typeReference.getType()).getRawType().getClass();
         if (StaticArray.class.isAssignableFrom(cls)) {
             return decodeStaticArray(input, offset, typeReference, 1);
@@ -82,11 +86,11 @@ public class TypeDecoder {
     }
 
     @SuppressWarnings("unchecked")
-    static <T extends Type> T decode(String input, int offset, Class<T> type) {
+    static <T extends Type> T decode(byte[] input, int offset, Class<T> type) {
         if (NumericType.class.isAssignableFrom(type)) {
-            return (T) decodeNumeric(input.substring(offset), (Class<NumericType>) type);
+            return (T) decodeNumeric(input, offset, (Class<NumericType>) type);
         } else if (Address.class.isAssignableFrom(type)) {
-            return (T) decodeAddress(input.substring(offset));
+            return (T) decodeAddress(input, offset);
         } else if (Bool.class.isAssignableFrom(type)) {
             return (T) decodeBool(input, offset);
         } else if (Bytes.class.isAssignableFrom(type)) {
@@ -104,43 +108,100 @@ public class TypeDecoder {
     }
 
     static <T extends Type> T decode(String input, Class<T> type) {
-        return decode(input, 0, type);
+        return decode(Numeric.hexStringToByteArray(input), 0, type);
     }
 
-    static Address decodeAddress(String input) {
-        return new Address(decodeNumeric(input, Uint160.class));
+    static Address decodeAddress(byte[] input, int offset) {
+        return new Address(decodeNumeric(input, offset, Uint160.class));
     }
 
-    static <T extends NumericType> T decodeNumeric(String input, Class<T> type) {
-        try {
-            byte[] inputByteArray = Numeric.hexStringToByteArray(input);
-            int typeLengthAsBytes = getTypeLengthInBytes(type);
+    static <T extends NumericType> T decodeNumeric(byte[] input, int offset, Class<T> type) {
+        TypeFactories.Factory<BigInteger, T> factory = TypeFactories.numeric(type);
+        return factory.create(decodeNumericValue(input, offset, factory.getByteLength(), isSigned(type)));
+    }
 
-            byte[] resultByteArray = new byte[typeLengthAsBytes + 1];
+    /**
+     * Decodes a numeric value in a 32-byte word. A value that fits in a long is created with BigInteger.valueOf,
+     * which does not allocate for zero and small values.
+     * @param input The encoded data.
+     * @param offset The offset of the word.
+     * @param typeLengthAsBytes The byte length of the numeric type.
+     * @param signed true if the numeric type is signed.
+     * @return BigInteger
+     */
+    static BigInteger decodeNumericValue(byte[] input, int offset, int typeLengthAsBytes, boolean signed) {
+        checkBounds(input, offset, Type.MAX_BYTE_LENGTH);
+        if (typeLengthAsBytes < Long.BYTES || fitsInLong(input, offset, typeLengthAsBytes, signed)) {
+            return BigInteger.valueOf(decodeNumericAsLong(input, offset, typeLengthAsBytes, signed));
+        }
 
-            if (Int.class.isAssignableFrom(type) || Fixed.class.isAssignableFrom(type)) {
-                resultByteArray[0] = inputByteArray[0]; // take MSB as sign bit
+        int valueOffset = offset + Type.MAX_BYTE_LENGTH - typeLengthAsBytes;
+        byte[] resultByteArray = new byte[typeLengthAsBytes + 1];
+        if (signed) {
+            // take MSB as sign bit
+            resultByteArray[0] = input[offset];
+        }
+        System.arraycopy(input, valueOffset, resultByteArray, 1, typeLengthAsBytes);
+        return new BigInteger(resultByteArray);
+    }
+
+    /**
+     * Decodes a numeric value in a 32-byte word as a long.
+     * @param input The encoded data.
+     * @param offset The offset of the word.
+     * @param typeLengthAsBytes The byte length of the numeric type.
+     * @param signed true if the numeric type is signed.
+     * @return long
+     * @throws ArithmeticException if the value is out of the range of long.
+     */
+    static long decodeNumericAsLong(byte[] input, int offset, int typeLengthAsBytes, boolean signed) {
+        checkBounds(input, offset, Type.MAX_BYTE_LENGTH);
+        int valueOffset = offset + Type.MAX_BYTE_LENGTH - typeLengthAsBytes;
+
+        if (typeLengthAsBytes < Long.BYTES) {
+            // take MSB as sign bit
+            long value = signed ? input[offset] : 0;
+            for (int i = valueOffset; i < valueOffset + typeLengthAsBytes; i++) {
+                value = (value << 8) | (input[i] & 0xff);
             }
+            return value;
+        }
 
-            int valueOffset = Type.MAX_BYTE_LENGTH - typeLengthAsBytes;
-            System.arraycopy(inputByteArray, valueOffset, resultByteArray, 1, typeLengthAsBytes);
+        if (!fitsInLong(input, offset, typeLengthAsBytes, signed)) {
+            throw new ArithmeticException("The value is out of long range");
+        }
+        long value = 0;
+        for (int i = offset + Type.MAX_BYTE_LENGTH - Long.BYTES; i < offset + Type.MAX_BYTE_LENGTH; i++) {
+            value = (value << 8) | (input[i] & 0xff);
+        }
+        return value;
+    }
 
-            BigInteger numericValue = new BigInteger(resultByteArray);
-            return type.getConstructor(BigInteger.class).newInstance(numericValue);
+    /**
+     * Returns true if the numeric value of a type at least 8 bytes long fits in a long,
+     * i.e. the bytes above the low 8 bytes only extend the sign of the low 8 bytes.
+     */
+    private static boolean fitsInLong(byte[] input, int offset, int typeLengthAsBytes, boolean signed) {
+        int longOffset = offset + Type.MAX_BYTE_LENGTH - Long.BYTES;
+        byte extension = signed && input[offset] < 0 ? (byte) 0xff : 0;
 
-        } catch (NoSuchMethodException
-                | SecurityException
-                | InstantiationException
-                | IllegalAccessException
-                | IllegalArgumentException
-                | InvocationTargetException e) {
-            throw new UnsupportedOperationException(
-                    "Unable to create instance of " + type.getName(), e);
+        if (signed && input[offset] != extension) {
+            return false;
+        }
+        for (int i = longOffset - (typeLengthAsBytes - Long.BYTES); i < longOffset; i++) {
+            if (input[i] != extension) {
+                return false;
+            }
         }
+        return (input[longOffset] < 0) == (extension != 0);
+    }
+
+    static boolean isSigned(Class<? extends NumericType> type) {
+        return Int.class.isAssignableFrom(type) || Fixed.class.isAssignableFrom(type);
     }
 
     static <T extends NumericType> int getTypeLengthInBytes(Class<T> type) {
-        return getTypeLength(type) >> 3; // divide by 8
+        return TypeFactories.numeric(type).getByteLength();
     }
 
     static <T extends NumericType> int getTypeLength(Class<T> type) {
@@ -276,10 +337,10 @@ public class TypeDecoder {
     }
 
     @SuppressWarnings("unchecked")
-    static <T extends Type> int getSingleElementLength(String input, int offset, TypeReference typeReference) throws ClassNotFoundException {
+    static <T extends Type> int getSingleElementLength(byte[] input, int offset, TypeReference typeReference) throws ClassNotFoundException {
         Class type = typeReference.getClassType();
 
-        if (input.length() == offset) {
+        if (input.length == offset) {
             return 0;
         } else if (DynamicBytes.class.isAssignableFrom(type)
                 || Utf8String.class.isAssignableFrom(type)) {
@@ -297,66 +358,63 @@ public class TypeDecoder {
         }
     }
 
-    static int decodeUintAsInt(String rawInput, int offset) {
-        String input = rawInput.substring(offset, offset + MAX_BYTE_LENGTH_FOR_HEX_STRING);
-        return decode(input, 0, Uint.class).getValue().intValue();
-    }
-
-    static Bool decodeBool(String rawInput, int offset) {
-        String input = rawInput.substring(offset, offset + MAX_BYTE_LENGTH_FOR_HEX_STRING);
-        BigInteger numericValue = Numeric.toBigInt(input);
-        boolean value = numericValue.equals(BigInteger.ONE);
+    /**
+     * Decodes a 32-byte word as an int. Like BigInteger.intValue(), only the low 32 bits of the word are used.
+     * @param input The encoded data.
+     * @param offset The offset of the word.
+     * @return int
+     */
+    static int decodeUintAsInt(byte[] input, int offset) {
+        checkBounds(input, offset, Type.MAX_BYTE_LENGTH);
+        int last = offset + Type.MAX_BYTE_LENGTH - 1;
+        return (input[last - 3] & 0xff) << 24
+                | (input[last - 2] & 0xff) << 16
+                | (input[last - 1] & 0xff) << 8
+                | (input[last] & 0xff);
+    }
+
+    static Bool decodeBool(byte[] input, int offset) {
+        checkBounds(input, offset, Type.MAX_BYTE_LENGTH);
+        int last = offset + Type.MAX_BYTE_LENGTH - 1;
+        boolean value = input[last] == 1;
+        for (int i = offset; i < last && value; i++) {
+            value = input[i] == 0;
+        }
         return new Bool(value);
     }
 
     static <T extends Bytes> T decodeBytes(String input, Class<T> type) {
-        return decodeBytes(input, 0, type);
+        return decodeBytes(Numeric.hexStringToByteArray(input), 0, type);
     }
 
-    static <T extends Bytes> T decodeBytes(String input, int offset, Class<T> type) {
-        try {
-            String simpleName = type.getSimpleName();
-            String[] splitName = simpleName.split(Bytes.class.getSimpleName());
-            int length = Integer.parseInt(splitName[1]);
-            int hexStringLength = length << 1;
-
-            byte[] bytes =
-                    Numeric.hexStringToByteArray(input.substring(offset, offset + hexStringLength));
-            return type.getConstructor(byte[].class).newInstance(bytes);
-        } catch (NoSuchMethodException
-                | SecurityException
-                | InstantiationException
-                | IllegalAccessException
-                | IllegalArgumentException
-                | InvocationTargetException e) {
-            throw new UnsupportedOperationException(
-                    "Unable to create instance of " + type.getName(), e);
-        }
+    static <T extends Bytes> T decodeBytes(byte[] input, int offset, Class<T> type) {
+        TypeFactories.Factory<byte[], T> factory = TypeFactories.bytes(type);
+        int length = factory.getByteLength();
+        checkBounds(input, offset, length);
+
+        return factory.create(Arrays.copyOfRange(input, offset, offset + length));
     }
 
-    static DynamicBytes decodeDynamicBytes(String input, int offset) {
+    static DynamicBytes decodeDynamicBytes(byte[] input, int offset) {
         int encodedLength = decodeUintAsInt(input, offset);
-        int hexStringEncodedLength = encodedLength << 1;
-
-        int valueOffset = offset + MAX_BYTE_LENGTH_FOR_HEX_STRING;
+        int valueOffset = offset + Type.MAX_BYTE_LENGTH;
+        checkBounds(input, valueOffset, encodedLength);
 
-        String data = input.substring(valueOffset, valueOffset + hexStringEncodedLength);
-        byte[] bytes = Numeric.hexStringToByteArray(data);
-
-        return new DynamicBytes(bytes);
+        return new DynamicBytes(Arrays.copyOfRange(input, valueOffset, valueOffset + encodedLength));
     }
 
-    static Utf8String decodeUtf8String(String input, int offset) {
-        DynamicBytes dynamicBytesResult = decodeDynamicBytes(input, offset);
-        byte[] bytes = dynamicBytesResult.getValue();
+    static Utf8String decodeUtf8String(byte[] input, int offset) {
+        int encodedLength = decodeUintAsInt(input, offset);
+        int valueOffset = offset + Type.MAX_BYTE_LENGTH;
+        checkBounds(input, valueOffset, encodedLength);
 
-        return new Utf8String(new String(bytes, StandardCharsets.UTF_8));
+        return new Utf8String(new String(input, valueOffset, encodedLength, StandardCharsets.UTF_8));
     }
 
     /** Static array length cannot be passed as a type. */
     @SuppressWarnings("unchecked")
     static <T extends Type> T decodeStaticArray(
-            String input, int offset, TypeReference<T> typeReference, int length) {
+            byte[] input, int offset, TypeReference<T> typeReference, int length) {
 
         BiFunction<List<T>, Class<T>, T> function =
                 (elements, typeName) -> {
@@ -373,12 +431,17 @@ public class TypeDecoder {
 
     public static <T extends Type> T decodeStaticStruct(
             final String input, final int offset, final TypeReference<T> typeReference) throws ClassNotFoundException {
+        return decodeStaticStruct(Numeric.hexStringToByteArray(input), offset >> 1, typeReference);
+    }
+
+    public static <T extends Type> T decodeStaticStruct(
+            final byte[] input, final int offset, final TypeReference<T> typeReference) throws ClassNotFoundException {
         return decodeStaticStructElement(input, offset, (TypeReference.StructTypeReference<T>)typeReference);
     }
 
     @SuppressWarnings("unchecked")
     private static <T extends Type> T decodeStaticStructElement(
-            final String input,
+            final byte[] input,
             final int startOffset,
             final TypeReference.StructTypeReference<T> staticStructTypeRef) throws ClassNotFoundException {
 
@@ -397,23 +460,15 @@ public class TypeDecoder {
 
             if (StaticStruct.class.isAssignableFrom(elementTypeCls)) {
                 TypeReference.StructTypeReference<T> elementTypeRef = (TypeReference.StructTypeReference)staticStructTypeRef.getTypeList().get(i);
-                final int nestedStructLength = Utils.getStaticStructComponentSize(elementTypeRef) * MAX_BYTE_LENGTH_FOR_HEX_STRING;
-
-                value =
-                        decodeStaticStruct(
-                                input.substring(currOffset, currOffset + nestedStructLength),
-                                0,
-                                elementTypeRef);
-                currOffset += nestedStructLength;
+                value = decodeStaticStruct(input, currOffset, elementTypeRef);
+                currOffset += Utils.getStaticStructComponentSize(elementTypeRef) * Type.MAX_BYTE_LENGTH;
             } else if(StaticArray.class.isAssignableFrom(elementTypeCls)) {
                 TypeReference.StaticArrayTypeReference elementTypeRef = (TypeReference.StaticArrayTypeReference)staticStructTypeRef.getTypeList().get(i);
-                int arraySize = elementTypeRef.getSize();
-
-                value = decodeStaticArray(input.substring(currOffset), 0, elementTypeRef, elementTypeRef.getSize());
-                currOffset += Utils.getStaticArrayElementSize(elementTypeRef) * MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                value = decodeStaticArray(input, currOffset, elementTypeRef, elementTypeRef.getSize());
+                currOffset += Utils.getStaticArrayElementSize(elementTypeRef) * Type.MAX_BYTE_LENGTH;
             } else {
-                value = decode(input.substring(currOffset, currOffset + MAX_BYTE_LENGTH_FOR_HEX_STRING), 0, elementTypeCls);
-                currOffset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                value = decode(input, currOffset, elementTypeCls);
+                currOffset += Type.MAX_BYTE_LENGTH;
             }
             elements.add(value);
         }
@@ -423,7 +478,7 @@ public class TypeDecoder {
 
     @SuppressWarnings("unchecked")
     static <T extends Type> T decodeDynamicArray(
-            String input, int offset, TypeReference<T> typeReference) {
+            byte[] input, int offset, TypeReference<T> typeReference) {
 
         int length = decodeUintAsInt(input, offset);
 
@@ -432,19 +487,19 @@ public class TypeDecoder {
                     return (T) new DynamicArray(elementTypeCls, elements);
                 };
 
-        int valueOffset = offset + MAX_BYTE_LENGTH_FOR_HEX_STRING;
+        int valueOffset = offset + Type.MAX_BYTE_LENGTH;
 
         return decodeArrayElements(input, valueOffset, typeReference, length, function);
     }
 
     static <T extends Type> T decodeDynamicStruct(
-            String input, int offset, TypeReference<T> typeReference) throws ClassNotFoundException {
+            byte[] input, int offset, TypeReference<T> typeReference) throws ClassNotFoundException {
         return decodeDynamicStructElements(input, offset, (TypeReference.StructTypeReference<T>)typeReference);
     }
 
     @SuppressWarnings("unchecked")
     private static <T extends Type> T decodeDynamicStructElements(
-            final String input,
+            final byte[] input,
             final int offset,
             final TypeReference.StructTypeReference<T> typeReference) throws ClassNotFoundException {
 
@@ -462,11 +517,11 @@ public class TypeDecoder {
          */
         int staticOffset = 0;
 
-        //A map of element index and values.
-        final Map<Integer, T> parameters = new HashMap<>();
+        //The decoded values in element order.
+        final Type[] parameters = new Type[length];
 
         //If a element type is a dynamic type, set a offset that located dynamic type value.
-        final List<Integer> parameterOffsets = new ArrayList<>();
+        final int[] parameterOffsets = new int[length];
 
         //Processed a head part.
         for (int i = 0; i < length; ++i) {
@@ -478,122 +533,69 @@ public class TypeDecoder {
             if (isDynamic(elementTypeRef)) {
                 //save a offset that located dynamic type value.
                 final boolean isOnlyParameterInStruct = length == 1;
-                final int parameterOffset =
+                parameterOffsets[i] =
                         isOnlyParameterInStruct
                                 ? offset
-                                : (decodeDynamicStructDynamicParameterOffset(
-                                input.substring(beginIndex, beginIndex + MAX_BYTE_LENGTH_FOR_HEX_STRING)))
-                                + offset;
-                parameterOffsets.add(parameterOffset);
-                staticOffset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                                : decodeUintAsInt(input, beginIndex) + offset;
+                staticOffset += Type.MAX_BYTE_LENGTH;
             } else {
                 // Decoded a value and save.
                 if (StaticStruct.class.isAssignableFrom(elementTypeCls)) {
-                    value =
-                            (T) decodeStaticStruct(
-                                    input.substring(beginIndex),
-                                    0,
-                                    typeReference.getTypeList().get(i));
+                    value = (T) decodeStaticStruct(input, beginIndex, elementTypeRef);
                     staticOffset +=
-                            Utils.getStaticStructComponentSize((TypeReference.StructTypeReference) typeReference.getTypeList().get(i))
-                                    * MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                            Utils.getStaticStructComponentSize((TypeReference.StructTypeReference) elementTypeRef)
+                                    * Type.MAX_BYTE_LENGTH;
                 } else if(StaticArray.class.isAssignableFrom(elementTypeCls)) {
-                    TypeReference.StaticArrayTypeReference staticArrayTypeReference = (TypeReference.StaticArrayTypeReference)typeReference.getTypeList().get(i);
+                    TypeReference.StaticArrayTypeReference staticArrayTypeReference = (TypeReference.StaticArrayTypeReference)elementTypeRef;
                     int arraySize = staticArrayTypeReference.getSize();
-                    value = (T) decodeStaticArray(input.substring(beginIndex), 0, staticArrayTypeReference, arraySize);
+                    value = (T) decodeStaticArray(input, beginIndex, staticArrayTypeReference, arraySize);
 
                     if (isDynamic(elementTypeRef)) {
-                        staticOffset += arraySize * MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                        staticOffset += arraySize * Type.MAX_BYTE_LENGTH;
                     } else {
-                        staticOffset += getSingleElementLength(input, staticOffset, elementTypeRef) * MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                        staticOffset += getSingleElementLength(input, staticOffset, elementTypeRef) * Type.MAX_BYTE_LENGTH;
                     }
 
                 } else {
-                    value = decode(input.substring(beginIndex), 0, elementTypeCls);
-                    staticOffset += value.bytes32PaddedLength() * 2;
+                    value = decode(input, beginIndex, elementTypeCls);
+                    staticOffset += value.bytes32PaddedLength();
                 }
-                parameters.put(i, value);
+                parameters[i] = value;
             }
         }
 
         //Processed tail part to decoded dynamic type.
-        int dynamicParametersProcessed = 0;
-        int dynamicParametersToProcess =
-                getDynamicStructDynamicParametersCount(typeReference.getTypeList());
         for (int i = 0; i < length; ++i) {
             final TypeReference<T> subTypeReference = typeReference.getTypeList().get(i);
-            final Class<T> subClsType = subTypeReference.getClassType();
             if (isDynamic(subTypeReference)) {
-                final boolean isLastParameterInStruct =
-                        dynamicParametersProcessed == (dynamicParametersToProcess - 1);
-                final int parameterLength =
-                        isLastParameterInStruct
-                                ? input.length()
-                                - parameterOffsets.get(dynamicParametersProcessed)
-                                : parameterOffsets.get(dynamicParametersProcessed + 1)
-                                - parameterOffsets.get(dynamicParametersProcessed);
-
-                parameters.put(
-                        i,
-                        (T)decodeDynamicParameterFromStruct(
-                                input,
-                                parameterOffsets.get(dynamicParametersProcessed),
-                                parameterLength,
-                                typeReference.getTypeList().get(i)
-                        ));
-                dynamicParametersProcessed++;
+                parameters[i] = decodeDynamicParameterFromStruct(input, parameterOffsets[i], subTypeReference);
             }
         }
 
-        final List<Type> elements = new ArrayList<>();
-        for (int i = 0; i < length; ++i) {
-            elements.add(parameters.get(i));
-        }
-
-        return (T) new DynamicStruct(elements);
-    }
-
-    @SuppressWarnings("unchecked")
-    private static <T extends Type> int getDynamicStructDynamicParametersCount(
-            final List<TypeReference> list) {
-        return (int)list.stream().filter(t -> {
-            try {
-                return isDynamic(t);
-            } catch (ClassNotFoundException e) {
-                throw new RuntimeException(e);
-            }
-        }).count();
+        return (T) new DynamicStruct(Arrays.asList(parameters));
     }
 
     private static <T extends Type> T decodeDynamicParameterFromStruct(
-            final String input,
+            final byte[] input,
             final int parameterOffset,
-            final int parameterLength,
             final TypeReference<T> typeReference
     ) throws ClassNotFoundException {
-        final String dynamicElementData =
-                input.substring(parameterOffset, parameterOffset + parameterLength);
-
         final T value;
         if (DynamicStruct.class.isAssignableFrom(typeReference.getClassType())) {
-            value = decodeDynamicStruct(dynamicElementData, 0, typeReference);
+            value = decodeDynamicStruct(input, parameterOffset, typeReference);
         } else if (StaticStruct.class.isAssignableFrom(typeReference.getClassType())) {
-            value = decodeStaticStruct(dynamicElementData, 0, typeReference);
+            value = decodeStaticStruct(input, parameterOffset, typeReference);
         } else if (DynamicArray.class.isAssignableFrom(typeReference.getClassType())) {
-            value = decodeDynamicArray(dynamicElementData, 0, typeReference);
+            value = decodeDynamicArray(input, parameterOffset, typeReference);
         } else if (StaticArray.class.isAssignableFrom(typeReference.getClassType())) {
             TypeReference.StaticArrayTypeReference<T> reference = (TypeReference.StaticArrayTypeReference<T>)typeReference;
-            value = decodeStaticArray(dynamicElementData, 0, reference, reference.getSize());
+            value = decodeStaticArray(input, parameterOffset, reference, reference.getSize());
         } else {
-            value = decode(dynamicElementData, typeReference.getClassType());
+            value = decode(input, parameterOffset, typeReference.getClassType());
         }
         return value;
     }
 
-    private static int decodeDynamicStructDynamicParameterOffset(final String input) {
-        return (decodeUintAsInt(input, 0) * 2);
-    }
-
     static <T extends Type> boolean isDynamic(TypeReference<T> parameter) throws ClassNotFoundException {
         Class<T> cls = parameter.getClassType();
 
@@ -646,26 +648,31 @@ public class TypeDecoder {
         return rslt;
     }
 
+    /**
+     * Checks that the given range lies in the input.
+     * @param input The encoded data.
+     * @param offset The start of the range.
+     * @param length The length of the range.
+     */
+    static void checkBounds(byte[] input, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > input.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid ABI encoded data: " + length + " bytes at offset " + offset + " exceed the data length " + input.length);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static <T extends Type> T instantiateStaticArray(List<T> elements, int length) {
-        try {
-            Class<? extends StaticArray> arrayClass =
-                    (Class<? extends StaticArray>)
-                            Class.forName("com.klaytn.caver.abi.datatypes.generated.StaticArray" + length);
-
-            // Check a condition that the element type is Array class type in order to be able to accept the struct type and array type as an element.
-            Class baseTypeCls = Array.class.isAssignableFrom(elements.get(0).getClass())
-                    ? (Class<T>) elements.get(0).getClass()
-                    : (Class<T>) AbiTypes.getType(elements.get(0).getTypeAsString());
-
-            return (T)arrayClass.getConstructor(Class.class, List.class).newInstance(baseTypeCls, elements);
-        } catch (ReflectiveOperationException e) {
-            throw new UnsupportedOperationException(e);
-        }
+        // Check a condition that the element type is Array class type in order to be able to accept the struct type and array type as an element.
+        Class baseTypeCls = Array.class.isAssignableFrom(elements.get(0).getClass())
+                ? (Class<T>) elements.get(0).getClass()
+                : (Class<T>) AbiTypes.getType(elements.get(0).getTypeAsString());
+
+        return (T) TypeFactories.staticArray(length, baseTypeCls, elements);
     }
 
     private static <T extends Type> T decodeArrayElements(
-            String input,
+            byte[] input,
             int startOffset,
             TypeReference<T> typeReference,
             int length,
@@ -684,21 +691,21 @@ public class TypeDecoder {
                 for (int i = 0; i < length; i++) {
                     T value;
 
-                    // hexStringOffset is where the actual data to be decoded is located.
-                    int hexStringOffset = 0;
+                    // dataOffset is where the actual data to be decoded is located.
+                    int dataOffset = 0;
                     if (DynamicStruct.class.isAssignableFrom(elementTypeCls)) {
                         //If a element type is a dynamic type, calculate the offset that the data to be decoded using currOffset.
-                        hexStringOffset = startOffset + getDataOffset(input, currOffset, typeReference);
-                        value = TypeDecoder.decodeDynamicStruct(input, hexStringOffset, elementTypeRef);
+                        dataOffset = startOffset + DefaultFunctionReturnDecoder.getDataOffset(input, currOffset, typeReference);
+                        value = TypeDecoder.decodeDynamicStruct(input, dataOffset, elementTypeRef);
                     } else {
-                        hexStringOffset = currOffset;
+                        dataOffset = currOffset;
                         value =
-                                TypeDecoder.decodeStaticStruct(input, hexStringOffset, elementTypeRef);
+                                TypeDecoder.decodeStaticStruct(input, dataOffset, elementTypeRef);
                     }
                     elements.add(value);
 
                     //calculate offset that located next element.
-                    currOffset += getSingleElementLength(input, currOffset, elementTypeRef) * MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                    currOffset += getSingleElementLength(input, currOffset, elementTypeRef) * Type.MAX_BYTE_LENGTH;
                 }
 
                 //Instantiate element type.
@@ -713,25 +720,25 @@ public class TypeDecoder {
                     T value;
                     if(DynamicArray.class.isAssignableFrom(elementTypeCls)) {
                         //If a element type is a dynamic type, calculate the offset that the data to be decoded using currOffset.
-                        int hexStringDataOffset = getDataOffset(input, currOffset, elementTypeRef);
-                        value = (T)decodeDynamicArray(input, startOffset + hexStringDataOffset, elementTypeRef);
+                        int dataOffset = DefaultFunctionReturnDecoder.getDataOffset(input, currOffset, elementTypeRef);
+                        value = (T)decodeDynamicArray(input, startOffset + dataOffset, elementTypeRef);
                     } else {
                         int arraySize = ((TypeReference.StaticArrayTypeReference)elementTypeRef).getSize();
-                        int hexStringDataOffset = 0;
+                        int dataOffset = 0;
 
                         if(isDynamic(elementTypeRef.getSubTypeReference())) {
                             //If a element type is a dynamic type, calculate the offset that the data to be decoded using currOffset.
-                            hexStringDataOffset = startOffset + getDataOffset(input, currOffset, elementTypeRef);
+                            dataOffset = startOffset + DefaultFunctionReturnDecoder.getDataOffset(input, currOffset, elementTypeRef);
                         } else {
-                            hexStringDataOffset = currOffset;
+                            dataOffset = currOffset;
                         }
 
-                        value = (T)decodeStaticArray(input, hexStringDataOffset, elementTypeRef, arraySize);
+                        value = (T)decodeStaticArray(input, dataOffset, elementTypeRef, arraySize);
                     }
                     elements.add(value);
 
                     //calculate offset that located next element.
-                    currOffset += getSingleElementLength(input, currOffset, elementTypeRef) * MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                    currOffset += getSingleElementLength(input, currOffset, elementTypeRef) * Type.MAX_BYTE_LENGTH;
                 }
 
                 //Instantiate element type.
@@ -745,18 +752,18 @@ public class TypeDecoder {
                     T value;
                     if (isDynamic(elementTypeRef)) {
                         //If a element type is a dynamic type, calculate the offset that the data to be decoded using currOffset.
-                        int hexStringDataOffset = getDataOffset(input, currOffset, elementTypeRef);
-                        value = decode(input, startOffset + hexStringDataOffset, elementTypeCls);
+                        int dataOffset = DefaultFunctionReturnDecoder.getDataOffset(input, currOffset, elementTypeRef);
+                        value = decode(input, startOffset + dataOffset, elementTypeCls);
 
                         //calculate offset that located next element.
-                        currOffset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                        currOffset += Type.MAX_BYTE_LENGTH;
                     } else {
                         value = decode(input, currOffset, elementTypeCls);
 
                         //calculate offset that located next element.
                         currOffset +=
                                 getSingleElementLength(input, currOffset, elementTypeRef)
-                                        * MAX_BYTE_LENGTH_FOR_HEX_STRING;
+                                        * Type.MAX_BYTE_LENGTH;
                     }
                     elements.add(value);
                 }
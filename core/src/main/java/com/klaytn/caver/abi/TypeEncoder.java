@@ -25,10 +25,9 @@ import com.klaytn.caver.abi.datatypes.primitive.PrimitiveType;
 import org.web3j.utils.Numeric;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.klaytn.caver.abi.datatypes.Type.MAX_BIT_LENGTH;
 import static com.klaytn.caver.abi.datatypes.Type.MAX_BYTE_LENGTH;
@@ -36,7 +35,9 @@ import static com.klaytn.caver.abi.datatypes.Type.MAX_BYTE_LENGTH;
 
 /**
  * Contract Application Binary Interface (ABI) encoding for types. Further details are
- * available <a href="https://docs.soliditylang.org/en/latest/abi-spec.html">here</a>.
+ * available <a href="https://docs.soliditylang.org/en/latest/abi-spec.html">here</a>.<p>
+ * The encoded length of a value is computed before it is written, so the offsets of dynamic values are known up front
+ * and every 32-byte word is written straight into a ByteBuffer.
  */
 public class TypeEncoder {
 
@@ -53,38 +54,113 @@ public class TypeEncoder {
                 || parameter instanceof DynamicArray;
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Encodes a value and returns the result as a hex string without "0x" prefix.
+     * @param parameter The value to encode.
+     * @return String
+     */
     public static String encode(Type parameter) {
+        return Numeric.toHexStringNoPrefix(encodeToBytes(parameter));
+    }
+
+    /**
+     * Encodes a value and returns the result as a byte array.
+     * @param parameter The value to encode.
+     * @return byte[]
+     */
+    public static byte[] encodeToBytes(Type parameter) {
+        byte[] encoded = new byte[encodedLength(parameter)];
+        encode(parameter, ByteBuffer.wrap(encoded));
+        return encoded;
+    }
+
+    /**
+     * Encodes a value into the given buffer. The buffer must have {@link #encodedLength(Type)} bytes remaining.
+     * @param parameter The value to encode.
+     * @param buffer The buffer to write to.
+     */
+    @SuppressWarnings("unchecked")
+    public static void encode(Type parameter, ByteBuffer buffer) {
         if (parameter instanceof NumericType) {
-            return encodeNumeric(((NumericType) parameter));
+            encodeNumeric((NumericType) parameter, buffer);
         } else if (parameter instanceof Address) {
-            return encodeAddress((Address) parameter);
+            encodeNumeric(((Address) parameter).toUint(), buffer);
         } else if (parameter instanceof Bool) {
-            return encodeBool((Bool) parameter);
+            writeWord(((Bool) parameter).getValue() ? 1 : 0, buffer);
         } else if (parameter instanceof Bytes) {
-            return encodeBytes((Bytes) parameter);
+            encodeBytes(((Bytes) parameter).getValue(), buffer);
         } else if (parameter instanceof DynamicBytes) {
-            return encodeDynamicBytes((DynamicBytes) parameter);
+            encodeDynamicBytes(((DynamicBytes) parameter).getValue(), buffer);
         } else if (parameter instanceof Utf8String) {
-            return encodeString((Utf8String) parameter);
+            encodeDynamicBytes(((Utf8String) parameter).getValue().getBytes(StandardCharsets.UTF_8), buffer);
         } else if (parameter instanceof StaticArray) {
             if (isDynamic(parameter)) {
-                return encodeStaticArrayWithDynamicStruct((StaticArray) parameter);
+                encodeStaticArrayWithDynamicStruct((StaticArray) parameter, buffer);
             } else {
-                return encodeArrayValues((StaticArray) parameter);
+                encodeArrayValues((StaticArray) parameter, buffer);
             }
         } else if (parameter instanceof DynamicStruct) {
-            return encodeDynamicStruct((DynamicStruct) parameter);
+            encodeDynamicStruct((DynamicStruct) parameter, buffer);
         } else if (parameter instanceof DynamicArray) {
-            return encodeDynamicArray((DynamicArray) parameter);
+            encodeDynamicArray((DynamicArray) parameter, buffer);
         } else if (parameter instanceof PrimitiveType) {
-            return encode(((PrimitiveType) parameter).toSolidityType());
+            encode(((PrimitiveType) parameter).toSolidityType(), buffer);
         } else {
             throw new UnsupportedOperationException(
                     "Type cannot be encoded: " + parameter.getClass());
         }
     }
 
+    /**
+     * Returns the length of the encoded value in bytes.
+     * @param parameter The value to encode.
+     * @return int
+     */
+    @SuppressWarnings("unchecked")
+    public static int encodedLength(Type parameter) {
+        if (parameter instanceof NumericType
+                || parameter instanceof Address
+                || parameter instanceof Bool) {
+            return MAX_BYTE_LENGTH;
+        } else if (parameter instanceof Bytes) {
+            return paddedLength(((Bytes) parameter).getValue().length);
+        } else if (parameter instanceof DynamicBytes) {
+            return MAX_BYTE_LENGTH + paddedLength(((DynamicBytes) parameter).getValue().length);
+        } else if (parameter instanceof Utf8String) {
+            return MAX_BYTE_LENGTH + paddedLength(utf8Length(((Utf8String) parameter).getValue()));
+        } else if (parameter instanceof StaticArray) {
+            List<Type> values = ((StaticArray) parameter).getValue();
+            int offsetsLength = isDynamic(parameter) ? values.size() * MAX_BYTE_LENGTH : 0;
+            return offsetsLength + arrayValuesLength(values);
+        } else if (parameter instanceof DynamicStruct) {
+            int length = 0;
+            for (Type type : ((DynamicStruct) parameter).getValue()) {
+                length += isDynamic(type) ? MAX_BYTE_LENGTH + encodedLength(type) : encodedLength(type);
+            }
+            return length;
+        } else if (parameter instanceof DynamicArray) {
+            List<Type> values = ((DynamicArray) parameter).getValue();
+            if (values.isEmpty()) {
+                return MAX_BYTE_LENGTH;
+            }
+            int offsetsLength = isDynamic(values.get(0)) ? values.size() * MAX_BYTE_LENGTH : 0;
+            return MAX_BYTE_LENGTH + offsetsLength + arrayValuesLength(values);
+        } else if (parameter instanceof PrimitiveType) {
+            return encodedLength(((PrimitiveType) parameter).toSolidityType());
+        } else {
+            throw new UnsupportedOperationException(
+                    "Type cannot be encoded: " + parameter.getClass());
+        }
+    }
+
+    private static int arrayValuesLength(List<Type> values) {
+        int length = 0;
+        for (Type type : values) {
+            length += encodedLength(type);
+        }
+        return length;
+    }
+
     /**
      * Encodes a static array containing a dynamic struct type. In this case, the array items are
      * decoded as dynamic values and have their offsets at the beginning of the encoding. Example:
@@ -92,44 +168,27 @@ public class TypeEncoder {
      * enc([struct1, struct2, struct2]) = offset(enc(struct1)) offset(enc(struct2))
      * offset(enc(struct3)) enc(struct1) enc(struct2) enc(struct3)
      *
-     * @param
-     * @return
+     * @param value The static array to encode.
+     * @param buffer The buffer to write to.
      */
-    private static <T extends Type> String encodeStaticArrayWithDynamicStruct(Array<T> value) {
-        String valuesOffsets = encodeStructsArraysOffsets(value);
-        String encodedValues = encodeArrayValues(value);
-
-        StringBuilder result = new StringBuilder();
-        result.append(valuesOffsets);
-        result.append(encodedValues);
-        return result.toString();
-    }
-
-    static String encodeAddress(Address address) {
-        return encodeNumeric(address.toUint());
+    private static <T extends Type> void encodeStaticArrayWithDynamicStruct(Array<T> value, ByteBuffer buffer) {
+        encodeStructsArraysOffsets(value, buffer);
+        encodeArrayValues(value, buffer);
     }
 
-    static String encodeNumeric(NumericType numericType) {
-        byte[] rawValue = toByteArray(numericType);
-        byte paddingValue = getPaddingValue(numericType);
-        byte[] paddedRawValue = new byte[MAX_BYTE_LENGTH];
-        if (paddingValue != 0) {
-            for (int i = 0; i < paddedRawValue.length; i++) {
-                paddedRawValue[i] = paddingValue;
-            }
+    static void encodeNumeric(NumericType numericType, ByteBuffer buffer) {
+        BigInteger value = numericType.getValue();
+        if (value.bitLength() < Long.SIZE) {
+            writeWord(value.longValue(), buffer);
+            return;
         }
 
-        System.arraycopy(
-                rawValue, 0, paddedRawValue, MAX_BYTE_LENGTH - rawValue.length, rawValue.length);
-        return Numeric.toHexStringNoPrefix(paddedRawValue);
-    }
-
-    private static byte getPaddingValue(NumericType numericType) {
-        if (numericType.getValue().signum() == -1) {
-            return (byte) 0xff;
-        } else {
-            return 0;
+        byte[] rawValue = toByteArray(numericType);
+        byte paddingValue = value.signum() == -1 ? (byte) 0xff : 0;
+        for (int i = rawValue.length; i < MAX_BYTE_LENGTH; i++) {
+            buffer.put(paddingValue);
         }
+        buffer.put(rawValue, 0, rawValue.length);
     }
 
     private static byte[] toByteArray(NumericType numericType) {
@@ -147,107 +206,72 @@ public class TypeEncoder {
         return value.toByteArray();
     }
 
-    static String encodeBool(Bool value) {
-        byte[] rawValue = new byte[MAX_BYTE_LENGTH];
-        if (value.getValue()) {
-            rawValue[rawValue.length - 1] = 1;
+    /**
+     * Writes a 32-byte word holding the given value. Negative values are sign-extended.
+     * @param value The value to write.
+     * @param buffer The buffer to write to.
+     */
+    static void writeWord(long value, ByteBuffer buffer) {
+        byte paddingValue = value < 0 ? (byte) 0xff : 0;
+        for (int i = 0; i < MAX_BYTE_LENGTH - Long.BYTES; i++) {
+            buffer.put(paddingValue);
         }
-        return Numeric.toHexStringNoPrefix(rawValue);
+        buffer.putLong(value);
     }
 
-    static String encodeBytes(BytesType bytesType) {
-        byte[] value = bytesType.getValue();
-        int length = value.length;
-        int mod = length % MAX_BYTE_LENGTH;
-
-        byte[] dest;
-        if (mod != 0) {
-            int padding = MAX_BYTE_LENGTH - mod;
-            dest = new byte[length + padding];
-            System.arraycopy(value, 0, dest, 0, length);
-        } else {
-            dest = value;
+    static void encodeBytes(byte[] value, ByteBuffer buffer) {
+        buffer.put(value);
+        for (int i = value.length; i < paddedLength(value.length); i++) {
+            buffer.put((byte) 0);
         }
-        return Numeric.toHexStringNoPrefix(dest);
     }
 
-    static String encodeDynamicBytes(DynamicBytes dynamicBytes) {
-        int size = dynamicBytes.getValue().length;
-        String encodedLength = encode(new Uint(BigInteger.valueOf(size)));
-        String encodedValue = encodeBytes(dynamicBytes);
-
-        StringBuilder result = new StringBuilder();
-        result.append(encodedLength);
-        result.append(encodedValue);
-        return result.toString();
+    static void encodeDynamicBytes(byte[] value, ByteBuffer buffer) {
+        writeWord(value.length, buffer);
+        encodeBytes(value, buffer);
     }
 
-    static String encodeString(Utf8String string) {
-        byte[] utfEncoded = string.getValue().getBytes(StandardCharsets.UTF_8);
-        return encodeDynamicBytes(new DynamicBytes(utfEncoded));
-    }
-
-    static <T extends Type> String encodeArrayValues(Array<T> value) {
-        StringBuilder result = new StringBuilder();
+    static <T extends Type> void encodeArrayValues(Array<T> value, ByteBuffer buffer) {
         for (Type type : value.getValue()) {
-            result.append(encode(type));
+            encode(type, buffer);
         }
-        return result.toString();
     }
 
-    static String encodeDynamicStruct(final DynamicStruct value) {
-        String encodedValues = encodeDynamicStructValues(value);
-
-        StringBuilder result = new StringBuilder();
-        result.append(encodedValues);
-        return result.toString();
-    }
-
-    private static String encodeDynamicStructValues(final DynamicStruct value) {
+    static void encodeDynamicStruct(final DynamicStruct value, ByteBuffer buffer) {
+        List<Type> values = value.getValue();
         int staticSize = 0;
-        for (int i = 0; i < value.getValue().size(); ++i) {
-            final Type type = value.getValue().get(i);
+        for (Type type : values) {
             if (isDynamic(type)) {
                 staticSize += 32;
             } else {
                 staticSize += type.bytes32PaddedLength();
             }
         }
-        int dynamicOffset = staticSize;
-        final List<String> offsetsAndStaticValues = new ArrayList<>();
-        final List<String> dynamicValues = new ArrayList<>();
-        for (int i = 0; i < value.getValue().size(); ++i) {
-            final Type type = value.getValue().get(i);
+
+        long dynamicOffset = staticSize;
+        for (Type type : values) {
             if (isDynamic(type)) {
-                offsetsAndStaticValues.add(
-                        Numeric.toHexStringNoPrefix(
-                                Numeric.toBytesPadded(
-                                        new BigInteger(Long.toString(dynamicOffset)),
-                                        MAX_BYTE_LENGTH)));
-                String encodedValue = encode(type);
-                dynamicValues.add(encodedValue);
-                dynamicOffset += encodedValue.length() >> 1;
+                writeWord(dynamicOffset, buffer);
+                dynamicOffset += encodedLength(type);
             } else {
-                offsetsAndStaticValues.add(encode(value.getValue().get(i)));
+                encode(type, buffer);
+            }
+        }
+        for (Type type : values) {
+            if (isDynamic(type)) {
+                encode(type, buffer);
             }
         }
-        final List<String> data = new ArrayList<>();
-        data.addAll(offsetsAndStaticValues);
-        data.addAll(dynamicValues);
-        return String.join("", data);
     }
 
-    static <T extends Type> String encodeDynamicArray(DynamicArray<T> value) {
+    static <T extends Type> void encodeDynamicArray(DynamicArray<T> value, ByteBuffer buffer) {
         int size = value.getValue().size();
-        String encodedLength = encode(new Uint(BigInteger.valueOf(size)));
-        String valuesOffsets = (size == 0) ? "" : encodeArrayValuesOffsets(value);
-        String encodedValues = (size == 0) ? "" : encodeArrayValues(value);
-
-        StringBuilder result = new StringBuilder();
-        result.append(encodedLength);
-        result.append(valuesOffsets);
-        result.append(encodedValues);
-        return result.toString();
+        writeWord(size, buffer);
+        if (size == 0) {
+            return;
+        }
+        encodeArrayValuesOffsets(value, buffer);
+        encodeArrayValues(value, buffer);
     }
 
     /**
@@ -265,14 +289,11 @@ public class TypeEncoder {
      *     enc(64), because the heads are 256bits - head(struct2) = enc(len( head(struct1)
      *     head(struct2) tail(struct1)))
      */
-    private static <T extends Type> String encodeArrayValuesOffsets(DynamicArray<T> value) {
-        StringBuilder result = new StringBuilder();
-
+    private static <T extends Type> void encodeArrayValuesOffsets(DynamicArray<T> value, ByteBuffer buffer) {
         boolean isDynamicType = isDynamic(value.getValue().get(0));
         if(isDynamicType) {
-            result.append(encodeStructsArraysOffsets(value));
+            encodeStructsArraysOffsets(value, buffer);
         }
-        return result.toString();
     }
 
     /**
@@ -280,24 +301,47 @@ public class TypeEncoder {
      * static array containing dynamic structs,
      *
      * @param value DynamicArray or StaticArray containing dynamic structs
-     * @return encoded array offset
+     * @param buffer The buffer to write to.
+     */
+    private static <T extends Type> void encodeStructsArraysOffsets(Array<T> value, ByteBuffer buffer) {
+        List<T> values = value.getValue();
+        long offset = (long) values.size() * MAX_BYTE_LENGTH;
+        for (int i = 0; i < values.size(); i++) {
+            if (i != 0) {
+                offset += encodedLength(values.get(i - 1));
+            }
+            writeWord(offset, buffer);
+        }
+    }
+
+    private static int paddedLength(int length) {
+        int mod = length % MAX_BYTE_LENGTH;
+        return mod == 0 ? length : length + MAX_BYTE_LENGTH - mod;
+    }
+
+    /**
+     * Returns the length of the UTF-8 encoding of the given string without encoding it.
+     * @param value The string to measure.
+     * @return int
      */
-    private static <T extends Type> String encodeStructsArraysOffsets(Array<T> value) {
-        StringBuilder result = new StringBuilder();
-        long offset = value.getValue().size();
-        List<String> tailsEncoding =
-                value.getValue().stream().map(TypeEncoder::encode).collect(Collectors.toList());
-        for (int i = 0; i < value.getValue().size(); i++) {
-            if (i == 0) {
-                offset = offset * MAX_BYTE_LENGTH;
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // String.getBytes(UTF_8) replaces an unpaired surrogate with '?'.
+                length += 1;
             } else {
-                offset += tailsEncoding.get(i - 1).length() / 2;
+                length += 3;
             }
-            result.append(
-                    Numeric.toHexStringNoPrefix(
-                            Numeric.toBytesPadded(
-                                    new BigInteger(Long.toString(offset)), MAX_BYTE_LENGTH)));
         }
-        return result.toString();
+        return length;
     }
 }
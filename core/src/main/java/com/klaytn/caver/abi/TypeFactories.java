@@ -0,0 +1,293 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.abi;
+
+import com.klaytn.caver.abi.datatypes.*;
+import com.klaytn.caver.abi.datatypes.generated.*;
+
+import java.lang.reflect.Constructor;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Holds the factories that create numeric and fixed-size bytes types while decoding.<p>
+ * The factories of the built-in types are method references, so decoding a value does not look up
+ * or call a constructor through reflection. A subclass that is not registered here falls back to
+ * its constructor, which is looked up once and cached per class.
+ */
+final class TypeFactories {
+
+    /**
+     * A factory creating a type from its decoded value, with the length of the type in bytes.
+     * @param <V> The type of the decoded value.
+     * @param <T> The type to create.
+     */
+    static final class Factory<V, T extends Type> {
+        private final int byteLength;
+        private final Function<V, T> creator;
+
+        Factory(int byteLength, Function<V, T> creator) {
+            this.byteLength = byteLength;
+            this.creator = creator;
+        }
+
+        /**
+         * Getter function for byteLength.
+         * @return int
+         */
+        int getByteLength() {
+            return byteLength;
+        }
+
+        /**
+         * Creates a type instance holding the given value.
+         * @param value The decoded value.
+         * @return T
+         */
+        T create(V value) {
+            return creator.apply(value);
+        }
+    }
+
+    private static final Map<Class<?>, Factory<?, ?>> FACTORIES = new HashMap<>();
+
+    static {
+        registerNumeric(Uint.class, Type.MAX_BIT_LENGTH, Uint::new);
+        registerNumeric(Int.class, Type.MAX_BIT_LENGTH, Int::new);
+        registerNumeric(Ufixed.class, Type.MAX_BIT_LENGTH, Ufixed::new);
+        registerNumeric(Fixed.class, Type.MAX_BIT_LENGTH, Fixed::new);
+        registerNumeric(Uint8.class, 8, Uint8::new);
+        registerNumeric(Uint16.class, 16, Uint16::new);
+        registerNumeric(Uint24.class, 24, Uint24::new);
+        registerNumeric(Uint32.class, 32, Uint32::new);
+        registerNumeric(Uint40.class, 40, Uint40::new);
+        registerNumeric(Uint48.class, 48, Uint48::new);
+        registerNumeric(Uint56.class, 56, Uint56::new);
+        registerNumeric(Uint64.class, 64, Uint64::new);
+        registerNumeric(Uint72.class, 72, Uint72::new);
+        registerNumeric(Uint80.class, 80, Uint80::new);
+        registerNumeric(Uint88.class, 88, Uint88::new);
+        registerNumeric(Uint96.class, 96, Uint96::new);
+        registerNumeric(Uint104.class, 104, Uint104::new);
+        registerNumeric(Uint112.class, 112, Uint112::new);
+        registerNumeric(Uint120.class, 120, Uint120::new);
+        registerNumeric(Uint128.class, 128, Uint128::new);
+        registerNumeric(Uint136.class, 136, Uint136::new);
+        registerNumeric(Uint144.class, 144, Uint144::new);
+        registerNumeric(Uint152.class, 152, Uint152::new);
+        registerNumeric(Uint160.class, 160, Uint160::new);
+        registerNumeric(Uint168.class, 168, Uint168::new);
+        registerNumeric(Uint176.class, 176, Uint176::new);
+        registerNumeric(Uint184.class, 184, Uint184::new);
+        registerNumeric(Uint192.class, 192, Uint192::new);
+        registerNumeric(Uint200.class, 200, Uint200::new);
+        registerNumeric(Uint208.class, 208, Uint208::new);
+        registerNumeric(Uint216.class, 216, Uint216::new);
+        registerNumeric(Uint224.class, 224, Uint224::new);
+        registerNumeric(Uint232.class, 232, Uint232::new);
+        registerNumeric(Uint240.class, 240, Uint240::new);
+        registerNumeric(Uint248.class, 248, Uint248::new);
+        registerNumeric(Uint256.class, 256, Uint256::new);
+        registerNumeric(Int8.class, 8, Int8::new);
+        registerNumeric(Int16.class, 16, Int16::new);
+        registerNumeric(Int24.class, 24, Int24::new);
+        registerNumeric(Int32.class, 32, Int32::new);
+        registerNumeric(Int40.class, 40, Int40::new);
+        registerNumeric(Int48.class, 48, Int48::new);
+        registerNumeric(Int56.class, 56, Int56::new);
+        registerNumeric(Int64.class, 64, Int64::new);
+        registerNumeric(Int72.class, 72, Int72::new);
+        registerNumeric(Int80.class, 80, Int80::new);
+        registerNumeric(Int88.class, 88, Int88::new);
+        registerNumeric(Int96.class, 96, Int96::new);
+        registerNumeric(Int104.class, 104, Int104::new);
+        registerNumeric(Int112.class, 112, Int112::new);
+        registerNumeric(Int120.class, 120, Int120::new);
+        registerNumeric(Int128.class, 128, Int128::new);
+        registerNumeric(Int136.class, 136, Int136::new);
+        registerNumeric(Int144.class, 144, Int144::new);
+        registerNumeric(Int152.class, 152, Int152::new);
+        registerNumeric(Int160.class, 160, Int160::new);
+        registerNumeric(Int168.class, 168, Int168::new);
+        registerNumeric(Int176.class, 176, Int176::new);
+        registerNumeric(Int184.class, 184, Int184::new);
+        registerNumeric(Int192.class, 192, Int192::new);
+        registerNumeric(Int200.class, 200, Int200::new);
+        registerNumeric(Int208.class, 208, Int208::new);
+        registerNumeric(Int216.class, 216, Int216::new);
+        registerNumeric(Int224.class, 224, Int224::new);
+        registerNumeric(Int232.class, 232, Int232::new);
+        registerNumeric(Int240.class, 240, Int240::new);
+        registerNumeric(Int248.class, 248, Int248::new);
+        registerNumeric(Int256.class, 256, Int256::new);
+
+        registerBytes(Bytes1.class, 1, Bytes1::new);
+        registerBytes(Bytes2.class, 2, Bytes2::new);
+        registerBytes(Bytes3.class, 3, Bytes3::new);
+        registerBytes(Bytes4.class, 4, Bytes4::new);
+        registerBytes(Bytes5.class, 5, Bytes5::new);
+        registerBytes(Bytes6.class, 6, Bytes6::new);
+        registerBytes(Bytes7.class, 7, Bytes7::new);
+        registerBytes(Bytes8.class, 8, Bytes8::new);
+        registerBytes(Bytes9.class, 9, Bytes9::new);
+        registerBytes(Bytes10.class, 10, Bytes10::new);
+        registerBytes(Bytes11.class, 11, Bytes11::new);
+        registerBytes(Bytes12.class, 12, Bytes12::new);
+        registerBytes(Bytes13.class, 13, Bytes13::new);
+        registerBytes(Bytes14.class, 14, Bytes14::new);
+        registerBytes(Bytes15.class, 15, Bytes15::new);
+        registerBytes(Bytes16.class, 16, Bytes16::new);
+        registerBytes(Bytes17.class, 17, Bytes17::new);
+        registerBytes(Bytes18.class, 18, Bytes18::new);
+        registerBytes(Bytes19.class, 19, Bytes19::new);
+        registerBytes(Bytes20.class, 20, Bytes20::new);
+        registerBytes(Bytes21.class, 21, Bytes21::new);
+        registerBytes(Bytes22.class, 22, Bytes22::new);
+        registerBytes(Bytes23.class, 23, Bytes23::new);
+        registerBytes(Bytes24.class, 24, Bytes24::new);
+        registerBytes(Bytes25.class, 25, Bytes25::new);
+        registerBytes(Bytes26.class, 26, Bytes26::new);
+        registerBytes(Bytes27.class, 27, Bytes27::new);
+        registerBytes(Bytes28.class, 28, Bytes28::new);
+        registerBytes(Bytes29.class, 29, Bytes29::new);
+        registerBytes(Bytes30.class, 30, Bytes30::new);
+        registerBytes(Bytes31.class, 31, Bytes31::new);
+        registerBytes(Bytes32.class, 32, Bytes32::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final BiFunction<Class<Type>, List<Type>, StaticArray<Type>>[] STATIC_ARRAYS = new BiFunction[] {
+            null,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray1::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray2::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray3::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray4::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray5::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray6::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray7::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray8::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray9::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray10::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray11::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray12::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray13::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray14::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray15::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray16::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray17::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray18::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray19::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray20::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray21::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray22::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray23::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray24::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray25::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray26::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray27::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray28::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray29::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray30::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray31::new,
+            (BiFunction<Class<Type>, List<Type>, StaticArray<Type>>) StaticArray32::new
+    };
+
+    private static final ClassValue<Factory<?, ?>> CACHE = new ClassValue<Factory<?, ?>>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Factory<?, ?> computeValue(Class<?> type) {
+            Factory<?, ?> factory = FACTORIES.get(type);
+            if(factory != null) {
+                return factory;
+            }
+            if(NumericType.class.isAssignableFrom(type)) {
+                return reflective(type, BigInteger.class, TypeDecoder.getTypeLength((Class<NumericType>) type) >> 3);
+            }
+            if(Bytes.class.isAssignableFrom(type)) {
+                return reflective(type, byte[].class, Integer.parseInt(type.getSimpleName().split(Bytes.class.getSimpleName())[1]));
+            }
+            throw new UnsupportedOperationException("Unable to create instance of " + type.getName());
+        }
+    };
+
+    private TypeFactories() {}
+
+    /**
+     * Returns the factory of the given numeric type.
+     * @param type The numeric type class.
+     * @param <T> The numeric type.
+     * @return Factory
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends NumericType> Factory<BigInteger, T> numeric(Class<T> type) {
+        return (Factory<BigInteger, T>) CACHE.get(type);
+    }
+
+    /**
+     * Returns the factory of the given fixed-size bytes type.
+     * @param type The bytes type class.
+     * @param <T> The bytes type.
+     * @return Factory
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Bytes> Factory<byte[], T> bytes(Class<T> type) {
+        return (Factory<byte[], T>) CACHE.get(type);
+    }
+
+    /**
+     * Creates a static array of the given length. Only the lengths of the generated StaticArray types are supported.
+     * @param length The length of the static array.
+     * @param type The element type class.
+     * @param elements The elements of the array.
+     * @param <T> The element type.
+     * @return StaticArray
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Type> StaticArray<T> staticArray(int length, Class<T> type, List<T> elements) {
+        if(length <= 0 || length >= STATIC_ARRAYS.length) {
+            throw new UnsupportedOperationException("Unable to create instance of StaticArray" + length);
+        }
+        return (StaticArray<T>) STATIC_ARRAYS[length].apply((Class<Type>) type, (List<Type>) elements);
+    }
+
+    private static <T extends NumericType> void registerNumeric(Class<T> type, int bitLength, Function<BigInteger, T> creator) {
+        FACTORIES.put(type, new Factory<>(bitLength >> 3, creator));
+    }
+
+    private static <T extends Bytes> void registerBytes(Class<T> type, int byteLength, Function<byte[], T> creator) {
+        FACTORIES.put(type, new Factory<>(byteLength, creator));
+    }
+
+    private static Factory<?, ?> reflective(Class<?> type, Class<?> valueType, int byteLength) {
+        try {
+            Constructor<?> constructor = type.getConstructor(valueType);
+            return new Factory<Object, Type>(byteLength, value -> {
+                try {
+                    return (Type) constructor.newInstance(value);
+                } catch (ReflectiveOperationException | IllegalArgumentException e) {
+                    throw new UnsupportedOperationException("Unable to create instance of " + type.getName(), e);
+                }
+            });
+        } catch (NoSuchMethodException | SecurityException e) {
+            throw new UnsupportedOperationException("Unable to create instance of " + type.getName(), e);
+        }
+    }
+}
@@ -26,7 +26,9 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -45,6 +47,17 @@ public abstract class TypeReference<T extends com.klaytn.caver.abi.datatypes.Typ
         implements Comparable<TypeReference<T>> {
     protected static Pattern ARRAY_SUFFIX = Pattern.compile("\\[(\\d*)]");
 
+    /**
+     * The maximum number of TypeReference instances kept in the cache.
+     */
+    static final int MAX_CACHED_TYPE_REFERENCES = 1024;
+
+    /**
+     * The cache of TypeReference instances made from solidity type strings.
+     * TypeReference instances are immutable, so an instance is shared by all callers with the same type string.
+     */
+    private static final ConcurrentHashMap<String, TypeReference> TYPE_REFERENCE_CACHE = new ConcurrentHashMap<>();
+
     private final Type type;
     private final boolean indexed;
 
@@ -97,7 +110,9 @@ public abstract class TypeReference<T extends com.klaytn.caver.abi.datatypes.Typ
     public Class<T> getClassType() throws ClassNotFoundException {
         Type clsType = getType();
 
-        if (getType() instanceof ParameterizedType) {
+        if (clsType instanceof Class) {
+            return (Class<T>) clsType;
+        } else if (clsType instanceof ParameterizedType) {
             return (Class<T>) ((ParameterizedType) clsType).getRawType();
         } else {
             return (Class<T>) Class.forName(clsType.getTypeName());
@@ -215,6 +230,27 @@ public abstract class TypeReference<T extends com.klaytn.caver.abi.datatypes.Typ
     public static TypeReference makeTypeReference(
             String solidityType, final boolean indexed, final boolean primitives)
             throws ClassNotFoundException {
+        String key = solidityType + (indexed ? ",indexed" : "") + (primitives ? ",primitives" : "");
+
+        TypeReference typeReference = TYPE_REFERENCE_CACHE.get(key);
+        if (typeReference == null) {
+            typeReference = parseTypeReference(solidityType, indexed, primitives);
+
+            // Evict an arbitrary entry rather than growing without bound, since type strings may come from any ABI.
+            if (TYPE_REFERENCE_CACHE.size() >= MAX_CACHED_TYPE_REFERENCES) {
+                Iterator<String> keys = TYPE_REFERENCE_CACHE.keySet().iterator();
+                if (keys.hasNext()) {
+                    TYPE_REFERENCE_CACHE.remove(keys.next());
+                }
+            }
+            TYPE_REFERENCE_CACHE.put(key, typeReference);
+        }
+        return typeReference;
+    }
+
+    private static TypeReference parseTypeReference(
+            String solidityType, final boolean indexed, final boolean primitives)
+            throws ClassNotFoundException {
 
         // Check a solidityType string whether a atomic type or array type.
         // The atomic type is a type except an array.
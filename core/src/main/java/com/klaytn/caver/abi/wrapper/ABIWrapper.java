@@ -19,6 +19,7 @@ package com.klaytn.caver.abi.wrapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.klaytn.caver.abi.ABI;
 import com.klaytn.caver.abi.EventValues;
+import com.klaytn.caver.abi.LazyValue;
 import com.klaytn.caver.abi.datatypes.Type;
 import com.klaytn.caver.contract.ContractEvent;
 import com.klaytn.caver.contract.ContractIOType;
@@ -206,6 +207,15 @@ public class ABIWrapper {
         return ABI.encodeParameters(parameters);
     }
 
+    /**
+     * Encodes parameters based on its type to its ABI representation and returns the result as a byte array.
+     * @param parameters A List of parameters that wrappped solidity type wrapper
+     * @return byte[]
+     */
+    public byte[] encodeParametersToBytes(List<Type> parameters) {
+        return ABI.encodeParametersToBytes(parameters);
+    }
+
     /**
      * Decodes a ABI encoded parameter.
      * @param solidityType A solidity type string.
@@ -228,6 +238,17 @@ public class ABIWrapper {
         return ABI.decodeParameters(solidityTypeList, encoded);
     }
 
+    /**
+     * Decodes a ABI encoded parameters.
+     * @param solidityTypeList A List of solidity type string.
+     * @param encoded The ABI encoded bytes to decode
+     * @return List
+     * @throws ClassNotFoundException
+     */
+    public List<Type> decodeParameters(List<String> solidityTypeList, byte[] encoded) throws ClassNotFoundException {
+        return ABI.decodeParameters(solidityTypeList, encoded);
+    }
+
     /**
      * Decodes a ABI encoded parameters.
      * @param method A ContractMethod instance.
@@ -239,6 +260,28 @@ public class ABIWrapper {
         return ABI.decodeParameters(method, encoded);
     }
 
+    /**
+     * Returns the views of ABI encoded parameters, which are decoded on access.
+     * @param solidityTypeList A List of solidity type string.
+     * @param encoded The ABI byte code to decode
+     * @return List
+     * @throws ClassNotFoundException
+     */
+    public List<LazyValue> decodeParametersLazy(List<String> solidityTypeList, String encoded) throws ClassNotFoundException {
+        return ABI.decodeParametersLazy(solidityTypeList, encoded);
+    }
+
+    /**
+     * Returns the views of ABI encoded output parameters, which are decoded on access.
+     * @param method A ContractMethod instance.
+     * @param encoded The ABI byte code to decode
+     * @return List
+     * @throws ClassNotFoundException
+     */
+    public List<LazyValue> decodeParametersLazy(ContractMethod method, String encoded) throws ClassNotFoundException {
+        return ABI.decodeParametersLazy(method, encoded);
+    }
+
     /**
      * Decodes a ABI-encoded log data and indexed topic data
      * @param inputs A list of ContractIOType instance.
@@ -251,6 +294,18 @@ public class ABIWrapper {
         return ABI.decodeLog(inputs, data, topics);
     }
 
+    /**
+     * Decodes an ABI encoded log data and indexed topic data with the codecs of the event.
+     * @param event A ContractEvent instance.
+     * @param data An ABI-encoded in the data field of a log
+     * @param topics A list of indexed parameter topics of the log.
+     * @return EventValues
+     * @throws ClassNotFoundException
+     */
+    public EventValues decodeLog(ContractEvent event, String data, List<String> topics) throws ClassNotFoundException {
+        return ABI.decodeLog(event, data, topics);
+    }
+
     /**
      * Decodes a function call data that composed of function selector and encoded input argument.
      * <pre>Example :
@@ -16,10 +16,11 @@
 
 package com.klaytn.caver.contract;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.klaytn.caver.Caver;
 import com.klaytn.caver.abi.ABI;
+import com.klaytn.caver.abi.DecodedEvent;
+import com.klaytn.caver.abi.EventDecoder;
+import com.klaytn.caver.abi.EventValues;
 import com.klaytn.caver.abi.datatypes.Type;
 import com.klaytn.caver.methods.request.CallObject;
 import com.klaytn.caver.methods.request.KlayFilter;
@@ -38,7 +39,6 @@ import io.reactivex.disposables.Disposable;
 import io.reactivex.functions.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.exceptions.TransactionException;
 
 import java.io.IOException;
@@ -72,6 +72,22 @@ public class Contract {
      */
     Map<String, ContractEvent> events;
 
+    /**
+     * The map where the function selector without "0x" prefix and ContractMethod mapped. It includes the overloaded methods.
+     */
+    private Map<String, ContractMethod> methodsBySelector;
+
+    /**
+     * The map where the event signature(topic0) without "0x" prefix and ContractEvent mapped.
+     */
+    private Map<String, ContractEvent> eventsBySignature;
+
+    /**
+     * The parsed ABI shared with the other Contract instances created with the same ABI.
+     * It keeps the cached definition alive while this instance is used.
+     */
+    private ContractDefinition definition;
+
     /**
      * The ContractMethod instance related Contract's constructor.
      */
@@ -254,7 +270,7 @@ public class Contract {
             if(paramsOption != null) {
                 LOGGER.warn("If eventName has 'allEvent', passed paramOption will be ignored.");
             }
-            events = this.caver.rpc.klay.subscribeFlowable("logs", filter);
+            events = this.caver.rpc.klay.getLogSubscriptionHub().subscribeFlowable(filter);
         } else {
             ContractEvent event = this.getEvent(eventName);
             events = event.getFlowable(this.caver, paramsOption, filter);
@@ -302,7 +318,7 @@ public class Contract {
             if(paramsOption != null) {
                 LOGGER.warn("If eventName has 'allEvent', passed paramOption will be ignored.");
             }
-            events = this.caver.rpc.klay.subscribeFlowable("logs", filter);
+            events = this.caver.rpc.klay.getLogSubscriptionHub().subscribeFlowable(filter);
         } else {
             ContractEvent event = this.getEvent(eventName);
             events = event.getFlowable(this.caver, paramsOption, filter);
@@ -327,6 +343,57 @@ public class Contract {
         return logs;
     }
 
+    /**
+     * Get past events for this contract and decode them.<p>
+     * The logs of the other events having the same signature with a different number of indexed fields are skipped.
+     * @param eventName The name of the event in the contract.
+     * @param filterOption The KlayLogFilter instance to filter event.
+     * @return List&lt;DecodedEvent&gt;
+     * @throws IOException
+     * @throws ClassNotFoundException
+     */
+    public List<DecodedEvent> getPastDecodedEvents(String eventName, KlayLogFilter filterOption) throws IOException, ClassNotFoundException {
+        EventDecoder decoder = getEventDecoder(eventName);
+        KlayLogs logs = getPastEvent(eventName, filterOption);
+
+        List<DecodedEvent> results = new ArrayList<>();
+        decoder.decodeAll(logs.getLogs().iterator()).forEachRemaining(results::add);
+
+        return results;
+    }
+
+    /**
+     * Returns an EventDecoder instance decoding all fields of the event.
+     * <pre>Example :
+     * {@code
+     * EventDecoder decoder = kip7.getEventDecoder("Transfer");
+     * Iterator<DecodedEvent> transfers = decoder.decodeAll(logs.iterator());
+     * }
+     * </pre>
+     * @param eventName The name of the event in the contract.
+     * @return EventDecoder
+     * @throws ClassNotFoundException
+     */
+    public EventDecoder getEventDecoder(String eventName) throws ClassNotFoundException {
+        return new EventDecoder(getEvent(eventName));
+    }
+
+    /**
+     * Returns an EventDecoder instance decoding only the given fields of the event.
+     * <pre>Example :
+     * {@code
+     * EventDecoder decoder = kip7.getEventDecoder("Transfer", Arrays.asList("to", "value"));
+     * }
+     * </pre>
+     * @param eventName The name of the event in the contract.
+     * @param fieldNames The names of the fields to decode.
+     * @return EventDecoder
+     * @throws ClassNotFoundException
+     */
+    public EventDecoder getEventDecoder(String eventName, List<String> fieldNames) throws ClassNotFoundException {
+        return new EventDecoder(getEvent(eventName), fieldNames);
+    }
+
     /**
      * Execute smart contract method in the EVM without sending any transaction.
      * @param methodName The smart contract method name to execute.
@@ -796,23 +863,114 @@ public class Contract {
     }
 
     /**
-     * Find a ContractMethod instance that has the function signature same as passed as a parameter.
-     * @param functionSignature The function signature to find a ContractMethod instance.
-     * @return ContractMethod
+     * Decodes the function call data of the contract methods in bulk.<p>
+     * Each data is matched to a contract method by its function selector, so the data calling the different methods can be passed together.
+     * If the data does not have a function selector of this contract, the result at its position is null.
+     * <pre>Example :
+     * {@code
+     * List<String> inputs = transactions.stream().map(tx -> tx.getInput()).collect(Collectors.toList());
+     *
+     * List<DecodedFunctionCall> decoded = contract.decodeFunctionCalls(inputs);
+     * for(DecodedFunctionCall call : decoded) {
+     *     if(call != null) {
+     *         String name = call.getMethod().getName();
+     *         List<Type> params = call.getParameters();
+     *     }
+     * }
+     * }
+     * </pre>
+     * @param encodedStrings The list of encoded function call data string.
+     * @return List&lt;DecodedFunctionCall&gt;
+     * @throws ClassNotFoundException
      */
-    public ContractMethod findContractMethodBySignature(String functionSignature) {
-        ContractMethod findMethod = null;
+    public List<DecodedFunctionCall> decodeFunctionCalls(List<String> encodedStrings) throws ClassNotFoundException {
+        List<DecodedFunctionCall> results = new ArrayList<>(encodedStrings.size());
 
-        for(String key : this.getMethods().keySet()) {
-            ContractMethod method = this.getMethod(key);
+        for(String encodedString : encodedStrings) {
+            String encoded = Utils.stripHexPrefix(encodedString);
+            ContractMethod method = encoded.length() < 8 ? null : findContractMethodBySignature(encoded.substring(0, 8));
 
-            findMethod = method.findMethodBySignature(functionSignature);
-            if(findMethod != null) {
-                break;
+            if(method == null) {
+                results.add(null);
+            } else {
+                results.add(new DecodedFunctionCall(method, ABI.decodeFunctionCall(method, encodedString)));
             }
         }
 
-        return findMethod;
+        return results;
+    }
+
+    /**
+     * Decodes a log emitted by one of the contract events.<p>
+     * The event is matched by the first topic of the log. If no event of this contract is matched, it returns null.
+     * @param log The log to decode.
+     * @return DecodedLog
+     * @throws ClassNotFoundException
+     */
+    public DecodedLog decodeLog(KlayLogs.Log log) throws ClassNotFoundException {
+        if(log.getTopics() == null || log.getTopics().isEmpty()) {
+            return null;
+        }
+
+        ContractEvent event = findContractEventBySignature(log.getTopics().get(0));
+        if(event == null) {
+            return null;
+        }
+
+        EventValues values = ABI.decodeLog(event, log.getData(), log.getTopics());
+        return new DecodedLog(log, event, values);
+    }
+
+    /**
+     * Decodes the logs emitted by the contract events in bulk.<p>
+     * Each log is matched to a contract event by its first topic, so the logs returned from klay_getLogs can be passed as they are.
+     * If a log is not emitted by an event of this contract or the log result has only a hash, the result at its position is null.
+     * <pre>Example :
+     * {@code
+     * KlayLogs logs = caver.rpc.klay.getLogs(filter).send();
+     *
+     * List<DecodedLog> decoded = kip7.decodeLogs(logs.getLogs());
+     * for(DecodedLog log : decoded) {
+     *     if(log != null && log.getEvent().getName().equals("Transfer")) {
+     *         List<Type> indexed = log.getValues().getIndexedValues();
+     *     }
+     * }
+     * }
+     * </pre>
+     * @param logs The list of log results.
+     * @return List&lt;DecodedLog&gt;
+     * @throws ClassNotFoundException
+     */
+    public List<DecodedLog> decodeLogs(List<KlayLogs.LogResult> logs) throws ClassNotFoundException {
+        List<DecodedLog> results = new ArrayList<>(logs.size());
+
+        for(KlayLogs.LogResult logResult : logs) {
+            if(logResult instanceof KlayLogs.Log) {
+                results.add(decodeLog((KlayLogs.Log)logResult));
+            } else {
+                results.add(null);
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Find a ContractMethod instance that has the function signature same as passed as a parameter.
+     * @param functionSignature The function signature to find a ContractMethod instance.
+     * @return ContractMethod
+     */
+    public ContractMethod findContractMethodBySignature(String functionSignature) {
+        return methodsBySelector.get(toIndexKey(functionSignature));
+    }
+
+    /**
+     * Find a ContractEvent instance that has the event signature(topic0) same as passed as a parameter.
+     * @param eventSignature The event signature to find a ContractEvent instance.
+     * @return ContractEvent
+     */
+    public ContractEvent findContractEventBySignature(String eventSignature) {
+        return eventsBySignature.get(toIndexKey(eventSignature));
     }
 
     /**
@@ -949,6 +1107,7 @@ public class Contract {
      */
     void setMethods(Map<String, ContractMethod> methods) {
         this.methods = methods;
+        indexMethods();
     }
 
     /**
@@ -957,6 +1116,7 @@ public class Contract {
      */
     void setEvents(Map<String, ContractEvent> events) {
         this.events = events;
+        indexEvents();
     }
 
     /**
@@ -992,59 +1152,43 @@ public class Contract {
     }
 
     /**
-     * Parse ABI json string and generate the mapped data related to method and event.
+     * Parse ABI json string and generate the mapped data related to method and event.<p>
+     * The parsed definition is shared with the other Contract instances created with the same ABI.
      * @param abi The contract's ABI(Application Binary Interface) json string.
      * @throws IOException
      */
     private void init(String abi) throws IOException {
-        ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
-
-        methods = new HashMap<>();
-        events = new HashMap<>();
-
-        JsonNode root = objectMapper.readTree(abi);
-        Iterator<JsonNode> iterator = root.iterator();
-
-        while(iterator.hasNext()) {
-            JsonNode element = iterator.next();
-            if(element.get("type").asText().equals("function")) {
-                ContractMethod newMethod = objectMapper.readValue(element.toString(), ContractMethod.class);
-                newMethod.setSignature(ABI.encodeFunctionSignature(newMethod));
-
-                ContractMethod existedMethod = this.methods.get(newMethod.getName());
-                if(existedMethod != null) {
-                    boolean isWarning = existedMethod.getNextContractMethods().stream().anyMatch(contractMethod -> {
-                        return contractMethod.getInputs().size() == newMethod.getInputs().size();
-                    });
-
-                    if(existedMethod.getInputs().size() == newMethod.getInputs().size() || isWarning) {
-                        LOGGER.warn("An overloaded function with the same number of parameters may not be executed normally. Please use *withSolidityWrapper methods in ContractMethod class.");
-                    }
-
-                    existedMethod.getNextContractMethods().add(newMethod);
-                } else {
-                    methods.put(newMethod.getName(), newMethod);
-                }
-
-            } else if(element.get("type").asText().equals("event")) {
-                ContractEvent event = objectMapper.readValue(element.toString(), ContractEvent.class);
-                event.setSignature(ABI.encodeEventSignature(event));
-                events.put(event.getName(), event);
-            } else if(element.get("type").asText().equals("constructor")) {
-                ContractMethod method = objectMapper.readValue(element.toString(), ContractMethod.class);
-                //add a constructor info in methods.
-                methods.put("constructor", method);
-                this.constructor = method;
+        this.definition = ContractDefinition.of(abi);
+
+        setMethods(definition.newMethods());
+        setEvents(definition.newEvents());
+        this.constructor = methods.get("constructor");
+    }
+
+    /**
+     * Builds the map from the function selector to the ContractMethod, including the overloaded methods.
+     */
+    private void indexMethods() {
+        methodsBySelector = new HashMap<>();
+
+        for(ContractMethod method : methods.values()) {
+            if(method.getType().equals(ContractMethod.TYPE_CONSTRUCTOR)) {
+                continue;
             }
+            methodsBySelector.put(toIndexKey(method.getSignature()), method);
+            method.getNextContractMethods().forEach(next -> methodsBySelector.put(toIndexKey(next.getSignature()), next));
         }
-        //if the constructor is not existed in ABI, creates a dummy instance and adds it.
-        if(methods.get("constructor") == null) {
-            ContractMethod method = new ContractMethod();
-            method.setType(ContractMethod.TYPE_CONSTRUCTOR);
-            method.setInputs(new ArrayList<ContractIOType>());
-
-            methods.put("constructor", method);
-            this.constructor = method;
-        }
+    }
+
+    /**
+     * Builds the map from the event signature(topic0) to the ContractEvent.
+     */
+    private void indexEvents() {
+        eventsBySignature = new HashMap<>();
+        events.values().forEach(event -> eventsBySignature.put(toIndexKey(event.getSignature()), event));
+    }
+
+    private static String toIndexKey(String signature) {
+        return Utils.stripHexPrefix(signature).toLowerCase();
     }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.abi.ABI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.web3j.protocol.ObjectMapperFactory;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+/**
+ * Representing the methods and events parsed from a contract ABI json string.<p>
+ * A definition is parsed once per ABI string and shared by all Contract instances created with it,
+ * so creating a Contract for another address does not parse the ABI and hash the signatures again.
+ * Each Contract gets its own copies of the methods, events and their parameters, so changing them doesn't affect other instances.<p>
+ * A definition is kept while a Contract created with it is reachable. The definition holds the ABI string used as its key,
+ * and the cache only holds the definition weakly, so the entry is not dropped while the definition is in use.
+ */
+final class ContractDefinition {
+    private static final Map<String, WeakReference<ContractDefinition>> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContractDefinition.class);
+
+    /**
+     * The map where method name string and ContractMethod mapped. The methods are used as templates and never bound to a Contract.
+     */
+    private final Map<String, ContractMethod> methods;
+
+    /**
+     * The map where event name string and ContractEvent mapped.
+     */
+    private final Map<String, ContractEvent> events;
+
+    /**
+     * The ABI json string used as the key of this definition in the cache.
+     */
+    private final String abi;
+
+    private ContractDefinition(String abi, Map<String, ContractMethod> methods, Map<String, ContractEvent> events) {
+        this.abi = abi;
+        this.methods = methods;
+        this.events = events;
+    }
+
+    /**
+     * Returns the definition of the ABI json string. It is parsed on the first call and reused after that.
+     * @param abi A contract's ABI(Application Binary Interface) json string.
+     * @return ContractDefinition
+     * @throws IOException
+     */
+    static ContractDefinition of(String abi) throws IOException {
+        synchronized(CACHE) {
+            WeakReference<ContractDefinition> reference = CACHE.get(abi);
+            ContractDefinition definition = reference != null ? reference.get() : null;
+            if(definition == null) {
+                definition = parse(abi);
+                // An equal key whose definition was collected is removed first, so the key of the entry is the string held by the definition.
+                CACHE.remove(abi);
+                CACHE.put(definition.abi, new WeakReference<>(definition));
+            }
+            return definition;
+        }
+    }
+
+    /**
+     * Creates the methods for a Contract instance.<p>
+     * Each ContractMethod is a copy sharing the inputs, outputs, signature and codecs of the template.
+     * @return Map
+     */
+    Map<String, ContractMethod> newMethods() {
+        Map<String, ContractMethod> copied = new HashMap<>();
+        methods.forEach((name, method) -> copied.put(name, method.copy()));
+        return copied;
+    }
+
+    /**
+     * Creates the event map for a Contract instance.<p>
+     * Each ContractEvent is a copy sharing the signature and codecs of the template.
+     * @return Map
+     */
+    Map<String, ContractEvent> newEvents() {
+        Map<String, ContractEvent> copied = new HashMap<>();
+        events.forEach((name, event) -> copied.put(name, event.copy()));
+        return copied;
+    }
+
+    /**
+     * Parse ABI json string and generate the mapped data related to method and event.
+     * @param abi The contract's ABI(Application Binary Interface) json string.
+     * @return ContractDefinition
+     * @throws IOException
+     */
+    private static ContractDefinition parse(String abi) throws IOException {
+        ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+        Map<String, ContractMethod> methods = new HashMap<>();
+        Map<String, ContractEvent> events = new HashMap<>();
+
+        JsonNode root = objectMapper.readTree(abi);
+        Iterator<JsonNode> iterator = root.iterator();
+
+        while(iterator.hasNext()) {
+            JsonNode element = iterator.next();
+            if(element.get("type").asText().equals("function")) {
+                ContractMethod newMethod = objectMapper.treeToValue(element, ContractMethod.class);
+                newMethod.precompile();
+                newMethod.setSignature(newMethod.getFunctionSelector());
+
+                ContractMethod existedMethod = methods.get(newMethod.getName());
+                if(existedMethod != null) {
+                    boolean isWarning = existedMethod.getNextContractMethods().stream().anyMatch(contractMethod -> {
+                        return contractMethod.getInputs().size() == newMethod.getInputs().size();
+                    });
+
+                    if(existedMethod.getInputs().size() == newMethod.getInputs().size() || isWarning) {
+                        LOGGER.warn("An overloaded function with the same number of parameters may not be executed normally. Please use *withSolidityWrapper methods in ContractMethod class.");
+                    }
+
+                    existedMethod.getNextContractMethods().add(newMethod);
+                } else {
+                    methods.put(newMethod.getName(), newMethod);
+                }
+
+            } else if(element.get("type").asText().equals("event")) {
+                ContractEvent event = objectMapper.treeToValue(element, ContractEvent.class);
+                event.setSignature(ABI.encodeEventSignature(event));
+                event.precompile();
+                events.put(event.getName(), event);
+            } else if(element.get("type").asText().equals("constructor")) {
+                ContractMethod method = objectMapper.treeToValue(element, ContractMethod.class);
+                method.precompile();
+                //add a constructor info in methods.
+                methods.put("constructor", method);
+            }
+        }
+        //if the constructor is not existed in ABI, creates a dummy instance and adds it.
+        if(methods.get("constructor") == null) {
+            ContractMethod method = new ContractMethod();
+            method.setType(ContractMethod.TYPE_CONSTRUCTOR);
+            method.setInputs(new ArrayList<ContractIOType>());
+            method.precompile();
+
+            methods.put("constructor", method);
+        }
+
+        return new ContractDefinition(abi, methods, events);
+    }
+}
@@ -16,18 +16,23 @@
 
 package com.klaytn.caver.contract;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.klaytn.caver.Caver;
+import com.klaytn.caver.abi.ParameterCodec;
 import com.klaytn.caver.methods.request.KlayFilter;
 import com.klaytn.caver.methods.response.LogsNotification;
 import com.klaytn.caver.methods.response.Quantity;
 import io.reactivex.Flowable;
 import io.reactivex.disposables.Disposable;
 import io.reactivex.functions.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.web3j.protocol.core.Request;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Representing a Contract's event information.
@@ -54,6 +59,18 @@ public class ContractEvent {
      */
     List<ContractIOType> inputs;
 
+    /**
+     * The codec of the indexed inputs. It is built once from the inputs and reset when they are changed.
+     */
+    private volatile ParameterCodec indexedCodec;
+
+    /**
+     * The codec of the non-indexed inputs. It is built once from the inputs and reset when they are changed.
+     */
+    private volatile ParameterCodec nonIndexedCodec;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContractEvent.class);
+
     /**
      * Creates a ContractEvent instance.
      */
@@ -106,6 +123,38 @@ public class ContractEvent {
         return inputs;
     }
 
+    /**
+     * Returns the codec of the indexed inputs, which are stored in the topics of a log.
+     * It is built on the first call and reused after that.
+     * @return ParameterCodec
+     * @throws ClassNotFoundException
+     */
+    @JsonIgnore
+    public ParameterCodec getIndexedCodec() throws ClassNotFoundException {
+        ParameterCodec codec = indexedCodec;
+        if(codec == null) {
+            codec = ParameterCodec.fromIOTypes(getInputs().stream().filter(ContractIOType::isIndexed).collect(Collectors.toList()));
+            indexedCodec = codec;
+        }
+        return codec;
+    }
+
+    /**
+     * Returns the codec of the non-indexed inputs, which are stored in the data of a log.
+     * It is built on the first call and reused after that.
+     * @return ParameterCodec
+     * @throws ClassNotFoundException
+     */
+    @JsonIgnore
+    public ParameterCodec getNonIndexedCodec() throws ClassNotFoundException {
+        ParameterCodec codec = nonIndexedCodec;
+        if(codec == null) {
+            codec = ParameterCodec.fromIOTypes(getInputs().stream().filter(ioType -> !ioType.isIndexed()).collect(Collectors.toList()));
+            nonIndexedCodec = codec;
+        }
+        return codec;
+    }
+
     /**
      * Setter function for name.
      * @param name A function name.
@@ -128,6 +177,33 @@ public class ContractEvent {
      */
     void setInputs(List<ContractIOType> inputs) {
         this.inputs = inputs;
+        this.indexedCodec = null;
+        this.nonIndexedCodec = null;
+    }
+
+    /**
+     * Builds the codecs of the inputs ahead of the first use.<p>
+     * If a type in the ABI is not supported, the codecs are left to be built on use,
+     * so the error is thrown from the call that needs them as before.
+     */
+    void precompile() {
+        try {
+            getIndexedCodec();
+            getNonIndexedCodec();
+        } catch(ClassNotFoundException | RuntimeException e) {
+            LOGGER.debug("Failed to precompile the codec of " + getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Creates a copy of this event with its own copies of the inputs. The copy shares the signature and codecs.
+     * @return ContractEvent
+     */
+    ContractEvent copy() {
+        ContractEvent event = new ContractEvent(type, name, signature, ContractIOType.copyAll(inputs));
+        event.indexedCodec = indexedCodec;
+        event.nonIndexedCodec = nonIndexedCodec;
+        return event;
     }
 
     /**
@@ -141,7 +217,8 @@ public class ContractEvent {
     /**
      * Returns a Flowable instance that can subscribe to a stream of notifications. <p>
      * Fills the KlayFilter object to be used when subscribing
-     * using the event filter options received as parameters and the information of this event object. <p>
+     * using the event filter options received as parameters and the information of this event object.
+     * The subscription in the node is shared with other listeners through {@link com.klaytn.caver.rpc.Klay#getLogSubscriptionHub()}. <p>
      *
      * <pre>Example :
      * {@code
@@ -184,7 +261,7 @@ public class ContractEvent {
             }
         }
 
-        final Flowable<LogsNotification> events = caver.rpc.klay.subscribeFlowable("logs", filter);
+        final Flowable<LogsNotification> events = caver.rpc.klay.getLogSubscriptionHub().subscribeFlowable(filter);
         return events;
     }
 }
@@ -16,6 +16,7 @@
 
 package com.klaytn.caver.contract;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -138,6 +139,33 @@ public class ContractIOType {
         return getType();
     }
 
+    /**
+     * Creates a copy of this parameter, including copies of its components.
+     * @return ContractIOType
+     */
+    ContractIOType copy() {
+        ContractIOType ioType = new ContractIOType(name, type, indexed);
+        ioType.components = copyAll(components);
+        return ioType;
+    }
+
+    /**
+     * Creates a list of the copies of the given parameters.
+     * @param ioTypes The parameters to copy.
+     * @return List
+     */
+    static List<ContractIOType> copyAll(List<ContractIOType> ioTypes) {
+        if(ioTypes == null) {
+            return null;
+        }
+
+        List<ContractIOType> copied = new ArrayList<>(ioTypes.size());
+        for(ContractIOType ioType : ioTypes) {
+            copied.add(ioType != null ? ioType.copy() : null);
+        }
+        return copied;
+    }
+
     private String getComponentAsString() {
         if(this.getComponents() == null) {
             return "";
@@ -17,7 +17,9 @@
 package com.klaytn.caver.contract;
 
 import com.klaytn.caver.Caver;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.klaytn.caver.abi.ABI;
+import com.klaytn.caver.abi.ParameterCodec;
 import com.klaytn.caver.abi.datatypes.Type;
 import com.klaytn.caver.methods.request.CallObject;
 import com.klaytn.caver.methods.response.Bytes;
@@ -96,6 +98,20 @@ public class ContractMethod {
 
     List<ContractMethod> nextContractMethods = new ArrayList<>();
 
+    /**
+     * The codec of the inputs. It is built once from the inputs and reset when they are changed.
+     */
+    private volatile ParameterCodec inputCodec;
+
+    /**
+     * The codec of the outputs. It is built once from the outputs and reset when they are changed.
+     */
+    private volatile ParameterCodec outputCodec;
+
+    /**
+     * The function selector computed from the name and inputs.
+     */
+    private volatile String functionSelector;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ContractMethod.class);
 
@@ -796,6 +812,50 @@ public class ContractMethod {
         return nextContractMethods;
     }
 
+    /**
+     * Returns the codec encoding the inputs. It is built on the first call and reused after that.
+     * @return ParameterCodec
+     * @throws ClassNotFoundException
+     */
+    @JsonIgnore
+    public ParameterCodec getInputCodec() throws ClassNotFoundException {
+        ParameterCodec codec = inputCodec;
+        if(codec == null) {
+            codec = ParameterCodec.fromIOTypes(getInputs());
+            inputCodec = codec;
+        }
+        return codec;
+    }
+
+    /**
+     * Returns the codec decoding the outputs. It is built on the first call and reused after that.
+     * @return ParameterCodec
+     * @throws ClassNotFoundException
+     */
+    @JsonIgnore
+    public ParameterCodec getOutputCodec() throws ClassNotFoundException {
+        ParameterCodec codec = outputCodec;
+        if(codec == null) {
+            codec = ParameterCodec.fromIOTypes(getOutputs());
+            outputCodec = codec;
+        }
+        return codec;
+    }
+
+    /**
+     * Returns the function selector computed from the name and inputs, with "0x" prefix.
+     * @return String
+     */
+    @JsonIgnore
+    public String getFunctionSelector() {
+        String selector = functionSelector;
+        if(selector == null) {
+            selector = ABI.encodeFunctionSignature(this);
+            functionSelector = selector;
+        }
+        return selector;
+    }
+
     /**
      * Setter function for Caver.
      * @param caver The Caver instance.
@@ -818,6 +878,7 @@ public class ContractMethod {
      */
     void setName(String name) {
         this.name = name;
+        this.functionSelector = null;
     }
 
     /**
@@ -826,6 +887,8 @@ public class ContractMethod {
      */
     void setInputs(List<ContractIOType> inputs) {
         this.inputs = inputs;
+        this.inputCodec = null;
+        this.functionSelector = null;
     }
 
     /**
@@ -834,6 +897,45 @@ public class ContractMethod {
      */
     void setOutputs(List<ContractIOType> outputs) {
         this.outputs = outputs;
+        this.outputCodec = null;
+    }
+
+    /**
+     * Builds the codecs of the inputs and outputs ahead of the first call.<p>
+     * If a type in the ABI is not supported, the codecs are left to be built on use,
+     * so the error is thrown from the call that needs them as before.
+     */
+    void precompile() {
+        try {
+            if(TYPE_FUNCTION.equals(getType())) {
+                getFunctionSelector();
+            }
+            getInputCodec();
+            if(getOutputs() != null) {
+                getOutputCodec();
+            }
+        } catch(ClassNotFoundException | RuntimeException e) {
+            LOGGER.debug("Failed to precompile the codec of " + getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Creates a copy of this method that is not bound to a Contract.<p>
+     * The copy shares the signature and codecs, and has its own copies of the inputs, outputs and overloaded methods.
+     * @return ContractMethod
+     */
+    ContractMethod copy() {
+        ContractMethod method = new ContractMethod();
+        method.type = type;
+        method.name = name;
+        method.inputs = ContractIOType.copyAll(inputs);
+        method.outputs = ContractIOType.copyAll(outputs);
+        method.signature = signature;
+        method.inputCodec = inputCodec;
+        method.outputCodec = outputCodec;
+        method.functionSelector = functionSelector;
+        nextContractMethods.forEach(next -> method.nextContractMethods.add(next.copy()));
+        return method;
     }
 
     /**
@@ -939,11 +1041,12 @@ public class ContractMethod {
         }
 
         ContractMethod findMethod = null;
+        String target = Utils.stripHexPrefix(functionSignature);
 
         List<ContractMethod> methodList = getAllMethod();
         for(ContractMethod contractMethod : methodList) {
             String signature = Utils.stripHexPrefix(contractMethod.getSignature());
-            if(signature.equals(functionSignature)) {
+            if(signature.equals(target)) {
                 findMethod = contractMethod;
             }
         }
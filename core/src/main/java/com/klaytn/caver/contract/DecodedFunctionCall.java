@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.contract;
+
+import com.klaytn.caver.abi.datatypes.Type;
+
+import java.util.List;
+
+/**
+ * Represents a function call data decoded with the contract method matched by its function selector.
+ * @see Contract#decodeFunctionCalls(List)
+ */
+public class DecodedFunctionCall {
+    /**
+     * The contract method matched by the function selector.
+     */
+    private final ContractMethod method;
+
+    /**
+     * The decoded input arguments.
+     */
+    private final List<Type> parameters;
+
+    /**
+     * Creates a DecodedFunctionCall instance.
+     * @param method The contract method matched by the function selector.
+     * @param parameters The decoded input arguments.
+     */
+    public DecodedFunctionCall(ContractMethod method, List<Type> parameters) {
+        this.method = method;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Getter function for method.
+     * @return ContractMethod
+     */
+    public ContractMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Getter function for parameters.
+     * @return List
+     */
+    public List<Type> getParameters() {
+        return parameters;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.contract;
+
+import com.klaytn.caver.abi.EventValues;
+import com.klaytn.caver.methods.response.KlayLogs;
+
+/**
+ * Represents a log decoded with the contract event matched by its first topic.
+ * @see Contract#decodeLogs(java.util.List)
+ */
+public class DecodedLog {
+    /**
+     * The decoded log.
+     */
+    private final KlayLogs.Log log;
+
+    /**
+     * The contract event matched by the first topic of the log.
+     */
+    private final ContractEvent event;
+
+    /**
+     * The decoded indexed and non-indexed values.
+     */
+    private final EventValues values;
+
+    /**
+     * Creates a DecodedLog instance.
+     * @param log The decoded log.
+     * @param event The contract event matched by the first topic of the log.
+     * @param values The decoded indexed and non-indexed values.
+     */
+    public DecodedLog(KlayLogs.Log log, ContractEvent event, EventValues values) {
+        this.log = log;
+        this.event = event;
+        this.values = values;
+    }
+
+    /**
+     * Getter function for log.
+     * @return KlayLogs.Log
+     */
+    public KlayLogs.Log getLog() {
+        return log;
+    }
+
+    /**
+     * Getter function for event.
+     * @return ContractEvent
+     */
+    public ContractEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * Getter function for values.
+     * @return EventValues
+     */
+    public EventValues getValues() {
+        return values;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.crypto;
+
+import org.bouncycastle.asn1.x9.X9IntegerConverter;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.bouncycastle.math.ec.ECAlgorithms;
+import org.bouncycastle.math.ec.ECMultiplier;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+import org.bouncycastle.math.ec.custom.sec.SecP256K1Curve;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.crypto.Sign;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Pure Java secp256k1 implementation.<p>
+ * Compared with {@link Sign#signMessage(byte[], ECKeyPair, boolean)}, it computes the recovery id from the R point while signing
+ * instead of trying up to four public key recoveries after signing.<p>
+ * Multiplications by the generator use a precomputed comb table, and recovery uses the GLV endomorphism with wNAF(Shamir's trick).
+ * Nonces are generated deterministically with RFC6979, so signatures are identical to the ones made by web3j.
+ */
+public class DefaultSecp256k1 extends Secp256k1 {
+
+    private static final BigInteger N = Sign.CURVE_PARAMS.getN();
+    private static final BigInteger HALF_N = N.shiftRight(1);
+    private static final ECPoint G = Sign.CURVE_PARAMS.getG();
+    private static final BigInteger PRIME = SecP256K1Curve.q;
+    private static final ECMultiplier BASE_MULTIPLIER = new FixedPointCombMultiplier();
+
+    private static final int LEN_SIGNATURE_VALUE = 32;
+    private static final int LEN_PUBLIC_KEY = 64;
+
+    @Override
+    protected Sign.SignatureData signHash(byte[] messageHash, ECKeyPair keyPair) {
+        BigInteger d = keyPair.getPrivateKey();
+        BigInteger e = calculateE(messageHash);
+
+        HMacDSAKCalculator kCalculator = new HMacDSAKCalculator(new SHA256Digest());
+        kCalculator.init(N, d, messageHash);
+
+        while (true) {
+            BigInteger k = kCalculator.nextK();
+            ECPoint point = BASE_MULTIPLIER.multiply(G, k).normalize();
+
+            BigInteger x = point.getAffineXCoord().toBigInteger();
+            BigInteger r = x.mod(N);
+            if (r.signum() == 0) {
+                continue;
+            }
+
+            BigInteger s = k.modInverse(N).multiply(e.add(d.multiply(r))).mod(N);
+            if (s.signum() == 0) {
+                continue;
+            }
+
+            int recId = (point.getAffineYCoord().testBitZero() ? 1 : 0) | (x.compareTo(N) >= 0 ? 2 : 0);
+
+            // Use the canonical(low) S value. Negating S flips the parity of the recovered point.
+            if (s.compareTo(HALF_N) > 0) {
+                s = N.subtract(s);
+                recId ^= 1;
+            }
+
+            return new Sign.SignatureData(
+                    (byte)(recId + 27),
+                    Numeric.toBytesPadded(r, LEN_SIGNATURE_VALUE),
+                    Numeric.toBytesPadded(s, LEN_SIGNATURE_VALUE));
+        }
+    }
+
+    @Override
+    protected BigInteger recoverFromSignature(int recId, BigInteger r, BigInteger s, byte[] messageHash) {
+        if (recId < 0 || r.signum() < 0 || s.signum() < 0 || messageHash == null) {
+            throw new IllegalArgumentException("Invalid signature values.");
+        }
+
+        BigInteger x = r.add(N.multiply(BigInteger.valueOf(recId / 2)));
+        if (x.compareTo(PRIME) >= 0) {
+            return null;
+        }
+
+        // The cofactor of secp256k1 is 1, so every point on the curve has order N and it doesn't need to be checked.
+        ECPoint point = decompressKey(x, (recId & 1) == 1);
+
+        BigInteger e = calculateE(messageHash);
+        BigInteger rInv = r.modInverse(N);
+        BigInteger srInv = rInv.multiply(s).mod(N);
+        BigInteger eInvrInv = rInv.multiply(N.subtract(e).mod(N)).mod(N);
+
+        ECPoint q = ECAlgorithms.sumOfTwoMultiplies(G, eInvrInv, point, srInv).normalize();
+        if (q.isInfinity()) {
+            return null;
+        }
+
+        byte[] encoded = q.getEncoded(false);
+        return new BigInteger(1, Arrays.copyOfRange(encoded, 1, encoded.length));
+    }
+
+    @Override
+    protected BigInteger derivePublicKey(BigInteger privateKey) {
+        BigInteger d = privateKey;
+        if (d.bitLength() > N.bitLength()) {
+            d = d.mod(N);
+        }
+
+        byte[] encoded = BASE_MULTIPLIER.multiply(G, d).getEncoded(false);
+        return new BigInteger(1, Arrays.copyOfRange(encoded, 1, 1 + LEN_PUBLIC_KEY));
+    }
+
+    private static BigInteger calculateE(byte[] messageHash) {
+        int messageBitLength = messageHash.length * 8;
+        BigInteger e = new BigInteger(1, messageHash);
+        if (N.bitLength() < messageBitLength) {
+            e = e.shiftRight(messageBitLength - N.bitLength());
+        }
+        return e;
+    }
+
+    private static ECPoint decompressKey(BigInteger x, boolean yBit) {
+        X9IntegerConverter converter = new X9IntegerConverter();
+        byte[] compressed = converter.integerToBytes(x, 1 + converter.getByteLength(Sign.CURVE_PARAMS.getCurve()));
+        compressed[0] = (byte)(yBit ? 0x03 : 0x02);
+        return Sign.CURVE_PARAMS.getCurve().decodePoint(compressed);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.crypto;
+
+import com.klaytn.caver.crypto.spi.Secp256k1Provider;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.crypto.Sign;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Delegates to {@link DefaultSecp256k1} unless a {@link Secp256k1Provider} SPI is
+ * found or an implementation is set with {@link #setImplementation(Secp256k1)},
+ * in which case that implementation will be used.
+ *
+ * @see DefaultSecp256k1
+ * @see Secp256k1Provider
+ */
+public abstract class Secp256k1 {
+
+    private static volatile Secp256k1 implementation;
+
+    /**
+     * Signs the hash with the private key.
+     * @param messageHash The 32 bytes hash to sign.
+     * @param keyPair The key pair to sign with.
+     * @return Sign.SignatureData - The signature that has a canonical(low) S value and V as 27 + recovery id.
+     */
+    public static Sign.SignatureData sign(byte[] messageHash, ECKeyPair keyPair) {
+        return implementation().signHash(messageHash, keyPair);
+    }
+
+    /**
+     * Recovers the public key from the signature.
+     * @param recId The recovery id(0 ~ 3).
+     * @param r The R value of the signature.
+     * @param s The S value of the signature.
+     * @param messageHash The signed hash.
+     * @return BigInteger - The 64 bytes uncompressed public key without prefix. It returns null if it cannot be recovered.
+     */
+    public static BigInteger recoverPublicKey(int recId, BigInteger r, BigInteger s, byte[] messageHash) {
+        return implementation().recoverFromSignature(recId, r, s, messageHash);
+    }
+
+    /**
+     * Derives the public key from the private key.
+     * @param privateKey The private key.
+     * @return BigInteger - The 64 bytes uncompressed public key without prefix.
+     */
+    public static BigInteger publicKeyFromPrivate(BigInteger privateKey) {
+        return implementation().derivePublicKey(privateKey);
+    }
+
+    /**
+     * Sets the implementation used by the static methods of this class.<p>
+     * If null is given, it falls back to a {@link Secp256k1Provider} SPI or {@link DefaultSecp256k1}.
+     * @param secp256k1 The implementation to use.
+     */
+    public static void setImplementation(Secp256k1 secp256k1) {
+        implementation = secp256k1;
+    }
+
+    /**
+     * Returns the implementation used by the static methods of this class.
+     * @return Secp256k1
+     */
+    public static Secp256k1 implementation() {
+        Secp256k1 current = implementation;
+        if (current == null) {
+            final Iterator<Secp256k1Provider> iterator = ServiceLoader.load(Secp256k1Provider.class).iterator();
+            current = iterator.hasNext() ? iterator.next().get() : new DefaultSecp256k1();
+            implementation = current;
+        }
+        return current;
+    }
+
+    protected abstract Sign.SignatureData signHash(byte[] messageHash, ECKeyPair keyPair);
+
+    protected abstract BigInteger recoverFromSignature(int recId, BigInteger r, BigInteger s, byte[] messageHash);
+
+    protected abstract BigInteger derivePublicKey(BigInteger privateKey);
+}
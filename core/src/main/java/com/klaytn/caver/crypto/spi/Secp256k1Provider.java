@@ -0,0 +1,24 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.crypto.spi;
+
+import com.klaytn.caver.crypto.Secp256k1;
+
+import java.util.function.Supplier;
+
+/** secp256k1 signing and recovery Service Provider Interface. */
+public interface Secp256k1Provider extends Supplier<Secp256k1> {}
@@ -0,0 +1,409 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.rpc;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.reactivex.Flowable;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A Web3jService decorator that coalesces single JSON-RPC requests into JSON-RPC batches.<p>
+ * Requests sent through {@link #send(Request, Class)} or {@link #sendAsync(Request, Class)} are queued.
+ * The queue is flushed as one batch request when it holds `maxBatchSize` requests or when `batchWindow` milliseconds
+ * have passed since the first request was queued. Each response is routed back to its caller by JSON-RPC id.<p>
+ * JSON-RPC 2.0 allows a node to return the responses of a batch in any order, but web3j parses the i-th response
+ * with the response type of the i-th request. So the requests are sent in a batch expecting raw JSON responses,
+ * and each response is parsed with the type of its caller after it is matched by id.<p>
+ * <pre>Example :
+ * {@code
+ * Web3jService service = new BatchingWeb3jService(new HttpService(url), 100, 5);
+ * Caver caver = new Caver(service);
+ *
+ * // Concurrent calls below are sent to the node as one batch.
+ * CompletableFuture<Quantity> balance1 = caver.rpc.klay.getBalance(address1).sendAsync();
+ * CompletableFuture<Quantity> balance2 = caver.rpc.klay.getBalance(address2).sendAsync();
+ * }
+ * </pre>
+ */
+public class BatchingWeb3jService implements Web3jService {
+
+    /**
+     * The default maximum number of requests in a batch.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    /**
+     * The default time window(milliseconds) to wait for other requests before sending a batch.
+     */
+    public static final long DEFAULT_BATCH_WINDOW = 5;
+
+    /**
+     * The JSON-RPC service instance that actually sends requests.
+     */
+    private final Web3jService web3jService;
+
+    /**
+     * The maximum number of requests in a batch.
+     */
+    private volatile int maxBatchSize;
+
+    /**
+     * The time window(milliseconds) to wait for other requests before sending a batch.
+     */
+    private volatile long batchWindow;
+
+    /**
+     * The scheduler that flushes the queue when the batch window has passed.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The requests waiting to be sent.
+     */
+    private List<PendingRequest> pendingRequests = new ArrayList<>();
+
+    /**
+     * The scheduled flush task for the current pending requests.
+     */
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * Creates a BatchingWeb3jService instance with default batch size and window.
+     * @param web3jService The JSON-RPC service instance that actually sends requests.
+     */
+    public BatchingWeb3jService(Web3jService web3jService) {
+        this(web3jService, DEFAULT_MAX_BATCH_SIZE, DEFAULT_BATCH_WINDOW);
+    }
+
+    /**
+     * Creates a BatchingWeb3jService instance.
+     * @param web3jService The JSON-RPC service instance that actually sends requests.
+     * @param maxBatchSize The maximum number of requests in a batch.
+     * @param batchWindow The time window(milliseconds) to wait for other requests before sending a batch.
+     */
+    public BatchingWeb3jService(Web3jService web3jService, int maxBatchSize, long batchWindow) {
+        if(web3jService == null) {
+            throw new IllegalArgumentException("web3jService must not be null.");
+        }
+        checkBatchOptions(maxBatchSize, batchWindow);
+
+        this.web3jService = web3jService;
+        this.maxBatchSize = maxBatchSize;
+        this.batchWindow = batchWindow;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "caver-rpc-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        try {
+            return sendAsync(request, responseType).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a batched response.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        List<PendingRequest> batch = null;
+
+        synchronized (this) {
+            pendingRequests.add(new PendingRequest(request, responseType, future));
+
+            if(pendingRequests.size() >= maxBatchSize) {
+                batch = drain();
+            } else if(pendingRequests.size() == 1) {
+                scheduledFlush = scheduler.schedule(this::flush, batchWindow, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if(batch != null) {
+            dispatch(batch);
+        }
+
+        return future;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return web3jService.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return web3jService.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(Request request, String unsubscribeMethod, Class<T> responseType) {
+        return web3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    /**
+     * Changes the batch size and window. The requests already waiting are sent with the new options.
+     * @param maxBatchSize The maximum number of requests in a batch.
+     * @param batchWindow The time window(milliseconds) to wait for other requests before sending a batch.
+     */
+    public void configure(int maxBatchSize, long batchWindow) {
+        checkBatchOptions(maxBatchSize, batchWindow);
+        synchronized (this) {
+            this.maxBatchSize = maxBatchSize;
+            this.batchWindow = batchWindow;
+        }
+        flush();
+    }
+
+    /**
+     * Sends all pending requests immediately.
+     */
+    public void flush() {
+        List<PendingRequest> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+        dispatch(batch);
+    }
+
+    /**
+     * Sends all pending requests and closes the underlying JSON-RPC service.
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        scheduler.shutdown();
+        web3jService.close();
+    }
+
+    /**
+     * Getter function for web3jService
+     * @return Web3jService
+     */
+    public Web3jService getWeb3jService() {
+        return web3jService;
+    }
+
+    /**
+     * Getter function for maxBatchSize
+     * @return int
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Getter function for batchWindow
+     * @return long
+     */
+    public long getBatchWindow() {
+        return batchWindow;
+    }
+
+    private static void checkBatchOptions(int maxBatchSize, long batchWindow) {
+        if(maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than 0.");
+        }
+        if(batchWindow < 0) {
+            throw new IllegalArgumentException("batchWindow must not be negative.");
+        }
+    }
+
+    /**
+     * Takes all pending requests out of the queue. It must be called while holding the lock of this instance.
+     * @return List
+     */
+    private List<PendingRequest> drain() {
+        if(scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+
+        List<PendingRequest> batch = pendingRequests;
+        pendingRequests = new ArrayList<>();
+        return batch;
+    }
+
+    /**
+     * Sends the given requests and completes the future of each request with its response.
+     * @param batch The requests to send.
+     */
+    private void dispatch(List<PendingRequest> batch) {
+        if(batch.isEmpty()) {
+            return;
+        }
+
+        // A single request doesn't need the batch envelope.
+        if(batch.size() == 1) {
+            PendingRequest pending = batch.get(0);
+            web3jService.sendAsync(pending.request, pending.responseType)
+                    .whenComplete((response, throwable) -> {
+                        if(throwable != null) {
+                            pending.future.completeExceptionally(throwable);
+                        } else {
+                            pending.complete(response);
+                        }
+                    });
+            return;
+        }
+
+        BatchRequest batchRequest = new BatchRequest(web3jService);
+        for(PendingRequest pending : batch) {
+            batchRequest.add(pending.toRawRequest(web3jService));
+        }
+
+        web3jService.sendBatchAsync(batchRequest).whenComplete((batchResponse, throwable) -> {
+            if(throwable != null) {
+                batch.forEach(pending -> pending.future.completeExceptionally(throwable));
+                return;
+            }
+            route(batch, batchResponse.getResponses());
+        });
+    }
+
+    /**
+     * Matches raw responses to the pending requests by JSON-RPC id.<p>
+     * If no response has the id of a request, the response at the same position is used unless its id belongs to another request.
+     * @param batch The requests sent as a batch.
+     * @param responses The raw responses of the batch.
+     */
+    private void route(List<PendingRequest> batch, List<? extends Response<?>> responses) {
+        Set<Long> requestIds = new HashSet<>(batch.size() * 2);
+        for(PendingRequest pending : batch) {
+            requestIds.add(pending.request.getId());
+        }
+
+        Map<Long, RawResponse> responseMap = new HashMap<>(responses.size() * 2);
+        for(Response<?> response : responses) {
+            if(response instanceof RawResponse) {
+                responseMap.put(response.getId(), (RawResponse)response);
+            }
+        }
+
+        for(int i = 0; i < batch.size(); i++) {
+            PendingRequest pending = batch.get(i);
+            RawResponse response = responseMap.get(pending.request.getId());
+            if(response == null && i < responses.size() && responses.get(i) instanceof RawResponse
+                    && !requestIds.contains(responses.get(i).getId())) {
+                response = (RawResponse)responses.get(i);
+            }
+
+            if(response == null) {
+                pending.future.completeExceptionally(
+                        new IOException("No response for the request id " + pending.request.getId() + " in a batch."));
+            } else {
+                pending.complete(response);
+            }
+        }
+    }
+
+    /**
+     * A response of a batch kept as raw JSON, to be parsed after it is matched to its request.
+     */
+    @JsonDeserialize(using = RawResponse.Deserializer.class)
+    static class RawResponse extends Response<JsonNode> {
+        private JsonNode json;
+
+        static class Deserializer extends JsonDeserializer<RawResponse> {
+            @Override
+            public RawResponse deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                RawResponse response = new RawResponse();
+                response.json = parser.readValueAsTree();
+
+                JsonNode id = response.json.get("id");
+                if(id != null && id.canConvertToLong()) {
+                    response.setId(id.asLong());
+                }
+                return response;
+            }
+        }
+    }
+
+    /**
+     * A queued request and the future waiting for its response.
+     */
+    private static class PendingRequest {
+        final Request request;
+        final Class<? extends Response> responseType;
+        final CompletableFuture future;
+
+        PendingRequest(Request request, Class<? extends Response> responseType, CompletableFuture future) {
+            this.request = request;
+            this.responseType = responseType;
+            this.future = future;
+        }
+
+        /**
+         * Creates a copy of the request with the same id, which expects a raw JSON response.
+         */
+        @SuppressWarnings("unchecked")
+        Request<?, RawResponse> toRawRequest(Web3jService web3jService) {
+            Request<?, RawResponse> rawRequest = new Request<>(request.getMethod(), request.getParams(), web3jService, RawResponse.class);
+            rawRequest.setJsonrpc(request.getJsonrpc());
+            rawRequest.setId(request.getId());
+            return rawRequest;
+        }
+
+        @SuppressWarnings("unchecked")
+        void complete(Response<?> response) {
+            future.complete(response);
+        }
+
+        @SuppressWarnings("unchecked")
+        void complete(RawResponse response) {
+            try {
+                future.complete(ObjectMapperFactory.getObjectMapper().treeToValue(response.json, responseType));
+            } catch (IOException | RuntimeException e) {
+                future.completeExceptionally(e instanceof IOException ? e : new IOException(e.getMessage(), e));
+            }
+        }
+    }
+}
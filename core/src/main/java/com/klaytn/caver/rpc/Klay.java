@@ -47,6 +47,11 @@ public class Klay {
      */
     protected final Web3jService web3jService;
 
+    /**
+     * The hub sharing the "logs" subscriptions. It is created when it is used first.
+     */
+    volatile LogSubscriptionHub logSubscriptionHub;
+
     /**
      * Creates a Klay instance
      * @param web3jService JSON-RPC service instance.
@@ -55,6 +60,26 @@ public class Klay {
         this.web3jService = web3jService;
     }
 
+    /**
+     * Returns the hub sharing the "logs" subscriptions of this instance.<p>
+     * {@link #subscribe(String, KlayFilter, Consumer)} and the subscriptions of Contract use it,
+     * so the listeners with compatible filters share a subscription in the node.
+     * @return LogSubscriptionHub
+     */
+    public LogSubscriptionHub getLogSubscriptionHub() {
+        LogSubscriptionHub hub = logSubscriptionHub;
+        if(hub == null) {
+            synchronized(this) {
+                hub = logSubscriptionHub;
+                if(hub == null) {
+                    hub = new LogSubscriptionHub(this);
+                    logSubscriptionHub = hub;
+                }
+            }
+        }
+        return hub;
+    }
+
     /**
      * Returns true if the account associated with the address is created. It returns false otherwise.<p>
      * It sets block tag to "LATEST"
@@ -1193,6 +1218,7 @@ public class Klay {
     public Request<?, SignTransaction> signTransaction(AbstractTransaction transaction) {
         if(Utils.isEmptySig(transaction.getSignatures())) {
             transaction.getSignatures().remove(0);
+            transaction.invalidateCache();
         }
 
         return new Request<>(
@@ -1214,6 +1240,7 @@ public class Klay {
     public Request<?, SignTransaction> signTransactionAsFeePayer(AbstractFeeDelegatedTransaction transaction) {
         if(Utils.isEmptySig(transaction.getSignatures())) {
             transaction.getSignatures().remove(0);
+            transaction.invalidateCache();
         }
 
         return new Request<>(
@@ -2099,7 +2126,8 @@ public class Klay {
      * If a connection is closed, all subscriptions created over the connection are removed. <p>
      *
      * It only allowed a 'logs' as a notification type. <p>
-     * Also, It automatically calls a "klay_unsubscribe" API when stopping subscription.
+     * The subscription is shared with other listeners through {@link #getLogSubscriptionHub()},
+     * and it is created again when it is closed. Also, It automatically calls a "klay_unsubscribe" API when no listener uses it.
      *
      * <pre>Example
      * {@code
@@ -2130,8 +2158,7 @@ public class Klay {
             throw new IllegalArgumentException("This function only allows the 'logs' as a type parameter.");
         }
 
-        final Flowable<LogsNotification> events = subscribeFlowable(type, options);
-        return events.subscribe(callback);
+        return getLogSubscriptionHub().subscribe(options, callback);
     }
 
     /**
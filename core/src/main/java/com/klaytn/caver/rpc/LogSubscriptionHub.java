@@ -0,0 +1,801 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.rpc;
+
+import com.klaytn.caver.methods.request.Filter;
+import com.klaytn.caver.methods.request.KlayFilter;
+import com.klaytn.caver.methods.response.KlayLogs;
+import com.klaytn.caver.methods.response.LogsNotification;
+import com.klaytn.caver.utils.Utils;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.FlowableEmitter;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.schedulers.Schedulers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.web3j.protocol.Service;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shares the "logs" subscriptions of a node between many listeners.<p>
+ * Each call of {@link Klay#subscribeFlowable(String, KlayFilter)} creates a subscription in the node.
+ * The hub merges the filters of its listeners instead, so listeners watching different contracts share one subscription
+ * whose filter has the union of their addresses and, for each topic position, the union of their topics.
+ * A subscription has at most {@link #getMaxAddressesPerSubscription()} addresses, and another subscription is created for more addresses.
+ * The logs are matched against the filter of each listener locally, so a listener only receives the logs its own filter matches.<p>
+ *
+ * Each listener has its own buffer of {@link #getBufferSize()} notifications, so a listener consuming on another scheduler
+ * does not block the others. The Flowable of a listener fails with a MissingBackpressureException when its buffer overflows.<p>
+ *
+ * The changes of the listeners are applied to the node after {@link #getCoalescingDelay()} milliseconds, so subscribing many listeners at once
+ * re-subscribes a merged filter only once. A new subscription is created before the old one is removed, and the logs delivered by both are notified once.
+ * If a subscription is closed, e.g. the websocket connection is closed, it is created again every {@link #getRetryDelay()} milliseconds
+ * until it succeeds, so the listeners keep receiving logs after the connection is reconnected by {@code WebSocketService.connect()}.
+ * If the node rejects a merged filter {@link #getMaxSubscribeAttempts()} times in a row, the error is passed to the listeners sharing it.<p>
+ *
+ * A filter whose fromBlock or toBlock is neither omitted nor "latest", or which has an invalid address or topic, is not merged and subscribed as it is.
+ * If the provider doesn't support subscriptions, e.g. HttpService, it is also subscribed as it is, so UnsupportedOperationException is thrown by the caller.
+ * The notifications passed to the listeners have the subscription id of the merged subscription.
+ *
+ * <pre>Example :
+ * {@code
+ * LogSubscriptionHub hub = caver.rpc.klay.getLogSubscriptionHub();
+ *
+ * KlayFilter filter = new KlayFilter();
+ * filter.setAddress(tokenAddress);
+ * filter.addSingleTopic("0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef");
+ *
+ * Disposable disposable = hub.subscribe(filter, (log) -> {});
+ *
+ * //Stop to subscribe notification
+ * disposable.dispose();
+ * }
+ * </pre>
+ */
+public class LogSubscriptionHub {
+    /**
+     * The default maximum number of addresses in the filter of a subscription.
+     */
+    public static final int DEFAULT_MAX_ADDRESSES_PER_SUBSCRIPTION = 1000;
+
+    /**
+     * The default number of notifications buffered for a listener.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    /**
+     * The default delay in milliseconds before the changes of the listeners are applied to the node.
+     */
+    public static final long DEFAULT_COALESCING_DELAY = 20;
+
+    /**
+     * The default delay in milliseconds before a closed subscription is created again.
+     */
+    public static final long DEFAULT_RETRY_DELAY = 1000;
+
+    /**
+     * The default number of consecutive rejections of a merged filter before the error is passed to its listeners.
+     */
+    public static final int DEFAULT_MAX_SUBSCRIBE_ATTEMPTS = 5;
+
+    /**
+     * The number of recently notified logs remembered to drop the logs delivered twice while a subscription is replaced.
+     */
+    private static final int RECENT_LOGS_SIZE = 4096;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogSubscriptionHub.class);
+
+    private final Klay klay;
+
+    /**
+     * The scheduler running the delayed re-subscriptions.
+     */
+    private final Scheduler scheduler;
+
+    private volatile int maxAddressesPerSubscription = DEFAULT_MAX_ADDRESSES_PER_SUBSCRIPTION;
+    private volatile int bufferSize = DEFAULT_BUFFER_SIZE;
+    private volatile long coalescingDelay = DEFAULT_COALESCING_DELAY;
+    private volatile long retryDelay = DEFAULT_RETRY_DELAY;
+    private volatile int maxSubscribeAttempts = DEFAULT_MAX_SUBSCRIBE_ATTEMPTS;
+
+    /**
+     * True if the provider of the Klay instance supports subscriptions. It is checked when it is used first.
+     */
+    private volatile Boolean subscriptionSupported;
+
+    /**
+     * The shards having listeners. Each shard has a subscription in the node. It is guarded by this hub.
+     */
+    private final List<Shard> shards = new ArrayList<>();
+
+    /**
+     * Creates a LogSubscriptionHub instance.
+     * @param klay The Klay instance used to subscribe.
+     */
+    public LogSubscriptionHub(Klay klay) {
+        this(klay, Schedulers.computation());
+    }
+
+    /**
+     * Creates a LogSubscriptionHub instance.
+     * @param klay The Klay instance used to subscribe.
+     * @param scheduler The scheduler running the delayed re-subscriptions.
+     */
+    public LogSubscriptionHub(Klay klay, Scheduler scheduler) {
+        this.klay = klay;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Returns a Flowable notifying the logs matched with the filter.<p>
+     * The listener is added to the hub when the Flowable is subscribed, and removed when it is disposed.
+     * @param filter The filter options to filter notification.
+     * @return Flowable
+     */
+    public Flowable<LogsNotification> subscribeFlowable(KlayFilter filter) {
+        if(!isMergeable(filter) || !isValid(filter) || !isSubscriptionSupported()) {
+            return klay.subscribeFlowable("logs", filter);
+        }
+
+        final int capacity = bufferSize;
+        return Flowable.<LogsNotification>create(emitter -> {
+            Listener listener = new Listener(filter, emitter.serialize());
+            emitter.setCancellable(() -> remove(listener));
+            add(listener);
+        }, BackpressureStrategy.MISSING).onBackpressureBuffer(capacity);
+    }
+
+    /**
+     * Subscribes the logs matched with the filter.
+     * @param filter The filter options to filter notification.
+     * @param callback The callback method to handle notification.
+     * @return Disposable
+     */
+    public Disposable subscribe(KlayFilter filter, Consumer<LogsNotification> callback) {
+        return subscribeFlowable(filter).subscribe(callback);
+    }
+
+    /**
+     * Returns the number of subscriptions the hub has in the node, excluding the filters subscribed as it is.
+     * @return int
+     */
+    public synchronized int getSubscriptionCount() {
+        return shards.size();
+    }
+
+    /**
+     * Returns the number of listeners in the hub.
+     * @return int
+     */
+    public synchronized int getListenerCount() {
+        int count = 0;
+        for(Shard shard : shards) {
+            count += shard.listeners.size();
+        }
+        return count;
+    }
+
+    /**
+     * Getter function for maxAddressesPerSubscription.
+     * @return int
+     */
+    public int getMaxAddressesPerSubscription() {
+        return maxAddressesPerSubscription;
+    }
+
+    /**
+     * Setter function for maxAddressesPerSubscription. It is applied to the listeners added after.
+     * @param maxAddressesPerSubscription The maximum number of addresses in the filter of a subscription.
+     */
+    public void setMaxAddressesPerSubscription(int maxAddressesPerSubscription) {
+        if(maxAddressesPerSubscription <= 0) {
+            throw new IllegalArgumentException("The maximum number of addresses must be greater than 0.");
+        }
+        this.maxAddressesPerSubscription = maxAddressesPerSubscription;
+    }
+
+    /**
+     * Getter function for bufferSize.
+     * @return int
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Setter function for bufferSize. It is applied to the Flowable instances created after.
+     * @param bufferSize The number of notifications buffered for a listener.
+     */
+    public void setBufferSize(int bufferSize) {
+        if(bufferSize <= 0) {
+            throw new IllegalArgumentException("The buffer size must be greater than 0.");
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Getter function for coalescingDelay.
+     * @return long
+     */
+    public long getCoalescingDelay() {
+        return coalescingDelay;
+    }
+
+    /**
+     * Setter function for coalescingDelay.
+     * @param coalescingDelay The delay in milliseconds before the changes of the listeners are applied to the node.
+     */
+    public void setCoalescingDelay(long coalescingDelay) {
+        if(coalescingDelay < 0) {
+            throw new IllegalArgumentException("The coalescing delay must not be negative.");
+        }
+        this.coalescingDelay = coalescingDelay;
+    }
+
+    /**
+     * Getter function for retryDelay.
+     * @return long
+     */
+    public long getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Setter function for retryDelay.
+     * @param retryDelay The delay in milliseconds before a closed subscription is created again.
+     */
+    public void setRetryDelay(long retryDelay) {
+        if(retryDelay < 0) {
+            throw new IllegalArgumentException("The retry delay must not be negative.");
+        }
+        this.retryDelay = retryDelay;
+    }
+
+    /**
+     * Getter function for maxSubscribeAttempts.
+     * @return int
+     */
+    public int getMaxSubscribeAttempts() {
+        return maxSubscribeAttempts;
+    }
+
+    /**
+     * Setter function for maxSubscribeAttempts.
+     * @param maxSubscribeAttempts The number of consecutive rejections of a merged filter before the error is passed to its listeners.
+     */
+    public void setMaxSubscribeAttempts(int maxSubscribeAttempts) {
+        if(maxSubscribeAttempts <= 0) {
+            throw new IllegalArgumentException("The maximum number of subscribe attempts must be greater than 0.");
+        }
+        this.maxSubscribeAttempts = maxSubscribeAttempts;
+    }
+
+    /**
+     * Returns true if the filter can be merged with other filters.
+     * A subscription only notifies new logs, so only a filter without a block range other than "latest" is merged.
+     * @param filter The filter options.
+     * @return boolean
+     */
+    static boolean isMergeable(KlayFilter filter) {
+        return isLatest(filter.getFromBlock()) && isLatest(filter.getToBlock());
+    }
+
+    private static boolean isLatest(DefaultBlockParameter blockParameter) {
+        return blockParameter == null || DefaultBlockParameterName.LATEST.getValue().equals(blockParameter.getValue());
+    }
+
+    /**
+     * Returns true if the addresses and topics of the filter are well-formed.
+     * A malformed filter is rejected by the node, so it is not merged not to make the node reject the filters of other listeners.
+     * @param filter The filter options.
+     * @return boolean
+     */
+    static boolean isValid(KlayFilter filter) {
+        if(filter.getAddress() != null) {
+            for(String address : filter.getAddress()) {
+                if(address == null || !Utils.isAddress(address)) {
+                    return false;
+                }
+            }
+        }
+        if(filter.getTopics() != null) {
+            for(Filter.FilterTopic topic : filter.getTopics()) {
+                if(topic == null) {
+                    return false;
+                }
+                if(topic instanceof Filter.ListTopic) {
+                    for(Filter.SingleTopic item : ((Filter.ListTopic)topic).getValue()) {
+                        if(!isTopic(item.getValue())) {
+                            return false;
+                        }
+                    }
+                } else if(!(topic instanceof Filter.SingleTopic) || !isTopic(((Filter.SingleTopic)topic).getValue())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isTopic(String topic) {
+        if(topic == null) {
+            return true;
+        }
+        if(topic.length() != 66 || !topic.startsWith("0x")) {
+            return false;
+        }
+        for(int i = 2; i < topic.length(); i++) {
+            if(Character.digit(topic.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the provider supports subscriptions.
+     * The providers extending {@link Service} without overriding its subscribe method, e.g. HttpService, don't support them.
+     * @return boolean
+     */
+    private boolean isSubscriptionSupported() {
+        Boolean supported = subscriptionSupported;
+        if(supported == null) {
+            Web3jService service = klay.web3jService;
+            while(service instanceof BatchingWeb3jService) {
+                service = ((BatchingWeb3jService)service).getWeb3jService();
+            }
+            supported = true;
+            if(service instanceof Service) {
+                try {
+                    supported = service.getClass().getMethod("subscribe", Request.class, String.class, Class.class).getDeclaringClass() != Service.class;
+                } catch(NoSuchMethodException e) {
+                    supported = false;
+                }
+            }
+            subscriptionSupported = supported;
+        }
+        return supported;
+    }
+
+    /**
+     * Returns true if the error means the node rejected the subscription request, not the connection was closed.
+     * @param error The error of a subscription.
+     * @return boolean
+     */
+    private static boolean isRejected(Throwable error) {
+        return error instanceof IOException && error.getMessage() != null && error.getMessage().startsWith("Subscription request failed");
+    }
+
+    private synchronized void add(Listener listener) {
+        Shard shard = findShard(listener);
+        shard.add(listener);
+        scheduleRefresh(shard, coalescingDelay);
+    }
+
+    private synchronized void remove(Listener listener) {
+        Shard shard = listener.shard;
+        if(shard != null && shard.remove(listener)) {
+            scheduleRefresh(shard, coalescingDelay);
+        }
+    }
+
+    /**
+     * Finds the shard to add a listener. A shard having all addresses of the listener is preferred,
+     * and a new shard is created if the addresses of the listener exceed the maximum of all shards.
+     * @param listener The listener to add.
+     * @return Shard
+     */
+    private Shard findShard(Listener listener) {
+        if(listener.addresses == null) {
+            for(Shard shard : shards) {
+                if(shard.anyAddress) {
+                    return shard;
+                }
+            }
+            return newShard(true);
+        }
+
+        Shard available = null;
+        for(Shard shard : shards) {
+            if(shard.anyAddress) {
+                continue;
+            }
+            int newAddresses = shard.countNewAddresses(listener.addresses);
+            if(newAddresses == 0) {
+                return shard;
+            }
+            if(available == null && shard.byAddress.size() + newAddresses <= maxAddressesPerSubscription) {
+                available = shard;
+            }
+        }
+        return available != null ? available : newShard(false);
+    }
+
+    private Shard newShard(boolean anyAddress) {
+        Shard shard = new Shard(anyAddress);
+        shards.add(shard);
+        return shard;
+    }
+
+    private void scheduleRefresh(Shard shard, long delay) {
+        if(!shard.refreshScheduled) {
+            shard.refreshScheduled = true;
+            scheduler.scheduleDirect(() -> refresh(shard), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Applies the listeners of a shard to its subscription in the node.
+     * The subscription is replaced if the merged filter is changed, and removed if the shard has no listener.
+     * @param shard The shard to refresh.
+     */
+    private synchronized void refresh(Shard shard) {
+        shard.refreshScheduled = false;
+        if(!shards.contains(shard)) {
+            return;
+        }
+
+        if(shard.listeners.isEmpty()) {
+            shards.remove(shard);
+            shard.disconnect();
+            return;
+        }
+
+        KlayFilter filter = shard.buildFilter();
+        String filterKey = toKey(filter);
+        if(shard.upstream != null && filterKey.equals(shard.filterKey)) {
+            return;
+        }
+
+        if(!filterKey.equals(shard.attemptedFilterKey)) {
+            shard.attemptedFilterKey = filterKey;
+            shard.rejections = 0;
+        }
+
+        Disposable previous = shard.upstream;
+        long generation = ++shard.generation;
+        try {
+            shard.upstream = klay.subscribeFlowable("logs", filter).subscribe(
+                    shard::dispatch,
+                    error -> onClosed(shard, generation, error),
+                    () -> onClosed(shard, generation, null));
+            shard.filterKey = filterKey;
+        } catch(UnsupportedOperationException e) {
+            // The provider doesn't support a subscription, so it would never succeed.
+            shards.remove(shard);
+            shard.fail(e);
+            shard.upstream = previous;
+            shard.disconnect();
+            return;
+        } catch(RuntimeException e) {
+            LOGGER.warn("Failed to subscribe logs, it will be retried: " + e.getMessage());
+            shard.upstream = previous;
+            shard.filterKey = null;
+            scheduleRefresh(shard, retryDelay);
+            return;
+        }
+
+        // The new subscription is created before the previous one is removed, so no log is missed while replacing it.
+        if(previous != null) {
+            previous.dispose();
+        }
+    }
+
+    private synchronized void onClosed(Shard shard, long generation, Throwable error) {
+        if(generation != shard.generation || !shards.contains(shard)) {
+            return;
+        }
+
+        if(isRejected(error) && ++shard.rejections >= maxSubscribeAttempts) {
+            LOGGER.warn("The logs subscription is rejected " + shard.rejections + " times, its listeners are stopped: " + error.getMessage());
+            shards.remove(shard);
+            shard.fail(error);
+            shard.disconnect();
+            return;
+        }
+        LOGGER.warn("The logs subscription is closed, it will be subscribed again: " + (error != null ? error.getMessage() : "completed"));
+
+        shard.upstream = null;
+        shard.filterKey = null;
+        scheduleRefresh(shard, retryDelay);
+    }
+
+    /**
+     * Returns the string identifying the addresses and topics of a filter.
+     * @param filter The filter options.
+     * @return String
+     */
+    private static String toKey(KlayFilter filter) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(filter.getAddress());
+        for(Filter.FilterTopic topic : filter.getTopics()) {
+            builder.append('|').append(topic.getValue());
+        }
+        return builder.toString();
+    }
+
+    private static String toLowerCase(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A listener of the hub, which has the addresses and topics of its filter.
+     */
+    static final class Listener {
+        /**
+         * The lowercase addresses, or null if the listener receives logs from any address.
+         */
+        final Set<String> addresses;
+
+        /**
+         * The lowercase topics for each position. An element is null if any topic matches the position.
+         */
+        final List<Set<String>> topics;
+
+        final FlowableEmitter<LogsNotification> emitter;
+
+        /**
+         * The shard the listener is added to. It is guarded by the hub.
+         */
+        Shard shard;
+
+        Listener(KlayFilter filter, FlowableEmitter<LogsNotification> emitter) {
+            this.addresses = toAddresses(filter.getAddress());
+            this.topics = toTopics(filter.getTopics());
+            this.emitter = emitter;
+        }
+
+        /**
+         * Returns true if the log is matched with the topics of the listener. The address is matched by the shard.
+         * @param log The log to match.
+         * @return boolean
+         */
+        boolean matchesTopics(KlayLogs.Log log) {
+            List<String> logTopics = log.getTopics();
+            for(int i = 0; i < topics.size(); i++) {
+                Set<String> expected = topics.get(i);
+                if(expected == null) {
+                    continue;
+                }
+                if(logTopics == null || i >= logTopics.size() || !expected.contains(toLowerCase(logTopics.get(i)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Set<String> toAddresses(List<String> address) {
+            if(address == null || address.isEmpty()) {
+                return null;
+            }
+            Set<String> addresses = new HashSet<>();
+            for(String item : address) {
+                addresses.add(toLowerCase(item));
+            }
+            return addresses;
+        }
+
+        private static List<Set<String>> toTopics(List<Filter.FilterTopic> filterTopics) {
+            if(filterTopics == null) {
+                return Collections.emptyList();
+            }
+
+            List<Set<String>> topics = new ArrayList<>(filterTopics.size());
+            for(Filter.FilterTopic filterTopic : filterTopics) {
+                Set<String> topic = new HashSet<>();
+                if(filterTopic instanceof Filter.ListTopic) {
+                    for(Filter.SingleTopic item : ((Filter.ListTopic)filterTopic).getValue()) {
+                        topic.add(toLowerCase(item.getValue()));
+                    }
+                } else {
+                    topic.add(toLowerCase((String)filterTopic.getValue()));
+                }
+                // A null topic matches any topic in the position.
+                topics.add(topic.contains(null) ? null : topic);
+            }
+            return topics;
+        }
+    }
+
+    /**
+     * A group of listeners sharing a subscription in the node.<p>
+     * The listeners are indexed by address for dispatching the logs without a lock.
+     * The other fields are guarded by the hub.
+     */
+    final class Shard {
+        /**
+         * True if the shard has the listeners receiving logs from any address.
+         */
+        final boolean anyAddress;
+
+        final Set<Listener> listeners = new LinkedHashSet<>();
+        final Map<String, List<Listener>> byAddress = new ConcurrentHashMap<>();
+        final List<Listener> anyAddressListeners = new CopyOnWriteArrayList<>();
+
+        /**
+         * The keys of the recently notified logs.
+         */
+        private final Map<String, Boolean> recentLogs = new LinkedHashMap<String, Boolean>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > RECENT_LOGS_SIZE;
+            }
+        };
+
+        Disposable upstream;
+        String filterKey;
+
+        /**
+         * The key of the filter last subscribed, and the number of times the node rejected it in a row.
+         * The rejections are reset when a log is received.
+         */
+        String attemptedFilterKey;
+        volatile int rejections;
+
+        long generation;
+        boolean refreshScheduled;
+
+        Shard(boolean anyAddress) {
+            this.anyAddress = anyAddress;
+        }
+
+        int countNewAddresses(Set<String> addresses) {
+            int count = 0;
+            for(String address : addresses) {
+                if(!byAddress.containsKey(address)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        void add(Listener listener) {
+            listener.shard = this;
+            listeners.add(listener);
+            if(anyAddress) {
+                anyAddressListeners.add(listener);
+                return;
+            }
+            for(String address : listener.addresses) {
+                byAddress.computeIfAbsent(address, key -> new CopyOnWriteArrayList<>()).add(listener);
+            }
+        }
+
+        boolean remove(Listener listener) {
+            if(!listeners.remove(listener)) {
+                return false;
+            }
+            if(anyAddress) {
+                anyAddressListeners.remove(listener);
+                return true;
+            }
+            for(String address : listener.addresses) {
+                List<Listener> addressListeners = byAddress.get(address);
+                addressListeners.remove(listener);
+                if(addressListeners.isEmpty()) {
+                    byAddress.remove(address);
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Builds the filter merging the filters of the listeners.<p>
+         * It has the union of the addresses, and the union of the topics in each position.
+         * A position is not filtered if any listener doesn't filter it.
+         * @return KlayFilter
+         */
+        KlayFilter buildFilter() {
+            KlayFilter filter = new KlayFilter();
+            if(!anyAddress) {
+                filter.setAddress(new ArrayList<>(new TreeSet<>(byAddress.keySet())));
+            }
+
+            int positions = 0;
+            for(Listener listener : listeners) {
+                positions = Math.max(positions, listener.topics.size());
+            }
+
+            List<Set<String>> merged = new ArrayList<>(positions);
+            for(int i = 0; i < positions; i++) {
+                Set<String> union = new TreeSet<>();
+                for(Listener listener : listeners) {
+                    Set<String> topic = i < listener.topics.size() ? listener.topics.get(i) : null;
+                    if(topic == null) {
+                        union = null;
+                        break;
+                    }
+                    union.addAll(topic);
+                }
+                merged.add(union);
+            }
+            while(!merged.isEmpty() && merged.get(merged.size() - 1) == null) {
+                merged.remove(merged.size() - 1);
+            }
+
+            for(Set<String> union : merged) {
+                if(union == null) {
+                    filter.addNullTopic();
+                } else if(union.size() == 1) {
+                    filter.addSingleTopic(union.iterator().next());
+                } else {
+                    filter.addOptionalTopics(union.toArray(new String[0]));
+                }
+            }
+            return filter;
+        }
+
+        /**
+         * Notifies a log to the listeners matched with it.
+         * @param notification The notification from the subscription in the node.
+         */
+        void dispatch(LogsNotification notification) {
+            KlayLogs.Log log = notification.getParams() != null ? notification.getParams().getResult() : null;
+            if(log == null || !isFirstDelivery(log)) {
+                return;
+            }
+            if(rejections != 0) {
+                rejections = 0;
+            }
+
+            List<Listener> targets = anyAddress ? anyAddressListeners : byAddress.get(toLowerCase(log.getAddress()));
+            if(targets == null) {
+                return;
+            }
+            for(Listener listener : targets) {
+                if(!listener.emitter.isCancelled() && listener.matchesTopics(log)) {
+                    listener.emitter.onNext(notification);
+                }
+            }
+        }
+
+        private boolean isFirstDelivery(KlayLogs.Log log) {
+            String key = log.getBlockHash() + ":" + log.getLogIndexRaw() + ":" + log.isRemoved();
+            synchronized(recentLogs) {
+                return recentLogs.put(key, Boolean.TRUE) == null;
+            }
+        }
+
+        void fail(Throwable error) {
+            for(Listener listener : new ArrayList<>(listeners)) {
+                listener.emitter.onError(error);
+            }
+        }
+
+        void disconnect() {
+            generation++;
+            if(upstream != null) {
+                upstream.dispose();
+                upstream = null;
+            }
+            filterKey = null;
+        }
+    }
+}
@@ -21,7 +21,8 @@ import org.web3j.protocol.core.BatchRequest;
 import org.web3j.protocol.core.Batcher;
 
 /**
- * This class represents JSON-RPC 2.0 Klaytn APIs
+ * This class represents JSON-RPC 2.0 Klaytn APIs<p>
+ * To merge concurrent requests into JSON-RPC batches, create it with a {@link BatchingWeb3jService}.
  */
 public class RPC implements Batcher {
 
@@ -105,6 +106,25 @@ public class RPC implements Batcher {
      */
     public Admin getAdmin() {return admin;}
 
+    /**
+     * Wraps the current JSON-RPC service with a {@link BatchingWeb3jService}.<p>
+     * After calling it, concurrent requests sent through the API classes are merged into JSON-RPC batches.
+     * If batching is already enabled, the current {@link BatchingWeb3jService} is reconfigured instead of being wrapped again.
+     * @param maxBatchSize The maximum number of requests in a batch.
+     * @param batchWindow The time window(milliseconds) to wait for other requests before sending a batch.
+     */
+    public void enableBatching(int maxBatchSize, long batchWindow) {
+        if(web3jService instanceof BatchingWeb3jService) {
+            ((BatchingWeb3jService)web3jService).configure(maxBatchSize, batchWindow);
+            return;
+        }
+
+        LogSubscriptionHub logSubscriptionHub = klay.logSubscriptionHub;
+        setWeb3jService(new BatchingWeb3jService(web3jService, maxBatchSize, batchWindow));
+        // Subscriptions are not batched, so the listeners of the hub are kept with the new Klay instance.
+        klay.logSubscriptionHub = logSubscriptionHub;
+    }
+
     /**
      * Returns a new {@link BatchRequest}
      * @return BatchRequest
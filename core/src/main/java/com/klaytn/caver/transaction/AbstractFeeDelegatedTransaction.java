@@ -19,15 +19,13 @@ package com.klaytn.caver.transaction;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.account.AccountKeyRoleBased;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.AbstractKeyring;
 import com.klaytn.caver.wallet.keyring.KeyringFactory;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import com.klaytn.caver.wallet.keyring.SingleKeyring;
-import org.web3j.rlp.RlpEncoder;
-import org.web3j.rlp.RlpList;
-import org.web3j.rlp.RlpString;
-import org.web3j.rlp.RlpType;
+import org.web3j.crypto.Hash;
 import org.web3j.utils.Numeric;
 
 import java.io.IOException;
@@ -53,6 +51,18 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
      */
     List<SignatureData> feePayerSignatures = new ArrayList<>();
 
+    /**
+     * The cached RLP encoding for making fee payer's signature. It is cleared when the transaction is changed.
+     */
+    @JsonIgnore
+    private byte[] rlpEncodingForFeePayerSignature;
+
+    /**
+     * The cached hash of the RLP encoding for making fee payer's signature. It is cleared when the transaction is changed.
+     */
+    @JsonIgnore
+    private String hashForFeePayerSignature;
+
     /**
      * Represent a AbstractFeeDelegatedTransaction builder
      * @param <B> An generic extends to AbstractFeeDelegatedTransaction.Builder
@@ -183,7 +193,7 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
         int role = AccountKeyRoleBased.RoleGroup.FEE_PAYER.getIndex();
 
         String hash = hasher.apply(this);
-        List<SignatureData> sigList = keyring.sign(hash, Numeric.toBigInt(this.getChainId()).intValue(), role);
+        List<SignatureData> sigList = keyring.sign(hash, this.getChainIdInteger().intValue(), role);
 
         this.appendFeePayerSignatures(sigList);
 
@@ -211,7 +221,7 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
         int role = AccountKeyRoleBased.RoleGroup.FEE_PAYER.getIndex();
 
         String hash = hasher.apply(this);
-        SignatureData sigList = keyring.sign(hash, Numeric.toBigInt(this.getChainId()).intValue(), role, index);
+        SignatureData sigList = keyring.sign(hash, this.getChainIdInteger().intValue(), role, index);
 
         this.appendFeePayerSignatures(sigList);
 
@@ -243,16 +253,63 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
      */
     @JsonIgnore
     public String getRLPEncodingForFeePayerSignature() {
-        byte[] txRLP = Numeric.hexStringToByteArray(getCommonRLPEncodingForSignature());
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(txRLP));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
-        rlpTypeList.add(RlpString.create(0));
-        rlpTypeList.add(RlpString.create(0));
-        byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
-        return Numeric.toHexString(encoded);
+        return Numeric.toHexString(this.getCachedRLPEncodingForFeePayerSignature());
+    }
+
+    /**
+     * Returns RLP-encoded transaction bytes for making fee payer's signature.
+     * @return byte[]
+     */
+    @JsonIgnore
+    public byte[] getRLPEncodingForFeePayerSignatureBytes() {
+        return this.getCachedRLPEncodingForFeePayerSignature().clone();
+    }
+
+    private byte[] getCachedRLPEncodingForFeePayerSignature() {
+        if(this.rlpEncodingForFeePayerSignature == null) {
+            RlpWriter writer = new RlpWriter();
+            this.writeRLPEncodingForFeePayerSignature(writer);
+            this.rlpEncodingForFeePayerSignature = writer.toByteArray();
+        }
+        return this.rlpEncodingForFeePayerSignature;
+    }
+
+    /**
+     * Returns the hash of the RLP encoding for making fee payer's signature. It is computed once until the transaction is changed.
+     * @return String
+     */
+    String getCachedHashForFeePayerSignature() {
+        if(this.hashForFeePayerSignature == null) {
+            this.hashForFeePayerSignature = Numeric.toHexString(Hash.sha3(this.getCachedRLPEncodingForFeePayerSignature()));
+        }
+        return this.hashForFeePayerSignature;
+    }
+
+    /**
+     * Clears the cached RLP encodings and hashes of this transaction, including the RLP encoding for making fee payer's signature.
+     */
+    @Override
+    public void invalidateCache() {
+        this.rlpEncodingForFeePayerSignature = null;
+        this.hashForFeePayerSignature = null;
+        super.invalidateCache();
+    }
+
+    /**
+     * Writes the RLP encoding for making fee payer's signature to the given writer.
+     * @param writer The RlpWriter to write to.
+     */
+    protected void writeRLPEncodingForFeePayerSignature(RlpWriter writer) {
+        // SigFeePayerRLP = encode([encode(commonRLP), feePayer, chainId, 0, 0])
+        writer.startList();
+        writer.startString();
+        this.writeCommonRLPEncodingForSignature(writer);
+        writer.endString();
+        writer.writeHexBytes(this.getFeePayer());
+        writer.writeBigInteger(this.getChainIdInteger());
+        writer.writeLong(0);
+        writer.writeLong(0);
+        writer.endList();
     }
 
     /**
@@ -305,15 +362,16 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
                 setChainId(chainId);
             }
 
-            String sigHash = TransactionHasher.getHashForFeePayerSignature(this);
+            byte[] sigHash = Numeric.hexStringToByteArray(TransactionHasher.getHashForFeePayerSignature(this));
+            BigInteger chainId = this.getChainIdInteger();
 
             List<String> publicKeyList = new ArrayList<>();
             for(SignatureData signatureData : this.getFeePayerSignatures()) {
-                if(Numeric.toBigInt(this.getChainId()).compareTo(signatureData.getChainId()) != 0) {
+                if(chainId.compareTo(signatureData.getChainId()) != 0) {
                     throw new RuntimeException("Invalid Signature data : chain id is not matched.");
                 }
 
-                publicKeyList.add(Utils.recoverPublicKey(sigHash, signatureData, true));
+                publicKeyList.add(Utils.recoverPublicKey(sigHash, signatureData));
             }
             return publicKeyList;
         } catch(SignatureException e) {
@@ -343,6 +401,7 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
         }
 
         this.feePayer = feePayer;
+        this.invalidateCache();
     }
 
     /**
@@ -366,5 +425,6 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
         }
         this.feePayerSignatures.addAll(feePayerSignatures);
         this.feePayerSignatures = refineSignature(this.getFeePayerSignatures());
+        this.invalidateSignedCache();
     }
 }
@@ -23,20 +23,18 @@ import com.klaytn.caver.methods.response.BlockHeader;
 import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.account.AccountKeyRoleBased;
 import com.klaytn.caver.transaction.type.TransactionType;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.AbstractKeyring;
 import com.klaytn.caver.wallet.keyring.KeyringFactory;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.crypto.Hash;
 import org.web3j.protocol.core.DefaultBlockParameterName;
-import org.web3j.rlp.RlpEncoder;
-import org.web3j.rlp.RlpList;
-import org.web3j.rlp.RlpString;
-import org.web3j.rlp.RlpType;
 import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.security.SignatureException;
 import java.util.*;
 import java.util.function.Function;
@@ -82,6 +80,56 @@ abstract public class AbstractTransaction {
      */
     private List<SignatureData> signatures = new ArrayList<>();
 
+    /**
+     * The address of the sender in bytes. It is parsed once when `from` is set.
+     */
+    private byte[] fromBytes;
+
+    /**
+     * The nonce value parsed once when `nonce` is set. It is null if nonce is not defined("0x").
+     */
+    private BigInteger nonceInteger;
+
+    /**
+     * The gas value parsed once when `gas` is set.
+     */
+    private BigInteger gasInteger;
+
+    /**
+     * The chain id parsed once when `chainId` is set. It is null if chainId is not defined("0x").
+     */
+    private BigInteger chainIdInteger;
+
+    /**
+     * The cached RLP encoding of this transaction. It is cleared when the transaction is changed.
+     */
+    @JsonIgnore
+    private byte[] rlpEncoding;
+
+    /**
+     * The cached RLP encoding for making signature. It is cleared when the transaction is changed.
+     */
+    @JsonIgnore
+    private byte[] rlpEncodingForSignature;
+
+    /**
+     * The cached hash of the RLP encoding for making signature. It is cleared when the transaction is changed.
+     */
+    @JsonIgnore
+    private String hashForSignature;
+
+    /**
+     * The cached transaction hash. It is cleared when the transaction is changed.
+     */
+    @JsonIgnore
+    private String transactionHash;
+
+    /**
+     * The cached senderTxHash. It is cleared when the transaction is changed.
+     */
+    @JsonIgnore
+    private String senderTxHash;
+
     /**
      * Represents a AbstractTransaction class builder.
      * @param <B> An generic extends to AbstractTransaction.Builder
@@ -190,19 +238,64 @@ abstract public class AbstractTransaction {
         setSignatures(signatures);
     }
 
+    /**
+     * Writes the RLP encoding of this transaction (i.e., rawTransaction) to the given writer.
+     * @param writer The RlpWriter to write to.
+     */
+    protected abstract void writeRLPEncoding(RlpWriter writer);
+
+    /**
+     * Writes the RLP encoding to make the signature of this transaction to the given writer.
+     * @param writer The RlpWriter to write to.
+     */
+    protected abstract void writeCommonRLPEncodingForSignature(RlpWriter writer);
+
     /**
      * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
      * @return String
      */
     @JsonIgnore
-    public abstract String getRLPEncoding();
+    public String getRLPEncoding() {
+        return Numeric.toHexString(this.getCachedRLPEncoding());
+    }
+
+    /**
+     * Returns the RLP-encoded bytes of this transaction (i.e., rawTransaction).
+     * @return byte[]
+     */
+    @JsonIgnore
+    public byte[] getRLPEncodingBytes() {
+        return this.getCachedRLPEncoding().clone();
+    }
+
+    /**
+     * Returns the RLP-encoded bytes of this transaction (i.e., rawTransaction) as a read-only ByteBuffer.
+     * @return ByteBuffer
+     */
+    @JsonIgnore
+    public ByteBuffer getRLPEncodingByteBuffer() {
+        return ByteBuffer.wrap(this.getCachedRLPEncoding()).asReadOnlyBuffer();
+    }
+
+    private byte[] getCachedRLPEncoding() {
+        if(this.rlpEncoding == null) {
+            RlpWriter writer = new RlpWriter();
+            this.writeRLPEncoding(writer);
+            this.rlpEncoding = writer.toByteArray();
+        }
+        return this.rlpEncoding;
+    }
 
     /**
      * Returns the RLP-encoded string to make the signature of this transaction.
      * @return String
      */
     @JsonIgnore
-    public abstract String getCommonRLPEncodingForSignature();
+    public String getCommonRLPEncodingForSignature() {
+        RlpWriter writer = new RlpWriter();
+        this.writeCommonRLPEncodingForSignature(writer);
+        return writer.toHexString();
+    }
 
     /**
      * Signs to the transaction with a single private key.
@@ -254,7 +347,7 @@ abstract public class AbstractTransaction {
         }
 
         if(this.from.equals("0x") || this.from.equals(Utils.DEFAULT_ZERO_ADDRESS)){
-            this.from = keyring.getAddress();
+            this.setFrom(keyring.getAddress());
         }
 
         if(!this.from.toLowerCase().equals(keyring.getAddress().toLowerCase())) {
@@ -265,7 +358,7 @@ abstract public class AbstractTransaction {
         int role = this.type.contains("AccountUpdate") ? AccountKeyRoleBased.RoleGroup.ACCOUNT_UPDATE.getIndex() : AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex();
 
         String hash = signer.apply(this);
-        List<SignatureData> sigList = keyring.sign(hash, Numeric.toBigInt(this.chainId).intValue(), role);
+        List<SignatureData> sigList = keyring.sign(hash, this.chainIdInteger.intValue(), role);
 
         this.appendSignatures(sigList);
 
@@ -298,7 +391,7 @@ abstract public class AbstractTransaction {
         }
 
         if(this.from.equals("0x") || this.from.equals(Utils.DEFAULT_ZERO_ADDRESS)){
-            this.from = keyring.getAddress();
+            this.setFrom(keyring.getAddress());
         }
 
         if(!this.from.toLowerCase().equals(keyring.getAddress().toLowerCase())) {
@@ -309,7 +402,7 @@ abstract public class AbstractTransaction {
         int role = this.type.contains("AccountUpdate") ? AccountKeyRoleBased.RoleGroup.ACCOUNT_UPDATE.getIndex() : AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex();
 
         String hash = signer.apply(this);
-        SignatureData sig = keyring.sign(hash, Numeric.toBigInt(this.chainId).intValue(), role, index);
+        SignatureData sig = keyring.sign(hash, this.chainIdInteger.intValue(), role, index);
 
         this.appendSignatures(sig);
 
@@ -333,6 +426,7 @@ abstract public class AbstractTransaction {
     public void appendSignatures(List<SignatureData> signatureData) {
         this.signatures.addAll(signatureData);
         this.signatures = refineSignature(this.getSignatures());
+        this.invalidateSignedCache();
     }
 
     /**
@@ -360,7 +454,18 @@ abstract public class AbstractTransaction {
      */
     @JsonIgnore
     public String getTransactionHash() {
-        return Hash.sha3(this.getRLPEncoding());
+        if(this.transactionHash == null) {
+            this.transactionHash = this.computeTransactionHash();
+        }
+        return this.transactionHash;
+    }
+
+    /**
+     * Computes the hash of this transaction. The result is cached by {@link #getTransactionHash()}.
+     * @return String
+     */
+    protected String computeTransactionHash() {
+        return Numeric.toHexString(Hash.sha3(this.getCachedRLPEncoding()));
     }
 
     /**
@@ -369,6 +474,17 @@ abstract public class AbstractTransaction {
      */
     @JsonIgnore
     public String getSenderTxHash() {
+        if(this.senderTxHash == null) {
+            this.senderTxHash = this.computeSenderTxHash();
+        }
+        return this.senderTxHash;
+    }
+
+    /**
+     * Computes the senderTxHash of this transaction. The result is cached by {@link #getSenderTxHash()}.
+     * @return String
+     */
+    protected String computeSenderTxHash() {
         return this.getTransactionHash();
     }
 
@@ -378,15 +494,72 @@ abstract public class AbstractTransaction {
      */
     @JsonIgnore
     public String getRLPEncodingForSignature() {
-        byte[] txRLP = Numeric.hexStringToByteArray(getCommonRLPEncodingForSignature());
+        return Numeric.toHexString(this.getCachedRLPEncodingForSignature());
+    }
+
+    /**
+     * Returns RLP-encoded transaction bytes for making signature.
+     * @return byte[]
+     */
+    @JsonIgnore
+    public byte[] getRLPEncodingForSignatureBytes() {
+        return this.getCachedRLPEncodingForSignature().clone();
+    }
+
+    private byte[] getCachedRLPEncodingForSignature() {
+        if(this.rlpEncodingForSignature == null) {
+            RlpWriter writer = new RlpWriter();
+            this.writeRLPEncodingForSignature(writer);
+            this.rlpEncodingForSignature = writer.toByteArray();
+        }
+        return this.rlpEncodingForSignature;
+    }
 
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(txRLP));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
-        rlpTypeList.add(RlpString.create(0));
-        rlpTypeList.add(RlpString.create(0));
-        byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
-        return Numeric.toHexString(encoded);
+    /**
+     * Returns the hash of the RLP encoding for making signature. It is computed once until the transaction is changed.
+     * @return String
+     */
+    String getCachedHashForSignature() {
+        if(this.hashForSignature == null) {
+            this.hashForSignature = Numeric.toHexString(Hash.sha3(this.getCachedRLPEncodingForSignature()));
+        }
+        return this.hashForSignature;
+    }
+
+    /**
+     * Clears the cached RLP encodings and hashes of this transaction.<p>
+     * The setters and the functions appending signatures call it, so it only has to be called directly
+     * when a mutable field (e.g. the list returned by {@link #getSignatures()}) is changed in place.
+     */
+    public void invalidateCache() {
+        this.rlpEncodingForSignature = null;
+        this.hashForSignature = null;
+        this.invalidateSignedCache();
+    }
+
+    /**
+     * Clears the cached values which depend on the signatures of this transaction.
+     */
+    protected void invalidateSignedCache() {
+        this.rlpEncoding = null;
+        this.transactionHash = null;
+        this.senderTxHash = null;
+    }
+
+    /**
+     * Writes the RLP encoding for making signature to the given writer.
+     * @param writer The RlpWriter to write to.
+     */
+    protected void writeRLPEncodingForSignature(RlpWriter writer) {
+        // SigRLP = encode([encode(commonRLP), chainId, 0, 0])
+        writer.startList();
+        writer.startString();
+        this.writeCommonRLPEncodingForSignature(writer);
+        writer.endString();
+        writer.writeBigInteger(this.getChainIdInteger());
+        writer.writeLong(0);
+        writer.writeLong(0);
+        writer.endList();
     }
 
     /**
@@ -396,11 +569,11 @@ abstract public class AbstractTransaction {
     public void fillTransaction() throws IOException{
         if(klaytnCall != null) {
             if(this.nonce.equals("0x")) {
-                this.nonce = klaytnCall.getTransactionCount(this.from, DefaultBlockParameterName.PENDING).send().getResult();
+                this.setNonce(klaytnCall.getTransactionCount(this.from, DefaultBlockParameterName.PENDING).send().getResult());
             }
 
             if(this.chainId.equals("0x")) {
-                this.chainId = klaytnCall.getChainID().send().getResult();
+                this.setChainId(klaytnCall.getChainID().send().getResult());
             }
         }
 
@@ -434,9 +607,9 @@ abstract public class AbstractTransaction {
      */
     public boolean compareTxField(AbstractTransaction txObj, boolean checkSig) {
         if(!this.getType().equals(txObj.getType())) return false;
-        if(!this.getFrom().toLowerCase().equals(txObj.getFrom().toLowerCase())) return false;
-        if(!Numeric.toBigInt(this.getNonce()).equals(Numeric.toBigInt(txObj.getNonce()))) return false;
-        if(!Numeric.toBigInt(this.getGas()).equals(Numeric.toBigInt(txObj.getGas()))) return false;
+        if(!Arrays.equals(this.getFromBytes(), txObj.getFromBytes())) return false;
+        if(!Objects.equals(this.getNonceInteger(), txObj.getNonceInteger())) return false;
+        if(!this.getGasInteger().equals(txObj.getGasInteger())) return false;
 
         if(checkSig) {
             List<SignatureData> dataList = this.getSignatures();
@@ -517,15 +690,16 @@ abstract public class AbstractTransaction {
                 setChainId(chainId);
             }
 
-            String sigHash = TransactionHasher.getHashForSignature(this);
+            byte[] sigHash = Numeric.hexStringToByteArray(TransactionHasher.getHashForSignature(this));
+            BigInteger chainId = this.getChainIdInteger();
 
             List<String> publicKeyList = new ArrayList<>();
             for(SignatureData signatureData : this.getSignatures()) {
-                if(Numeric.toBigInt(this.getChainId()).compareTo(signatureData.getChainId()) != 0) {
+                if(chainId.compareTo(signatureData.getChainId()) != 0) {
                     throw new RuntimeException("Invalid Signature data : chain id is not matched.");
                 }
 
-                publicKeyList.add(Utils.recoverPublicKey(sigHash, signatureData, true));
+                publicKeyList.add(Utils.recoverPublicKey(sigHash, signatureData));
             }
             return publicKeyList;
         } catch(SignatureException e) {
@@ -538,14 +712,14 @@ abstract public class AbstractTransaction {
                 throw new RuntimeException("Failed to recover public keys from signatures: signatures is empty.");
             }
 
-            String sigHash = TransactionHasher.getHashForSignature(this);
+            byte[] sigHash = Numeric.hexStringToByteArray(TransactionHasher.getHashForSignature(this));
 
             List<String> publicKeyList = new ArrayList<>();
             for(SignatureData signatureData : this.getSignatures()) {
                 if(Numeric.toBigInt(signatureData.getV()).compareTo(BigInteger.ZERO) != 0 && Numeric.toBigInt(signatureData.getV()).compareTo(BigInteger.ONE) != 0) {
                     throw new RuntimeException("Invalid Signature data : the v value must have 0 or 1.");
                 }
-                publicKeyList.add(Utils.recoverPublicKey(sigHash, signatureData, true));
+                publicKeyList.add(Utils.recoverPublicKey(sigHash, signatureData));
             }
             return publicKeyList;
     }
@@ -606,6 +780,42 @@ abstract public class AbstractTransaction {
         return chainId;
     }
 
+    /**
+     * Getter function for the address of the sender in bytes.
+     * @return byte[]
+     */
+    @JsonIgnore
+    public byte[] getFromBytes() {
+        return fromBytes;
+    }
+
+    /**
+     * Getter function for the parsed nonce. It returns null if nonce is not defined.
+     * @return BigInteger
+     */
+    @JsonIgnore
+    public BigInteger getNonceInteger() {
+        return nonceInteger;
+    }
+
+    /**
+     * Getter function for the parsed gas.
+     * @return BigInteger
+     */
+    @JsonIgnore
+    public BigInteger getGasInteger() {
+        return gasInteger;
+    }
+
+    /**
+     * Getter function for the parsed chain id. It returns null if chainId is not defined.
+     * @return BigInteger
+     */
+    @JsonIgnore
+    public BigInteger getChainIdInteger() {
+        return chainIdInteger;
+    }
+
     /**
      * Getter function for signatures
      * @return String
@@ -620,6 +830,7 @@ abstract public class AbstractTransaction {
      */
     public void setType(String type) {
         this.type = type;
+        this.invalidateCache();
     }
 
     public void setFrom(String from) {
@@ -637,6 +848,8 @@ abstract public class AbstractTransaction {
         }
 
         this.from = from;
+        this.fromBytes = parseAddress(from);
+        this.invalidateCache();
     }
 
     /**
@@ -653,6 +866,8 @@ abstract public class AbstractTransaction {
             throw new IllegalArgumentException("Invalid gas. : " + gas);
         }
         this.gas = gas;
+        this.gasInteger = parseQuantity(gas);
+        this.invalidateCache();
     }
 
     /**
@@ -677,6 +892,8 @@ abstract public class AbstractTransaction {
             throw new IllegalArgumentException("Invalid nonce. : " + nonce);
         }
         this.nonce = nonce;
+        this.nonceInteger = parseQuantity(nonce);
+        this.invalidateCache();
     }
 
     /**
@@ -701,6 +918,8 @@ abstract public class AbstractTransaction {
         }
 
         this.chainId = chainId;
+        this.chainIdInteger = parseQuantity(chainId);
+        this.invalidateCache();
     }
 
 
@@ -723,4 +942,28 @@ abstract public class AbstractTransaction {
     public int getKeyType() {
         return TransactionType.valueOf(this.getType()).getType();
     }
-}
\ No newline at end of file
+
+    /**
+     * Parses a hex number string of a transaction field.
+     * @param quantity A hex number string.
+     * @return BigInteger, or null if the field is not defined("0x").
+     */
+    protected static BigInteger parseQuantity(String quantity) {
+        if(quantity == null || quantity.equals("0x")) {
+            return null;
+        }
+        return Numeric.toBigInt(quantity);
+    }
+
+    /**
+     * Parses an address string of a transaction field.
+     * @param address An address string.
+     * @return byte[]
+     */
+    protected static byte[] parseAddress(String address) {
+        if(address == null) {
+            return null;
+        }
+        return Numeric.hexStringToByteArray(address);
+    }
+}
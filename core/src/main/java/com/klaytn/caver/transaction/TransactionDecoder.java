@@ -19,64 +19,124 @@ package com.klaytn.caver.transaction;
 import com.klaytn.caver.transaction.type.*;
 import org.web3j.utils.Numeric;
 
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 public class TransactionDecoder {
+    /**
+     * The decoders indexed by the first byte(type tag) of a RLP-encoded transaction.
+     * If there is no decoder for the first byte, the transaction is decoded as a LegacyTransaction.
+     */
+    private static final Function<byte[], AbstractTransaction>[] DECODERS = newDecoderTable();
+
+    /**
+     * The decoders of ethereum typed transactions(0x78 + type) indexed by the second byte.
+     */
+    private static final Function<byte[], AbstractTransaction>[] ETHEREUM_DECODERS = newDecoderTable();
+
+    static {
+        register(TransactionType.TxTypeValueTransfer, ValueTransfer::decode);
+        register(TransactionType.TxTypeFeeDelegatedValueTransfer, FeeDelegatedValueTransfer::decode);
+        register(TransactionType.TxTypeFeeDelegatedValueTransferWithRatio, FeeDelegatedValueTransferWithRatio::decode);
+        register(TransactionType.TxTypeValueTransferMemo, ValueTransferMemo::decode);
+        register(TransactionType.TxTypeFeeDelegatedValueTransferMemo, FeeDelegatedValueTransferMemo::decode);
+        register(TransactionType.TxTypeFeeDelegatedValueTransferMemoWithRatio, FeeDelegatedValueTransferMemoWithRatio::decode);
+        register(TransactionType.TxTypeAccountUpdate, AccountUpdate::decode);
+        register(TransactionType.TxTypeFeeDelegatedAccountUpdate, FeeDelegatedAccountUpdate::decode);
+        register(TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio, FeeDelegatedAccountUpdateWithRatio::decode);
+        register(TransactionType.TxTypeSmartContractDeploy, SmartContractDeploy::decode);
+        register(TransactionType.TxTypeFeeDelegatedSmartContractDeploy, FeeDelegatedSmartContractDeploy::decode);
+        register(TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio, FeeDelegatedSmartContractDeployWithRatio::decode);
+        register(TransactionType.TxTypeSmartContractExecution, SmartContractExecution::decode);
+        register(TransactionType.TxTypeFeeDelegatedSmartContractExecution, FeeDelegatedSmartContractExecution::decode);
+        register(TransactionType.TxTypeFeeDelegatedSmartContractExecutionWithRatio, FeeDelegatedSmartContractExecutionWithRatio::decode);
+        register(TransactionType.TxTypeCancel, Cancel::decode);
+        register(TransactionType.TxTypeFeeDelegatedCancel, FeeDelegatedCancel::decode);
+        register(TransactionType.TxTypeFeeDelegatedCancelWithRatio, FeeDelegatedCancelWithRatio::decode);
+        register(TransactionType.TxTypeChainDataAnchoring, ChainDataAnchoring::decode);
+        register(TransactionType.TxTypeFeeDelegatedChainDataAnchoring, FeeDelegatedChainDataAnchoring::decode);
+        register(TransactionType.TxTypeFeeDelegatedChainDataAnchoringWithRatio, FeeDelegatedChainDataAnchoringWithRatio::decode);
+        register(TransactionType.TxTypeEthereumAccessList, EthereumAccessList::decode);
+        register(TransactionType.TxTypeEthereumDynamicFee, EthereumDynamicFee::decode);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<byte[], AbstractTransaction>[] newDecoderTable() {
+        return new Function[256];
+    }
+
+    private static void register(TransactionType type, Function<byte[], AbstractTransaction> decoder) {
+        int typeInt = type.getType();
+        if(typeInt > 0xff) {
+            DECODERS[typeInt >> 8] = TransactionDecoder::decodeEthereumTypedTransaction;
+            ETHEREUM_DECODERS[typeInt & 0xff] = decoder;
+        } else {
+            DECODERS[typeInt] = decoder;
+        }
+    }
+
+    private static AbstractTransaction decodeEthereumTypedTransaction(byte[] rlpBytes) {
+        Function<byte[], AbstractTransaction> decoder = rlpBytes.length > 1 ? ETHEREUM_DECODERS[rlpBytes[1] & 0xff] : null;
+        return decoder != null ? decoder.apply(rlpBytes) : LegacyTransaction.decode(rlpBytes);
+    }
+
     /**
      * Decodes a RLP-encoded transaction and returns it with matching type of transaction
      * @param rlpEncoded RLP-encoded transaction
      * @return AbstractTransaction
      */
     public static AbstractTransaction decode(String rlpEncoded) {
-        byte[] rlpBytes = Numeric.hexStringToByteArray(rlpEncoded);
+        return decode(Numeric.hexStringToByteArray(rlpEncoded));
+    }
 
-        if(rlpBytes[0] == TransactionType.TxTypeValueTransfer.getType()) {
-            return ValueTransfer.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeValueTransferMemo.getType()) {
-            return ValueTransferMemo.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeSmartContractDeploy.getType()) {
-            return SmartContractDeploy.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeSmartContractExecution.getType()) {
-            return SmartContractExecution.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeAccountUpdate.getType()) {
-            return AccountUpdate.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeCancel.getType()) {
-            return Cancel.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeChainDataAnchoring.getType()) {
-            return ChainDataAnchoring.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedValueTransfer.getType()) {
-            return FeeDelegatedValueTransfer.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedValueTransferMemo.getType()) {
-            return FeeDelegatedValueTransferMemo.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedSmartContractDeploy.getType()) {
-            return FeeDelegatedSmartContractDeploy.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedSmartContractExecution.getType()){
-            return FeeDelegatedSmartContractExecution.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedAccountUpdate.getType()) {
-            return FeeDelegatedAccountUpdate.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedCancel.getType()) {
-            return FeeDelegatedCancel.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType()) {
-            return FeeDelegatedChainDataAnchoring.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedCancelWithRatio.getType()) {
-            return FeeDelegatedCancelWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedChainDataAnchoringWithRatio.getType()) {
-            return FeeDelegatedChainDataAnchoringWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType()) {
-            return FeeDelegatedAccountUpdateWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedValueTransferWithRatio.getType()) {
-            return FeeDelegatedValueTransferWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedSmartContractExecutionWithRatio.getType()) {
-            return FeeDelegatedSmartContractExecutionWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedValueTransferMemoWithRatio.getType()) {
-            return FeeDelegatedValueTransferMemoWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType()) {
-            return FeeDelegatedSmartContractDeployWithRatio.decode(rlpBytes);
-        } else if ((rlpBytes[0] << 8 | rlpBytes[1]) == TransactionType.TxTypeEthereumAccessList.getType()) {
-            return EthereumAccessList.decode(rlpBytes);
-        } else if ((rlpBytes[0] << 8 | rlpBytes[1]) == TransactionType.TxTypeEthereumDynamicFee.getType()) {
-            return EthereumDynamicFee.decode(rlpBytes);
-        }
-        else {
-            return LegacyTransaction.decode(rlpBytes);
+    /**
+     * Decodes a RLP-encoded transaction and returns it with matching type of transaction
+     * @param rlpBytes RLP-encoded transaction
+     * @return AbstractTransaction
+     */
+    public static AbstractTransaction decode(byte[] rlpBytes) {
+        if(rlpBytes == null || rlpBytes.length == 0) {
+            throw new IllegalArgumentException("rlpEncoded is empty.");
         }
+
+        Function<byte[], AbstractTransaction> decoder = DECODERS[rlpBytes[0] & 0xff];
+        return decoder != null ? decoder.apply(rlpBytes) : LegacyTransaction.decode(rlpBytes);
+    }
+
+    /**
+     * Decodes RLP-encoded transactions in parallel on the common fork-join pool.<p>
+     * The returned list keeps the order of the given list.
+     * @param rlpEncodedList A list of RLP-encoded transactions.
+     * @return {@code List<AbstractTransaction>}
+     */
+    public static List<AbstractTransaction> decodeAll(List<byte[]> rlpEncodedList) {
+        return decodeAll(rlpEncodedList.stream());
+    }
+
+    /**
+     * Decodes RLP-encoded transactions in parallel on the common fork-join pool.<p>
+     * The returned list keeps the encounter order of the given stream.
+     * @param rlpEncodedStream A stream of RLP-encoded transactions.
+     * @return {@code List<AbstractTransaction>}
+     */
+    public static List<AbstractTransaction> decodeAll(Stream<byte[]> rlpEncodedStream) {
+        return rlpEncodedStream
+                .parallel()
+                .map(rlpBytes -> decode(rlpBytes))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Decodes RLP-encoded transactions in parallel on the given fork-join pool.<p>
+     * The returned list keeps the encounter order of the given stream.
+     * @param rlpEncodedStream A stream of RLP-encoded transactions.
+     * @param pool The fork-join pool to run decoding.
+     * @return {@code List<AbstractTransaction>}
+     */
+    public static List<AbstractTransaction> decodeAll(Stream<byte[]> rlpEncodedStream, ForkJoinPool pool) {
+        return pool.submit(() -> decodeAll(rlpEncodedStream)).join();
     }
 }
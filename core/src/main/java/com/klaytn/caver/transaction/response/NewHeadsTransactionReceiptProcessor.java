@@ -0,0 +1,365 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.transaction.response;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.methods.response.BlockHeader;
+import com.klaytn.caver.methods.response.BlockTransactionReceipts;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.methods.response.TransactionReceipt;
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transaction receipt processor that waits for transaction receipts block by block.<p>
+ * Whenever a new block is produced, this processor fetches all receipts of the block with one "klay_getBlockReceipts" call
+ * and completes the futures of the pending transactions included in the block.
+ * So the number of RPC calls depends on the number of blocks, not on the number of pending transactions.<p>
+ * New blocks are detected with a "newHeads" subscription(WebSocket only) or with a block number poller.
+ * An RPC error while fetching a block is treated as transient: it is logged and the block is fetched again with the next block,
+ * so a dropped call doesn't fail the pending transactions.<p>
+ * Detecting new blocks starts with the first transaction and continues until {@link #close()} is called.
+ * A transaction included in a block before the detection started is found by its receipt, which is checked once when it is registered
+ * and once more before it is failed after `blockAttempts` blocks.
+ * <pre>Example :
+ * {@code
+ * // Use "newHeads" subscription.
+ * NewHeadsTransactionReceiptProcessor processor = new NewHeadsTransactionReceiptProcessor(caver);
+ *
+ * // Use block number poller.
+ * NewHeadsTransactionReceiptProcessor processor = new NewHeadsTransactionReceiptProcessor(caver, 1000, 15);
+ *
+ * CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.getTransactionReceiptAsync(txHash);
+ * }
+ * </pre>
+ */
+public class NewHeadsTransactionReceiptProcessor extends TransactionReceiptProcessor {
+    public static final int DEFAULT_BLOCK_ATTEMPTS = 15;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NewHeadsTransactionReceiptProcessor.class);
+
+    private final Caver caver;
+    private final Flowable<String> blockHashes;
+    private final int blockAttempts;
+
+    private final Map<String, PendingTransaction> pendingTransactions = new ConcurrentHashMap<>();
+    private Disposable subscription;
+
+    /**
+     * The hashes of the blocks whose receipts could not be fetched. They are fetched again with the next block.
+     * It is only accessed by the subscription, which processes blocks one by one.
+     */
+    private final Deque<String> failedBlockHashes = new ArrayDeque<>();
+
+    /**
+     * Creates a NewHeadsTransactionReceiptProcessor instance that detects new blocks with a "newHeads" subscription.<p>
+     * The caver instance must be connected to a node with WebSocket.
+     * @param caver The Caver instance.
+     */
+    public NewHeadsTransactionReceiptProcessor(Caver caver) {
+        this(caver, DEFAULT_BLOCK_ATTEMPTS);
+    }
+
+    /**
+     * Creates a NewHeadsTransactionReceiptProcessor instance that detects new blocks with a "newHeads" subscription.<p>
+     * The caver instance must be connected to a node with WebSocket.
+     * @param caver The Caver instance.
+     * @param blockAttempts The number of blocks to wait for a transaction receipt.
+     */
+    public NewHeadsTransactionReceiptProcessor(Caver caver, int blockAttempts) {
+        // The receipts are fetched on an I/O thread, not on the thread reading the WebSocket.
+        this(caver, caver.rpc.klay.subscribeFlowable("newHeads")
+                .observeOn(Schedulers.io())
+                .map(notification -> notification.getParams().getResult().getHash()), blockAttempts);
+    }
+
+    /**
+     * Creates a NewHeadsTransactionReceiptProcessor instance that detects new blocks by polling the latest block number.
+     * @param caver The Caver instance.
+     * @param pollingFrequency The interval(milliseconds) to poll the latest block number.
+     * @param blockAttempts The number of blocks to wait for a transaction receipt.
+     */
+    public NewHeadsTransactionReceiptProcessor(Caver caver, long pollingFrequency, int blockAttempts) {
+        this(caver, pollBlockHashes(caver, pollingFrequency), blockAttempts);
+    }
+
+    /**
+     * Creates a NewHeadsTransactionReceiptProcessor instance with a custom stream of new block hashes.
+     * @param caver The Caver instance.
+     * @param blockHashes The stream that emits the hash of each new block.
+     * @param blockAttempts The number of blocks to wait for a transaction receipt.
+     */
+    public NewHeadsTransactionReceiptProcessor(Caver caver, Flowable<String> blockHashes, int blockAttempts) {
+        super(caver);
+        this.caver = caver;
+        this.blockHashes = blockHashes;
+        this.blockAttempts = blockAttempts;
+    }
+
+    /**
+     * Waits until the transaction receipt of the given transaction hash is found.
+     * @param transactionHash The transaction hash.
+     * @return TransactionReceipt.TransactionReceiptData
+     * @throws IOException
+     * @throws TransactionException
+     */
+    @Override
+    public TransactionReceipt.TransactionReceiptData waitForTransactionReceipt(String transactionHash) throws IOException, TransactionException {
+        try {
+            return getTransactionReceiptAsync(transactionHash).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof TransactionException) {
+                throw (TransactionException)cause;
+            } else if(cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new TransactionException(cause);
+        }
+    }
+
+    /**
+     * Returns a future that is completed when the transaction receipt of the given transaction hash is found.<p>
+     * If the receipt is not found within `blockAttempts` blocks, the future is completed exceptionally with TransactionException.
+     * @param transactionHash The transaction hash.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> getTransactionReceiptAsync(String transactionHash) {
+        String key = transactionHash.toLowerCase();
+        PendingTransaction newPending = new PendingTransaction(transactionHash);
+        PendingTransaction pending = pendingTransactions.putIfAbsent(key, newPending);
+        if(pending != null) {
+            return pending.future;
+        }
+
+        startSubscription();
+
+        // The transaction can be included in a block before the subscription sees new blocks.
+        caver.rpc.klay.getTransactionReceipt(transactionHash).sendAsync().whenComplete((receipt, throwable) -> {
+            if(throwable == null && !receipt.hasError() && receipt.getResult() != null) {
+                complete(key, receipt.getResult());
+            }
+        });
+
+        return newPending.future;
+    }
+
+    /**
+     * Returns the number of transactions waiting for receipts.
+     * @return int
+     */
+    public int getPendingCount() {
+        return pendingTransactions.size();
+    }
+
+    /**
+     * Stops detecting new blocks. Pending transactions are completed exceptionally.<p>
+     * Detecting new blocks starts again when a transaction is registered.
+     */
+    public synchronized void close() {
+        stopSubscription();
+        failAll(new TransactionException("Transaction receipt processor is closed."));
+    }
+
+    private synchronized void startSubscription() {
+        if(subscription == null || subscription.isDisposed()) {
+            subscription = blockHashes.subscribe(this::processBlock, this::processError);
+        }
+    }
+
+    private synchronized void stopSubscription() {
+        if(subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    private void processBlock(String blockHash) {
+        // The subscription is kept while there is no pending transaction, so no block is missed when a transaction is registered.
+        if(pendingTransactions.isEmpty()) {
+            failedBlockHashes.clear();
+            return;
+        }
+
+        failedBlockHashes.addLast(blockHash);
+        while(!failedBlockHashes.isEmpty()) {
+            String hash = failedBlockHashes.peekFirst();
+            try {
+                processBlockReceipts(hash);
+            } catch(IOException | RuntimeException e) {
+                LOGGER.warn("Failed to fetch the receipts of block " + hash + ", it will be retried with the next block: " + e.getMessage());
+                // Older blocks than the pending transactions can wait for are not retried.
+                while(failedBlockHashes.size() > blockAttempts) {
+                    failedBlockHashes.removeFirst();
+                }
+                return;
+            }
+            failedBlockHashes.removeFirst();
+        }
+    }
+
+    private void processBlockReceipts(String blockHash) throws IOException {
+        BlockTransactionReceipts blockReceipts = caver.rpc.klay.getBlockReceipts(blockHash).send();
+        if(blockReceipts.hasError()) {
+            throw new IOException("Error processing request: " + blockReceipts.getError().getMessage());
+        }
+
+        if(blockReceipts.getResult() != null) {
+            for(TransactionReceipt.TransactionReceiptData receipt : blockReceipts.getResult()) {
+                complete(receipt.getTransactionHash().toLowerCase(), receipt);
+            }
+        }
+
+        List<String> expired = new ArrayList<>();
+        pendingTransactions.forEach((key, pending) -> {
+            if(++pending.blockCount > blockAttempts) {
+                expired.add(key);
+            }
+        });
+
+        for(String key : expired) {
+            expire(key);
+        }
+    }
+
+    /**
+     * Fails a transaction whose receipt was not found in `blockAttempts` blocks.<p>
+     * The receipt is checked once more, since the transaction can be included in a block mined before new blocks were detected.
+     * If the check fails, the transaction is kept and checked again with the next block.
+     */
+    private void expire(String key) {
+        PendingTransaction pending = pendingTransactions.get(key);
+        if(pending == null) {
+            return;
+        }
+
+        TransactionReceipt receipt;
+        try {
+            receipt = caver.rpc.klay.getTransactionReceipt(pending.transactionHash).send();
+        } catch(IOException | RuntimeException e) {
+            LOGGER.warn("Failed to check the receipt of transaction " + pending.transactionHash + ", it will be retried with the next block: " + e.getMessage());
+            return;
+        }
+
+        if(receipt.hasError()) {
+            LOGGER.warn("Failed to check the receipt of transaction " + pending.transactionHash + ", it will be retried with the next block: " + receipt.getError().getMessage());
+        } else if(receipt.getResult() != null) {
+            complete(key, receipt.getResult());
+        } else if(pendingTransactions.remove(key, pending)) {
+            pending.future.completeExceptionally(new TransactionException(
+                    "Transaction receipt was not generated after " + blockAttempts
+                            + " blocks for transaction: " + pending.transactionHash, pending.transactionHash));
+        }
+    }
+
+    private void processError(Throwable throwable) {
+        synchronized (this) {
+            subscription = null;
+        }
+        failAll(new TransactionException(throwable));
+    }
+
+    private void complete(String key, TransactionReceipt.TransactionReceiptData receipt) {
+        PendingTransaction pending = pendingTransactions.remove(key);
+        if(pending != null) {
+            pending.future.complete(receipt);
+        }
+    }
+
+    private void failAll(TransactionException exception) {
+        for(String key : new ArrayList<>(pendingTransactions.keySet())) {
+            PendingTransaction pending = pendingTransactions.remove(key);
+            if(pending != null) {
+                pending.future.completeExceptionally(exception);
+            }
+        }
+    }
+
+    private static Flowable<String> pollBlockHashes(Caver caver, long pollingFrequency) {
+        return Flowable.defer(() -> {
+            // The latest block number is read when subscribing, which is before the receipt of the first transaction is checked,
+            // so the blocks mined until the first tick are not missed.
+            BigInteger[] lastBlockNumber = new BigInteger[1];
+            try {
+                Quantity blockNumber = caver.rpc.klay.getBlockNumber().send();
+                if(!blockNumber.hasError()) {
+                    lastBlockNumber[0] = blockNumber.getValue();
+                }
+            } catch(IOException | RuntimeException e) {
+                // The first tick starts from the latest block.
+                LOGGER.warn("Failed to read the latest block number, new blocks are polled from the first tick: " + e.getMessage());
+            }
+
+            return Flowable.interval(pollingFrequency, TimeUnit.MILLISECONDS, Schedulers.io())
+                .onBackpressureDrop()
+                .concatMapIterable(tick -> {
+                    List<String> hashes = new ArrayList<>();
+                    try {
+                        Quantity blockNumber = caver.rpc.klay.getBlockNumber().send();
+                        if(blockNumber.hasError()) {
+                            throw new IOException("Error processing request: " + blockNumber.getError().getMessage());
+                        }
+
+                        BigInteger current = blockNumber.getValue();
+                        BigInteger from = lastBlockNumber[0] == null ? current : lastBlockNumber[0].add(BigInteger.ONE);
+
+                        for(BigInteger number = from; number.compareTo(current) <= 0; number = number.add(BigInteger.ONE)) {
+                            BlockHeader header = caver.rpc.klay.getHeaderByNumber(number).send();
+                            if(header.hasError()) {
+                                throw new IOException("Error processing request: " + header.getError().getMessage());
+                            }
+                            hashes.add(header.getResult().getHash());
+                            lastBlockNumber[0] = number;
+                        }
+                    } catch(IOException | RuntimeException e) {
+                        // The blocks after the last fetched one are polled again on the next tick.
+                        LOGGER.warn("Failed to poll new blocks, it will be retried: " + e.getMessage());
+                    }
+                    return hashes;
+                });
+        });
+    }
+
+    private static class PendingTransaction {
+        final String transactionHash;
+        final CompletableFuture<TransactionReceipt.TransactionReceiptData> future = new CompletableFuture<>();
+        int blockCount;
+
+        PendingTransaction(String transactionHash) {
+            this.transactionHash = transactionHash;
+        }
+    }
+}
@@ -18,55 +18,116 @@ package com.klaytn.caver.transaction.response;
 
 import com.klaytn.caver.Caver;
 import com.klaytn.caver.methods.response.Callback;
-import com.klaytn.caver.methods.response.KlayTransactionReceipt;
 import com.klaytn.caver.methods.response.TransactionReceipt;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Response;
 import org.web3j.protocol.exceptions.TransactionException;
-import org.web3j.utils.Async;
 
 import java.io.IOException;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Transaction receipt processor that uses a single thread to query for transaction receipts.
  *
- * When initially invoked, this processor returns a transaction receipt containing only the transaction hash of the submitted transaction.
+ * When initially invoked, this processor returns a transaction receipt containing only the transaction hash of the submitted transaction.<p>
+ * On each tick, the receipts of all pending transactions that are due are requested with JSON-RPC batches of `batchSize` requests.
+ * The polling interval of each transaction hash grows by `backoffMultiplier` after every miss, up to `maxPollingInterval`.
+ * <pre>Example :
+ * {@code
+ * QueuingTransactionReceiptProcessor processor = new QueuingTransactionReceiptProcessor.Builder(caver, callback)
+ *         .setBatchSize(200)
+ *         .setMaxQueueSize(50000)
+ *         .build();
+ * }
+ * </pre>
  */
 public class QueuingTransactionReceiptProcessor extends TransactionReceiptProcessor {
     public static final int DEFAULT_POLLING_ATTEMPTS_PER_TX_HASH = 15;
     public static final long DEFAULT_POLLING_FREQUENCY = 1000;
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 100000;
+    public static final double DEFAULT_BACKOFF_MULTIPLIER = 1.5;
+    public static final long DEFAULT_MAX_POLLING_INTERVAL = 10000;
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueuingTransactionReceiptProcessor.class);
+
+    private final Caver caver;
     private final int pollingAttemptsPerTxHash;
+    private final long pollingFrequency;
+    private final int batchSize;
+    private final int maxQueueSize;
+    private final double backoffMultiplier;
+    private final long maxPollingInterval;
 
     private final ScheduledExecutorService scheduledExecutorService;
     private final Callback<TransactionReceipt.TransactionReceiptData> callback;
     private final BlockingQueue<RequestWrapper> pendingTransactions;
 
+    private final AtomicLong receivedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong totalTimeToReceipt = new AtomicLong();
+    private final AtomicLong maxTimeToReceipt = new AtomicLong();
+
     public QueuingTransactionReceiptProcessor(
             Caver caver, Callback callback,
             int pollingAttemptsPerTxHash, long pollingFrequency) {
+        this(caver, callback, pollingAttemptsPerTxHash, pollingFrequency,
+                DEFAULT_BATCH_SIZE, DEFAULT_MAX_QUEUE_SIZE, 1, pollingFrequency);
+    }
+
+    public QueuingTransactionReceiptProcessor(
+            Caver caver, Callback callback) {
+        this(caver, callback, DEFAULT_POLLING_ATTEMPTS_PER_TX_HASH, DEFAULT_POLLING_FREQUENCY);
+    }
+
+    QueuingTransactionReceiptProcessor(
+            Caver caver, Callback callback,
+            int pollingAttemptsPerTxHash, long pollingFrequency,
+            int batchSize, int maxQueueSize,
+            double backoffMultiplier, long maxPollingInterval) {
         super(caver);
-        this.scheduledExecutorService = Async.defaultExecutorService();
+        if(batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than 0.");
+        }
+        if(backoffMultiplier < 1) {
+            throw new IllegalArgumentException("backoffMultiplier must be equal or greater than 1.");
+        }
+
+        this.caver = caver;
         this.callback = callback;
-        this.pendingTransactions = new LinkedBlockingQueue<>();
         this.pollingAttemptsPerTxHash = pollingAttemptsPerTxHash;
+        this.pollingFrequency = pollingFrequency;
+        this.batchSize = batchSize;
+        this.maxQueueSize = maxQueueSize;
+        this.backoffMultiplier = backoffMultiplier;
+        this.maxPollingInterval = Math.max(pollingFrequency, maxPollingInterval);
+        this.pendingTransactions = new LinkedBlockingQueue<>(maxQueueSize);
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "caver-receipt-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
 
-        scheduledExecutorService.scheduleAtFixedRate(
+        scheduledExecutorService.scheduleWithFixedDelay(
                 this::sendTransactionReceiptRequests,
                 pollingFrequency, pollingFrequency, TimeUnit.MILLISECONDS);
     }
 
-    public QueuingTransactionReceiptProcessor(
-            Caver caver, Callback callback) {
-        this(caver, callback, DEFAULT_POLLING_ATTEMPTS_PER_TX_HASH, DEFAULT_POLLING_FREQUENCY);
-    }
-
     @Override
     public TransactionReceipt.TransactionReceiptData waitForTransactionReceipt(String transactionHash) throws IOException, TransactionException {
-        pendingTransactions.add(new QueuingTransactionReceiptProcessor.RequestWrapper(transactionHash));
+        if(!pendingTransactions.offer(new RequestWrapper(transactionHash, System.currentTimeMillis() + pollingFrequency))) {
+            throw new TransactionException("The pending transaction queue is full(" + maxQueueSize + "). Cannot wait for txHash: " + transactionHash, transactionHash);
+        }
 
         TransactionReceipt.TransactionReceiptData transactionReceiptData = new TransactionReceipt.TransactionReceiptData();
         transactionReceiptData.setTransactionHash(transactionHash);
@@ -74,30 +135,140 @@ public class QueuingTransactionReceiptProcessor extends TransactionReceiptProces
         return transactionReceiptData;
     }
 
+    /**
+     * Stops polling. Transactions remaining in the queue are no longer queried.
+     */
+    public void shutdown() {
+        scheduledExecutorService.shutdown();
+    }
+
+    /**
+     * Returns the number of transactions waiting for receipts.
+     * @return int
+     */
+    public int getQueueDepth() {
+        return pendingTransactions.size();
+    }
+
+    /**
+     * Returns the number of receipts delivered to the callback.
+     * @return long
+     */
+    public long getReceivedCount() {
+        return receivedCount.get();
+    }
+
+    /**
+     * Returns the number of transactions delivered to the callback as an exception.
+     * @return long
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * Returns the average time(milliseconds) from queuing a transaction to receiving its receipt.
+     * @return double
+     */
+    public double getAverageTimeToReceipt() {
+        long count = receivedCount.get();
+        return count == 0 ? 0 : (double)totalTimeToReceipt.get() / count;
+    }
+
+    /**
+     * Returns the maximum time(milliseconds) from queuing a transaction to receiving its receipt.
+     * @return long
+     */
+    public long getMaxTimeToReceipt() {
+        return maxTimeToReceipt.get();
+    }
+
     private void sendTransactionReceiptRequests() {
+        long now = System.currentTimeMillis();
+
+        List<RequestWrapper> dueRequests = new ArrayList<>();
         for (RequestWrapper requestWrapper : pendingTransactions) {
-            try {
-                String transactionHash = requestWrapper.getTransactionHash();
-                Optional<TransactionReceipt.TransactionReceiptData> transactionReceipt =
-                        sendTransactionReceiptRequest(transactionHash);
-                if (transactionReceipt.isPresent()) {
-                    callback.accept(transactionReceipt.get());
-                    pendingTransactions.remove(requestWrapper);
-                } else {
-                    if (requestWrapper.getCount() == pollingAttemptsPerTxHash) {
-                        throw new TransactionException(
-                                "No transaction receipt for txHash: " + transactionHash
-                                        + "received after " + pollingAttemptsPerTxHash
-                                        + " attempts", transactionHash);
-                    } else {
-                        requestWrapper.incrementCount();
-                    }
-                }
-            } catch (IOException | TransactionException e) {
-                pendingTransactions.remove(requestWrapper);
-                callback.exception(e);
+            if (requestWrapper.getNextPollTime() <= now) {
+                dueRequests.add(requestWrapper);
             }
         }
+
+        for (int from = 0; from < dueRequests.size(); from += batchSize) {
+            sendTransactionReceiptBatch(dueRequests.subList(from, Math.min(from + batchSize, dueRequests.size())));
+        }
+
+        pendingTransactions.removeIf(RequestWrapper::isDone);
+    }
+
+    private void sendTransactionReceiptBatch(List<RequestWrapper> chunk) {
+        BatchResponse batchResponse;
+        try {
+            BatchRequest batchRequest = caver.rpc.newBatch();
+            for (RequestWrapper requestWrapper : chunk) {
+                batchRequest.add(caver.rpc.klay.getTransactionReceipt(requestWrapper.getTransactionHash()));
+            }
+            batchResponse = batchRequest.send();
+        } catch (IOException | RuntimeException e) {
+            for (RequestWrapper requestWrapper : chunk) {
+                fail(requestWrapper, e instanceof IOException ? (IOException)e : new IOException(e.getMessage(), e));
+            }
+            return;
+        }
+        List<? extends Response<?>> responses = batchResponse.getResponses();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            RequestWrapper requestWrapper = chunk.get(i);
+            String transactionHash = requestWrapper.getTransactionHash();
+            TransactionReceipt transactionReceipt = i < responses.size() ? (TransactionReceipt)responses.get(i) : null;
+
+            if (transactionReceipt == null) {
+                fail(requestWrapper, new IOException("No response for txHash: " + transactionHash + " in a batch."));
+            } else if (transactionReceipt.hasError()) {
+                fail(requestWrapper, new TransactionException("Error processing request: "
+                        + transactionReceipt.getError().getMessage(), transactionHash));
+            } else if (transactionReceipt.getResult() != null) {
+                complete(requestWrapper, transactionReceipt.getResult());
+            } else if (requestWrapper.getCount() == pollingAttemptsPerTxHash) {
+                fail(requestWrapper, new TransactionException(
+                        "No transaction receipt for txHash: " + transactionHash
+                                + "received after " + pollingAttemptsPerTxHash
+                                + " attempts", transactionHash));
+            } else {
+                requestWrapper.incrementCount();
+                requestWrapper.backoff(backoffMultiplier, maxPollingInterval);
+            }
+        }
+    }
+
+    private void complete(RequestWrapper requestWrapper, TransactionReceipt.TransactionReceiptData receiptData) {
+        if (requestWrapper.isDone()) {
+            return;
+        }
+        long elapsed = System.currentTimeMillis() - requestWrapper.getQueuedTime();
+        receivedCount.incrementAndGet();
+        totalTimeToReceipt.addAndGet(elapsed);
+        maxTimeToReceipt.accumulateAndGet(elapsed, Math::max);
+
+        requestWrapper.setDone();
+        try {
+            callback.accept(receiptData);
+        } catch (RuntimeException e) {
+            // An error of the callback must not affect the other transactions in the batch.
+            LOGGER.warn("The callback threw an exception for txHash: " + requestWrapper.getTransactionHash(), e);
+        }
+    }
+
+    private void fail(RequestWrapper requestWrapper, Exception e) {
+        if (requestWrapper.isDone()) {
+            return;
+        }
+        failedCount.incrementAndGet();
+        requestWrapper.setDone();
+        try {
+            callback.exception(e);
+        } catch (RuntimeException callbackError) {
+            LOGGER.warn("The callback threw an exception for txHash: " + requestWrapper.getTransactionHash(), callbackError);
+        }
     }
 
     /**
@@ -108,27 +279,55 @@ public class QueuingTransactionReceiptProcessor extends TransactionReceiptProces
      * <p>Note - the equals/hashcode methods only operate on the transactionHash field. This is
      * intentional.
      */
-    private static class RequestWrapper {
+    private class RequestWrapper {
         private final String transactionHash;
+        private final long queuedTime;
         private int count;
+        private long pollingInterval;
+        private long nextPollTime;
+        private volatile boolean done;
 
-        RequestWrapper(String transactionHash) {
+        RequestWrapper(String transactionHash, long nextPollTime) {
             this.transactionHash = transactionHash;
+            this.queuedTime = System.currentTimeMillis();
             this.count = 0;
+            this.pollingInterval = pollingFrequency;
+            this.nextPollTime = nextPollTime;
         }
 
         String getTransactionHash() {
             return transactionHash;
         }
 
+        long getQueuedTime() {
+            return queuedTime;
+        }
+
         int getCount() {
             return count;
         }
 
+        long getNextPollTime() {
+            return nextPollTime;
+        }
+
+        boolean isDone() {
+            return done;
+        }
+
+        void setDone() {
+            this.done = true;
+        }
+
         void incrementCount() {
             this.count += 1;
         }
 
+        void backoff(double multiplier, long maxInterval) {
+            this.pollingInterval = Math.min(maxInterval, (long)(pollingInterval * multiplier));
+            this.nextPollTime = System.currentTimeMillis() + pollingInterval;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) {
@@ -148,4 +347,58 @@ public class QueuingTransactionReceiptProcessor extends TransactionReceiptProces
             return transactionHash.hashCode();
         }
     }
+
+    /**
+     * Builder for QueuingTransactionReceiptProcessor.
+     */
+    public static class Builder {
+        private final Caver caver;
+        private final Callback callback;
+        private int pollingAttemptsPerTxHash = DEFAULT_POLLING_ATTEMPTS_PER_TX_HASH;
+        private long pollingFrequency = DEFAULT_POLLING_FREQUENCY;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+        private double backoffMultiplier = DEFAULT_BACKOFF_MULTIPLIER;
+        private long maxPollingInterval = DEFAULT_MAX_POLLING_INTERVAL;
+
+        public Builder(Caver caver, Callback callback) {
+            this.caver = caver;
+            this.callback = callback;
+        }
+
+        public Builder setPollingAttemptsPerTxHash(int pollingAttemptsPerTxHash) {
+            this.pollingAttemptsPerTxHash = pollingAttemptsPerTxHash;
+            return this;
+        }
+
+        public Builder setPollingFrequency(long pollingFrequency) {
+            this.pollingFrequency = pollingFrequency;
+            return this;
+        }
+
+        public Builder setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder setMaxQueueSize(int maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        public Builder setBackoffMultiplier(double backoffMultiplier) {
+            this.backoffMultiplier = backoffMultiplier;
+            return this;
+        }
+
+        public Builder setMaxPollingInterval(long maxPollingInterval) {
+            this.maxPollingInterval = maxPollingInterval;
+            return this;
+        }
+
+        public QueuingTransactionReceiptProcessor build() {
+            return new QueuingTransactionReceiptProcessor(caver, callback, pollingAttemptsPerTxHash, pollingFrequency,
+                    batchSize, maxQueueSize, backoffMultiplier, maxPollingInterval);
+        }
+    }
 }
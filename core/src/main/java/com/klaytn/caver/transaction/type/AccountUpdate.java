@@ -22,16 +22,14 @@ import com.klaytn.caver.account.Account;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
-import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
-import org.web3j.rlp.*;
 import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -51,6 +49,11 @@ public class AccountUpdate extends AbstractTransaction implements ITransactionWi
      */
     String gasPrice = "0x";
 
+    /**
+     * The parsed value of `gasPrice`. It is updated together with `gasPrice`.
+     */
+    BigInteger gasPriceInteger;
+
     /**
      * AccountUpdate Builder class
      */
@@ -164,6 +167,8 @@ public class AccountUpdate extends AbstractTransaction implements ITransactionWi
         }
 
         this.gasPrice = gasPrice;
+        this.gasPriceInteger = parseQuantity(this.gasPrice);
+        this.invalidateCache();
     }
 
     /**
@@ -194,19 +199,15 @@ public class AccountUpdate extends AbstractTransaction implements ITransactionWi
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeAccountUpdate.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
-
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+        RlpReader values = RlpReader.ofList(rlpEncoded, 1);
 
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(3)).asString();
-        Account account = Account.createFromRLPEncoding(from, ((RlpString) values.get(4)).asString());
+        BigInteger nonce = values.readBigInteger();
+        BigInteger gasPrice = values.readBigInteger();
+        BigInteger gas = values.readBigInteger();
+        String from = values.readHexString();
+        Account account = Account.createFromRLPEncoding(from, values.readHexString());
 
-        List<RlpType> senderSignatures = ((RlpList) (values.get(5))).getValues();
+        RlpReader senderSignatures = values.readList();
         List<SignatureData> signatureDataList = SignatureData.decodeSignatures(senderSignatures);
 
         AccountUpdate accountUpdate = new AccountUpdate.Builder()
@@ -222,59 +223,45 @@ public class AccountUpdate extends AbstractTransaction implements ITransactionWi
     }
 
     /**
-     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
-     * @return String
+     * Writes the RLP encoding of this transaction (i.e., rawTransaction) to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getRLPEncoding() {
+    protected void writeRLPEncoding(RlpWriter writer) {
         // TxHashRLP = type + encode([nonce, gasPrice, gas, from, rlpEncodedKey, txSignatures])
         this.validateOptionalValues(false);
 
-        List<RlpType> signatureRLPList = new ArrayList<>();
-
-        for(SignatureData signatureData : this.getSignatures()) {
-            signatureRLPList.add(signatureData.toRlpList());
-        }
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(account.getRLPEncodingAccountKey())));
-        rlpTypeList.add(new RlpList(signatureRLPList));
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[] { (byte)TransactionType.TxTypeAccountUpdate.getType() };
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(rawTx);
+        writer.writeRaw((byte)TransactionType.TxTypeAccountUpdate.getType());
+        writer.startList();
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.getFromBytes());
+        writer.writeHexBytes(account.getRLPEncodingAccountKey());
+        SignatureData.writeRlpList(writer, this.getSignatures());
+        writer.endList();
     }
 
     /**
-     * Returns the RLP-encoded string to make the signature of this transaction.
-     * @return String
+     * Writes the RLP encoding to make the signature of this transaction to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getCommonRLPEncodingForSignature() {
+    protected void writeCommonRLPEncodingForSignature(RlpWriter writer) {
         // SigRLP = encode([encode([type, nonce, gasPrice, gas, from, rlpEncodedKey]), chainid, 0, 0])
         // encode([type, nonce, gasPrice, gas, from, rlpEncodedKey]
         this.validateOptionalValues(true);
 
         byte type = (byte)TransactionType.TxTypeAccountUpdate.getType();
 
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(type));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(account.getRLPEncodingAccountKey())));
-
-        byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
-        String encodedStr = Numeric.toHexString(encoded);
-
-        return encodedStr;
+        writer.startList();
+        writer.writeByte(type);
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.getFromBytes());
+        writer.writeHexBytes(account.getRLPEncodingAccountKey());
+        writer.endList();
     }
 
     /**
@@ -296,7 +283,7 @@ public class AccountUpdate extends AbstractTransaction implements ITransactionWi
         if(!this.getAccount().getRLPEncodingAccountKey().equals(txObj.getAccount().getRLPEncodingAccountKey())) {
             return false;
         }
-        if(Numeric.toBigInt(this.getGasPrice()).compareTo(Numeric.toBigInt(txObj.getGasPrice())) != 0) return false;
+        if(this.gasPriceInteger.compareTo(txObj.gasPriceInteger) != 0) return false;
 
         return true;
     }
@@ -390,5 +377,6 @@ public class AccountUpdate extends AbstractTransaction implements ITransactionWi
         }
 
         this.account = account;
+        this.invalidateCache();
     }
 }
@@ -20,18 +20,17 @@ import com.klaytn.caver.account.AccountKeyRoleBased;
 import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.*;
 import com.klaytn.caver.transaction.utils.AccessList;
-import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.AbstractKeyring;
 import com.klaytn.caver.wallet.keyring.KeyringFactory;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.crypto.Hash;
-import org.web3j.rlp.*;
 import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
@@ -45,6 +44,11 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
      */
     String to = "0x";
 
+    /**
+     * The parsed value of `to`. It is updated together with `to`.
+     */
+    byte[] toBytes;
+
     /**
      * Data attached to the transaction, used for transaction execution.
      */
@@ -55,6 +59,11 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
      */
     String value = "0x00";
 
+    /**
+     * The parsed value of `value`. It is updated together with `value`.
+     */
+    BigInteger valueInteger;
+
     /**
      * Access list is an EIP-2930 access list.
      */
@@ -65,6 +74,11 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
      */
     String gasPrice = "0x";
 
+    /**
+     * The parsed value of `gasPrice`. It is updated together with `gasPrice`.
+     */
+    BigInteger gasPriceInteger;
+
     /**
      * EthereumAccessList Builder class
      */
@@ -197,68 +211,58 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
     }
 
     /**
-     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
-     * @return String
+     * Writes the RLP encoding of this transaction (i.e., rawTransaction) to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getRLPEncoding() {
+    protected void writeRLPEncoding(RlpWriter writer) {
         // TransactionPayload = 0x7801 + encode([chainId, nonce, gasPrice, gas, to, value, data, accessList, signatureYParity, signatureR, signatureS])
         this.validateOptionalValues(true);
 
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(this.getAccessList().toRlpList());
+        writer.writeRaw(Numeric.toBytesPadded(BigInteger.valueOf(TransactionType.TxTypeEthereumAccessList.getType()), 2));
+        writer.startList();
+        writer.writeBigInteger(this.getChainIdInteger());
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.toBytes);
+        writer.writeBigInteger(this.valueInteger);
+        writer.writeHexBytes(this.getInput());
+        this.getAccessList().writeRlp(writer);
         SignatureData signatureData = this.getSignatures().get(0);
-        rlpTypeList.addAll(signatureData.toRlpList().getValues());
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = Numeric.toBytesPadded(BigInteger.valueOf(TransactionType.TxTypeEthereumAccessList.getType()), 2);
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(rawTx);
+        signatureData.writeRlpValues(writer);
+        writer.endList();
     }
 
     /**
-     * Returns the RLP-encoded string to make the signature of this transaction.
-     * @return String
+     * Writes the RLP encoding to make the signature of this transaction to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getCommonRLPEncodingForSignature() {
-        return getRLPEncodingForSignature();
+    protected void writeCommonRLPEncodingForSignature(RlpWriter writer) {
+        writeRLPEncodingForSignature(writer);
     }
 
     /**
-     * Returns the RLP-encoded string to make the signature of this transaction.
-     *
-     * @return String
+     * Writes the RLP encoding to make the signature of this transaction to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getRLPEncodingForSignature() {
+    protected void writeRLPEncodingForSignature(RlpWriter writer) {
         // SigRLP = 0x01 || rlp([chainId, nonce, gasPrice, gasLimit, to, value, data, accessList])
-
         this.validateOptionalValues(true);
 
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(this.getAccessList().toRlpList());
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[]{(byte) TransactionType.TxTypeEthereumAccessList.getType()};
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(rawTx);
+        writer.writeRaw((byte)TransactionType.TxTypeEthereumAccessList.getType());
+        writer.startList();
+        writer.writeBigInteger(this.getChainIdInteger());
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.toBytes);
+        writer.writeBigInteger(this.valueInteger);
+        writer.writeHexBytes(this.getInput());
+        this.getAccessList().writeRlp(writer);
+        writer.endList();
     }
 
     /**
@@ -274,11 +278,11 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
         if (!(obj instanceof EthereumAccessList)) return false;
         EthereumAccessList txObj = (EthereumAccessList) obj;
 
-        if (!this.getTo().toLowerCase().equals(txObj.getTo().toLowerCase())) return false;
-        if (!Numeric.toBigInt(this.getValue()).equals(Numeric.toBigInt(txObj.getValue()))) return false;
+        if (!Arrays.equals(this.toBytes, txObj.toBytes)) return false;
+        if (!this.valueInteger.equals(txObj.valueInteger)) return false;
         if (!this.getInput().equals(txObj.getInput())) return false;
         if (!this.getAccessList().equals(txObj.getAccessList())) return false;
-        if(Numeric.toBigInt(this.getGasPrice()).compareTo(Numeric.toBigInt(txObj.getGasPrice())) != 0) return false;
+        if(this.gasPriceInteger.compareTo(txObj.gasPriceInteger) != 0) return false;
 
         return true;
     }
@@ -372,19 +376,17 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
             if ((rlpEncoded[0] << 8 | rlpEncoded[1]) != TransactionType.TxTypeEthereumAccessList.getType()) {
                 throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeEthereumAccessList.toString());
             }
-            byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 2, rlpEncoded.length);
-            RlpList rlpList = RlpDecoder.decode(detachedType);
-            List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+            RlpReader values = RlpReader.ofList(rlpEncoded, 2);
 
-            BigInteger chainId = ((RlpString) values.get(0)).asPositiveBigInteger();
-            BigInteger nonce = ((RlpString) values.get(1)).asPositiveBigInteger();
-            BigInteger gasPrice = ((RlpString) values.get(2)).asPositiveBigInteger();
-            BigInteger gas = ((RlpString) values.get(3)).asPositiveBigInteger();
-            String to = ((RlpString) values.get(4)).asString();
-            BigInteger value = ((RlpString) values.get(5)).asPositiveBigInteger();
-            String input = ((RlpString) values.get(6)).asString();
+            BigInteger chainId = values.readBigInteger();
+            BigInteger nonce = values.readBigInteger();
+            BigInteger gasPrice = values.readBigInteger();
+            BigInteger gas = values.readBigInteger();
+            String to = values.readHexString();
+            BigInteger value = values.readBigInteger();
+            String input = values.readHexString();
 
-            AccessList accessList = AccessList.decode((RlpList) values.get(7));
+            AccessList accessList = AccessList.decode(values.readList());
 
             EthereumAccessList ethereumAccessList = new EthereumAccessList.Builder()
                     .setFrom(null)
@@ -399,9 +401,9 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
                     .setAccessList(accessList)
                     .build();
 
-            byte[] v = ((RlpString) values.get(8)).getBytes();
-            byte[] r = ((RlpString) values.get(9)).getBytes();
-            byte[] s = ((RlpString) values.get(10)).getBytes();
+            byte[] v = values.readBytes();
+            byte[] r = values.readBytes();
+            byte[] s = values.readBytes();
             SignatureData signatureData = new SignatureData(v, r, s);
 
             ethereumAccessList.appendSignatures(signatureData);
@@ -458,16 +460,14 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
     }
 
     /**
-     * Returns a hash string of transaction
+     * Computes a hash string of transaction
      * @return String
      */
     @Override
-    public String getTransactionHash() {
+    protected String computeTransactionHash() {
         // TxHashRLP = 0x01 + encode([chainId, nonce, gasPrice, gas, to, value, data, accessList, signatureYParity, signatureR, signatureS])
-        String rlpEncoded = this.getRLPEncoding();
-        byte[] rlpEncodedBytes = Numeric.hexStringToByteArray(rlpEncoded);
-        byte[] detachedType = Arrays.copyOfRange(rlpEncodedBytes, 1, rlpEncodedBytes.length);
-        return Hash.sha3(Numeric.toHexString(detachedType));
+        byte[] rlpEncodedBytes = this.getRLPEncodingBytes();
+        return Numeric.toHexString(Hash.sha3(rlpEncodedBytes, 1, rlpEncodedBytes.length - 1));
     }
 
     /**
@@ -612,6 +612,8 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
             throw new IllegalArgumentException("Invalid address. : " + to);
         }
         this.to = to;
+        this.toBytes = parseAddress(this.to);
+        this.invalidateCache();
     }
 
     /**
@@ -637,6 +639,7 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
             throw new IllegalArgumentException("Invalid input : " + input);
         }
         this.input = Numeric.prependHexPrefix(input);
+        this.invalidateCache();
     }
 
 
@@ -663,6 +666,8 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
             throw new IllegalArgumentException("Invalid value : " + value);
         }
         this.value = value;
+        this.valueInteger = parseQuantity(this.value);
+        this.invalidateCache();
     }
 
     /**
@@ -693,6 +698,7 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
             accessList = new AccessList();
         }
         this.accessList = accessList;
+        this.invalidateCache();
     }
 
     /**
@@ -717,6 +723,8 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
         }
 
         this.gasPrice = gasPrice;
+        this.gasPriceInteger = parseQuantity(this.gasPrice);
+        this.invalidateCache();
     }
 
     /**
@@ -23,18 +23,17 @@ import com.klaytn.caver.transaction.TransactionDecoder;
 import com.klaytn.caver.transaction.TransactionHasher;
 import com.klaytn.caver.transaction.TransactionHelper;
 import com.klaytn.caver.transaction.utils.AccessList;
-import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.AbstractKeyring;
 import com.klaytn.caver.wallet.keyring.KeyringFactory;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.crypto.Hash;
-import org.web3j.rlp.*;
 import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
@@ -48,6 +47,11 @@ public class EthereumDynamicFee extends AbstractTransaction {
      */
     String to = "0x";
 
+    /**
+     * The parsed value of `to`. It is updated together with `to`.
+     */
+    byte[] toBytes;
+
     /**
      * Data attached to the transaction, used for transaction execution.
      */
@@ -58,6 +62,11 @@ public class EthereumDynamicFee extends AbstractTransaction {
      */
     String value = "0x00";
 
+    /**
+     * The parsed value of `value`. It is updated together with `value`.
+     */
+    BigInteger valueInteger;
+
     /**
      * Access list is an EIP-2930 access list.
      */
@@ -68,11 +77,21 @@ public class EthereumDynamicFee extends AbstractTransaction {
      */
     String maxPriorityFeePerGas = "0x";
 
+    /**
+     * The parsed value of `maxPriorityFeePerGas`. It is updated together with `maxPriorityFeePerGas`.
+     */
+    BigInteger maxPriorityFeePerGasInteger;
+
     /**
      * A max fee per gas.
      */
     String maxFeePerGas = "0x";
 
+    /**
+     * The parsed value of `maxFeePerGas`. It is updated together with `maxFeePerGas`.
+     */
+    BigInteger maxFeePerGasInteger;
+
     /**
      * EthereumDynamicFee Builder class
      */
@@ -220,69 +239,60 @@ public class EthereumDynamicFee extends AbstractTransaction {
     }
 
     /**
-     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
-     * @return String
+     * Writes the RLP encoding of this transaction (i.e., rawTransaction) to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getRLPEncoding() {
+    protected void writeRLPEncoding(RlpWriter writer) {
         // TransactionPayload = 0x7802 + encode([chainId, nonce, maxPriorityFeePerGas, maxFeePerGas, gas, to, value, data, accessList, signatureYParity, signatureR, signatureS])
         this.validateOptionalValues(true);
 
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getMaxPriorityFeePerGas())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getMaxFeePerGas())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(this.getAccessList().toRlpList());
+        writer.writeRaw(Numeric.toBytesPadded(BigInteger.valueOf(TransactionType.TxTypeEthereumDynamicFee.getType()), 2));
+        writer.startList();
+        writer.writeBigInteger(this.getChainIdInteger());
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.maxPriorityFeePerGasInteger);
+        writer.writeBigInteger(this.maxFeePerGasInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.toBytes);
+        writer.writeBigInteger(this.valueInteger);
+        writer.writeHexBytes(this.getInput());
+        this.getAccessList().writeRlp(writer);
         SignatureData signatureData = this.getSignatures().get(0);
-        rlpTypeList.addAll(signatureData.toRlpList().getValues());
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = Numeric.toBytesPadded(BigInteger.valueOf(TransactionType.TxTypeEthereumDynamicFee.getType()), 2);
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(rawTx);
+        signatureData.writeRlpValues(writer);
+        writer.endList();
     }
 
     /**
-     * Returns the RLP-encoded string to make the signature of this transaction.
-     * @return String
+     * Writes the RLP encoding to make the signature of this transaction to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getCommonRLPEncodingForSignature() {
-        return getRLPEncodingForSignature();
+    protected void writeCommonRLPEncodingForSignature(RlpWriter writer) {
+        writeRLPEncodingForSignature(writer);
     }
 
     /**
-     * Returns the RLP-encoded string to make the signature of this transaction.
-     *
-     * @return String
+     * Writes the RLP encoding to make the signature of this transaction to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getRLPEncodingForSignature() { // SigRLP = 0x02 || rlp([chainId, nonce, maxPriorityFeePerGas, maxFeePerGas, gasLimit, to, value, data, accessList])
-
+    protected void writeRLPEncodingForSignature(RlpWriter writer) {
+        // SigRLP = 0x02 || rlp([chainId, nonce, maxPriorityFeePerGas, maxFeePerGas, gasLimit, to, value, data, accessList])
         this.validateOptionalValues(true);
 
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getMaxPriorityFeePerGas())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getMaxFeePerGas())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(this.getAccessList().toRlpList());
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[]{(byte) TransactionType.TxTypeEthereumDynamicFee.getType()};
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(rawTx);
+        writer.writeRaw((byte)TransactionType.TxTypeEthereumDynamicFee.getType());
+        writer.startList();
+        writer.writeBigInteger(this.getChainIdInteger());
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.maxPriorityFeePerGasInteger);
+        writer.writeBigInteger(this.maxFeePerGasInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.toBytes);
+        writer.writeBigInteger(this.valueInteger);
+        writer.writeHexBytes(this.getInput());
+        this.getAccessList().writeRlp(writer);
+        writer.endList();
     }
 
     /**
@@ -298,12 +308,12 @@ public class EthereumDynamicFee extends AbstractTransaction {
         if (!(obj instanceof EthereumDynamicFee)) return false;
         EthereumDynamicFee txObj = (EthereumDynamicFee) obj;
 
-        if (!this.getTo().toLowerCase().equals(txObj.getTo().toLowerCase())) return false;
-        if (!Numeric.toBigInt(this.getValue()).equals(Numeric.toBigInt(txObj.getValue()))) return false;
+        if (!Arrays.equals(this.toBytes, txObj.toBytes)) return false;
+        if (!this.valueInteger.equals(txObj.valueInteger)) return false;
         if (!this.getInput().equals(txObj.getInput())) return false;
         if (!this.getAccessList().equals(txObj.getAccessList())) return false;
-        if(Numeric.toBigInt(this.getMaxPriorityFeePerGas()).compareTo(Numeric.toBigInt(txObj.getMaxPriorityFeePerGas())) != 0) return false;
-        if(Numeric.toBigInt(this.getMaxFeePerGas()).compareTo(Numeric.toBigInt(txObj.getMaxFeePerGas())) != 0) return false;
+        if(this.maxPriorityFeePerGasInteger.compareTo(txObj.maxPriorityFeePerGasInteger) != 0) return false;
+        if(this.maxFeePerGasInteger.compareTo(txObj.maxFeePerGasInteger) != 0) return false;
 
         return true;
     }
@@ -404,20 +414,18 @@ public class EthereumDynamicFee extends AbstractTransaction {
             if ((rlpEncoded[0] << 8 | rlpEncoded[1]) != TransactionType.TxTypeEthereumDynamicFee.getType()) {
                 throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeEthereumDynamicFee.toString());
             }
-            byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 2, rlpEncoded.length);
-            RlpList rlpList = RlpDecoder.decode(detachedType);
-            List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+            RlpReader values = RlpReader.ofList(rlpEncoded, 2);
 
-            BigInteger chainId = ((RlpString) values.get(0)).asPositiveBigInteger();
-            BigInteger nonce = ((RlpString) values.get(1)).asPositiveBigInteger();
-            BigInteger maxPriorityFeePerGas = ((RlpString) values.get(2)).asPositiveBigInteger();
-            BigInteger maxFeePerGas = ((RlpString) values.get(3)).asPositiveBigInteger();
-            BigInteger gas = ((RlpString) values.get(4)).asPositiveBigInteger();
-            String to = ((RlpString) values.get(5)).asString();
-            BigInteger value = ((RlpString) values.get(6)).asPositiveBigInteger();
-            String input = ((RlpString) values.get(7)).asString();
+            BigInteger chainId = values.readBigInteger();
+            BigInteger nonce = values.readBigInteger();
+            BigInteger maxPriorityFeePerGas = values.readBigInteger();
+            BigInteger maxFeePerGas = values.readBigInteger();
+            BigInteger gas = values.readBigInteger();
+            String to = values.readHexString();
+            BigInteger value = values.readBigInteger();
+            String input = values.readHexString();
 
-            AccessList accessList = AccessList.decode((RlpList) values.get(8));
+            AccessList accessList = AccessList.decode(values.readList());
 
             EthereumDynamicFee ethereumAccessList = new EthereumDynamicFee.Builder()
                     .setFrom(null)
@@ -433,9 +441,9 @@ public class EthereumDynamicFee extends AbstractTransaction {
                     .setAccessList(accessList)
                     .build();
 
-            byte[] v = ((RlpString) values.get(9)).getBytes();
-            byte[] r = ((RlpString) values.get(10)).getBytes();
-            byte[] s = ((RlpString) values.get(11)).getBytes();
+            byte[] v = values.readBytes();
+            byte[] r = values.readBytes();
+            byte[] s = values.readBytes();
             SignatureData signatureData = new SignatureData(v, r, s);
 
             ethereumAccessList.appendSignatures(signatureData);
@@ -492,16 +500,14 @@ public class EthereumDynamicFee extends AbstractTransaction {
     }
 
     /**
-     * Returns a hash string of transaction
+     * Computes a hash string of transaction
      * @return String
      */
     @Override
-    public String getTransactionHash() {
+    protected String computeTransactionHash() {
         // TxHashRLP = 0x02 + encode([chainId, nonce, maxPriorityFeePerGas, maxFeePerGas, gas, to, value, data, accessList, signatureYParity, signatureR, signatureS])
-        String rlpEncoded = this.getRLPEncoding();
-        byte[] rlpEncodedBytes = Numeric.hexStringToByteArray(rlpEncoded);
-        byte[] detachedType = Arrays.copyOfRange(rlpEncodedBytes, 1, rlpEncodedBytes.length);
-        return Hash.sha3(Numeric.toHexString(detachedType));
+        byte[] rlpEncodedBytes = this.getRLPEncodingBytes();
+        return Numeric.toHexString(Hash.sha3(rlpEncodedBytes, 1, rlpEncodedBytes.length - 1));
     }
 
     /**
@@ -646,6 +652,8 @@ public class EthereumDynamicFee extends AbstractTransaction {
             throw new IllegalArgumentException("Invalid address. : " + to);
         }
         this.to = to;
+        this.toBytes = parseAddress(this.to);
+        this.invalidateCache();
     }
 
     /**
@@ -671,6 +679,7 @@ public class EthereumDynamicFee extends AbstractTransaction {
             throw new IllegalArgumentException("Invalid input : " + input);
         }
         this.input = Numeric.prependHexPrefix(input);
+        this.invalidateCache();
     }
 
 
@@ -697,6 +706,8 @@ public class EthereumDynamicFee extends AbstractTransaction {
             throw new IllegalArgumentException("Invalid value : " + value);
         }
         this.value = value;
+        this.valueInteger = parseQuantity(this.value);
+        this.invalidateCache();
     }
 
     /**
@@ -727,6 +738,7 @@ public class EthereumDynamicFee extends AbstractTransaction {
             accessList = new AccessList();
         }
         this.accessList = accessList;
+        this.invalidateCache();
     }
 
     /**
@@ -751,6 +763,8 @@ public class EthereumDynamicFee extends AbstractTransaction {
         }
 
         this.maxPriorityFeePerGas = maxPriorityFeePerGas;
+        this.maxPriorityFeePerGasInteger = parseQuantity(this.maxPriorityFeePerGas);
+        this.invalidateCache();
     }
 
     /**
@@ -783,6 +797,8 @@ public class EthereumDynamicFee extends AbstractTransaction {
         }
 
         this.maxFeePerGas = maxFeePerGas;
+        this.maxFeePerGasInteger = parseQuantity(this.maxFeePerGas);
+        this.invalidateCache();
     }
 
     /**
@@ -23,17 +23,15 @@ import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedWithRatioTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
-import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.crypto.Hash;
-import org.web3j.rlp.*;
 import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -53,6 +51,11 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
      */
     String gasPrice = "0x";
 
+    /**
+     * The parsed value of `gasPrice`. It is updated together with `gasPrice`.
+     */
+    BigInteger gasPriceInteger;
+
     /**
      * FeeDelegatedAccountUpdateWithRatio Builder class.
      */
@@ -175,6 +178,8 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
         }
 
         this.gasPrice = gasPrice;
+        this.gasPriceInteger = parseQuantity(this.gasPrice);
+        this.invalidateCache();
     }
 
     /**
@@ -206,25 +211,21 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
+        RlpReader values = RlpReader.ofList(rlpEncoded, 1);
 
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+        BigInteger nonce = values.readBigInteger();
+        BigInteger gasPrice = values.readBigInteger();
+        BigInteger gas = values.readBigInteger();
+        String from = values.readHexString();
+        Account account = Account.createFromRLPEncoding(from, values.readHexString());
+        BigInteger feeRatio = values.readBigInteger();
 
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(3)).asString();
-        Account account = Account.createFromRLPEncoding(from, ((RlpString) values.get(4)).asString());
-        BigInteger feeRatio = ((RlpString) values.get(5)).asPositiveBigInteger();
-
-        List<RlpType> senderSignatures = ((RlpList) (values.get(6))).getValues();
+        RlpReader senderSignatures = values.readList();
         List<SignatureData> senderSignList = SignatureData.decodeSignatures(senderSignatures);
 
-        String feePayer = ((RlpString) values.get(7)).asString();
+        String feePayer = values.readHexString();
 
-        List<RlpType> feePayerSignatures = ((RlpList) (values.get(8))).getValues();
+        RlpReader feePayerSignatures = values.readList();
         List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(feePayerSignatures);
 
         FeeDelegatedAccountUpdateWithRatio feeDelegatedAccountUpdateWithRatio = new FeeDelegatedAccountUpdateWithRatio.Builder()
@@ -243,99 +244,73 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
     }
 
     /**
-     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
-     * @return String
+     * Writes the RLP encoding of this transaction (i.e., rawTransaction) to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getRLPEncoding() {
+    protected void writeRLPEncoding(RlpWriter writer) {
         // type + encode([nonce, gasPrice, gas, from, rlpEncodedKey, feeRatio, txSignatures, feePayer, feePayerSignatures])
         this.validateOptionalValues(false);
 
-        List<RlpType> senderSignatureRLPList = new ArrayList<>();
-        List<RlpType> feePayerSignatureRLPList = new ArrayList<>();
-
-        for(SignatureData signatureData : this.getSignatures()) {
-            senderSignatureRLPList.add(signatureData.toRlpList());
-        }
-
-        for(SignatureData signatureData : this.getFeePayerSignatures()) {
-            feePayerSignatureRLPList.add(signatureData.toRlpList());
-        }
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(account.getRLPEncodingAccountKey())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
-        rlpTypeList.add(new RlpList(senderSignatureRLPList));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
-        rlpTypeList.add(new RlpList(feePayerSignatureRLPList));
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[] { (byte)TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType() };
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(rawTx);
+        writer.writeRaw((byte)TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType());
+        writer.startList();
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.getFromBytes());
+        writer.writeHexBytes(account.getRLPEncodingAccountKey());
+        writer.writeHexNumber(this.getFeeRatio());
+        SignatureData.writeRlpList(writer, this.getSignatures());
+        writer.writeHexBytes(this.getFeePayer());
+        SignatureData.writeRlpList(writer, this.getFeePayerSignatures());
+        writer.endList();
     }
 
     /**
-     * Returns the RLP-encoded string to make the signature of this transaction.
-     * @return String
+     * Writes the RLP encoding to make the signature of this transaction to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getCommonRLPEncodingForSignature() {
+    protected void writeCommonRLPEncodingForSignature(RlpWriter writer) {
         // SigFeePayerRLP = encode([encode([type, nonce, gasPrice, gas, from, rlpEncodedKey, feeRatio]), feePayer, chainid, 0, 0])
         // encode([type, nonce, gasPrice, gas, from, rlpEncodedKey, feeRatio])
         this.validateOptionalValues(true);
 
         byte type = (byte)TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType();
 
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(type));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(account.getRLPEncodingAccountKey())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
-
-        byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
-        String encodedStr = Numeric.toHexString(encoded);
-
-        return encodedStr;
+        writer.startList();
+        writer.writeByte(type);
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.getFromBytes());
+        writer.writeHexBytes(account.getRLPEncodingAccountKey());
+        writer.writeHexNumber(this.getFeeRatio());
+        writer.endList();
     }
 
     /**
-     * Returns a senderTxHash of transaction
+     * Computes a senderTxHash of transaction
      * @return String
      */
     @Override
-    public String getSenderTxHash() {
+    protected String computeSenderTxHash() {
         // SenderTxHashRLP = type + encode([nonce, gasPrice, gas, from, rlpEncodedKey, feeRatio, txSignatures])
         this.validateOptionalValues(false);
 
-        List<RlpType> signatureRLPList = new ArrayList<>();
-
-        for(SignatureData signatureData : this.getSignatures()) {
-            signatureRLPList.add(signatureData.toRlpList());
-        }
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(account.getRLPEncodingAccountKey())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
-        rlpTypeList.add(new RlpList(signatureRLPList));
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[] { (byte)TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType() };
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(Hash.sha3(rawTx));
+        RlpWriter writer = new RlpWriter();
+        writer.writeRaw((byte)TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType());
+        writer.startList();
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.getFromBytes());
+        writer.writeHexBytes(account.getRLPEncodingAccountKey());
+        writer.writeHexNumber(this.getFeeRatio());
+        SignatureData.writeRlpList(writer, this.getSignatures());
+        writer.endList();
+
+        return Numeric.toHexString(Hash.sha3(writer.toByteArray()));
     }
 
     /**
@@ -357,7 +332,7 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
         if(!this.getAccount().getRLPEncodingAccountKey().equals(feeDelegatedAccountUpdate.getAccount().getRLPEncodingAccountKey())) {
             return false;
         }
-        if(Numeric.toBigInt(this.getGasPrice()).compareTo(Numeric.toBigInt(feeDelegatedAccountUpdate.getGasPrice())) != 0) return false;
+        if(this.gasPriceInteger.compareTo(feeDelegatedAccountUpdate.gasPriceInteger) != 0) return false;
 
         return true;
     }
@@ -459,5 +434,6 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
         }
 
         this.account = account;
+        this.invalidateCache();
     }
 }
@@ -21,17 +21,15 @@ import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
-import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.crypto.Hash;
-import org.web3j.rlp.*;
 import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -45,6 +43,11 @@ public class FeeDelegatedCancel extends AbstractFeeDelegatedTransaction implemen
      */
     String gasPrice = "0x";
 
+    /**
+     * The parsed value of `gasPrice`. It is updated together with `gasPrice`.
+     */
+    BigInteger gasPriceInteger;
+
     /**
      * FeeDelegatedCancel Builder class.
      */
@@ -154,6 +157,8 @@ public class FeeDelegatedCancel extends AbstractFeeDelegatedTransaction implemen
         }
 
         this.gasPrice = gasPrice;
+        this.gasPriceInteger = parseQuantity(this.gasPrice);
+        this.invalidateCache();
     }
 
     /**
@@ -184,22 +189,18 @@ public class FeeDelegatedCancel extends AbstractFeeDelegatedTransaction implemen
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeFeeDelegatedCancel.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
+        RlpReader values = RlpReader.ofList(rlpEncoded, 1);
 
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
-
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(3)).asString();
-        List<RlpType> senderSignatures = ((RlpList) (values.get(4))).getValues();
+        BigInteger nonce = values.readBigInteger();
+        BigInteger gasPrice = values.readBigInteger();
+        BigInteger gas = values.readBigInteger();
+        String from = values.readHexString();
+        RlpReader senderSignatures = values.readList();
         List<SignatureData> senderSignList = SignatureData.decodeSignatures(senderSignatures);
 
-        String feePayer = ((RlpString) values.get(5)).asString();
+        String feePayer = values.readHexString();
 
-        List<RlpType> feePayerSignatures = ((RlpList) (values.get(6))).getValues();
+        RlpReader feePayerSignatures = values.readList();
         List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(feePayerSignatures);
 
         FeeDelegatedCancel feeDelegatedCancel = new FeeDelegatedCancel.Builder()
@@ -216,93 +217,67 @@ public class FeeDelegatedCancel extends AbstractFeeDelegatedTransaction implemen
     }
 
     /**
-     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
-     * @return String
+     * Writes the RLP encoding of this transaction (i.e., rawTransaction) to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getRLPEncoding() {
+    protected void writeRLPEncoding(RlpWriter writer) {
         // TxHashRLP = type + encode([nonce, gasPrice, gas, from, txSignatures, feePayer, feePayerSignatures])
         this.validateOptionalValues(false);
 
-        List<RlpType> senderSignatureRLPList = new ArrayList<>();
-        List<RlpType> feePayerSignatureRLPList = new ArrayList<>();
-
-        for(SignatureData signatureData : this.getSignatures()) {
-            senderSignatureRLPList.add(signatureData.toRlpList());
-        }
-
-        for(SignatureData signatureData : this.getFeePayerSignatures()) {
-            feePayerSignatureRLPList.add(signatureData.toRlpList());
-        }
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(new RlpList(senderSignatureRLPList));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
-        rlpTypeList.add(new RlpList(feePayerSignatureRLPList));
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[] { (byte)TransactionType.TxTypeFeeDelegatedCancel.getType() };
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(rawTx);
+        writer.writeRaw((byte)TransactionType.TxTypeFeeDelegatedCancel.getType());
+        writer.startList();
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.getFromBytes());
+        SignatureData.writeRlpList(writer, this.getSignatures());
+        writer.writeHexBytes(this.getFeePayer());
+        SignatureData.writeRlpList(writer, this.getFeePayerSignatures());
+        writer.endList();
     }
 
     /**
-     * Returns the RLP-encoded string to make the signature of this transaction.
-     * @return String
+     * Writes the RLP encoding to make the signature of this transaction to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getCommonRLPEncodingForSignature() {
+    protected void writeCommonRLPEncodingForSignature(RlpWriter writer) {
         //encode([encode([type, nonce, gasPrice, gas, from]), feePayer, chainid, 0, 0])
         //encode([type, nonce, gasPrice, gas, from])
         this.validateOptionalValues(true);
 
         byte type = (byte)TransactionType.TxTypeFeeDelegatedCancel.getType();
 
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(type));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-
-        byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
-        String encodedStr = Numeric.toHexString(encoded);
-
-        return encodedStr;
+        writer.startList();
+        writer.writeByte(type);
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.getFromBytes());
+        writer.endList();
     }
 
     /**
-     * Returns a senderTxHash of transaction
+     * Computes a senderTxHash of transaction
      * @return String
      */
     @Override
-    public String getSenderTxHash() {
+    protected String computeSenderTxHash() {
         //type + encode([nonce, gasPrice, gas, from, txSignatures])
         this.validateOptionalValues(false);
 
-        List<RlpType> signatureRLPList = new ArrayList<>();
-
-        for(SignatureData signatureData : this.getSignatures()) {
-            signatureRLPList.add(signatureData.toRlpList());
-        }
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(new RlpList(signatureRLPList));
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[] { (byte)TransactionType.TxTypeFeeDelegatedCancel.getType() };
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(Hash.sha3(rawTx));
+        RlpWriter writer = new RlpWriter();
+        writer.writeRaw((byte)TransactionType.TxTypeFeeDelegatedCancel.getType());
+        writer.startList();
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.getFromBytes());
+        SignatureData.writeRlpList(writer, this.getSignatures());
+        writer.endList();
+
+        return Numeric.toHexString(Hash.sha3(writer.toByteArray()));
     }
 
     /**
@@ -316,7 +291,7 @@ public class FeeDelegatedCancel extends AbstractFeeDelegatedTransaction implemen
         if(!super.compareTxField(txObj, checkSig)) return false;
         if(!(txObj instanceof FeeDelegatedCancel)) return false;
         FeeDelegatedCancel feeDelegatedCancel = (FeeDelegatedCancel) txObj;
-        if(Numeric.toBigInt(this.getGasPrice()).compareTo(Numeric.toBigInt(feeDelegatedCancel.getGasPrice())) != 0) return false;
+        if(this.gasPriceInteger.compareTo(feeDelegatedCancel.gasPriceInteger) != 0) return false;
 
         return true;
     }
@@ -22,17 +22,16 @@ import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedWithRatioTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
-import com.klaytn.caver.utils.BytesUtils;
 import com.klaytn.caver.utils.CodeFormat;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.crypto.Hash;
-import org.web3j.rlp.*;
 import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -48,11 +47,21 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
      */
     String to = "0x";
 
+    /**
+     * The parsed value of `to`. It is updated together with `to`.
+     */
+    byte[] toBytes;
+
     /**
      * The amount of KLAY in peb to be transferred.
      */
     String value = "0x00";
 
+    /**
+     * The parsed value of `value`. It is updated together with `value`.
+     */
+    BigInteger valueInteger;
+
     /**
      * Data attached to the transaction, used for transaction execution.
      */
@@ -75,6 +84,11 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
      */
     String gasPrice = "0x";
 
+    /**
+     * The parsed value of `gasPrice`. It is updated together with `gasPrice`.
+     */
+    BigInteger gasPriceInteger;
+
     /**
      * FeeDelegatedSmartContractDeployWithRatio Builder class
      */
@@ -247,6 +261,8 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
         }
 
         this.gasPrice = gasPrice;
+        this.gasPriceInteger = parseQuantity(this.gasPrice);
+        this.invalidateCache();
     }
 
     /**
@@ -278,29 +294,25 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
+        RlpReader values = RlpReader.ofList(rlpEncoded, 1);
 
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+        BigInteger nonce = values.readBigInteger();
+        BigInteger gasPrice = values.readBigInteger();
+        BigInteger gas = values.readBigInteger();
+        String to = values.readHexString();
+        BigInteger value = values.readBigInteger();
+        String from = values.readHexString();
+        String input = values.readHexString();
+        boolean humanReadable = values.readBigInteger().compareTo(BigInteger.ZERO) != 0;
+        BigInteger feeRatio = values.readBigInteger();
+        BigInteger codeFormat = values.readBigInteger();
 
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String to = ((RlpString) values.get(3)).asString();
-        BigInteger value = ((RlpString) values.get(4)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(5)).asString();
-        String input = ((RlpString) values.get(6)).asString();
-        boolean humanReadable = ((RlpString) values.get(7)).asPositiveBigInteger().compareTo(BigInteger.ZERO) != 0;
-        BigInteger feeRatio = ((RlpString) values.get(8)).asPositiveBigInteger();
-        BigInteger codeFormat = ((RlpString) values.get(9)).asPositiveBigInteger();
-
-        List<RlpType> senderSignatures = ((RlpList) (values.get(10))).getValues();
+        RlpReader senderSignatures = values.readList();
         List<SignatureData> senderSignList = SignatureData.decodeSignatures(senderSignatures);
 
-        String feePayer = ((RlpString) values.get(11)).asString();
+        String feePayer = values.readHexString();
 
-        List<RlpType> feePayerSignatures = ((RlpList) (values.get(12))).getValues();
+        RlpReader feePayerSignatures = values.readList();
         List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(feePayerSignatures);
 
         FeeDelegatedSmartContractDeployWithRatio feeDelegatedSmartContractDeployWithRatio = new FeeDelegatedSmartContractDeployWithRatio.Builder()
@@ -323,111 +335,86 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
     }
 
     /**
-     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
-     * @return String
+     * Writes the RLP encoding of this transaction (i.e., rawTransaction) to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getRLPEncoding() {
+    protected void writeRLPEncoding(RlpWriter writer) {
         // TxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, humanReadable, feeRatio, codeFormat, txSignatures, feePayer, feePayerSignatures])
         this.validateOptionalValues(false);
 
-        List<RlpType> senderSignatureRLPList = new ArrayList<>();
-        List<RlpType> feePayerSignatureRLPList = new ArrayList<>();
-
-        for(SignatureData signatureData : this.getSignatures()) {
-            senderSignatureRLPList.add(signatureData.toRlpList());
-        }
-
-        for(SignatureData signatureData : this.getFeePayerSignatures()) {
-            feePayerSignatureRLPList.add(signatureData.toRlpList());
-        }
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(RlpString.create(this.getHumanReadable()? 1 : 0));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
-        rlpTypeList.add(new RlpList(senderSignatureRLPList));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
-        rlpTypeList.add(new RlpList(feePayerSignatureRLPList));
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[] { (byte)TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType() };
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(rawTx);
+        writer.writeRaw((byte)TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType());
+        writer.startList();
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.toBytes);
+        writer.writeBigInteger(this.valueInteger);
+        writer.writeBytes(this.getFromBytes());
+        writer.writeHexBytes(this.getInput());
+        writer.writeLong(this.getHumanReadable()? 1 : 0);
+        writer.writeHexNumber(this.getFeeRatio());
+        writer.writeHexNumber(this.getCodeFormat());
+        SignatureData.writeRlpList(writer, this.getSignatures());
+        writer.writeHexBytes(this.getFeePayer());
+        SignatureData.writeRlpList(writer, this.getFeePayerSignatures());
+        writer.endList();
     }
 
     /**
-     * Returns the RLP-encoded string to make the signature of this transaction.
-     * @return String
+     * Writes the RLP encoding to make the signature of this transaction to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getCommonRLPEncodingForSignature() {
+    protected void writeCommonRLPEncodingForSignature(RlpWriter writer) {
         //SigFeePayerRLP = encode([encode([type, nonce, gasPrice, gas, to, value, from, input, humanReadable, feeRatio, codeFormat]), feePayer, chainid, 0, 0])
         //encode([type, nonce, gasPrice, gas, to, value, from, input, humanReadable, feeRatio, codeFormat])
         this.validateOptionalValues(true);
 
         byte type = (byte)TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType();
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(type));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(RlpString.create(this.getHumanReadable()? 1 : 0));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
-
-        byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
-        String encodedStr = Numeric.toHexString(encoded);
-
-        return encodedStr;
+
+        writer.startList();
+        writer.writeByte(type);
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.toBytes);
+        writer.writeBigInteger(this.valueInteger);
+        writer.writeBytes(this.getFromBytes());
+        writer.writeHexBytes(this.getInput());
+        writer.writeLong(this.getHumanReadable()? 1 : 0);
+        writer.writeHexNumber(this.getFeeRatio());
+        writer.writeHexNumber(this.getCodeFormat());
+        writer.endList();
     }
 
     /**
-     * Returns a senderTxHash of transaction
+     * Computes a senderTxHash of transaction
      * @return String
      */
     @Override
-    public String getSenderTxHash() {
+    protected String computeSenderTxHash() {
         //SenderTxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, humanReadable, feeRatio, codeFormat, txSignatures])
         //SenderTxHash = keccak256(SenderTxHashRLP)
         this.validateOptionalValues(false);
 
-        List<RlpType> senderSignatureRLPList = new ArrayList<>();
-
-        for(SignatureData signatureData : this.getSignatures()) {
-            senderSignatureRLPList.add(signatureData.toRlpList());
-        }
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(RlpString.create(this.getHumanReadable()? 1 : 0));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
-        rlpTypeList.add(new RlpList(senderSignatureRLPList));
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[] { (byte)TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType() };
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(Hash.sha3(rawTx));
+        RlpWriter writer = new RlpWriter();
+        writer.writeRaw((byte)TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType());
+        writer.startList();
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.toBytes);
+        writer.writeBigInteger(this.valueInteger);
+        writer.writeBytes(this.getFromBytes());
+        writer.writeHexBytes(this.getInput());
+        writer.writeLong(this.getHumanReadable()? 1 : 0);
+        writer.writeHexNumber(this.getFeeRatio());
+        writer.writeHexNumber(this.getCodeFormat());
+        SignatureData.writeRlpList(writer, this.getSignatures());
+        writer.endList();
+
+        return Numeric.toHexString(Hash.sha3(writer.toByteArray()));
     }
 
     /**
@@ -442,12 +429,12 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
         if(!(txObj instanceof FeeDelegatedSmartContractDeployWithRatio)) return false;
         FeeDelegatedSmartContractDeployWithRatio feeDelegatedSmartContractDeployWithRatio = (FeeDelegatedSmartContractDeployWithRatio)txObj;
 
-        if(!this.getTo().toLowerCase().equals(feeDelegatedSmartContractDeployWithRatio.getTo().toLowerCase())) return false;
-        if(!Numeric.toBigInt(this.getValue()).equals(Numeric.toBigInt(feeDelegatedSmartContractDeployWithRatio.getValue()))) return false;
+        if(!Arrays.equals(this.toBytes, feeDelegatedSmartContractDeployWithRatio.toBytes)) return false;
+        if(!this.valueInteger.equals(feeDelegatedSmartContractDeployWithRatio.valueInteger)) return false;
         if(!this.getInput().equals(feeDelegatedSmartContractDeployWithRatio.getInput())) return false;
         if(this.getHumanReadable() != feeDelegatedSmartContractDeployWithRatio.getHumanReadable()) return false;
         if(!this.getCodeFormat().equals(feeDelegatedSmartContractDeployWithRatio.getCodeFormat())) return false;
-        if(Numeric.toBigInt(this.getGasPrice()).compareTo(Numeric.toBigInt(feeDelegatedSmartContractDeployWithRatio.getGasPrice())) != 0) return false;
+        if(this.gasPriceInteger.compareTo(feeDelegatedSmartContractDeployWithRatio.gasPriceInteger) != 0) return false;
 
         return true;
     }
@@ -581,6 +568,8 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
         }
 
         this.to = "0x"; // currently "to" field must be nil
+        this.toBytes = parseAddress(this.to);
+        this.invalidateCache();
     }
 
     /**
@@ -596,6 +585,8 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
             throw new IllegalArgumentException("Invalid value : " + value);
         }
         this.value = value;
+        this.valueInteger = parseQuantity(this.value);
+        this.invalidateCache();
     }
 
     /**
@@ -620,6 +611,7 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
         }
 
         this.input = Numeric.prependHexPrefix(input);
+        this.invalidateCache();
     }
 
     /**
@@ -631,6 +623,7 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
             throw new IllegalArgumentException("HumanReadable attribute must set false");
         }
         this.humanReadable = false;
+        this.invalidateCache();
     }
 
     /**
@@ -646,5 +639,6 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
             throw new IllegalArgumentException("CodeFormat attribute only support EVM(0)");
         }
         this.codeFormat = codeFormat;
+        this.invalidateCache();
     }
 }
@@ -21,14 +21,15 @@ import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
-import org.web3j.rlp.*;
 import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @JsonIgnoreProperties(value = { "chainId" })
@@ -38,6 +39,11 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
      */
     String to = "0x";
 
+    /**
+     * The parsed value of `to`. It is updated together with `to`.
+     */
+    byte[] toBytes;
+
     /**
      * Data attached to the transaction, used for transaction execution.
      */
@@ -48,11 +54,21 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
      */
     String value;
 
+    /**
+     * The parsed value of `value`. It is updated together with `value`.
+     */
+    BigInteger valueInteger;
+
     /**
      * A unit price of gas in peb the sender will pay for a transaction fee.
      */
     String gasPrice = "0x";
 
+    /**
+     * The parsed value of `gasPrice`. It is updated together with `gasPrice`.
+     */
+    BigInteger gasPriceInteger;
+
     /**
      * LegacyTransaction Builder class
      */
@@ -192,6 +208,8 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
         }
 
         this.gasPrice = gasPrice;
+        this.gasPriceInteger = parseQuantity(this.gasPrice);
+        this.invalidateCache();
     }
 
     /**
@@ -220,15 +238,14 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
     public static LegacyTransaction decode(byte[] rlpEncoded) {
         // TxHashRLP = encode([nonce, gasPrice, gas, to, value, input, v, r, s])
         try {
-            RlpList rlpList = RlpDecoder.decode(rlpEncoded);
-            List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+            RlpReader values = RlpReader.ofList(rlpEncoded, 0);
 
-            BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-            BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-            BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-            String to = ((RlpString) values.get(3)).asString();
-            BigInteger value = ((RlpString) values.get(4)).asPositiveBigInteger();
-            String input = ((RlpString) values.get(5)).asString();
+            BigInteger nonce = values.readBigInteger();
+            BigInteger gasPrice = values.readBigInteger();
+            BigInteger gas = values.readBigInteger();
+            String to = values.readHexString();
+            BigInteger value = values.readBigInteger();
+            String input = values.readHexString();
 
             LegacyTransaction legacyTransaction = new LegacyTransaction.Builder()
                     .setInput(input)
@@ -240,9 +257,9 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
                     .setTo(to)
                     .build();
 
-            byte[] v = ((RlpString) values.get(6)).getBytes();
-            byte[] r = ((RlpString) values.get(7)).getBytes();
-            byte[] s = ((RlpString) values.get(8)).getBytes();
+            byte[] v = values.readBytes();
+            byte[] r = values.readBytes();
+            byte[] s = values.readBytes();
             SignatureData signatureData = new SignatureData(v, r, s);
 
             legacyTransaction.appendSignatures(signatureData);
@@ -285,58 +302,50 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
     }
 
     /**
-     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
-     * @return String
+     * Writes the RLP encoding of this transaction (i.e., rawTransaction) to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getRLPEncoding() {
+    protected void writeRLPEncoding(RlpWriter writer) {
         this.validateOptionalValues(false);
         //TxHashRLP = encode([nonce, gasPrice, gas, to, value, input, v, r, s])
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        writer.startList();
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.toBytes);
+        writer.writeBigInteger(this.valueInteger);
+        writer.writeHexBytes(this.getInput());
         SignatureData signatureData = this.getSignatures().get(0);
-        rlpTypeList.addAll(signatureData.toRlpList().getValues());
-
-        byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
-        String encodedStr = Numeric.toHexString(encoded);
-
-        return encodedStr;
+        signatureData.writeRlpValues(writer);
+        writer.endList();
     }
 
 
     @Override
-    public String getCommonRLPEncodingForSignature() {
-        return getRLPEncodingForSignature();
+    protected void writeCommonRLPEncodingForSignature(RlpWriter writer) {
+        writeRLPEncodingForSignature(writer);
     }
 
     /**
-     * Returns the RLP-encoded string to make the signature of this transaction.
-     * @return String
+     * Writes the RLP encoding to make the signature of this transaction to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getRLPEncodingForSignature() {
+    protected void writeRLPEncodingForSignature(RlpWriter writer) {
         this.validateOptionalValues(true);
 
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
-        rlpTypeList.add(RlpString.create(0));
-        rlpTypeList.add(RlpString.create(0));
-
-        byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
-        String encodedStr = Numeric.toHexString(encoded);
-
-        return encodedStr;
+        writer.startList();
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.toBytes);
+        writer.writeBigInteger(this.valueInteger);
+        writer.writeHexBytes(this.getInput());
+        writer.writeBigInteger(this.getChainIdInteger());
+        writer.writeLong(0);
+        writer.writeLong(0);
+        writer.endList();
     }
 
     /**
@@ -351,10 +360,10 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
         if(!(obj instanceof LegacyTransaction)) return false;
         LegacyTransaction txObj = (LegacyTransaction)obj;
 
-        if(!this.getTo().toLowerCase().equals(txObj.getTo().toLowerCase())) return false;
-        if(!Numeric.toBigInt(this.getValue()).equals(Numeric.toBigInt(txObj.getValue()))) return false;
+        if(!Arrays.equals(this.toBytes, txObj.toBytes)) return false;
+        if(!this.valueInteger.equals(txObj.valueInteger)) return false;
         if(!this.getInput().equals(txObj.getInput())) return false;
-        if(Numeric.toBigInt(this.getGasPrice()).compareTo(Numeric.toBigInt(txObj.getGasPrice())) != 0) return false;
+        if(this.gasPriceInteger.compareTo(txObj.gasPriceInteger) != 0) return false;
 
         return true;
     }
@@ -458,6 +467,8 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
             throw new IllegalArgumentException("Invalid address. : " + to);
         }
         this.to = to;
+        this.toBytes = parseAddress(this.to);
+        this.invalidateCache();
     }
 
     /**
@@ -473,6 +484,7 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
             throw new IllegalArgumentException("Invalid input : " + input);
         }
         this.input = input;
+        this.invalidateCache();
     }
 
     /**
@@ -488,6 +500,8 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
             throw new IllegalArgumentException("Invalid value : " + value);
         }
         this.value = value;
+        this.valueInteger = parseQuantity(this.value);
+        this.invalidateCache();
     }
 
     /**
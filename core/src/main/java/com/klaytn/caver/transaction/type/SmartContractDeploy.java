@@ -21,16 +21,15 @@ import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
-import com.klaytn.caver.utils.BytesUtils;
 import com.klaytn.caver.utils.CodeFormat;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
-import org.web3j.rlp.*;
 import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -46,11 +45,21 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
      */
     String to = "0x";
 
+    /**
+     * The parsed value of `to`. It is updated together with `to`.
+     */
+    byte[] toBytes;
+
     /**
      * The amount of KLAY in peb to be transferred.
      */
     String value = "0x00";
 
+    /**
+     * The parsed value of `value`. It is updated together with `value`.
+     */
+    BigInteger valueInteger;
+
     /**
      * Data attached to the transaction, used for transaction execution.
      */
@@ -73,6 +82,11 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
      */
     String gasPrice = "0x";
 
+    /**
+     * The parsed value of `gasPrice`. It is updated together with `gasPrice`.
+     */
+    BigInteger gasPriceInteger;
+
     /**
      * SmartContractDeploy Builder class
      */
@@ -237,6 +251,8 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
         }
 
         this.gasPrice = gasPrice;
+        this.gasPriceInteger = parseQuantity(this.gasPrice);
+        this.invalidateCache();
     }
 
     /**
@@ -268,23 +284,19 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeSmartContractDeploy.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
-
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+        RlpReader values = RlpReader.ofList(rlpEncoded, 1);
 
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String to = ((RlpString) values.get(3)).asString();
-        BigInteger value = ((RlpString) values.get(4)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(5)).asString();
-        String input = ((RlpString) values.get(6)).asString();
-        boolean humanReadable = ((RlpString) values.get(7)).asPositiveBigInteger().compareTo(BigInteger.ZERO) != 0;
-        BigInteger codeFormat = ((RlpString) values.get(8)).asPositiveBigInteger();
+        BigInteger nonce = values.readBigInteger();
+        BigInteger gasPrice = values.readBigInteger();
+        BigInteger gas = values.readBigInteger();
+        String to = values.readHexString();
+        BigInteger value = values.readBigInteger();
+        String from = values.readHexString();
+        String input = values.readHexString();
+        boolean humanReadable = values.readBigInteger().compareTo(BigInteger.ZERO) != 0;
+        BigInteger codeFormat = values.readBigInteger();
 
-        List<RlpType> senderSignatures = ((RlpList) (values.get(9))).getValues();
+        RlpReader senderSignatures = values.readList();
         List<SignatureData> signatureDataList = SignatureData.decodeSignatures(senderSignatures);
 
         SmartContractDeploy smartContractDeploy = new SmartContractDeploy.Builder()
@@ -304,66 +316,53 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
     }
 
     /**
-     * Returns the RLP-encoded string of this transaction (i.e., rawTransaction).
-     * @return String
+     * Writes the RLP encoding of this transaction (i.e., rawTransaction) to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getRLPEncoding() {
+    protected void writeRLPEncoding(RlpWriter writer) {
         // TXHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, humanReadable, codeFormat, txSignatures])
         this.validateOptionalValues(false);
 
-        List<RlpType> signatureRLPList = new ArrayList<>();
-
-        for(SignatureData signatureData : this.getSignatures()) {
-            signatureRLPList.add(signatureData.toRlpList());
-        }
-
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(RlpString.create(this.getHumanReadable()? 1 : 0));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
-        rlpTypeList.add(new RlpList(signatureRLPList));
-
-        byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
-        byte[] type = new byte[] { (byte)TransactionType.TxTypeSmartContractDeploy.getType() };
-        byte[] rawTx = BytesUtils.concat(type, encodedTransaction);
-
-        return Numeric.toHexString(rawTx);
+        writer.writeRaw((byte)TransactionType.TxTypeSmartContractDeploy.getType());
+        writer.startList();
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.toBytes);
+        writer.writeBigInteger(this.valueInteger);
+        writer.writeBytes(this.getFromBytes());
+        writer.writeHexBytes(this.getInput());
+        writer.writeLong(this.getHumanReadable()? 1 : 0);
+        writer.writeHexNumber(this.getCodeFormat());
+        SignatureData.writeRlpList(writer, this.getSignatures());
+        writer.endList();
     }
 
     /**
-     * Returns the RLP-encoded string to make the signature of this transaction.
-     * @return String
+     * Writes the RLP encoding to make the signature of this transaction to the given writer.
+     * @param writer The RlpWriter to write to.
      */
     @Override
-    public String getCommonRLPEncodingForSignature() {
+    protected void writeCommonRLPEncodingForSignature(RlpWriter writer) {
         // SigRLP = encode([encode([type, nonce, gasPrice, gas, to, value, from, input, humanReadable, codeFormat]), chainid, 0, 0])
         // encode([type, nonce, gasPrice, gas, to, value, from, input, humanReadable, codeFormat])
         this.validateOptionalValues(true);
 
         byte type = (byte)TransactionType.TxTypeSmartContractDeploy.getType();
-        List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(type));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(RlpString.create(this.getHumanReadable()? 1 : 0));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
-
-        byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
-        String encodedStr = Numeric.toHexString(encoded);
-
-        return encodedStr;
+
+        writer.startList();
+        writer.writeByte(type);
+        writer.writeBigInteger(this.getNonceInteger());
+        writer.writeBigInteger(this.gasPriceInteger);
+        writer.writeBigInteger(this.getGasInteger());
+        writer.writeBytes(this.toBytes);
+        writer.writeBigInteger(this.valueInteger);
+        writer.writeBytes(this.getFromBytes());
+        writer.writeHexBytes(this.getInput());
+        writer.writeLong(this.getHumanReadable()? 1 : 0);
+        writer.writeHexNumber(this.getCodeFormat());
+        writer.endList();
     }
 
     /**
@@ -378,12 +377,12 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
         if(!(obj instanceof SmartContractDeploy)) return false;
         SmartContractDeploy txObj = (SmartContractDeploy)obj;
 
-        if(!this.getTo().toLowerCase().equals(txObj.getTo().toLowerCase())) return false;
-        if(!Numeric.toBigInt(this.getValue()).equals(Numeric.toBigInt(txObj.getValue()))) return false;
+        if(!Arrays.equals(this.toBytes, txObj.toBytes)) return false;
+        if(!this.valueInteger.equals(txObj.valueInteger)) return false;
         if(!this.getInput().equals(txObj.getInput())) return false;
         if(this.getHumanReadable() != txObj.getHumanReadable()) return false;
         if(!this.getCodeFormat().equals(txObj.getCodeFormat())) return false;
-        if(Numeric.toBigInt(this.getGasPrice()).compareTo(Numeric.toBigInt(txObj.getGasPrice())) != 0) return false;
+        if(this.gasPriceInteger.compareTo(txObj.gasPriceInteger) != 0) return false;
 
         return true;
     }
@@ -503,6 +502,8 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
         }
 
         this.to = "0x"; // currently "to" field must be nil
+        this.toBytes = parseAddress(this.to);
+        this.invalidateCache();
     }
 
     /**
@@ -518,6 +519,8 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
             throw new IllegalArgumentException("Invalid value : " + value);
         }
         this.value = value;
+        this.valueInteger = parseQuantity(this.value);
+        this.invalidateCache();
     }
 
     /**
@@ -542,6 +545,7 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
         }
 
         this.input = Numeric.prependHexPrefix(input);
+        this.invalidateCache();
     }
 
     /**
@@ -553,6 +557,7 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
             throw new IllegalArgumentException("HumanReadable attribute must set false");
         }
         this.humanReadable = false;
+        this.invalidateCache();
     }
 
     /**
@@ -568,5 +573,6 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
             throw new IllegalArgumentException("CodeFormat attribute only support EVM(0)");
         }
         this.codeFormat = codeFormat;
+        this.invalidateCache();
     }
 }
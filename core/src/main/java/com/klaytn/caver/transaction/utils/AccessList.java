@@ -16,6 +16,8 @@
 
 package com.klaytn.caver.transaction.utils;
 
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import org.web3j.rlp.*;
 import org.web3j.utils.Numeric;
 
@@ -65,6 +67,20 @@ public class AccessList extends ArrayList<AccessTuple> {
         return accessList;
     }
 
+    /**
+     * Returns a decoded access list.
+     *
+     * @param accessListReader The RlpReader reading the elements of an access list.
+     * @return AccessList
+     */
+    public static AccessList decode(RlpReader accessListReader) {
+        AccessList accessList = new AccessList();
+        while(accessListReader.hasNext()) {
+            accessList.add(AccessTuple.decode(accessListReader.readList()));
+        }
+        return accessList;
+    }
+
     /**
      * Returns a decoded access list.
      *
@@ -99,13 +115,27 @@ public class AccessList extends ArrayList<AccessTuple> {
         return new RlpList(rlpTypeList);
     }
 
+    /**
+     * Writes the RLP encoding of this accessList to the given writer.
+     *
+     * @param writer The RlpWriter to write to.
+     */
+    public void writeRlp(RlpWriter writer) {
+        writer.startList();
+        for (AccessTuple accessTuple : this) {
+            accessTuple.writeRlp(writer);
+        }
+        writer.endList();
+    }
+
     /**
      * Returns an encoded access tuple.
      *
      * @return byte[]
      */
     public byte[] encodeToBytes() {
-        RlpList rlPList = this.toRlpList();
-        return RlpEncoder.encode(rlPList);
+        RlpWriter writer = new RlpWriter();
+        this.writeRlp(writer);
+        return writer.toByteArray();
     }
 }
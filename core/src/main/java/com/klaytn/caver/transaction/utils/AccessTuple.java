@@ -21,8 +21,9 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
-import org.web3j.rlp.RlpEncoder;
 import org.web3j.rlp.RlpList;
 import org.web3j.rlp.RlpString;
 import org.web3j.rlp.RlpType;
@@ -122,6 +123,25 @@ public class AccessTuple {
         }
     }
 
+    /**
+     * Decodes an access tuple read by RlpReader.
+     * @param accessTupleReader The RlpReader reading the elements of an access tuple.
+     * @return AccessTuple
+     */
+    public static AccessTuple decode(RlpReader accessTupleReader) {
+        try {
+            String address = accessTupleReader.readHexString();
+            List<String> storageKeys = new ArrayList<>();
+            RlpReader storageKeysReader = accessTupleReader.readList();
+            while(storageKeysReader.hasNext()) {
+                storageKeys.add(storageKeysReader.readHexString());
+            }
+            return new AccessTuple(address, storageKeys);
+        } catch (Exception e) {
+            throw new RuntimeException("There is an error while decoding process.");
+        }
+    }
+
 
     /**
      * Returns the RLP-encoded string of this accessTuple.
@@ -139,14 +159,31 @@ public class AccessTuple {
         );
     }
 
+    /**
+     * Writes the RLP encoding of this accessTuple to the given writer.
+     *
+     * @param writer The RlpWriter to write to.
+     */
+    public void writeRlp(RlpWriter writer) {
+        writer.startList();
+        writer.writeHexBytes(getAddress());
+        writer.startList();
+        for (String storageKey : getStorageKeys()) {
+            writer.writeHexBytes(storageKey);
+        }
+        writer.endList();
+        writer.endList();
+    }
+
     /**
      * Returns an encoded access tuple.
      *
      * @return byte[]
      */
     public byte[] encodeToBytes() {
-        RlpList rlPList = this.toRlpList();
-        return RlpEncoder.encode(rlPList);
+        RlpWriter writer = new RlpWriter();
+        this.writeRlp(writer);
+        return writer.toByteArray();
     }
 
 
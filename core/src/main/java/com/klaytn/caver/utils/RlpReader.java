@@ -0,0 +1,210 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.utils;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * A sequential RLP decoder that reads items in place from a byte array.<p>
+ * Unlike web3j's RlpDecoder, it does not copy each item into RlpString/RlpList objects.
+ * A nested list is read through another RlpReader sharing the same byte array.
+ * <pre>Example :
+ * {@code
+ * // 0x08 + encode([nonce, gasPrice, ...])
+ * RlpReader values = RlpReader.ofList(rlpEncoded, 1);
+ * BigInteger nonce = values.readBigInteger();
+ * BigInteger gasPrice = values.readBigInteger();
+ * String to = values.readHexString();
+ * RlpReader signatures = values.readList();
+ * }
+ * </pre>
+ */
+public class RlpReader {
+    private static final int OFFSET_SHORT_STRING = 0x80;
+    private static final int OFFSET_LONG_STRING = 0xb7;
+    private static final int OFFSET_SHORT_LIST = 0xc0;
+    private static final int OFFSET_LONG_LIST = 0xf7;
+
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    private final byte[] data;
+    private final int limit;
+    private int position;
+
+    /**
+     * The payload of the item read last by {@link #next(boolean)}.
+     */
+    private int itemOffset;
+    private int itemLength;
+
+    /**
+     * Creates a RlpReader instance reading a sequence of RLP items.
+     * @param data The RLP-encoded bytes.
+     * @param offset The position of the first item.
+     * @param length The length of the items.
+     */
+    public RlpReader(byte[] data, int offset, int length) {
+        if(offset < 0 || length < 0 || offset + length > data.length) {
+            throw new IllegalArgumentException("Invalid RLP: the range is out of the data.");
+        }
+        this.data = data;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    /**
+     * Creates a RlpReader instance reading the elements of the RLP list starting at the offset.<p>
+     * The bytes after the list are ignored.
+     * @param data The RLP-encoded bytes.
+     * @param offset The position of the list.
+     * @return RlpReader
+     */
+    public static RlpReader ofList(byte[] data, int offset) {
+        return new RlpReader(data, offset, data.length - offset).readList();
+    }
+
+    /**
+     * Returns true if there are items left to read.
+     * @return boolean
+     */
+    public boolean hasNext() {
+        return position < limit;
+    }
+
+    /**
+     * Returns true if the next item is a list.
+     * @return boolean
+     */
+    public boolean isNextList() {
+        if(!hasNext()) {
+            throw new IllegalArgumentException("Invalid RLP: there is no item left to read.");
+        }
+        return (data[position] & 0xff) >= OFFSET_SHORT_LIST;
+    }
+
+    /**
+     * Reads a list and returns a RlpReader reading its elements.
+     * @return RlpReader
+     */
+    public RlpReader readList() {
+        next(true);
+        return new RlpReader(data, itemOffset, itemLength);
+    }
+
+    /**
+     * Reads a string item and returns a copy of its bytes.
+     * @return byte[]
+     */
+    public byte[] readBytes() {
+        next(false);
+        return Arrays.copyOfRange(data, itemOffset, itemOffset + itemLength);
+    }
+
+    /**
+     * Reads a string item as an unsigned number. An empty string is read as zero.
+     * @return BigInteger
+     */
+    public BigInteger readBigInteger() {
+        next(false);
+        if(itemLength < 8) {
+            long value = 0;
+            for(int i = itemOffset; i < itemOffset + itemLength; i++) {
+                value = (value << 8) | (data[i] & 0xff);
+            }
+            return BigInteger.valueOf(value);
+        }
+        return new BigInteger(1, Arrays.copyOfRange(data, itemOffset, itemOffset + itemLength));
+    }
+
+    /**
+     * Reads a string item as a hex string with "0x" prefix. An empty string is read as "0x".
+     * @return String
+     */
+    public String readHexString() {
+        next(false);
+        char[] hex = new char[2 + itemLength * 2];
+        hex[0] = '0';
+        hex[1] = 'x';
+        for(int i = 0; i < itemLength; i++) {
+            int value = data[itemOffset + i] & 0xff;
+            hex[2 + i * 2] = HEX_CHARS[value >>> 4];
+            hex[3 + i * 2] = HEX_CHARS[value & 0x0f];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Skips the next item, whether it is a string or a list.
+     */
+    public void skip() {
+        next(isNextList());
+    }
+
+    /**
+     * Reads the header of the next item and moves the position to the item after it.
+     * @param list true if the next item must be a list.
+     */
+    private void next(boolean list) {
+        if(!hasNext()) {
+            throw new IllegalArgumentException("Invalid RLP: there is no item left to read.");
+        }
+
+        int prefix = data[position] & 0xff;
+        boolean isList = prefix >= OFFSET_SHORT_LIST;
+        if(isList != list) {
+            throw new IllegalArgumentException("Invalid RLP: expected a " + (list ? "list" : "string") + " at " + position);
+        }
+
+        if(prefix < OFFSET_SHORT_STRING) {
+            itemOffset = position;
+            itemLength = 1;
+        } else if(prefix <= OFFSET_LONG_STRING) {
+            itemOffset = position + 1;
+            itemLength = prefix - OFFSET_SHORT_STRING;
+        } else if(prefix < OFFSET_SHORT_LIST) {
+            readLongLength(prefix - OFFSET_LONG_STRING);
+        } else if(prefix <= OFFSET_LONG_LIST) {
+            itemOffset = position + 1;
+            itemLength = prefix - OFFSET_SHORT_LIST;
+        } else {
+            readLongLength(prefix - OFFSET_LONG_LIST);
+        }
+
+        if(itemOffset + itemLength > limit || itemOffset + itemLength < itemOffset) {
+            throw new IllegalArgumentException("Invalid RLP: the length of the item at " + position + " exceeds the data.");
+        }
+        position = itemOffset + itemLength;
+    }
+
+    private void readLongLength(int lengthOfLength) {
+        if(lengthOfLength > 4 || position + 1 + lengthOfLength > limit) {
+            throw new IllegalArgumentException("Invalid RLP: the length of the item at " + position + " is invalid.");
+        }
+
+        int length = 0;
+        for(int i = 1; i <= lengthOfLength; i++) {
+            length = (length << 8) | (data[position + i] & 0xff);
+        }
+        if(length < 0) {
+            throw new IllegalArgumentException("Invalid RLP: the length of the item at " + position + " is invalid.");
+        }
+
+        itemOffset = position + 1 + lengthOfLength;
+        itemLength = length;
+    }
+}
@@ -0,0 +1,434 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.utils;
+
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A streaming RLP encoder that writes items straight into a growable byte buffer.<p>
+ * It produces the same output as web3j's RlpEncoder without building RlpString/RlpList objects.
+ * Hex strings are decoded directly into the buffer, and the header of a list is written when the list is closed.
+ * <pre>Example :
+ * {@code
+ * RlpWriter writer = new RlpWriter();
+ * writer.writeRaw((byte)0x08);
+ * writer.startList();
+ * writer.writeHexNumber("0x1");
+ * writer.writeHexBytes("0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a");
+ * writer.endList();
+ *
+ * String encoded = writer.toHexString();
+ * }
+ * </pre>
+ */
+public class RlpWriter {
+    private static final int OFFSET_SHORT_STRING = 0x80;
+    private static final int OFFSET_LONG_STRING = 0xb7;
+    private static final int OFFSET_SHORT_LIST = 0xc0;
+    private static final int OFFSET_LONG_LIST = 0xf7;
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private byte[] buffer;
+    private int position;
+
+    /**
+     * The start positions of the lists(or nested strings) that are not closed yet.
+     */
+    private int[] openItems = new int[8];
+    private int depth;
+
+    /**
+     * Creates a RlpWriter instance with the default capacity.
+     */
+    public RlpWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a RlpWriter instance.
+     * @param initialCapacity The initial size of the internal buffer.
+     */
+    public RlpWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    /**
+     * Starts a list. Items written until {@link #endList()} is called become the elements of the list.
+     * @return RlpWriter
+     */
+    public RlpWriter startList() {
+        open();
+        return this;
+    }
+
+    /**
+     * Closes the list opened by the last {@link #startList()}.
+     * @return RlpWriter
+     */
+    public RlpWriter endList() {
+        close(OFFSET_SHORT_LIST, OFFSET_LONG_LIST, false);
+        return this;
+    }
+
+    /**
+     * Starts a byte string whose content is the encoding written until {@link #endString()} is called.<p>
+     * It is used to embed an RLP encoding as a string item, e.g. the common RLP encoding in SigRLP.
+     * @return RlpWriter
+     */
+    public RlpWriter startString() {
+        open();
+        return this;
+    }
+
+    /**
+     * Closes the byte string opened by the last {@link #startString()}.
+     * @return RlpWriter
+     */
+    public RlpWriter endString() {
+        close(OFFSET_SHORT_STRING, OFFSET_LONG_STRING, true);
+        return this;
+    }
+
+    /**
+     * Writes raw bytes without RLP header. It is used for the transaction type prefix.
+     * @param bytes The bytes to write.
+     * @return RlpWriter
+     */
+    public RlpWriter writeRaw(byte... bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+        return this;
+    }
+
+    /**
+     * Writes a byte string item. It is the same as RlpString.create(byte[]).
+     * @param bytes The byte string to write.
+     * @return RlpWriter
+     */
+    public RlpWriter writeBytes(byte[] bytes) {
+        return writeBytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes a byte string item from the part of the given array.
+     * @param bytes The array containing the byte string.
+     * @param offset The start offset of the byte string.
+     * @param length The length of the byte string.
+     * @return RlpWriter
+     */
+    public RlpWriter writeBytes(byte[] bytes, int offset, int length) {
+        if(length == 1 && (bytes[offset] & 0xff) < OFFSET_SHORT_STRING) {
+            writeRawByte(bytes[offset]);
+            return this;
+        }
+
+        writeHeader(OFFSET_SHORT_STRING, OFFSET_LONG_STRING, length);
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+        return this;
+    }
+
+    /**
+     * Writes a single byte as a byte string item. It is the same as RlpString.create(byte).
+     * @param value The byte to write.
+     * @return RlpWriter
+     */
+    public RlpWriter writeByte(byte value) {
+        if((value & 0xff) < OFFSET_SHORT_STRING) {
+            writeRawByte(value);
+        } else {
+            writeRawByte((byte)(OFFSET_SHORT_STRING + 1));
+            writeRawByte(value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes an integer item. It is the same as RlpString.create(long).
+     * @param value The integer to write.
+     * @return RlpWriter
+     */
+    public RlpWriter writeLong(long value) {
+        if(value <= 0) {
+            writeRawByte((byte)OFFSET_SHORT_STRING);
+            return this;
+        }
+
+        int length = 8 - Long.numberOfLeadingZeros(value) / 8;
+        if(length == 1 && value < OFFSET_SHORT_STRING) {
+            writeRawByte((byte)value);
+            return this;
+        }
+
+        writeRawByte((byte)(OFFSET_SHORT_STRING + length));
+        ensureCapacity(length);
+        for(int i = length - 1; i >= 0; i--) {
+            buffer[position++] = (byte)(value >>> (i * 8));
+        }
+        return this;
+    }
+
+    /**
+     * Writes an integer item. It is the same as RlpString.create(BigInteger).
+     * @param value The integer to write.
+     * @return RlpWriter
+     */
+    public RlpWriter writeBigInteger(BigInteger value) {
+        if(value.signum() < 1) {
+            writeRawByte((byte)OFFSET_SHORT_STRING);
+            return this;
+        }
+        if(value.bitLength() < Long.SIZE) {
+            return writeLong(value.longValue());
+        }
+
+        byte[] bytes = value.toByteArray();
+        if(bytes[0] == 0) {
+            return writeBytes(bytes, 1, bytes.length - 1);
+        }
+        return writeBytes(bytes);
+    }
+
+    /**
+     * Writes an integer item from a hex string. It is the same as RlpString.create(Numeric.toBigInt(hex)).
+     * @param hex The hex string of an integer.
+     * @return RlpWriter
+     */
+    public RlpWriter writeHexNumber(String hex) {
+        int start = hexStart(hex);
+        int end = hex.length();
+
+        if(start == end || hex.charAt(start) == '-' || hex.charAt(start) == '+') {
+            // Let BigInteger handle empty and signed values to keep its behavior.
+            return writeBigInteger(Numeric.toBigInt(hex));
+        }
+
+        for(int i = start; i < end; i++) {
+            if(Character.digit(hex.charAt(i), 16) < 0) {
+                throw new NumberFormatException("For input string: \"" + hex.substring(start) + "\"");
+            }
+        }
+
+        while(start < end && Character.digit(hex.charAt(start), 16) == 0) {
+            start++;
+        }
+        if(start == end) {
+            writeRawByte((byte)OFFSET_SHORT_STRING);
+            return this;
+        }
+
+        writeHexDigits(hex, start, end, 0);
+        return this;
+    }
+
+    /**
+     * Writes a byte string item from a hex string. It is the same as RlpString.create(Numeric.hexStringToByteArray(hex)).
+     * @param hex The hex string.
+     * @return RlpWriter
+     */
+    public RlpWriter writeHexBytes(String hex) {
+        return writeHexBytes(hex, false);
+    }
+
+    /**
+     * Writes a byte string item from a hex string.
+     * @param hex The hex string.
+     * @param trimLeadingZeroes If true, leading zero bytes are removed except the last byte.
+     * @return RlpWriter
+     */
+    public RlpWriter writeHexBytes(String hex, boolean trimLeadingZeroes) {
+        int start = hexStart(hex);
+        int end = hex.length();
+
+        int skip = 0;
+        if(trimLeadingZeroes) {
+            int length = (end - start + 1) / 2;
+            while(skip < length - 1 && hexByte(hex, start, end, skip) == 0) {
+                skip++;
+            }
+        }
+
+        writeHexDigits(hex, start, end, skip);
+        return this;
+    }
+
+    /**
+     * Returns the number of bytes written.
+     * @return int
+     */
+    public int size() {
+        return position;
+    }
+
+    /**
+     * Clears the written bytes so that this instance can be reused.
+     */
+    public void reset() {
+        position = 0;
+        depth = 0;
+    }
+
+    /**
+     * Returns a copy of the written bytes.
+     * @return byte[]
+     */
+    public byte[] toByteArray() {
+        checkClosed();
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /**
+     * Returns a read-only ByteBuffer of the written bytes without copying.
+     * @return ByteBuffer
+     */
+    public ByteBuffer toByteBuffer() {
+        checkClosed();
+        return ByteBuffer.wrap(buffer, 0, position).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the written bytes as a hex string with "0x" prefix.
+     * @return String
+     */
+    public String toHexString() {
+        checkClosed();
+        return Numeric.toHexString(buffer, 0, position, true);
+    }
+
+    private void open() {
+        if(depth == openItems.length) {
+            openItems = Arrays.copyOf(openItems, depth * 2);
+        }
+        // Reserve one byte for the short form header. It is widened in close() if needed.
+        writeRawByte((byte)0);
+        openItems[depth++] = position;
+    }
+
+    private void close(int shortOffset, int longOffset, boolean isString) {
+        if(depth == 0) {
+            throw new IllegalStateException("There is no open item to close.");
+        }
+
+        int start = openItems[--depth];
+        int length = position - start;
+
+        if(isString && length == 1 && (buffer[start] & 0xff) < OFFSET_SHORT_STRING) {
+            // A single byte string below 0x80 is encoded by itself.
+            buffer[start - 1] = buffer[start];
+            position--;
+            return;
+        }
+
+        if(length < 56) {
+            buffer[start - 1] = (byte)(shortOffset + length);
+            return;
+        }
+
+        int lengthOfLength = lengthOfLength(length);
+        ensureCapacity(lengthOfLength);
+        System.arraycopy(buffer, start, buffer, start + lengthOfLength, length);
+        buffer[start - 1] = (byte)(longOffset + lengthOfLength);
+        writeLength(start, length, lengthOfLength);
+        position += lengthOfLength;
+    }
+
+    private void writeHeader(int shortOffset, int longOffset, int length) {
+        if(length < 56) {
+            writeRawByte((byte)(shortOffset + length));
+            return;
+        }
+
+        int lengthOfLength = lengthOfLength(length);
+        ensureCapacity(lengthOfLength + 1);
+        buffer[position++] = (byte)(longOffset + lengthOfLength);
+        writeLength(position, length, lengthOfLength);
+        position += lengthOfLength;
+    }
+
+    private void writeLength(int offset, int length, int lengthOfLength) {
+        for(int i = lengthOfLength - 1; i >= 0; i--) {
+            buffer[offset++] = (byte)(length >>> (i * 8));
+        }
+    }
+
+    private static int lengthOfLength(int length) {
+        return 4 - Integer.numberOfLeadingZeros(length) / 8;
+    }
+
+    /**
+     * Writes hex digits in [start, end) as a byte string, skipping the first `skip` bytes.
+     */
+    private void writeHexDigits(String hex, int start, int end, int skip) {
+        int length = (end - start + 1) / 2 - skip;
+
+        if(length == 1) {
+            writeByte(hexByte(hex, start, end, skip));
+            return;
+        }
+
+        writeHeader(OFFSET_SHORT_STRING, OFFSET_LONG_STRING, length);
+        ensureCapacity(length);
+        for(int i = 0; i < length; i++) {
+            buffer[position++] = hexByte(hex, start, end, skip + i);
+        }
+    }
+
+    /**
+     * Returns the index-th byte of hex digits in [start, end). An odd number of digits is padded with a leading zero.
+     */
+    private static byte hexByte(String hex, int start, int end, int index) {
+        if((end - start) % 2 != 0) {
+            if(index == 0) {
+                return (byte)Character.digit(hex.charAt(start), 16);
+            }
+            int i = start + index * 2 - 1;
+            return (byte)((Character.digit(hex.charAt(i), 16) << 4) + Character.digit(hex.charAt(i + 1), 16));
+        }
+
+        int i = start + index * 2;
+        return (byte)((Character.digit(hex.charAt(i), 16) << 4) + Character.digit(hex.charAt(i + 1), 16));
+    }
+
+    private static int hexStart(String hex) {
+        return Numeric.containsHexPrefix(hex) ? 2 : 0;
+    }
+
+    private void writeRawByte(byte value) {
+        ensureCapacity(1);
+        buffer[position++] = value;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = position + additional;
+        if(required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+
+    private void checkClosed() {
+        if(depth != 0) {
+            throw new IllegalStateException("There are " + depth + " items not closed.");
+        }
+    }
+}
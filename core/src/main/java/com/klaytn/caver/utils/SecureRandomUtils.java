@@ -39,6 +39,17 @@ public final class SecureRandomUtils {
         return SECURE_RANDOM;
     }
 
+    private static final ThreadLocal<SecureRandom> THREAD_LOCAL_SECURE_RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+
+    /**
+     * Returns a SecureRandom instance of the current thread.<p>
+     * Threads generating random bytes in parallel use their own instances instead of contending for the shared one.
+     * @return SecureRandom
+     */
+    public static SecureRandom threadLocalSecureRandom() {
+        return THREAD_LOCAL_SECURE_RANDOM.get();
+    }
+
     // Taken from BitcoinJ implementation
     // https://github.com/bitcoinj/bitcoinj/blob/3cb1f6c6c589f84fe6e1fb56bf26d94cccc85429/core/src/main/java/org/bitcoinj/core/Utils.java#L573
     private static int isAndroid = -1;
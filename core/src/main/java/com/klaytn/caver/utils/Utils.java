@@ -18,9 +18,9 @@ package com.klaytn.caver.utils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.crypto.Secp256k1;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.bouncycastle.math.ec.ECPoint;
-import org.web3j.crypto.ECDSASignature;
 import org.web3j.crypto.Hash;
 import org.web3j.crypto.Keys;
 import org.web3j.crypto.Sign;
@@ -86,8 +86,9 @@ public class Utils {
             return false;
         }
 
-        ECPoint point = Sign.publicPointFromPrivate(Numeric.toBigInt(privateKey));
-        return !point.isInfinity() && point.isValid();
+        // The public key point is infinity only when the private key is a multiple of the curve order.
+        // Checking the scalar avoids a full point multiplication.
+        return Numeric.toBigInt(privateKey).mod(Sign.CURVE_PARAMS.getN()).signum() != 0;
     }
 
     /**
@@ -426,6 +427,23 @@ public class Utils {
             messageHash = Utils.hashMessage(message);
         }
 
+        return recoverPublicKey(Numeric.hexStringToByteArray(messageHash), signatureData);
+    }
+
+    /**
+     * Recovers the public key that was used to sign the given hash.
+     * <pre>Example :
+     * {@code
+     * byte[] messageHash = Numeric.hexStringToByteArray(Utils.hashMessage(message));
+     * String publicKey = caver.utils.recoverPublicKey(messageHash, signatureData);
+     * }
+     * </pre>
+     * @param messageHash The hash that was signed.
+     * @param signatureData The {@link SignatureData} to recover public key.
+     * @return String
+     * @throws SignatureException
+     */
+    public static String recoverPublicKey(byte[] messageHash, SignatureData signatureData) throws SignatureException {
         byte[] r = Numeric.hexStringToByteArray(signatureData.getR());
         byte[] s = Numeric.hexStringToByteArray(signatureData.getS());
 
@@ -436,13 +454,9 @@ public class Utils {
             throw new IllegalArgumentException("s must be 32 bytes");
         }
 
-       int recId = signatureData.getRecoverId();
-
-        ECDSASignature sig = new ECDSASignature(
-                new BigInteger(1, r),
-                new BigInteger(1, s));
+        int recId = signatureData.getRecoverId();
 
-        BigInteger key = Sign.recoverFromSignature(recId, sig, Numeric.hexStringToByteArray(messageHash));
+        BigInteger key = Secp256k1.recoverPublicKey(recId, new BigInteger(1, r), new BigInteger(1, s), messageHash);
         if (key == null) {
             throw new SignatureException("Could not recover public key from signature");
         }
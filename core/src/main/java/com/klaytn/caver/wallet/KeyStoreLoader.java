@@ -0,0 +1,436 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.wallet;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.klaytn.caver.wallet.keyring.AbstractKeyring;
+import com.klaytn.caver.wallet.keyring.KeyStore;
+import com.klaytn.caver.wallet.keyring.KeyringFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Loads keystore v3 and v4 files in a directory or a zip archive into a KeyringContainer.<p>
+ * The files are read one by one on the calling thread, and parsed, decrypted and added to the container on the executor,
+ * which is the common fork-join pool by default. The number of files being decrypted at a time is bounded,
+ * so the files are not read ahead of the decryption.<p>
+ * A keystore which cannot be loaded does not stop the loading. It is reported in the result with the error.
+ * <pre>Example :
+ * {@code
+ * KeyStoreLoader loader = new KeyStoreLoader();
+ * loader.setProgressListener(progress -> System.out.println(progress.getProcessed() + " keystores, " + progress.getThroughput() + "/s"));
+ *
+ * KeyStoreLoader.Result result = loader.load(Paths.get("/keystore"), "password", caver.wallet);
+ * for(KeyStoreLoader.Failure failure : result.getFailures()) {
+ *     System.out.println(failure.getSource() + " : " + failure.getError().getMessage());
+ * }
+ * }
+ * </pre>
+ */
+public class KeyStoreLoader {
+    /**
+     * The default number of processed keystores between progress reports.
+     */
+    public static final int DEFAULT_PROGRESS_INTERVAL = 100;
+
+    private static final ObjectReader KEYSTORE_READER = new ObjectMapper().readerFor(KeyStore.class);
+
+    /**
+     * The executor to decrypt keystores.
+     */
+    private final Executor executor;
+
+    /**
+     * The maximum number of keystores read and not processed yet.
+     */
+    private int maxPending = Runtime.getRuntime().availableProcessors() * 4;
+
+    /**
+     * The listener to receive the progress, or null.
+     */
+    private ProgressListener progressListener;
+
+    /**
+     * The number of processed keystores between progress reports.
+     */
+    private int progressInterval = DEFAULT_PROGRESS_INTERVAL;
+
+    /**
+     * Creates a KeyStoreLoader instance decrypting keystores on the common fork-join pool.
+     */
+    public KeyStoreLoader() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a KeyStoreLoader instance.
+     * @param executor The executor to decrypt keystores.
+     */
+    public KeyStoreLoader(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Loads the keystores encrypted with the password into the container.
+     * @param source A directory containing keystore files, or a zip archive of them.
+     * @param password The password to decrypt the keystores.
+     * @param container The container to add the keyrings.
+     * @return Result
+     * @throws IOException It throws when the source cannot be read.
+     */
+    public Result load(Path source, String password, KeyringContainer container) throws IOException {
+        return load(source, keyStore -> password, container);
+    }
+
+    /**
+     * Loads the keystores into the container, decrypting each keystore with the password returned by the function.
+     * @param source A directory containing keystore files, or a zip archive of them.
+     * @param passwordProvider The function returning the password of a keystore.
+     * @param container The container to add the keyrings.
+     * @return Result
+     * @throws IOException It throws when the source cannot be read.
+     */
+    public Result load(Path source, Function<KeyStore, String> passwordProvider, KeyringContainer container) throws IOException {
+        Loading loading = new Loading(passwordProvider, container);
+        try {
+            if(Files.isDirectory(source)) {
+                loadDirectory(source, loading);
+            } else if(Files.isRegularFile(source) && source.getFileName().toString().toLowerCase().endsWith(".zip")) {
+                loadZip(source, loading);
+            } else {
+                throw new IllegalArgumentException("The source should be a directory or a zip archive: " + source);
+            }
+        } finally {
+            loading.awaitPending();
+        }
+
+        Result result = new Result(loading);
+        if(progressListener != null) {
+            progressListener.onProgress(result);
+        }
+        return result;
+    }
+
+    private void loadDirectory(Path directory, Loading loading) throws IOException {
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for(Path file : files) {
+                if(!Files.isRegularFile(file) || file.getFileName().toString().startsWith(".")) {
+                    continue;
+                }
+
+                byte[] content;
+                try {
+                    content = Files.readAllBytes(file);
+                } catch(IOException e) {
+                    loading.fail(file.toString(), e);
+                    continue;
+                }
+                loading.submit(file.toString(), content);
+            }
+        }
+    }
+
+    private void loadZip(Path archive, Loading loading) throws IOException {
+        try(ZipInputStream zip = new ZipInputStream(Files.newInputStream(archive))) {
+            ZipEntry entry;
+            while((entry = zip.getNextEntry()) != null) {
+                String name = entry.getName();
+                String fileName = name.substring(name.lastIndexOf('/') + 1);
+                if(entry.isDirectory() || fileName.startsWith(".")) {
+                    continue;
+                }
+                loading.submit(name, readEntry(zip));
+            }
+        }
+    }
+
+    private static byte[] readEntry(InputStream input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while((read = input.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Getter function for maxPending.
+     * @return int
+     */
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    /**
+     * Setter function for maxPending.
+     * @param maxPending The maximum number of keystores read and not processed yet.
+     */
+    public void setMaxPending(int maxPending) {
+        if(maxPending <= 0) {
+            throw new IllegalArgumentException("The maximum number of pending keystores must be positive.");
+        }
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Getter function for progressListener.
+     * @return ProgressListener
+     */
+    public ProgressListener getProgressListener() {
+        return progressListener;
+    }
+
+    /**
+     * Setter function for progressListener.<p>
+     * The listener is called every progressInterval keystores from the executor threads, one call at a time,
+     * and once with the result when the loading is finished.
+     * @param progressListener The listener to receive the progress.
+     */
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Getter function for progressInterval.
+     * @return int
+     */
+    public int getProgressInterval() {
+        return progressInterval;
+    }
+
+    /**
+     * Setter function for progressInterval.
+     * @param progressInterval The number of processed keystores between progress reports.
+     */
+    public void setProgressInterval(int progressInterval) {
+        if(progressInterval <= 0) {
+            throw new IllegalArgumentException("The progress interval must be positive.");
+        }
+        this.progressInterval = progressInterval;
+    }
+
+    /**
+     * Receives the progress of loading keystores.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(Progress progress);
+    }
+
+    /**
+     * The state of a load call.
+     */
+    private final class Loading {
+        private final Function<KeyStore, String> passwordProvider;
+        private final KeyringContainer container;
+        private final int maxPending = KeyStoreLoader.this.maxPending;
+        private final Semaphore pending = new Semaphore(maxPending);
+        private final long startTime = System.nanoTime();
+
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger loaded = new AtomicInteger();
+        private final List<Failure> failures = Collections.synchronizedList(new ArrayList<>());
+
+        Loading(Function<KeyStore, String> passwordProvider, KeyringContainer container) {
+            this.passwordProvider = passwordProvider;
+            this.container = container;
+        }
+
+        void submit(String source, byte[] content) {
+            pending.acquireUninterruptibly();
+            try {
+                CompletableFuture.runAsync(() -> {
+                    try {
+                        process(source, content);
+                    } finally {
+                        pending.release();
+                    }
+                }, executor);
+            } catch(RejectedExecutionException e) {
+                pending.release();
+                throw e;
+            }
+        }
+
+        void awaitPending() {
+            pending.acquireUninterruptibly(maxPending);
+            pending.release(maxPending);
+        }
+
+        private void process(String source, byte[] content) {
+            try {
+                KeyStore keyStore = KEYSTORE_READER.readValue(content);
+                AbstractKeyring keyring = KeyringFactory.decrypt(keyStore, passwordProvider.apply(keyStore));
+                container.add(keyring);
+                loaded.incrementAndGet();
+            } catch(Exception e) {
+                failures.add(new Failure(source, e));
+            }
+            processed();
+        }
+
+        void fail(String source, Exception error) {
+            failures.add(new Failure(source, error));
+            processed();
+        }
+
+        private void processed() {
+            int count = processed.incrementAndGet();
+            ProgressListener listener = progressListener;
+            if(listener != null && count % progressInterval == 0) {
+                Progress progress = new Progress(this);
+                synchronized(this) {
+                    listener.onProgress(progress);
+                }
+            }
+        }
+    }
+
+    /**
+     * Represents the progress of loading keystores.
+     */
+    public static class Progress {
+        private final int processed;
+        private final int loaded;
+        private final int failed;
+        private final long elapsedMillis;
+
+        Progress(Loading loading) {
+            this.loaded = loading.loaded.get();
+            this.failed = loading.failures.size();
+            this.processed = loaded + failed;
+            this.elapsedMillis = (System.nanoTime() - loading.startTime) / 1_000_000;
+        }
+
+        /**
+         * Returns the number of processed keystores, whether they are loaded or failed.
+         * @return int
+         */
+        public int getProcessed() {
+            return processed;
+        }
+
+        /**
+         * Returns the number of keystores added to the container.
+         * @return int
+         */
+        public int getLoaded() {
+            return loaded;
+        }
+
+        /**
+         * Returns the number of keystores failed to load.
+         * @return int
+         */
+        public int getFailed() {
+            return failed;
+        }
+
+        /**
+         * Returns the elapsed time in milliseconds since the loading started.
+         * @return long
+         */
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * Returns the number of processed keystores per second.
+         * @return double
+         */
+        public double getThroughput() {
+            return elapsedMillis > 0 ? processed * 1000.0 / elapsedMillis : 0;
+        }
+    }
+
+    /**
+     * Represents the result of loading keystores.
+     */
+    public static class Result extends Progress {
+        private final List<Failure> failures;
+
+        Result(Loading loading) {
+            super(loading);
+            synchronized(loading.failures) {
+                this.failures = Collections.unmodifiableList(new ArrayList<>(loading.failures));
+            }
+        }
+
+        /**
+         * Getter function for failures.
+         * @return {@code List<Failure>}
+         */
+        public List<Failure> getFailures() {
+            return failures;
+        }
+    }
+
+    /**
+     * Represents a keystore failed to load.
+     */
+    public static class Failure {
+        /**
+         * The path of the file, or the name of the entry in the zip archive.
+         */
+        private final String source;
+
+        /**
+         * The exception thrown while loading the keystore.
+         */
+        private final Exception error;
+
+        Failure(String source, Exception error) {
+            this.source = source;
+            this.error = error;
+        }
+
+        /**
+         * Getter function for source.
+         * @return String
+         */
+        public String getSource() {
+            return source;
+        }
+
+        /**
+         * Getter function for error.
+         * @return Exception
+         */
+        public Exception getError() {
+            return error;
+        }
+    }
+}
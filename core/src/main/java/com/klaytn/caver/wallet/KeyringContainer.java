@@ -19,22 +19,32 @@ package com.klaytn.caver.wallet;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.TransactionHasher;
-import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.AbstractKeyring;
 import com.klaytn.caver.wallet.keyring.KeyringFactory;
+import com.klaytn.caver.wallet.keyring.KeyringGenerator;
+import com.klaytn.caver.wallet.keyring.SingleKeyring;
 import com.klaytn.caver.wallet.keyring.wrapper.KeyringFactoryWrapper;
 import com.klaytn.caver.wallet.keyring.MessageSigned;
+import org.web3j.crypto.CipherException;
+import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 /**
  * Represents a Keyring container which manages keyring.<p>
- * To access it from Caver instance, it can be accessed through `caver.wallet`.
+ * To access it from Caver instance, it can be accessed through `caver.wallet`.<p>
+ * It is safe to use from multiple threads. Looking up a keyring does not block unless a keyring is being added or removed.<p>
+ * A container created with {@link StorageMode#COMPACT} keeps only the 32 bytes private key of a SingleKeyring,
+ * which reduces the memory of a wallet holding a large number of accounts.
  * @see KeyringFactory
  * @see AbstractKeyring
  * @see com.klaytn.caver.wallet.keyring.SingleKeyring
@@ -43,9 +53,19 @@ import java.util.function.Function;
  */
 public class KeyringContainer implements IWallet{
     /**
-     * The map where address and keyring are mapped
+     * The number of transactions signed in a task by the bulk signing functions.
      */
-    Map<String, AbstractKeyring> addressKeyringMap = new HashMap<>();
+    static final int SIGN_ALL_CHUNK_SIZE = 64;
+
+    /**
+     * The table where address and keyring are mapped
+     */
+    final KeyringTable keyringTable = new KeyringTable();
+
+    /**
+     * The way to store the keyrings.
+     */
+    private final StorageMode storageMode;
 
     /**
      * The KeyringFactoryWrapper instance
@@ -58,16 +78,30 @@ public class KeyringContainer implements IWallet{
      * Creates KeyringContainer instance.
      */
     public KeyringContainer() {
-        keyring = new KeyringFactoryWrapper();
+        this(StorageMode.KEYRING);
     }
 
+    /**
+     * Creates KeyringContainer instance.
+     * <pre>Example :
+     * {@code
+     * KeyringContainer container = new KeyringContainer(KeyringContainer.StorageMode.COMPACT);
+     * }
+     * </pre>
+     *
+     * @param storageMode The way to store the keyrings.
+     */
+    public KeyringContainer(StorageMode storageMode) {
+        keyring = new KeyringFactoryWrapper();
+        this.storageMode = storageMode;
+    }
 
     /**
      * Creates KeyringContainer instance.
      * @param keyrings An list of keyring
      */
     public KeyringContainer(List<AbstractKeyring> keyrings) {
-        keyring = new KeyringFactoryWrapper();
+        this();
         keyrings.stream().forEach(this::add);
     }
 
@@ -89,6 +123,7 @@ public class KeyringContainer implements IWallet{
 
     /**
      * Generates keyrings in the keyring container with randomly generated key pairs.<p>
+     * The keyrings are generated in parallel on the common fork-join pool. See {@link KeyringGenerator}.
      * <pre>Example :
      * {@code
      * List<String> addressList = caver.wallet.generate(3, "entropy");
@@ -100,11 +135,24 @@ public class KeyringContainer implements IWallet{
      * @return List of address generated Keyring instances
      */
     public List<String> generate(int num, String entropy) {
+        KeyringGenerator generator = new KeyringGenerator();
+        generator.setEntropy(entropy);
+
+        // The keyrings are generated in parallel and added batch by batch.
         List<String> addressList = new ArrayList<>();
-        for(int i=0; i<num; i++) {
-            AbstractKeyring keyring = KeyringFactory.generate(entropy);
-            addressList.add(keyring.getAddress());
-            this.add(keyring);
+        if(num <= 0) {
+            return addressList;
+        }
+
+        try {
+            generator.generate(num, batch -> {
+                for(SingleKeyring keyring : batch.getKeyrings()) {
+                    addressList.add(keyring.getAddress());
+                    this.add(keyring);
+                }
+            });
+        } catch(IOException | CipherException e) {
+            throw new RuntimeException(e);
         }
 
         return addressList;
@@ -121,7 +169,15 @@ public class KeyringContainer implements IWallet{
      * @return int
      */
     public int length() {
-        return this.addressKeyringMap.size();
+        return this.keyringTable.size();
+    }
+
+    /**
+     * Getter function for storageMode.
+     * @return StorageMode
+     */
+    public StorageMode getStorageMode() {
+        return storageMode;
     }
 
     /**
@@ -206,17 +262,21 @@ public class KeyringContainer implements IWallet{
      * @return AbstractKeyring
      */
     public AbstractKeyring updateKeyring(AbstractKeyring keyring) {
-        AbstractKeyring founded = this.getKeyring(keyring.getAddress());
-        if(founded == null) {
-            throw new IllegalArgumentException("Failed to find keyring to update.");
+        if(!KeyringTable.isAddress(keyring.getAddress())) {
+            throw new IllegalArgumentException("Invalid address. To get keyring from wallet, you need to pass a valid address string as a parameter.");
         }
 
-        this.remove(keyring.getAddress());
-        return this.add(keyring);
+        AbstractKeyring updated = keyring.copy();
+        if(!this.keyringTable.replace(keyring.getAddress(), toStored(updated), toPrivateKey(updated))) {
+            throw new IllegalArgumentException("Failed to find keyring to update.");
+        }
+        return updated;
     }
 
     /**
      * Returns the keyring in container corresponding to the address.<p>
+     * If the container stores keyrings in {@link StorageMode#COMPACT}, a new SingleKeyring with the lower case address
+     * is created from the stored private key on every call.<p>
      * <pre>Example :
      * String address = "0x{address}";
      * AbstractKeyring keyring = caver.wallet.getKeyring(address);
@@ -226,12 +286,11 @@ public class KeyringContainer implements IWallet{
      * @return AbstractKeyring
      */
     public AbstractKeyring getKeyring(String address) {
-        if(!Utils.isAddress(address)) {
+        if(!KeyringTable.isAddress(address)) {
             throw new IllegalArgumentException("Invalid address. To get keyring from wallet, you need to pass a valid address string as a parameter.");
         }
 
-        AbstractKeyring found = this.addressKeyringMap.get(address.toLowerCase());
-        return found;
+        return this.keyringTable.get(address);
     }
 
     /**
@@ -246,16 +305,36 @@ public class KeyringContainer implements IWallet{
      * @return AbstractKeyring
      */
     public AbstractKeyring add(AbstractKeyring keyring) {
-        if (this.getKeyring(keyring.getAddress()) != null) {
-            throw new IllegalArgumentException("Duplicated Account. Please use updateKeyring() instead");
+        if(!KeyringTable.isAddress(keyring.getAddress())) {
+            throw new IllegalArgumentException("Invalid address. To get keyring from wallet, you need to pass a valid address string as a parameter.");
         }
 
         AbstractKeyring added = keyring.copy();
-        this.addressKeyringMap.put(keyring.getAddress().toLowerCase(), added);
+        if(!this.keyringTable.putIfAbsent(keyring.getAddress(), toStored(added), toPrivateKey(added))) {
+            throw new IllegalArgumentException("Duplicated Account. Please use updateKeyring() instead");
+        }
 
         return added;
     }
 
+    /**
+     * Returns the keyring object to store, or null if only its private key is stored.
+     */
+    private AbstractKeyring toStored(AbstractKeyring keyring) {
+        return isCompact(keyring) ? null : keyring;
+    }
+
+    /**
+     * Returns the private key to store in the slab, or null if the keyring object is stored.
+     */
+    private byte[] toPrivateKey(AbstractKeyring keyring) {
+        return isCompact(keyring) ? Numeric.hexStringToByteArray(((SingleKeyring)keyring).getKey().getPrivateKey()) : null;
+    }
+
+    private boolean isCompact(AbstractKeyring keyring) {
+        return storageMode == StorageMode.COMPACT && keyring instanceof SingleKeyring;
+    }
+
     /**
      * Deletes the keyring that associates with the given address from keyringContainer.<p>
      * <pre>Example :
@@ -270,18 +349,11 @@ public class KeyringContainer implements IWallet{
      */
     @Override
     public boolean remove(String address) {
-        if(!Utils.isAddress(address)) {
+        if(!KeyringTable.isAddress(address)) {
             throw new IllegalArgumentException("To remove keyring, the first parameter should be an address string");
         }
 
-        if(!isExisted(address)) {
-            return false;
-        }
-        //deallocate keyring object created for keyringContainer.
-        AbstractKeyring removed = this.addressKeyringMap.remove(address.toLowerCase());
-        removed = null;
-
-        return true;
+        return this.keyringTable.remove(address);
     }
 
     /**
@@ -489,6 +561,135 @@ public class KeyringContainer implements IWallet{
         return transaction.signAsFeePayer(this.getKeyring(address), index, hasher);
     }
 
+    /**
+     * Signs the transactions as senders using all keys in the keyrings corresponding to their `from` addresses.<p>
+     * The transactions are signed in parallel on the common fork-join pool. See {@link #signAll(List, Executor)}.
+     * <pre>Example :
+     * {@code
+     * List<SignResult<ValueTransfer>> results = caver.wallet.signAll(transactions);
+     * }
+     * </pre>
+     *
+     * @param transactions A list of transactions to sign.
+     * @param <T> The type of the transactions.
+     * @return {@code List<SignResult<T>>}
+     */
+    public <T extends AbstractTransaction> List<SignResult<T>> signAll(List<T> transactions) {
+        return signAll(transactions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Signs the transactions as senders using all keys in the keyrings corresponding to their `from` addresses.<p>
+     * The keyring of each `from` address is looked up once, and the transactions are signed in parallel on the given executor.<p>
+     * The results are returned in the order of the given list. If signing a transaction fails, its result holds the exception
+     * and the other transactions are still signed.<p>
+     * Each transaction must be a distinct instance. To avoid RPC calls while signing, fill nonce and chainId in advance.
+     * <pre>Example :
+     * {@code
+     * ForkJoinPool pool = new ForkJoinPool(32);
+     * List<SignResult<ValueTransfer>> results = caver.wallet.signAll(transactions, pool);
+     * }
+     * </pre>
+     *
+     * @param transactions A list of transactions to sign.
+     * @param executor The executor to run signing.
+     * @param <T> The type of the transactions.
+     * @return {@code List<SignResult<T>>}
+     */
+    public <T extends AbstractTransaction> List<SignResult<T>> signAll(List<T> transactions, Executor executor) {
+        return signAll(transactions, executor, AbstractTransaction::getFrom, (transaction, keyring) -> transaction.sign(keyring));
+    }
+
+    /**
+     * Signs the FeeDelegatedTransactions as fee payers using all keys in the keyrings corresponding to their `feePayer` addresses.<p>
+     * The transactions are signed in parallel on the common fork-join pool. See {@link #signAllAsFeePayer(List, Executor)}.
+     * <pre>Example :
+     * {@code
+     * List<SignResult<FeeDelegatedValueTransfer>> results = caver.wallet.signAllAsFeePayer(transactions);
+     * }
+     * </pre>
+     *
+     * @param transactions A list of FeeDelegatedTransactions to sign.
+     * @param <T> The type of the transactions.
+     * @return {@code List<SignResult<T>>}
+     */
+    public <T extends AbstractFeeDelegatedTransaction> List<SignResult<T>> signAllAsFeePayer(List<T> transactions) {
+        return signAllAsFeePayer(transactions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Signs the FeeDelegatedTransactions as fee payers using all keys in the keyrings corresponding to their `feePayer` addresses.<p>
+     * The keyring of each `feePayer` address is looked up once, and the transactions are signed in parallel on the given executor.<p>
+     * The results are returned in the order of the given list. If signing a transaction fails, its result holds the exception
+     * and the other transactions are still signed.<p>
+     * Each transaction must be a distinct instance. To avoid RPC calls while signing, fill nonce and chainId in advance.
+     * <pre>Example :
+     * {@code
+     * ForkJoinPool pool = new ForkJoinPool(32);
+     * List<SignResult<FeeDelegatedValueTransfer>> results = caver.wallet.signAllAsFeePayer(transactions, pool);
+     * }
+     * </pre>
+     *
+     * @param transactions A list of FeeDelegatedTransactions to sign.
+     * @param executor The executor to run signing.
+     * @param <T> The type of the transactions.
+     * @return {@code List<SignResult<T>>}
+     */
+    public <T extends AbstractFeeDelegatedTransaction> List<SignResult<T>> signAllAsFeePayer(List<T> transactions, Executor executor) {
+        return signAll(transactions, executor, AbstractFeeDelegatedTransaction::getFeePayer, (transaction, keyring) -> transaction.signAsFeePayer(keyring));
+    }
+
+    private <T extends AbstractTransaction> List<SignResult<T>> signAll(List<T> transactions, Executor executor, Function<T, String> addressOf, KeyringSigner<T> signer) {
+        int size = transactions.size();
+
+        // Look up the keyring of each address once on the caller thread.
+        Map<String, AbstractKeyring> keyrings = new HashMap<>();
+        AbstractKeyring[] signingKeyrings = new AbstractKeyring[size];
+        for(int i = 0; i < size; i++) {
+            String address = addressOf.apply(transactions.get(i));
+            if(address != null && KeyringTable.isAddress(address)) {
+                signingKeyrings[i] = keyrings.computeIfAbsent(address, this.keyringTable::get);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        SignResult<T>[] results = new SignResult[size];
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for(int start = 0; start < size; start += SIGN_ALL_CHUNK_SIZE) {
+            int from = start;
+            int to = Math.min(size, start + SIGN_ALL_CHUNK_SIZE);
+            tasks.add(CompletableFuture.runAsync(() -> {
+                for(int i = from; i < to; i++) {
+                    results[i] = signWithKeyring(transactions.get(i), signingKeyrings[i], signer);
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+
+        return Arrays.asList(results);
+    }
+
+    private <T extends AbstractTransaction> SignResult<T> signWithKeyring(T transaction, AbstractKeyring keyring, KeyringSigner<T> signer) {
+        try {
+            if(keyring == null) {
+                throw new NullPointerException("Failed to find keyring from wallet with address");
+            }
+            signer.sign(transaction, keyring);
+            return new SignResult<>(transaction, null);
+        } catch (Exception e) {
+            return new SignResult<>(transaction, e);
+        }
+    }
+
+    /**
+     * Signs a transaction with a keyring in the bulk signing functions.
+     * @param <T> The type of the transaction.
+     */
+    @FunctionalInterface
+    private interface KeyringSigner<T extends AbstractTransaction> {
+        void sign(T transaction, AbstractKeyring keyring) throws IOException;
+    }
+
     /**
      * Returns true if there is a keyring matching the given address in the wallet.<p>
      * <pre>Exampe :
@@ -501,6 +702,26 @@ public class KeyringContainer implements IWallet{
      */
     @Override
     public boolean isExisted(String address) {
-        return this.getKeyring(address) != null;
+        if(!KeyringTable.isAddress(address)) {
+            throw new IllegalArgumentException("Invalid address. To get keyring from wallet, you need to pass a valid address string as a parameter.");
+        }
+
+        return this.keyringTable.contains(address);
+    }
+
+    /**
+     * The way KeyringContainer stores the keyrings.
+     */
+    public enum StorageMode {
+        /**
+         * Stores the keyring instances.
+         */
+        KEYRING,
+
+        /**
+         * Stores only the 32 bytes private key of a SingleKeyring in a shared byte array.
+         * A SingleKeyring is created from the key when it is used. The other keyrings are stored as instances.
+         */
+        COMPACT
     }
 }
@@ -0,0 +1,435 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.wallet;
+
+import com.klaytn.caver.utils.Utils;
+import com.klaytn.caver.wallet.keyring.AbstractKeyring;
+import com.klaytn.caver.wallet.keyring.PrivateKey;
+import com.klaytn.caver.wallet.keyring.SingleKeyring;
+import org.web3j.utils.Numeric;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * An open addressing hash table of keyrings used by KeyringContainer.<p>
+ * An address is stored as three primitive values holding its 20 bytes, so a lookup parses the address string
+ * in place instead of creating a lower case copy of it.
+ * A keyring is stored either as an object, or as a 32 byte private key in a shared byte array (slab).
+ * A keyring stored in the slab is created again as a SingleKeyring whenever it is read.<p>
+ * Reads are optimistic and do not block unless a write is in progress. Writes are serialized by a lock.
+ */
+final class KeyringTable {
+    static final int ADDRESS_LENGTH = 40;
+    static final int KEY_SIZE = 32;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int INITIAL_KEY_CAPACITY = 16;
+
+    /**
+     * The value of a slot whose entry was removed. A lookup probes past it.
+     */
+    private static final Object REMOVED = new Object();
+
+    /**
+     * The value of a slot whose private key is stored in the slab.
+     */
+    private static final Object COMPACT = new Object();
+
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    private final StampedLock lock = new StampedLock();
+
+    private Slots slots = new Slots(INITIAL_CAPACITY);
+
+    /**
+     * The number of entries in the table.
+     */
+    private int size;
+
+    /**
+     * The number of slots which are not empty, including the removed ones.
+     */
+    private int used;
+
+    /**
+     * The slab of private keys. The key of the n-th index is stored at [n * KEY_SIZE, (n + 1) * KEY_SIZE).
+     */
+    private byte[] keys = new byte[INITIAL_KEY_CAPACITY * KEY_SIZE];
+    private int keyCount;
+    private int[] freeKeys = new int[INITIAL_KEY_CAPACITY];
+    private int freeKeyCount;
+
+    /**
+     * Check if string has address format. It accepts the same strings as {@link Utils#isAddress(String)}.<p>
+     * An address in lower case or upper case is checked without allocation.
+     * @param address An address string.
+     * @return boolean
+     */
+    static boolean isAddress(String address) {
+        int start = address.length() - ADDRESS_LENGTH;
+        if(start == 2) {
+            if(address.charAt(0) != '0' || (address.charAt(1) != 'x' && address.charAt(1) != 'X')) {
+                return false;
+            }
+        } else if(start != 0) {
+            return false;
+        }
+
+        boolean hasLowerCase = false;
+        boolean hasUpperCase = false;
+        for(int i = start; i < address.length(); i++) {
+            char c = address.charAt(i);
+            if(c >= 'a' && c <= 'f') {
+                hasLowerCase = true;
+            } else if(c >= 'A' && c <= 'F') {
+                hasUpperCase = true;
+            } else if(c < '0' || c > '9') {
+                return false;
+            }
+        }
+
+        //check checksum address
+        return !(hasLowerCase && hasUpperCase) || Utils.checkAddressChecksum(address);
+    }
+
+    /**
+     * Returns the keyring of the address, or null if it does not exist.
+     * @param address A valid address string.
+     * @return AbstractKeyring
+     */
+    AbstractKeyring get(String address) {
+        int start = address.length() - ADDRESS_LENGTH;
+        long hi = parseHex(address, start, 16);
+        long mid = parseHex(address, start + 16, 16);
+        int lo = (int)parseHex(address, start + 32, 8);
+
+        Object found = null;
+        long stamp = lock.tryOptimisticRead();
+        if(stamp != 0) {
+            found = read(hi, mid, lo);
+        }
+        if(stamp == 0 || !lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                found = read(hi, mid, lo);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        if(found instanceof byte[]) {
+            byte[] key = (byte[])found;
+            AbstractKeyring keyring = new SingleKeyring(toAddress(hi, mid, lo), new PrivateKey(Numeric.toHexString(key)));
+            Arrays.fill(key, (byte)0);
+            return keyring;
+        }
+        return (AbstractKeyring)found;
+    }
+
+    /**
+     * Returns true if the keyring of the address exists.
+     * @param address A valid address string.
+     * @return boolean
+     */
+    boolean contains(String address) {
+        int start = address.length() - ADDRESS_LENGTH;
+        long hi = parseHex(address, start, 16);
+        long mid = parseHex(address, start + 16, 16);
+        int lo = (int)parseHex(address, start + 32, 8);
+
+        long stamp = lock.tryOptimisticRead();
+        if(stamp != 0) {
+            boolean found = indexOf(slots, hi, mid, lo) >= 0;
+            if(lock.validate(stamp)) {
+                return found;
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return indexOf(slots, hi, mid, lo) >= 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of keyrings in the table.
+     * @return int
+     */
+    int size() {
+        long stamp = lock.tryOptimisticRead();
+        int current = size;
+        if(stamp != 0 && lock.validate(stamp)) {
+            return current;
+        }
+
+        stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Adds the keyring if the address does not exist.<p>
+     * If the private key is given, only the key is stored in the slab and the keyring object is not kept.
+     * @param address A valid address string.
+     * @param keyring The keyring to store as an object, or null if the private key is given.
+     * @param privateKey The 32 bytes private key of a single key keyring to store in the slab, or null.
+     * @return boolean false if the address already exists.
+     */
+    boolean putIfAbsent(String address, AbstractKeyring keyring, byte[] privateKey) {
+        return put(address, keyring, privateKey, false);
+    }
+
+    /**
+     * Replaces the keyring if the address exists.
+     * @param address A valid address string.
+     * @param keyring The keyring to store as an object, or null if the private key is given.
+     * @param privateKey The 32 bytes private key of a single key keyring to store in the slab, or null.
+     * @return boolean false if the address does not exist.
+     */
+    boolean replace(String address, AbstractKeyring keyring, byte[] privateKey) {
+        return put(address, keyring, privateKey, true);
+    }
+
+    /**
+     * Removes the keyring of the address. The private key in the slab is cleared.
+     * @param address A valid address string.
+     * @return boolean false if the address does not exist.
+     */
+    boolean remove(String address) {
+        int start = address.length() - ADDRESS_LENGTH;
+        long hi = parseHex(address, start, 16);
+        long mid = parseHex(address, start + 16, 16);
+        int lo = (int)parseHex(address, start + 32, 8);
+
+        long stamp = lock.writeLock();
+        try {
+            int index = indexOf(slots, hi, mid, lo);
+            if(index < 0) {
+                return false;
+            }
+            releaseKey(index);
+            slots.values[index] = REMOVED;
+            size--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private boolean put(String address, AbstractKeyring keyring, byte[] privateKey, boolean replace) {
+        int start = address.length() - ADDRESS_LENGTH;
+        long hi = parseHex(address, start, 16);
+        long mid = parseHex(address, start + 16, 16);
+        int lo = (int)parseHex(address, start + 32, 8);
+
+        long stamp = lock.writeLock();
+        try {
+            int index = indexOf(slots, hi, mid, lo);
+            if((index >= 0) != replace) {
+                return false;
+            }
+
+            if(index >= 0) {
+                releaseKey(index);
+            } else {
+                if(used + 1 > slots.values.length / 4 * 3) {
+                    rehash();
+                }
+                index = indexToInsert(slots, hi, mid, lo);
+                if(slots.values[index] == null) {
+                    used++;
+                }
+                slots.his[index] = hi;
+                slots.mids[index] = mid;
+                slots.los[index] = lo;
+                size++;
+            }
+
+            if(privateKey != null) {
+                slots.keyIndexes[index] = storeKey(privateKey);
+                slots.values[index] = COMPACT;
+            } else {
+                slots.values[index] = keyring;
+            }
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Reads the value of the address. It may run without holding the lock, so it never trusts the state it reads:
+     * the probing is bounded, and the caller uses the result only after validating the stamp.
+     * @return the keyring object, a copy of the private key, or null.
+     */
+    private Object read(long hi, long mid, int lo) {
+        Slots current = this.slots;
+        int index = indexOf(current, hi, mid, lo);
+        if(index < 0) {
+            return null;
+        }
+
+        Object value = current.values[index];
+        if(value != COMPACT) {
+            return value instanceof AbstractKeyring ? value : null;
+        }
+
+        byte[] slab = this.keys;
+        int offset = current.keyIndexes[index] * KEY_SIZE;
+        if(offset < 0 || offset > slab.length - KEY_SIZE) {
+            return null;
+        }
+        return Arrays.copyOfRange(slab, offset, offset + KEY_SIZE);
+    }
+
+    private static int indexOf(Slots slots, long hi, long mid, int lo) {
+        int mask = slots.values.length - 1;
+        int index = hash(hi, mid, lo) & mask;
+        for(int probe = 0; probe <= mask; probe++) {
+            Object value = slots.values[index];
+            if(value == null) {
+                return -1;
+            }
+            if(value != REMOVED && slots.his[index] == hi && slots.mids[index] == mid && slots.los[index] == lo) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int indexToInsert(Slots slots, long hi, long mid, int lo) {
+        int mask = slots.values.length - 1;
+        int index = hash(hi, mid, lo) & mask;
+        while(slots.values[index] != null && slots.values[index] != REMOVED) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Moves the entries to a new array dropping the removed slots. The capacity is doubled if the table is half full.
+     */
+    private void rehash() {
+        Slots old = this.slots;
+        int capacity = old.values.length;
+        while(size + 1 > capacity / 2) {
+            capacity <<= 1;
+        }
+
+        Slots rehashed = new Slots(capacity);
+        for(int i = 0; i < old.values.length; i++) {
+            Object value = old.values[i];
+            if(value != null && value != REMOVED) {
+                int index = indexToInsert(rehashed, old.his[i], old.mids[i], old.los[i]);
+                rehashed.his[index] = old.his[i];
+                rehashed.mids[index] = old.mids[i];
+                rehashed.los[index] = old.los[i];
+                rehashed.keyIndexes[index] = old.keyIndexes[i];
+                rehashed.values[index] = value;
+            }
+        }
+        this.slots = rehashed;
+        this.used = size;
+    }
+
+    private int storeKey(byte[] privateKey) {
+        int keyIndex;
+        if(freeKeyCount > 0) {
+            keyIndex = freeKeys[--freeKeyCount];
+        } else {
+            if((keyCount + 1) * KEY_SIZE > keys.length) {
+                keys = Arrays.copyOf(keys, keys.length + (keys.length >> 1));
+            }
+            keyIndex = keyCount++;
+        }
+        System.arraycopy(privateKey, 0, keys, keyIndex * KEY_SIZE, KEY_SIZE);
+        return keyIndex;
+    }
+
+    private void releaseKey(int index) {
+        if(slots.values[index] != COMPACT) {
+            return;
+        }
+
+        int keyIndex = slots.keyIndexes[index];
+        Arrays.fill(keys, keyIndex * KEY_SIZE, (keyIndex + 1) * KEY_SIZE, (byte)0);
+        if(freeKeyCount == freeKeys.length) {
+            freeKeys = Arrays.copyOf(freeKeys, freeKeys.length * 2);
+        }
+        freeKeys[freeKeyCount++] = keyIndex;
+    }
+
+    private static int hash(long hi, long mid, int lo) {
+        long h = hi * 0x9E3779B97F4A7C15L + mid;
+        h = h * 0x9E3779B97F4A7C15L + lo;
+        return (int)(h ^ (h >>> 32));
+    }
+
+    private static long parseHex(String address, int from, int length) {
+        long value = 0;
+        for(int i = from; i < from + length; i++) {
+            char c = address.charAt(i);
+            int digit = c <= '9' ? c - '0' : (c | 0x20) - 'a' + 10;
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private static String toAddress(long hi, long mid, int lo) {
+        char[] address = new char[2 + ADDRESS_LENGTH];
+        address[0] = '0';
+        address[1] = 'x';
+        writeHex(address, 2, hi, 16);
+        writeHex(address, 18, mid, 16);
+        writeHex(address, 34, lo, 8);
+        return new String(address);
+    }
+
+    private static void writeHex(char[] out, int from, long value, int length) {
+        for(int i = from + length - 1; i >= from; i--) {
+            out[i] = HEX_CHARS[(int)value & 0x0f];
+            value >>>= 4;
+        }
+    }
+
+    /**
+     * The slot arrays of the table. They are replaced together when the table is rehashed,
+     * so a lookup reading them without the lock always sees arrays of the same length.
+     */
+    private static final class Slots {
+        final long[] his;
+        final long[] mids;
+        final int[] los;
+        final int[] keyIndexes;
+        final Object[] values;
+
+        Slots(int capacity) {
+            this.his = new long[capacity];
+            this.mids = new long[capacity];
+            this.los = new int[capacity];
+            this.keyIndexes = new int[capacity];
+            this.values = new Object[capacity];
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.wallet;
+
+import com.klaytn.caver.transaction.AbstractTransaction;
+
+/**
+ * Represents the result of signing a transaction with the bulk signing functions of KeyringContainer.<p>
+ * It holds the transaction and, if signing failed, the exception thrown while signing it.
+ * @param <T> The type of the signed transaction.
+ * @see KeyringContainer#signAll(java.util.List)
+ * @see KeyringContainer#signAllAsFeePayer(java.util.List)
+ */
+public class SignResult<T extends AbstractTransaction> {
+    /**
+     * The transaction to sign.
+     */
+    private final T transaction;
+
+    /**
+     * The exception thrown while signing. It is null if signing succeeded.
+     */
+    private final Exception error;
+
+    /**
+     * Creates a SignResult instance.
+     * @param transaction The transaction to sign.
+     * @param error The exception thrown while signing, or null if signing succeeded.
+     */
+    public SignResult(T transaction, Exception error) {
+        this.transaction = transaction;
+        this.error = error;
+    }
+
+    /**
+     * Getter function for transaction.
+     * @return T
+     */
+    public T getTransaction() {
+        return transaction;
+    }
+
+    /**
+     * Getter function for error.
+     * @return Exception
+     */
+    public Exception getError() {
+        return error;
+    }
+
+    /**
+     * Returns true if the transaction is signed without error.
+     * @return boolean
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.wallet.keyring;
+
+import com.klaytn.caver.utils.Utils;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.generators.PKCS5S2ParametersGenerator;
+import org.bouncycastle.crypto.generators.SCrypt;
+import org.bouncycastle.crypto.macs.HMac;
+import org.bouncycastle.crypto.params.KeyParameter;
+import org.web3j.crypto.CipherException;
+import org.web3j.utils.Numeric;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Derives the keys used to encrypt and decrypt a KeyStore with scrypt or PBKDF2.<p>
+ * The keys of a keystore sharing the same kdf parameters are derived once. When a keystore has keys with different salts,
+ * they are derived concurrently on the executor set by {@link #setExecutor(Executor)}.<p>
+ * The derived keys can be kept in memory by {@link #enableCache(int)}, so unlocking the same keystore again in the process
+ * does not run the key derivation function. The cache is disabled by default.
+ * <pre>Example :
+ * {@code
+ * KeyDerivation.setExecutor(Executors.newFixedThreadPool(4));
+ * KeyDerivation.enableCache(100);
+ *
+ * AbstractKeyring keyring = caver.wallet.keyring.decrypt(keyStore, "password");
+ * }
+ * </pre>
+ */
+public final class KeyDerivation {
+    /**
+     * The executor to derive keys concurrently.
+     */
+    private static volatile Executor executor = ForkJoinPool.commonPool();
+
+    /**
+     * The cache of derived keys, or null if it is disabled.
+     */
+    private static volatile DerivedKeyCache cache;
+
+    private KeyDerivation() {
+    }
+
+    /**
+     * Getter function for executor.
+     * @return Executor
+     */
+    public static Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor to derive the keys of a keystore concurrently. The common fork-join pool is used by default.
+     * @param executor The executor to derive keys.
+     */
+    public static void setExecutor(Executor executor) {
+        if(executor == null) {
+            throw new IllegalArgumentException("The executor must not be null.");
+        }
+        KeyDerivation.executor = executor;
+    }
+
+    /**
+     * Enables the cache of derived keys.<p>
+     * A derived key is cached by the password fingerprint, the kdf name, the salt and the kdf parameters.
+     * The password itself is not kept, and its fingerprint is a HMAC with a random key of the process.
+     * When the cache is full, the least recently used key is removed.
+     * @param maxSize The maximum number of derived keys to keep.
+     */
+    public static void enableCache(int maxSize) {
+        if(maxSize <= 0) {
+            throw new IllegalArgumentException("The cache size must be positive.");
+        }
+        DerivedKeyCache previous = cache;
+        cache = new DerivedKeyCache(maxSize);
+        if(previous != null) {
+            previous.clear();
+        }
+    }
+
+    /**
+     * Disables the cache of derived keys and clears the cached keys.
+     */
+    public static void disableCache() {
+        DerivedKeyCache previous = cache;
+        cache = null;
+        if(previous != null) {
+            previous.clear();
+        }
+    }
+
+    /**
+     * Returns true if the cache of derived keys is enabled.
+     * @return boolean
+     */
+    public static boolean isCacheEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Clears the cached keys. The cache stays enabled.
+     */
+    public static void clearCache() {
+        DerivedKeyCache current = cache;
+        if(current != null) {
+            current.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached keys.
+     * @return int
+     */
+    public static int getCacheSize() {
+        DerivedKeyCache current = cache;
+        return current != null ? current.size() : 0;
+    }
+
+    /**
+     * Derives a key to encrypt a new keystore with the kdf parameters.<p>
+     * The key is cached right away, since it is the key of the keystore being created.
+     * @param kdfParams The kdf parameters including salt.
+     * @param password The password to derive a key from.
+     * @return byte array
+     * @throws CipherException
+     */
+    static byte[] derive(KeyStore.IKdfParams kdfParams, String password) throws CipherException {
+        DerivedKeys derivedKeys = deriveAll(Arrays.asList(kdfParams), password);
+        derivedKeys.commit();
+        return derivedKeys.get(0);
+    }
+
+    /**
+     * Derives the keys with the list of kdf parameters.<p>
+     * The same parameters are derived once, and the different parameters are derived concurrently.
+     * The newly derived keys are not cached until {@link DerivedKeys#commit()} is called after they are verified with the MAC.
+     * @param kdfParamsList The list of kdf parameters including salt.
+     * @param password The password to derive keys from.
+     * @return DerivedKeys The derived keys in the order of the kdf parameters.
+     * @throws CipherException
+     */
+    static DerivedKeys deriveAll(List<KeyStore.IKdfParams> kdfParamsList, String password) throws CipherException {
+        byte[] passwordBytes = password.getBytes(UTF_8);
+        DerivedKeyCache currentCache = cache;
+        String fingerprint = currentCache != null ? currentCache.fingerprint(passwordBytes) : null;
+
+        Map<String, byte[]> derivedKeys = new HashMap<>();
+        Map<String, KeyStore.IKdfParams> toDerive = new LinkedHashMap<>();
+        List<String> ids = new ArrayList<>(kdfParamsList.size());
+        for(KeyStore.IKdfParams kdfParams : kdfParamsList) {
+            String id = toId(kdfParams);
+            ids.add(id);
+            if(derivedKeys.containsKey(id) || toDerive.containsKey(id)) {
+                continue;
+            }
+
+            byte[] cached = currentCache != null ? currentCache.get(fingerprint + id) : null;
+            if(cached != null) {
+                derivedKeys.put(id, cached);
+            } else {
+                toDerive.put(id, kdfParams);
+            }
+        }
+
+        if(toDerive.size() == 1) {
+            Map.Entry<String, KeyStore.IKdfParams> entry = toDerive.entrySet().iterator().next();
+            derivedKeys.put(entry.getKey(), derive(entry.getValue(), passwordBytes));
+        } else if(toDerive.size() > 1) {
+            Map<String, CompletableFuture<byte[]>> tasks = new LinkedHashMap<>();
+            Executor current = executor;
+            toDerive.forEach((id, kdfParams) -> tasks.put(id, CompletableFuture.supplyAsync(() -> {
+                try {
+                    return derive(kdfParams, passwordBytes);
+                } catch(CipherException e) {
+                    throw new CompletionException(e);
+                }
+            }, current)));
+
+            for(Map.Entry<String, CompletableFuture<byte[]>> task : tasks.entrySet()) {
+                derivedKeys.put(task.getKey(), join(task.getValue()));
+            }
+        }
+
+        List<byte[]> keys = new ArrayList<>(ids.size());
+        for(String id : ids) {
+            keys.add(derivedKeys.get(id));
+        }
+
+        Map<String, byte[]> uncommitted = new LinkedHashMap<>();
+        for(String id : toDerive.keySet()) {
+            uncommitted.put(fingerprint + id, derivedKeys.get(id));
+        }
+        return new DerivedKeys(keys, currentCache, uncommitted);
+    }
+
+    private static byte[] join(CompletableFuture<byte[]> future) throws CipherException {
+        try {
+            return future.join();
+        } catch(CompletionException e) {
+            if(e.getCause() instanceof CipherException) {
+                throw (CipherException)e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a string identifying the kdf name, the salt and the kdf parameters.
+     */
+    private static String toId(KeyStore.IKdfParams kdfParams) throws CipherException {
+        String salt = Utils.stripHexPrefix(kdfParams.getSalt()).toLowerCase();
+        if(kdfParams instanceof KeyStore.ScryptKdfParams) {
+            KeyStore.ScryptKdfParams scrypt = (KeyStore.ScryptKdfParams)kdfParams;
+            return KeyStore.ScryptKdfParams.getName() + ":" + scrypt.getN() + ":" + scrypt.getR() + ":" + scrypt.getP() + ":" + scrypt.getDklen() + ":" + salt;
+        } else if(kdfParams instanceof KeyStore.Pbkdf2KdfParams) {
+            KeyStore.Pbkdf2KdfParams pbkdf2 = (KeyStore.Pbkdf2KdfParams)kdfParams;
+            return KeyStore.Pbkdf2KdfParams.getName() + ":" + pbkdf2.getC() + ":" + pbkdf2.getPrf() + ":" + salt;
+        }
+        throw new CipherException("Unsupported KDF");
+    }
+
+    private static byte[] derive(KeyStore.IKdfParams kdfParams, byte[] password) throws CipherException {
+        byte[] salt = Numeric.hexStringToByteArray(kdfParams.getSalt());
+        if(kdfParams instanceof KeyStore.ScryptKdfParams) {
+            KeyStore.ScryptKdfParams scrypt = (KeyStore.ScryptKdfParams)kdfParams;
+            return generateDerivedScryptKey(password, salt, scrypt.getN(), scrypt.getR(), scrypt.getP(), scrypt.getDklen());
+        }
+
+        KeyStore.Pbkdf2KdfParams pbkdf2 = (KeyStore.Pbkdf2KdfParams)kdfParams;
+        return generatePbkdf2DerivedKey(password, salt, pbkdf2.getC(), pbkdf2.getPrf());
+    }
+
+    /**
+     * Derived key using SCRYPT algorithm.
+     * @param password The password to use for key derivation.
+     * @param salt Salt
+     * @param n Parameter n
+     * @param r Parameter r
+     * @param p Parameter p
+     * @param dkLen derivate key length
+     * @return byte array
+     * @throws CipherException
+     */
+    private static byte[] generateDerivedScryptKey(
+            byte[] password, byte[] salt, int n, int r, int p, int dkLen) throws CipherException {
+        return SCrypt.generate(password, salt, n, r, p, dkLen);
+    }
+
+    /**
+     * Derived key using PBKDF2 algorithm.
+     * @param password The password to use for key derivation
+     * @param salt Salt
+     * @param c Parameter c
+     * @param prf Parameter prf(Pseudo Random Function) name
+     * @return byte array
+     * @throws CipherException
+     */
+    private static byte[] generatePbkdf2DerivedKey(
+            byte[] password, byte[] salt, int c, String prf) throws CipherException {
+
+        if (!prf.equals("hmac-sha256")) {
+            throw new CipherException("Unsupported prf:" + prf);
+        }
+
+        // Java 8 supports this, but you have to convert the password to a character array, see
+        // http://stackoverflow.com/a/27928435/3211687
+        PKCS5S2ParametersGenerator gen = new PKCS5S2ParametersGenerator(new SHA256Digest());
+        gen.init(password, salt, c);
+        return ((KeyParameter) gen.generateDerivedParameters(256)).getKey();
+    }
+
+    /**
+     * The keys derived from a password, in the order of the kdf parameters.
+     * The keys which were not in the cache are added to it by {@link #commit()}.
+     */
+    static final class DerivedKeys {
+        private final List<byte[]> keys;
+        private final DerivedKeyCache cache;
+        private final Map<String, byte[]> uncommitted;
+
+        private DerivedKeys(List<byte[]> keys, DerivedKeyCache cache, Map<String, byte[]> uncommitted) {
+            this.keys = keys;
+            this.cache = cache;
+            this.uncommitted = uncommitted;
+        }
+
+        /**
+         * Returns the derived key at the index of the kdf parameters.
+         * @param index The index of the kdf parameters.
+         * @return byte array
+         */
+        byte[] get(int index) {
+            return keys.get(index);
+        }
+
+        /**
+         * Caches the newly derived keys. It should be called only after the keys are verified.
+         */
+        void commit() {
+            if(cache != null) {
+                uncommitted.forEach(cache::put);
+            }
+            uncommitted.clear();
+        }
+    }
+
+    /**
+     * A LRU cache of derived keys. The keys are copied in and out, and cleared when they are removed.
+     */
+    private static final class DerivedKeyCache {
+        private final byte[] fingerprintKey = Utils.generateRandomBytes(32);
+        private final LinkedHashMap<String, byte[]> keys;
+
+        DerivedKeyCache(int maxSize) {
+            this.keys = new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                    if(size() > maxSize) {
+                        Arrays.fill(eldest.getValue(), (byte)0);
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        String fingerprint(byte[] password) {
+            HMac hmac = new HMac(new SHA256Digest());
+            hmac.init(new KeyParameter(fingerprintKey));
+            hmac.update(password, 0, password.length);
+
+            byte[] fingerprint = new byte[hmac.getMacSize()];
+            hmac.doFinal(fingerprint, 0);
+            return Numeric.toHexStringNoPrefix(fingerprint) + ":";
+        }
+
+        synchronized byte[] get(String id) {
+            byte[] key = keys.get(id);
+            return key != null ? key.clone() : null;
+        }
+
+        synchronized void put(String id, byte[] key) {
+            byte[] previous = keys.put(id, key.clone());
+            if(previous != null) {
+                Arrays.fill(previous, (byte)0);
+            }
+        }
+
+        synchronized int size() {
+            return keys.size();
+        }
+
+        synchronized void clear() {
+            for(byte[] key : keys.values()) {
+                Arrays.fill(key, (byte)0);
+            }
+            keys.clear();
+        }
+    }
+}
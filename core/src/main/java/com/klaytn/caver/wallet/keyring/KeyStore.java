@@ -29,10 +29,6 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.klaytn.caver.utils.Utils;
-import org.bouncycastle.crypto.digests.SHA256Digest;
-import org.bouncycastle.crypto.generators.PKCS5S2ParametersGenerator;
-import org.bouncycastle.crypto.generators.SCrypt;
-import org.bouncycastle.crypto.params.KeyParameter;
 import org.web3j.crypto.CipherException;
 import org.web3j.crypto.Hash;
 import org.web3j.utils.Numeric;
@@ -51,8 +47,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
-
 /**
  * Represents a KeyStore DTO(Data transfer Object) class according to KIP-3.<p>
  * For more details, please see below link.<p>
@@ -280,39 +274,28 @@ public class KeyStore {
                 iv = Numeric.hexStringToByteArray(option.cipherParams.getIv());
             }
 
-            for(int i=0; i < privateKeys.length; i++) {
-                byte[] derivedKey;
+            if(privateKeys.length == 0) {
+                return cryptoList;
+            }
 
-                //Check KDF Algorithm
-                //SCRYPT
-                if(option.kdfParams instanceof KeyStore.ScryptKdfParams) {
-                    kdfName = KeyStore.ScryptKdfParams.getName();
-                    derivedKey = generateDerivedScryptKey(
-                            password.getBytes(UTF_8),
-                            salt,
-                            ((KeyStore.ScryptKdfParams) option.kdfParams).getN(),
-                            ((KeyStore.ScryptKdfParams) option.kdfParams).getR(),
-                            ((KeyStore.ScryptKdfParams) option.kdfParams).getP(),
-                            option.kdfParams.getDklen());
-
-                    ((KeyStore.ScryptKdfParams) option.kdfParams).setSalt(Numeric.toHexStringNoPrefix(salt));
-                }
-                //PBKDF2
-                else if(option.kdfParams instanceof KeyStore.Pbkdf2KdfParams) {
-                    kdfName = KeyStore.Pbkdf2KdfParams.getName();
-
-                    derivedKey = generatePbkdf2DerivedKey(
-                            password.getBytes(UTF_8),
-                            salt,
-                            ((KeyStore.Pbkdf2KdfParams) option.kdfParams).getC(),
-                            ((KeyStore.Pbkdf2KdfParams) option.kdfParams).getPrf()
-                    );
-
-                    ((KeyStore.Pbkdf2KdfParams) option.kdfParams).setSalt(Numeric.toHexStringNoPrefix(salt));
-                } else {
-                    throw new RuntimeException("Unsupported KDF");
-                }
+            //Check KDF Algorithm
+            //SCRYPT
+            if(option.kdfParams instanceof KeyStore.ScryptKdfParams) {
+                kdfName = KeyStore.ScryptKdfParams.getName();
+                ((KeyStore.ScryptKdfParams) option.kdfParams).setSalt(Numeric.toHexStringNoPrefix(salt));
+            }
+            //PBKDF2
+            else if(option.kdfParams instanceof KeyStore.Pbkdf2KdfParams) {
+                kdfName = KeyStore.Pbkdf2KdfParams.getName();
+                ((KeyStore.Pbkdf2KdfParams) option.kdfParams).setSalt(Numeric.toHexStringNoPrefix(salt));
+            } else {
+                throw new RuntimeException("Unsupported KDF");
+            }
+
+            // All keys are encrypted with the same salt and kdf parameters, so the key is derived once.
+            byte[] derivedKey = KeyDerivation.derive(option.kdfParams, password);
 
+            for(int i=0; i < privateKeys.length; i++) {
                 //generate keys for used cipher encryption.(AES)
                 byte[] encryptKey = Arrays.copyOfRange(derivedKey, 0, 16);
 
@@ -348,39 +331,45 @@ public class KeyStore {
          * @throws CipherException
          */
         public static String decryptCrypto(KeyStore.Crypto crypto, String password) throws CipherException {
-            byte[] mac = Numeric.hexStringToByteArray(crypto.getMac());
-            byte[] iv = Numeric.hexStringToByteArray(crypto.getCipherparams().getIv());
-            byte[] cipherText = Numeric.hexStringToByteArray(crypto.getCiphertext());
-
-            byte[] derivedKey;
+            return decryptCrypto(Arrays.asList(crypto), password).get(0);
+        }
 
-            //Check KDF Algorithm
-            IKdfParams kdfParams = crypto.getKdfparams();
-            //SCRYPT
-            if (kdfParams instanceof KeyStore.ScryptKdfParams) {
-                KeyStore.ScryptKdfParams scryptKdfParams =
-                        (KeyStore.ScryptKdfParams) crypto.getKdfparams();
-                int dklen = scryptKdfParams.getDklen();
-                int n = scryptKdfParams.getN();
-                int p = scryptKdfParams.getP();
-                int r = scryptKdfParams.getR();
-                byte[] salt = Numeric.hexStringToByteArray(scryptKdfParams.getSalt());
-
-                derivedKey = generateDerivedScryptKey(password.getBytes(UTF_8), salt, n, r, p, dklen);
+        /**
+         * Decrypts the keys in KeyStore.<p>
+         * The keys are derived once for the same kdf parameters, and concurrently for different ones. See {@link KeyDerivation}.
+         * @param cryptoList The list of Crypto instances.
+         * @param password The password to use for decryption.
+         * @return {@code List<String>} The private keys in the order of the list.
+         * @throws CipherException
+         */
+        public static List<String> decryptCrypto(List<KeyStore.Crypto> cryptoList, String password) throws CipherException {
+            List<IKdfParams> kdfParamsList = new ArrayList<>(cryptoList.size());
+            for(KeyStore.Crypto crypto : cryptoList) {
+                //Check KDF Algorithm
+                IKdfParams kdfParams = crypto.getKdfparams();
+                if(!(kdfParams instanceof KeyStore.ScryptKdfParams) && !(kdfParams instanceof KeyStore.Pbkdf2KdfParams)) {
+                    throw new CipherException("Unable to deserialize params: " + crypto.getKdf());
+                }
+                kdfParamsList.add(kdfParams);
             }
-            //PBKDF2
-            else if (kdfParams instanceof KeyStore.Pbkdf2KdfParams) {
-                KeyStore.Pbkdf2KdfParams aes128CtrKdfParams =
-                        (KeyStore.Pbkdf2KdfParams) crypto.getKdfparams();
-                int c = aes128CtrKdfParams.getC();
-                String prf = aes128CtrKdfParams.getPrf();
-                byte[] salt = Numeric.hexStringToByteArray(aes128CtrKdfParams.getSalt());
-
-                derivedKey = generatePbkdf2DerivedKey(password.getBytes(UTF_8), salt, c, prf);
-            } else {
-                throw new CipherException("Unable to deserialize params: " + crypto.getKdf());
+
+            KeyDerivation.DerivedKeys derivedKeys = KeyDerivation.deriveAll(kdfParamsList, password);
+
+            List<String> privateKeys = new ArrayList<>(cryptoList.size());
+            for(int i = 0; i < cryptoList.size(); i++) {
+                privateKeys.add(decryptCrypto(cryptoList.get(i), derivedKeys.get(i)));
             }
 
+            // The keys are cached only after the MAC of every crypto is verified, so a wrong password is never cached.
+            derivedKeys.commit();
+            return privateKeys;
+        }
+
+        private static String decryptCrypto(KeyStore.Crypto crypto, byte[] derivedKey) throws CipherException {
+            byte[] mac = Numeric.hexStringToByteArray(crypto.getMac());
+            byte[] iv = Numeric.hexStringToByteArray(crypto.getCipherparams().getIv());
+            byte[] cipherText = Numeric.hexStringToByteArray(crypto.getCiphertext());
+
             byte[] derivedMac = generateMac(derivedKey, cipherText);
 
             if (!Arrays.equals(derivedMac, mac)) {
@@ -394,45 +383,6 @@ public class KeyStore {
             return Numeric.toHexString(privateKey);
         }
 
-        /**
-         * Derived key using SCRYPT algorithm.
-         * @param password The password to use for key derivation.
-         * @param salt Salt
-         * @param n Parameter n
-         * @param r Parameter r
-         * @param p Parameter p
-         * @param dkLen derivate key length
-         * @return byte array
-         * @throws CipherException
-         */
-        private static byte[] generateDerivedScryptKey(
-                byte[] password, byte[] salt, int n, int r, int p, int dkLen) throws CipherException {
-            return SCrypt.generate(password, salt, n, r, p, dkLen);
-        }
-
-        /**
-         * Derived key using PBKDF2 algorithm.
-         * @param password The password to use for key derivation
-         * @param salt Salt
-         * @param c Parameter c
-         * @param prf Parameter prf(Pseudo Random Function) name
-         * @return byte array
-         * @throws CipherException
-         */
-        private static byte[] generatePbkdf2DerivedKey(
-                byte[] password, byte[] salt, int c, String prf) throws CipherException {
-
-            if (!prf.equals("hmac-sha256")) {
-                throw new CipherException("Unsupported prf:" + prf);
-            }
-
-            // Java 8 supports this, but you have to convert the password to a character array, see
-            // http://stackoverflow.com/a/27928435/3211687
-            PKCS5S2ParametersGenerator gen = new PKCS5S2ParametersGenerator(new SHA256Digest());
-            gen.init(password, salt, c);
-            return ((KeyParameter) gen.generateDerivedParameters(256)).getKey();
-        }
-
         /**
          * Cipher operation with AEC-128-CTR algorithm
          * @param mode Encryption or Decryption
@@ -17,6 +17,7 @@
 package com.klaytn.caver.wallet.keyring;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.klaytn.caver.account.AccountKeyRoleBased;
 import com.klaytn.caver.account.WeightedMultiSigOptions;
 import com.klaytn.caver.utils.Utils;
@@ -39,6 +40,7 @@ import java.util.stream.Collectors;
  * @see com.klaytn.caver.wallet.keyring.RoleBasedKeyring
  */
 public class KeyringFactory {
+    private static final ObjectReader KEYSTORE_READER = new ObjectMapper().readerFor(KeyStore.class);
 
     /**
      * Returns a randomly generated single keyring instance.<p>
@@ -70,7 +72,26 @@ public class KeyringFactory {
         PrivateKey privateKey = PrivateKey.generate(entropy);
         String address = privateKey.getDerivedAddress();
 
-        return createWithSingleKey(address, privateKey.getPrivateKey());
+        return new SingleKeyring(address, privateKey);
+    }
+
+    /**
+     * Returns a list of randomly generated single keyring instances with entropy.<p>
+     * The keyrings are generated in parallel on the common fork-join pool. See {@link KeyringGenerator}.
+     * <pre>Example :
+     * {@code
+     * List<SingleKeyring> keyrings = caver.wallet.keyring.generate(100, null);
+     * }
+     * </pre>
+     *
+     * @param num The number of keyrings to generate.
+     * @param entropy A random string to create keyrings.
+     * @return {@code List<SingleKeyring>}
+     */
+    public static List<SingleKeyring> generate(int num, String entropy) {
+        KeyringGenerator generator = new KeyringGenerator();
+        generator.setEntropy(entropy);
+        return generator.generate(num);
     }
 
     /**
@@ -471,8 +492,7 @@ public class KeyringFactory {
      * @throws IOException
      */
     public static AbstractKeyring decrypt(String keyStore, String password) throws CipherException, IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        KeyStore file = mapper.readValue(keyStore, KeyStore.class);
+        KeyStore file = KEYSTORE_READER.readValue(keyStore);
 
         return decrypt(file, password);
     }
@@ -598,25 +618,26 @@ public class KeyringFactory {
         }
 
         List keyring = keystore.getKeyring();
-        List<String[]> privateKeyList = new ArrayList<>();
+        List<List<KeyStore.Crypto>> cryptoGroups = new ArrayList<>();
         if(keyring.get(0) instanceof KeyStore.Crypto) {
-            String[] privateKeyArr = new String[keyring.size()];
-            for(int i=0; i<keyring.size(); i++) {
-                KeyStore.Crypto crypto = (KeyStore.Crypto)keyring.get(i);
-                String privateKey = KeyStore.Crypto.decryptCrypto(crypto, password);
-                privateKeyArr[i] = privateKey;
-            }
-            privateKeyList.add(privateKeyArr);
+            cryptoGroups.add((List<KeyStore.Crypto>)keyring);
         } else {
-            for(List<KeyStore.Crypto> multiKeying : (List<List<KeyStore.Crypto>>)keyring) {
-                String[] privateKeyArr = new String[multiKeying.size()];
-                for(int i=0; i<multiKeying.size(); i++) {
-                    KeyStore.Crypto crypto = multiKeying.get(i);
-                    String privateKey = KeyStore.Crypto.decryptCrypto(crypto, password);
-                    privateKeyArr[i] = privateKey;
-                }
-                privateKeyList.add(privateKeyArr);
+            cryptoGroups.addAll((List<List<KeyStore.Crypto>>)keyring);
+        }
+
+        // Decrypts the keys of all roles at once, so that the keys are derived concurrently.
+        List<KeyStore.Crypto> cryptoList = new ArrayList<>();
+        cryptoGroups.forEach(cryptoList::addAll);
+        List<String> privateKeys = KeyStore.Crypto.decryptCrypto(cryptoList, password);
+
+        List<String[]> privateKeyList = new ArrayList<>();
+        int index = 0;
+        for(List<KeyStore.Crypto> group : cryptoGroups) {
+            String[] privateKeyArr = new String[group.size()];
+            for(int i=0; i<group.size(); i++) {
+                privateKeyArr[i] = privateKeys.get(index++);
             }
+            privateKeyList.add(privateKeyArr);
         }
 
         boolean isRoleBased = privateKeyList.stream().skip(1).anyMatch(array -> array.length > 0);
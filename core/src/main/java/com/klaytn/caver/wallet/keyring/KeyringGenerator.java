@@ -0,0 +1,321 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.wallet.keyring;
+
+import com.klaytn.caver.utils.SecureRandomUtils;
+import org.web3j.crypto.CipherException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Generates single type keyrings in parallel.<p>
+ * The keyrings are generated in batches on an executor. Each worker thread draws random bytes from its own SecureRandom.
+ * A batch is handed to the handler on the calling thread while the next batch is generated,
+ * so at most two batches are kept in memory regardless of the number of keyrings to generate.<p>
+ * If a password is set by {@link #setEncryption(String, String)}, each batch also holds the KeyStores of its keyrings.
+ * <pre>Example :
+ * {@code
+ * KeyringGenerator generator = new KeyringGenerator();
+ * generator.setBatchSize(1000);
+ * generator.setEncryption("password", KeyStore.ScryptKdfParams.getName());
+ *
+ * generator.generate(1_000_000, batch -> {
+ *     for(KeyStore keyStore : batch.getKeyStores()) {
+ *         writer.write(objectMapper.writeValueAsString(keyStore));
+ *     }
+ * });
+ * }
+ * </pre>
+ */
+public class KeyringGenerator {
+    /**
+     * The default number of keyrings in a batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    /**
+     * The number of keyrings generated in a task.
+     */
+    static final int CHUNK_SIZE = 32;
+
+    /**
+     * The executor to run the generation.
+     */
+    private final Executor executor;
+
+    /**
+     * The number of keyrings in a batch.
+     */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * A random string to increase entropy.
+     */
+    private String entropy;
+
+    /**
+     * The password to encrypt the generated keyrings, or null if they are not encrypted.
+     */
+    private String password;
+
+    /**
+     * The key derivation function name to use for encryption.
+     */
+    private String kdfName;
+
+    /**
+     * Creates a KeyringGenerator instance running the generation on the common fork-join pool.
+     */
+    public KeyringGenerator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a KeyringGenerator instance.
+     * @param executor The executor to run the generation.
+     */
+    public KeyringGenerator(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Generates keyrings and returns them in a list.
+     * <pre>Example :
+     * {@code
+     * List<SingleKeyring> keyrings = new KeyringGenerator().generate(100);
+     * }
+     * </pre>
+     *
+     * @param num The number of keyrings to generate.
+     * @return {@code List<SingleKeyring>}
+     */
+    public List<SingleKeyring> generate(int num) {
+        List<SingleKeyring> keyrings = new ArrayList<>(num);
+        try {
+            generate(num, batch -> keyrings.addAll(batch.getKeyrings()));
+        } catch(IOException | CipherException e) {
+            throw new RuntimeException(e);
+        }
+        return keyrings;
+    }
+
+    /**
+     * Generates keyrings and hands them to the handler in batches, in the order of generation.<p>
+     * The next batch is generated while the handler handles the current one.
+     * If the handler throws an exception, the generation of the next batch is stopped and the exception is thrown.
+     * <pre>Example :
+     * {@code
+     * new KeyringGenerator().generate(1_000_000, batch -> writeAddresses(batch.getAddresses()));
+     * }
+     * </pre>
+     *
+     * @param num The number of keyrings to generate.
+     * @param handler The handler to receive batches.
+     * @throws IOException
+     * @throws CipherException
+     */
+    public void generate(long num, BatchHandler handler) throws IOException, CipherException {
+        if(num < 0) {
+            throw new IllegalArgumentException("The number of keyrings to generate must not be negative.");
+        }
+
+        AtomicBoolean stopped = new AtomicBoolean();
+        long generated = 0;
+        CompletableFuture<Batch> next = num > 0 ? generateBatch((int)Math.min(batchSize, num), stopped) : null;
+        while(next != null) {
+            Batch batch = join(next);
+            generated += batch.size();
+            next = generated < num ? generateBatch((int)Math.min(batchSize, num - generated), stopped) : null;
+
+            try {
+                handler.handle(batch);
+            } catch(IOException | RuntimeException | Error e) {
+                stopped.set(true);
+                throw e;
+            }
+        }
+    }
+
+    private CompletableFuture<Batch> generateBatch(int size, AtomicBoolean stopped) {
+        String entropy = this.entropy;
+        String password = this.password;
+        String kdfName = this.kdfName;
+
+        SingleKeyring[] keyrings = new SingleKeyring[size];
+        KeyStore[] keyStores = password != null ? new KeyStore[size] : null;
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for(int start = 0; start < size; start += CHUNK_SIZE) {
+            int from = start;
+            int to = Math.min(size, start + CHUNK_SIZE);
+            tasks.add(CompletableFuture.runAsync(() -> {
+                for(int i = from; i < to && !stopped.get(); i++) {
+                    PrivateKey privateKey = PrivateKey.generate(entropy, SecureRandomUtils.threadLocalSecureRandom());
+                    keyrings[i] = new SingleKeyring(privateKey.getDerivedAddress(), privateKey);
+
+                    if(keyStores != null) {
+                        try {
+                            // KeyStoreOption keeps the salt and iv of an encryption, so an option is created per keyring.
+                            keyStores[i] = keyrings[i].encrypt(password, KeyStoreOption.getDefaultOptionWithKDF(kdfName));
+                        } catch(CipherException e) {
+                            throw new CompletionException(e);
+                        }
+                    }
+                }
+            }, executor));
+        }
+
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> new Batch(
+                        Arrays.asList(keyrings),
+                        keyStores != null ? Arrays.asList(keyStores) : null));
+    }
+
+    private static Batch join(CompletableFuture<Batch> future) throws CipherException {
+        try {
+            return future.join();
+        } catch(CompletionException e) {
+            if(e.getCause() instanceof CipherException) {
+                throw (CipherException)e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Getter function for batchSize.
+     * @return int
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Setter function for batchSize.
+     * @param batchSize The number of keyrings in a batch.
+     */
+    public void setBatchSize(int batchSize) {
+        if(batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive.");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Getter function for entropy.
+     * @return String
+     */
+    public String getEntropy() {
+        return entropy;
+    }
+
+    /**
+     * Setter function for entropy.
+     * @param entropy A random string to increase entropy.
+     */
+    public void setEntropy(String entropy) {
+        this.entropy = entropy;
+    }
+
+    /**
+     * Sets the password and the key derivation function to encrypt the generated keyrings.<p>
+     * If the password is null, the keyrings are not encrypted.
+     * @param password The password to encrypt the keyrings.
+     * @param kdfName Key derivation algorithm name. you can use "pbkdf2" or "scrypt".
+     */
+    public void setEncryption(String password, String kdfName) {
+        if(password != null) {
+            // Fails fast on an unsupported kdf name.
+            KeyStoreOption.getDefaultOptionWithKDF(kdfName);
+        }
+        this.password = password;
+        this.kdfName = kdfName;
+    }
+
+    /**
+     * Handles a batch of generated keyrings.
+     */
+    @FunctionalInterface
+    public interface BatchHandler {
+        void handle(Batch batch) throws IOException;
+    }
+
+    /**
+     * Represents a batch of generated keyrings.
+     */
+    public static class Batch {
+        /**
+         * The generated keyrings.
+         */
+        private final List<SingleKeyring> keyrings;
+
+        /**
+         * The KeyStores of the keyrings, or null if they are not encrypted.
+         */
+        private final List<KeyStore> keyStores;
+
+        Batch(List<SingleKeyring> keyrings, List<KeyStore> keyStores) {
+            this.keyrings = Collections.unmodifiableList(keyrings);
+            this.keyStores = keyStores != null ? Collections.unmodifiableList(keyStores) : null;
+        }
+
+        /**
+         * Returns the number of keyrings in the batch.
+         * @return int
+         */
+        public int size() {
+            return keyrings.size();
+        }
+
+        /**
+         * Getter function for keyrings.
+         * @return {@code List<SingleKeyring>}
+         */
+        public List<SingleKeyring> getKeyrings() {
+            return keyrings;
+        }
+
+        /**
+         * Returns the addresses of the keyrings.
+         * @return {@code List<String>}
+         */
+        public List<String> getAddresses() {
+            List<String> addresses = new ArrayList<>(keyrings.size());
+            for(SingleKeyring keyring : keyrings) {
+                addresses.add(keyring.getAddress());
+            }
+            return addresses;
+        }
+
+        /**
+         * Getter function for keyStores. It is null if the keyrings are not encrypted.
+         * @return {@code List<KeyStore>}
+         */
+        public List<KeyStore> getKeyStores() {
+            return keyStores;
+        }
+    }
+}
@@ -16,7 +16,9 @@
 
 package com.klaytn.caver.wallet.keyring;
 
+import com.klaytn.caver.crypto.Secp256k1;
 import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.SecureRandomUtils;
 import com.klaytn.caver.utils.Utils;
 import org.web3j.crypto.ECKeyPair;
 import org.web3j.crypto.Hash;
@@ -25,6 +27,7 @@ import org.web3j.crypto.Sign;
 import org.web3j.utils.Numeric;
 
 import java.math.BigInteger;
+import java.security.SecureRandom;
 
 /**
  * Represents a PrivateKey class that includes private key string
@@ -35,7 +38,18 @@ public class PrivateKey {
     /**
      * Private key string
      */
-    private String privateKey;
+    private final String privateKey;
+
+    /**
+     * The key pair parsed from the private key string.<p>
+     * It is derived once on first use, so signing doesn't re-parse the key and re-derive the public key every time.
+     */
+    private volatile ECKeyPair keyPair;
+
+    /**
+     * The address derived from the public key.
+     */
+    private volatile String derivedAddress;
 
     /**
      * Creates a PrivateKey instance
@@ -71,17 +85,36 @@ public class PrivateKey {
      * @return PrivateKey
      */
     public static PrivateKey generate(String entropy) {
-        byte[] random = Utils.generateRandomBytes(32);
+        return generate(entropy, SecureRandomUtils.secureRandom());
+    }
+
+    /**
+     * Create a PrivateKey instance with entropy, drawing random bytes from the given SecureRandom.<p>
+     * <pre>{@code
+     * PrivateKey privateKey = PrivateKey.generate(null, SecureRandomUtils.threadLocalSecureRandom());
+     * }</pre>
+     *
+     * @param entropy The entropy string
+     * @param secureRandom The SecureRandom to draw random bytes from.
+     * @return PrivateKey
+     */
+    public static PrivateKey generate(String entropy, SecureRandom secureRandom) {
+        byte[] random = new byte[32];
+        secureRandom.nextBytes(random);
 
         byte[] entropyArr;
         if(entropy == null || entropy.isEmpty()) {
-            entropyArr = Utils.generateRandomBytes(32);
+            entropyArr = new byte[32];
+            secureRandom.nextBytes(entropyArr);
         } else {
             entropyArr = Numeric.hexStringToByteArray(entropy);
         }
 
         byte[] innerHex = Hash.sha3(BytesUtils.concat(random, entropyArr));
-        byte[] middleHex = BytesUtils.concat(BytesUtils.concat(Utils.generateRandomBytes(32), innerHex), Utils.generateRandomBytes(32));
+
+        byte[] middleHex = new byte[64 + innerHex.length];
+        secureRandom.nextBytes(middleHex);
+        System.arraycopy(innerHex, 0, middleHex, 32, innerHex.length);
 
         String outerHex = Numeric.toHexString(Hash.sha3(middleHex));
 
@@ -104,13 +137,34 @@ public class PrivateKey {
      * @return SignatureData
      */
     public SignatureData sign(String sigHash, int chainId) {
-        ECKeyPair keyPair = ECKeyPair.create(Numeric.toBigInt(privateKey));
-        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(sigHash), keyPair, false);
+        return sign(Numeric.hexStringToByteArray(sigHash), chainId);
+    }
 
-        SignatureData signData = new SignatureData(signatureData.getV(), signatureData.getR(), signatureData.getS());
-        signData.makeEIP155Signature(chainId);
+    /**
+     * Signs transactionHash with key and returns signature.<p>
+     * <pre>Example :
+     * {@code
+     * int chainId = 1;
+     * byte[] hash = TransactionHasher.getHashForSignature(transaction);
+     * PrivateKey prvKey = new PrivateKey("{privateKeyString}");
+     *
+     * SignatureData sign = prvKey.sign(hash, chainId);
+     * }
+     * </pre>
+     * @param sigHash The has of transactionHash
+     * @param chainId The chainId or network
+     * @return SignatureData
+     */
+    public SignatureData sign(byte[] sigHash, int chainId) {
+        Sign.SignatureData signatureData = Secp256k1.sign(sigHash, getKeyPair());
 
-        return signData;
+        // Secp256k1.sign() always add to 27 at V value, so EIP-155 V is (V - 27) + 35 + chainId * 2.
+        int v = (signatureData.getV()[0] & 0xff) + 8 + chainId * 2;
+
+        return new SignatureData(
+                Numeric.toHexStringWithPrefix(BigInteger.valueOf(v)),
+                Numeric.toHexString(signatureData.getR()),
+                Numeric.toHexString(signatureData.getS()));
     }
 
     /**
@@ -128,10 +182,19 @@ public class PrivateKey {
      * @return SignatureData
      */
     public SignatureData ecsign(String sigHash) {
-        ECKeyPair keyPair = ECKeyPair.create(Numeric.toBigInt(privateKey));
-        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(sigHash), keyPair, false);
+        return ecsign(Numeric.hexStringToByteArray(sigHash));
+    }
 
-        // Sign.signMessage() always add to 27 at V value. so it need to substract 27 from V value.
+    /**
+     * Signs with hashed data and returns signature data.<p>
+     * It returns a signature which has v as a parity of the y value(0 for even, 1 for odd) of secp256k1 signature.
+     * @param sigHash The hash to sign
+     * @return SignatureData
+     */
+    public SignatureData ecsign(byte[] sigHash) {
+        Sign.SignatureData signatureData = Secp256k1.sign(sigHash, getKeyPair());
+
+        // Secp256k1.sign() always add to 27 at V value. so it need to substract 27 from V value.
         byte[] v = new byte[] {(byte)(signatureData.getV()[0] - 27)};
 
         SignatureData signData = new SignatureData(v, signatureData.getR(), signatureData.getS());
@@ -152,8 +215,16 @@ public class PrivateKey {
      * @return SignatureData
      */
     public SignatureData signMessage(String messageHash) {
-        ECKeyPair keyPair = ECKeyPair.create(Numeric.toBigInt(privateKey));
-        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(messageHash), keyPair, false);
+        return signMessage(Numeric.hexStringToByteArray(messageHash));
+    }
+
+    /**
+     * Signs hashed data with key and returns signature.
+     * @param messageHash The hash of data to sign
+     * @return SignatureData
+     */
+    public SignatureData signMessage(byte[] messageHash) {
+        Sign.SignatureData signatureData = Secp256k1.sign(messageHash, getKeyPair());
 
         SignatureData signData = new SignatureData(signatureData.getV(), signatureData.getR(), signatureData.getS());
         return signData;
@@ -172,7 +243,7 @@ public class PrivateKey {
      * @return String
      */
     public String getPublicKey(boolean compressed) {
-        BigInteger publicKey = Sign.publicKeyFromPrivate(Numeric.toBigInt(privateKey));
+        BigInteger publicKey = getKeyPair().getPublicKey();
 
         if(compressed) {
             return Utils.compressPublicKey(Numeric.toHexStringWithPrefixZeroPadded(publicKey, LEN_UNCOMPRESSED_PUBLIC_KEY_STRING));
@@ -192,8 +263,27 @@ public class PrivateKey {
      * @return String
      */
     public String getDerivedAddress() {
-        BigInteger publicKey = Sign.publicKeyFromPrivate(Numeric.toBigInt(privateKey));
-        return Numeric.prependHexPrefix(Keys.getAddress(publicKey));
+        String address = derivedAddress;
+        if(address == null) {
+            address = Numeric.prependHexPrefix(Keys.getAddress(getKeyPair().getPublicKey()));
+            derivedAddress = address;
+        }
+        return address;
+    }
+
+    /**
+     * Returns the key pair that holds the private key scalar and the public key.<p>
+     * The key pair is derived once and reused.
+     * @return ECKeyPair
+     */
+    public ECKeyPair getKeyPair() {
+        ECKeyPair pair = keyPair;
+        if(pair == null) {
+            BigInteger scalar = Numeric.toBigInt(privateKey);
+            pair = new ECKeyPair(scalar, Secp256k1.publicKeyFromPrivate(scalar));
+            keyPair = pair;
+        }
+        return pair;
     }
 
     /**
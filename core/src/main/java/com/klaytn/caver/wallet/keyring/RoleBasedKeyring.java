@@ -237,11 +237,18 @@ public class RoleBasedKeyring extends AbstractKeyring {
     public KeyStore encrypt(String password, KeyStoreOption options) throws CipherException {
         List<List<KeyStore.Crypto>> cryptoList = new ArrayList<>();
 
+        // The keys of all roles share the salt and iv in options, so they are encrypted at once to derive the key once.
+        List<PrivateKey> allKeys = new ArrayList<>();
+        for(int i = 0; i<AccountKeyRoleBased.ROLE_GROUP_COUNT; i++) {
+            allKeys.addAll(Arrays.asList(this.keys.get(i)));
+        }
+        List<KeyStore.Crypto> encrypted = KeyStore.Crypto.createCrypto(allKeys.toArray(new PrivateKey[0]), password, options);
 
+        int index = 0;
         for(int i = 0; i<AccountKeyRoleBased.ROLE_GROUP_COUNT; i++) {
-            PrivateKey[] privateKeys = this.keys.get(i);
-            List<KeyStore.Crypto> list = KeyStore.Crypto.createCrypto(privateKeys, password, options);
-            cryptoList.add(list);
+            int length = this.keys.get(i).length;
+            cryptoList.add(new ArrayList<>(encrypted.subList(index, index + length)));
+            index += length;
         }
 
         KeyStore keyStore = new KeyStore();
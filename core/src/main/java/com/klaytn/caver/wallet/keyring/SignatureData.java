@@ -20,6 +20,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.klaytn.caver.transaction.type.TransactionType;
 import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
 import com.klaytn.caver.utils.Utils;
 import org.web3j.rlp.RlpList;
 import org.web3j.rlp.RlpString;
@@ -125,6 +127,32 @@ public class SignatureData {
         return signatureDataList;
     }
 
+    /**
+     * Decodes a signature list read by RlpReader.
+     * <pre>Example :
+     * {@code
+     * List<SignatureData> senderSignList = SignatureData.decodeSignatures(values.readList());
+     * }
+     * </pre>
+     *
+     * @param signatureListReader The RlpReader reading the elements of a signature list.
+     * @return {@code List<SignatureData>}
+     */
+    public static List<SignatureData> decodeSignatures(RlpReader signatureListReader) {
+        List<SignatureData> signatureDataList = new ArrayList<>();
+
+        while(signatureListReader.hasNext()) {
+            RlpReader vrs = signatureListReader.readList();
+            byte[] v = vrs.hasNext() ? vrs.readBytes() : null;
+            byte[] r = vrs.hasNext() ? vrs.readBytes() : null;
+            byte[] s = vrs.hasNext() ? vrs.readBytes() : null;
+            if(s == null) continue;
+            signatureDataList.add(new SignatureData(v, r, s));
+        }
+
+        return signatureDataList;
+    }
+
     /**
      * Set "V" field according to EIP-155.
      * <pre>Example :
@@ -214,6 +242,48 @@ public class SignatureData {
         );
     }
 
+    /**
+     * Writes the RLP encoding of this signature([v, r, s]) to the given writer.<p>
+     * The result is the same as the encoding of {@link #toRlpList()}.
+     * <pre>Example :
+     * {@code
+     * RlpWriter writer = new RlpWriter();
+     * signature.writeRlp(writer);
+     * }
+     * </pre>
+     * @param writer The RlpWriter to write to.
+     */
+    public void writeRlp(RlpWriter writer) {
+        writer.startList();
+        writeRlpValues(writer);
+        writer.endList();
+    }
+
+    /**
+     * Writes v, r and s of this signature to the given writer without a list header.<p>
+     * It is used by the transaction types that put signature fields at the top level(e.g. LegacyTransaction).
+     * @param writer The RlpWriter to write to.
+     */
+    public void writeRlpValues(RlpWriter writer) {
+        // v value is integer by its spec, so integer 0 is encoded as 0x80.
+        writer.writeHexNumber(getV());
+        writer.writeHexBytes(getR(), true);
+        writer.writeHexBytes(getS(), true);
+    }
+
+    /**
+     * Writes the RLP encoding of the signature list to the given writer.
+     * @param writer The RlpWriter to write to.
+     * @param signatures A List of SignatureData.
+     */
+    public static void writeRlpList(RlpWriter writer, List<SignatureData> signatures) {
+        writer.startList();
+        for(SignatureData signatureData : signatures) {
+            signatureData.writeRlp(writer);
+        }
+        writer.endList();
+    }
+
     /**
      * Get a recover id from signatureData.
      * <pre>Example :
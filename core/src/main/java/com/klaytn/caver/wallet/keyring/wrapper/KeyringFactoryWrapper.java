@@ -69,6 +69,22 @@ public class KeyringFactoryWrapper {
         return KeyringFactory.generate(entropy);
     }
 
+    /**
+     * Generates a list of single type of keyring instances with entropy.<p>
+     * <pre>Example :
+     * {@code
+     * List<SingleKeyring> keyrings = caver.wallet.keyring.generate(100, null);
+     * }
+     * </pre>
+     *
+     * @param num The number of keyrings to generate.
+     * @param entropy A random string to create keyrings.
+     * @return {@code List<SingleKeyring>}
+     */
+    public List<SingleKeyring> generate(int num, String entropy) {
+        return KeyringFactory.generate(num, entropy);
+    }
+
     /**
      * Generates a single private key string.<p>
      * <pre>Example :
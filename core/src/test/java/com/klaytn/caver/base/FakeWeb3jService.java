@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.base;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.reactivex.Flowable;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A Web3jService answering requests in memory, for the tests that don't need a node.<p>
+ * Subclasses create the response of each request. It counts the single and batch requests, and doesn't support subscriptions.<p>
+ * Like org.web3j.protocol.Service, the responses of a batch are serialized to JSON and parsed by position
+ * with the response type of the request at the same position.
+ */
+public abstract class FakeWeb3jService implements Web3jService {
+    public final AtomicInteger singleCount = new AtomicInteger();
+    public final AtomicInteger batchCount = new AtomicInteger();
+    public final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Creates the response of a request.
+     * @param request The request to answer.
+     * @return Response
+     * @throws IOException
+     */
+    protected abstract Response<?> respond(Request<?, ?> request) throws IOException;
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        singleCount.incrementAndGet();
+        return responseType.cast(respond(request));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            future.complete(send(request, responseType));
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        batchCount.incrementAndGet();
+        batchSizes.add(batchRequest.getRequests().size());
+
+        List<JsonNode> replies = new ArrayList<>();
+        for(Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+            replies.add(ObjectMapperFactory.getObjectMapper().valueToTree(respond(request)));
+        }
+        return parseBatch(batchRequest, replies);
+    }
+
+    /**
+     * Parses the JSON replies of a batch. The i-th reply is parsed with the response type of the i-th request.
+     * @param batchRequest The batch request.
+     * @param replies The JSON replies in the order the node returns them.
+     * @return BatchResponse
+     * @throws IOException
+     */
+    protected BatchResponse parseBatch(BatchRequest batchRequest, List<JsonNode> replies) throws IOException {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        List<Response<?>> responses = new ArrayList<>();
+        for(int i = 0; i < replies.size(); i++) {
+            responses.add(ObjectMapperFactory.getObjectMapper().treeToValue(replies.get(i), requests.get(i).getResponseType()));
+        }
+        return new BatchResponse(requests, responses);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        CompletableFuture<BatchResponse> future = new CompletableFuture<>();
+        try {
+            future.complete(sendBatch(batchRequest));
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(Request request, String unsubscribeMethod, Class<T> responseType) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -17,17 +17,26 @@
 package com.klaytn.caver.common.abi;
 
 import com.klaytn.caver.Caver;
+import com.klaytn.caver.abi.DecodedEvent;
+import com.klaytn.caver.abi.EventDecoder;
 import com.klaytn.caver.abi.EventValues;
+import com.klaytn.caver.abi.LazyValue;
+import com.klaytn.caver.abi.ParameterCodec;
 import com.klaytn.caver.abi.TypeDecoder;
+import com.klaytn.caver.abi.TypeReference;
 import com.klaytn.caver.abi.datatypes.*;
 import com.klaytn.caver.abi.datatypes.generated.*;
 import com.klaytn.caver.contract.Contract;
+import com.klaytn.caver.contract.ContractEvent;
 import com.klaytn.caver.contract.ContractIOType;
+import com.klaytn.caver.contract.ContractMethod;
+import com.klaytn.caver.methods.response.KlayLogs;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
@@ -36,9 +45,15 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(Enclosed.class)
@@ -1355,6 +1370,43 @@ public class ABITest {
                     "0000000000000000000000000000000000000000000000000000000000000020000000000000000000000000000000000000000000000000000000000000004000000000000000000000000000000000000000000000000000000000000000600000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000004000000000000000000000000000000000000000000000000000000000000000800000000000000000000000000000000000000000000000000000000000000003313233000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000033435360000000000000000000000000000000000000000000000000000000000"
             );
         }
+
+        @Test
+        public void encodeParametersToBytes() {
+            List<Type> params = Arrays.asList(
+                    new Int256(BigInteger.ONE.negate()),
+                    new Utf8String("\ud55c\uae00\ud83d\ude00"),
+                    new Uint256(BigInteger.ONE.shiftLeft(255))
+            );
+            String expected = "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff"
+                    + "0000000000000000000000000000000000000000000000000000000000000060"
+                    + "8000000000000000000000000000000000000000000000000000000000000000"
+                    + "000000000000000000000000000000000000000000000000000000000000000a"
+                    + "ed959ceab880f09f988000000000000000000000000000000000000000000000";
+
+            assertEquals(expected, Numeric.toHexStringNoPrefix(caver.abi.encodeParametersToBytes(params)));
+            assertEquals(expected, caver.abi.encodeParameters(params));
+        }
+
+        @Test
+        public void encodeUnpairedSurrogateInStringArray() {
+            // An unpaired surrogate is encoded as '?', so the offsets must count it as 1 byte.
+            String value = String.join("", Collections.nCopies(30, "a")) + "\ud800";
+            List<Type> params = Arrays.asList(
+                    new DynamicArray<>(Utf8String.class, new Utf8String(value), new Utf8String("c"))
+            );
+            String expected = "0000000000000000000000000000000000000000000000000000000000000020"
+                    + "0000000000000000000000000000000000000000000000000000000000000002"
+                    + "0000000000000000000000000000000000000000000000000000000000000040"
+                    + "0000000000000000000000000000000000000000000000000000000000000080"
+                    + "000000000000000000000000000000000000000000000000000000000000001f"
+                    + "6161616161616161616161616161616161616161616161616161616161613f00"
+                    + "0000000000000000000000000000000000000000000000000000000000000001"
+                    + "6300000000000000000000000000000000000000000000000000000000000000";
+
+            assertEquals(expected, caver.abi.encodeParameters(params));
+            assertEquals(expected, Numeric.toHexStringNoPrefix(caver.abi.encodeParametersToBytes(params)));
+        }
     }
 
     public static class decodeParameter {
@@ -2502,6 +2554,31 @@ public class ABITest {
                     "0x0000000000000000000000000000000000000000000000000000000000000020000000000000000000000000000000000000000000000000000000000000004000000000000000000000000000000000000000000000000000000000000000600000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000004000000000000000000000000000000000000000000000000000000000000000800000000000000000000000000000000000000000000000000000000000000003313233000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000033435360000000000000000000000000000000000000000000000000000000000"
             );
         }
+
+        @Test
+        public void decodeParametersFromBytes() throws ClassNotFoundException {
+            List<String> types = Arrays.asList("int8", "uint64", "int56", "bool", "string", "bytes2");
+            String encoded = "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff"
+                    + "000000000000000000000000000000000000000000000000ffffffffffffffff"
+                    + "ffffffffffffffffffffffffffffffffffffffffffffffffff80000000000000"
+                    + "0000000000000000000000000000000000000000000000000000000000000001"
+                    + "00000000000000000000000000000000000000000000000000000000000000c0"
+                    + "abcd000000000000000000000000000000000000000000000000000000000000"
+                    + "000000000000000000000000000000000000000000000000000000000000000a"
+                    + "ed959ceab880f09f988000000000000000000000000000000000000000000000";
+
+            List<Type> expected = Arrays.asList(
+                    new Int8(BigInteger.ONE.negate()),
+                    new Uint64(new BigInteger("ffffffffffffffff", 16)),
+                    new Int56(BigInteger.ONE.shiftLeft(55).negate()),
+                    new Bool(true),
+                    new Utf8String("\ud55c\uae00\ud83d\ude00"),
+                    new Bytes2(new byte[] {(byte)0xab, (byte)0xcd})
+            );
+
+            assertEquals(expected, caver.abi.decodeParameters(types, Numeric.hexStringToByteArray(encoded)));
+            assertEquals(expected, caver.abi.decodeParameters(types, encoded));
+        }
     }
 
     public static class decodeLog {
@@ -2718,4 +2795,382 @@ public class ABITest {
             caver.abi.decodeFunctionCall(abi, encoded);
         }
     }
+
+    public static class parameterCodec {
+        static Caver caver = new Caver(Caver.DEFAULT_URL);
+
+        String TEST_ABI = "[{\"constant\":false,\"inputs\":[{\"components\":[{\"name\":\"x\",\"type\":\"uint256\"},{\"name\":\"s\",\"type\":\"string\"}],\"name\":\"d\",\"type\":\"tuple\"},{\"name\":\"a\",\"type\":\"uint256[]\"}],\"name\":\"f\",\"outputs\":[{\"name\":\"\",\"type\":\"string\"},{\"name\":\"\",\"type\":\"int8\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"a\",\"type\":\"uint256\"}],\"name\":\"g\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"}]";
+
+        @Test
+        public void encode() throws Exception {
+            List<String> types = Arrays.asList("tuple(uint256,string)", "uint256[]", "address", "bytes3", "bool");
+            List<Object> values = Arrays.asList(
+                    Arrays.asList(BigInteger.ONE, "caver"),
+                    Arrays.asList(BigInteger.valueOf(2), BigInteger.valueOf(3)),
+                    "0x2e2c4d6f4d9e0f7d12d8f7c9f7e8a6a7f9f0f1f2",
+                    "0x010203",
+                    true
+            );
+
+            ParameterCodec codec = ParameterCodec.of(types);
+            String expected = caver.abi.encodeParameters(types, values);
+
+            assertEquals(expected, codec.encode(values));
+            assertEquals(expected, Numeric.toHexStringNoPrefix(codec.encodeToBytes(values)));
+        }
+
+        @Test
+        public void decode() throws Exception {
+            List<String> types = Arrays.asList("tuple(uint256,string)", "uint256[]", "int8");
+            List<Object> values = Arrays.asList(
+                    Arrays.asList(BigInteger.ONE, "caver"),
+                    Arrays.asList(BigInteger.valueOf(2), BigInteger.valueOf(3)),
+                    BigInteger.valueOf(-1)
+            );
+
+            ParameterCodec codec = ParameterCodec.of(types);
+            String encoded = codec.encode(values);
+
+            assertEquals(codec.instantiate(values), codec.decode(encoded));
+            assertEquals(codec.instantiate(values), codec.decode(Numeric.hexStringToByteArray(encoded)));
+        }
+
+        @Test
+        public void contractMethodCodec() throws Exception {
+            Contract contract = new Contract(caver, TEST_ABI);
+            ContractMethod method = contract.getMethod("f");
+
+            assertSame(method.getInputCodec(), method.getInputCodec());
+            assertSame(method.getOutputCodec(), method.getOutputCodec());
+            assertEquals(caver.abi.encodeFunctionSignature("f((uint256,string),uint256[])"), method.getFunctionSelector());
+            assertEquals(caver.abi.encodeFunctionSignature("g(uint256)"), contract.getMethod("g").getFunctionSelector());
+
+            List<Object> params = Arrays.asList(Arrays.asList(BigInteger.ONE, "caver"), Arrays.asList(BigInteger.TEN));
+            String expected = caver.abi.encodeFunctionSignature("f((uint256,string),uint256[])")
+                    + caver.abi.encodeParameters(Arrays.asList("tuple(uint256,string)", "uint256[]"), params);
+            assertEquals(expected, caver.abi.encodeFunctionCall(method, params));
+
+            String output = caver.abi.encodeParameters(Arrays.asList("string", "int8"), Arrays.asList("result", BigInteger.valueOf(-5)));
+            List<Type> decoded = caver.abi.decodeParameters(method, output);
+            assertEquals("result", decoded.get(0).getValue());
+            assertEquals(BigInteger.valueOf(-5), decoded.get(1).getValue());
+        }
+    }
+
+    public static class decodeParametersLazy {
+        static Caver caver = new Caver(Caver.DEFAULT_URL);
+
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        static List<Object> listing(long id, String owner, String uri) {
+            return Arrays.asList(BigInteger.valueOf(id), owner, uri);
+        }
+
+        @Test
+        public void sameAsEagerDecoding() throws Exception {
+            List<String> types = Arrays.asList(
+                    "uint256",
+                    "tuple(uint256,address,string)[]",
+                    "string[]",
+                    "tuple(uint256,uint256)",
+                    "uint256[2][]",
+                    "bytes",
+                    "tuple(uint256,uint256[],tuple(uint256,uint256)[])",
+                    "bool[3]"
+            );
+            List<Object> values = Arrays.asList(
+                    BigInteger.TEN,
+                    Arrays.asList(
+                            listing(1, "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a", "ipfs://first"),
+                            listing(2, "0xe97f27e9a5765ce36a7b919b1cb6004c7209217e", ""),
+                            listing(3, "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a", "ipfs://third-token-uri-longer-than-32-bytes")
+                    ),
+                    Arrays.asList("a", "bb", "ccc"),
+                    Arrays.asList(BigInteger.ONE, BigInteger.valueOf(2)),
+                    Arrays.asList(Arrays.asList(BigInteger.ONE, BigInteger.valueOf(2)), Arrays.asList(BigInteger.valueOf(3), BigInteger.valueOf(4))),
+                    "0x0102030405",
+                    Arrays.asList(BigInteger.valueOf(7), Arrays.asList(BigInteger.valueOf(8), BigInteger.valueOf(9)),
+                            Arrays.asList(Arrays.asList(BigInteger.ONE, BigInteger.ZERO))),
+                    Arrays.asList(true, false, true)
+            );
+
+            String encoded = caver.abi.encodeParameters(types, values);
+            List<Type> expected = caver.abi.decodeParameters(types, encoded);
+            List<LazyValue> actual = caver.abi.decodeParametersLazy(types, encoded);
+
+            assertEquals(expected.size(), actual.size());
+            for(int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), actual.get(i).decode());
+            }
+        }
+
+        @Test
+        public void accessElement() throws Exception {
+            List<Object> listings = new ArrayList<>();
+            for(int i = 0; i < 200; i++) {
+                listings.add(listing(i, "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a", "ipfs://token/" + i));
+            }
+            List<String> types = Arrays.asList("tuple(uint256,address,string)[]", "uint256");
+            String encoded = caver.abi.encodeParameters(types, Arrays.asList(listings, BigInteger.valueOf(200)));
+
+            List<LazyValue> result = caver.abi.decodeParametersLazy(types, encoded);
+            LazyValue array = result.get(0);
+
+            assertTrue(array.hasElements());
+            assertEquals(200, array.size());
+            assertEquals(BigInteger.valueOf(150), array.get(150).get(0).getValue());
+            assertEquals("0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a", array.get(150).get(1).getValue());
+            assertEquals("ipfs://token/199", array.get(199).get(2).getValue());
+            assertEquals(BigInteger.valueOf(200), result.get(1).getValue());
+        }
+
+        @Test
+        public void decodeNumericBoundaries() throws Exception {
+            BigInteger twoTo63 = BigInteger.ONE.shiftLeft(63);
+            List<String> types = Arrays.asList("int256", "int256", "int256", "int256", "uint256", "uint256", "int64", "int64", "uint64", "int128", "uint256");
+            List<Object> values = Arrays.asList(
+                    BigInteger.valueOf(-1),
+                    BigInteger.valueOf(Long.MIN_VALUE),
+                    BigInteger.valueOf(Long.MAX_VALUE),
+                    twoTo63.negate().subtract(BigInteger.ONE),
+                    twoTo63,
+                    BigInteger.ZERO,
+                    BigInteger.valueOf(Long.MIN_VALUE),
+                    BigInteger.valueOf(Long.MAX_VALUE),
+                    BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE),
+                    BigInteger.valueOf(-300),
+                    BigInteger.TEN.pow(30)
+            );
+
+            String encoded = caver.abi.encodeParameters(types, values);
+            List<Type> decoded = caver.abi.decodeParameters(types, encoded);
+            List<LazyValue> lazy = caver.abi.decodeParametersLazy(types, encoded);
+
+            for(int i = 0; i < values.size(); i++) {
+                assertEquals(values.get(i), decoded.get(i).getValue());
+                assertEquals(values.get(i), lazy.get(i).getBigInteger());
+                if(((BigInteger)values.get(i)).bitLength() < 64) {
+                    assertEquals(((BigInteger)values.get(i)).longValue(), lazy.get(i).getLong());
+                }
+            }
+        }
+
+        @Test
+        public void decodeNumericArray() throws Exception {
+            List<String> types = Arrays.asList("uint256[]", "int8[3]");
+            List<Object> values = Arrays.asList(
+                    Arrays.asList(BigInteger.ZERO, BigInteger.valueOf(18), BigInteger.valueOf(1650000000L), BigInteger.valueOf(Long.MAX_VALUE)),
+                    Arrays.asList(BigInteger.valueOf(-128), BigInteger.ZERO, BigInteger.valueOf(127))
+            );
+            String encoded = caver.abi.encodeParameters(types, values);
+            List<LazyValue> lazy = caver.abi.decodeParametersLazy(types, encoded);
+
+            assertTrue(Arrays.equals(new long[] {0, 18, 1650000000L, Long.MAX_VALUE}, lazy.get(0).getLongArray()));
+            assertTrue(Arrays.equals(new long[] {-128, 0, 127}, lazy.get(1).getLongArray()));
+            assertEquals(values.get(0), Arrays.asList(lazy.get(0).getBigIntegerArray()));
+        }
+
+        @Test
+        public void throwException_longOutOfRange() throws Exception {
+            expectedException.expect(ArithmeticException.class);
+
+            String encoded = caver.abi.encodeParameter("uint256", BigInteger.ONE.shiftLeft(63));
+            caver.abi.decodeParametersLazy(Arrays.asList("uint256"), encoded).get(0).getLong();
+        }
+
+        @Test
+        public void throwException_atomicTypeElements() throws Exception {
+            expectedException.expect(UnsupportedOperationException.class);
+
+            List<LazyValue> result = caver.abi.decodeParametersLazy(Arrays.asList("uint256"), caver.abi.encodeParameter("uint256", BigInteger.ONE));
+            result.get(0).get(0);
+        }
+
+        @Test
+        public void throwException_invalidArrayLength() throws Exception {
+            expectedException.expect(IndexOutOfBoundsException.class);
+
+            // offset 0x20 and an array length larger than the data.
+            String encoded = "0000000000000000000000000000000000000000000000000000000000000020" +
+                    "00000000000000000000000000000000000000000000000000000000000000ff";
+            caver.abi.decodeParametersLazy(Arrays.asList("uint256[]"), encoded).get(0);
+        }
+    }
+
+    public static class makeTypeReference {
+        @Test
+        public void reuseParsedTypeReference() throws ClassNotFoundException {
+            TypeReference reference = TypeReference.makeTypeReference("tuple(uint256,address,string)[]");
+
+            assertSame(reference, TypeReference.makeTypeReference("tuple(uint256,address,string)[]"));
+            assertSame(TypeReference.makeTypeReference("uint256[3]"), TypeReference.makeTypeReference("uint256[3]"));
+            assertEquals(DynamicArray.class, reference.getClassType());
+        }
+
+        @Test
+        public void distinguishIndexedAndPrimitives() throws ClassNotFoundException {
+            TypeReference reference = TypeReference.makeTypeReference("uint8");
+            TypeReference indexed = TypeReference.makeTypeReference("uint8", true, false);
+            TypeReference primitives = TypeReference.makeTypeReference("uint8", false, true);
+
+            assertFalse(reference.isIndexed());
+            assertTrue(indexed.isIndexed());
+            assertNotSame(reference, primitives);
+            assertSame(indexed, TypeReference.makeTypeReference("uint8", true, false));
+        }
+    }
+
+    public static class eventDecoder {
+        static final String TRANSFER_TOPIC = "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef";
+
+        static ContractEvent transferEvent() {
+            return new ContractEvent("event", "Transfer", null, Arrays.asList(
+                    new ContractIOType("from", "address", true),
+                    new ContractIOType("to", "address", true),
+                    new ContractIOType("value", "uint256", false)
+            ));
+        }
+
+        static KlayLogs.LogObject transferLog(String to, long value) {
+            return new KlayLogs.LogObject("0x0", "0x0", "0x", "0x", "0x1", "0x7b65b75d204abed71587c9e519a89277766ee1d0",
+                    Numeric.toHexStringWithPrefixZeroPadded(BigInteger.valueOf(value), 64),
+                    Arrays.asList(
+                            TRANSFER_TOPIC,
+                            "0x0000000000000000000000002c8ad0ea2e0781db8b8c9242e07de3a5beabb71a",
+                            "0x000000000000000000000000" + Numeric.cleanHexPrefix(to)
+                    ));
+        }
+
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Test
+        public void decode() throws ClassNotFoundException {
+            EventDecoder decoder = new EventDecoder(transferEvent());
+            KlayLogs.Log log = transferLog("0xe97f27e9a5765ce36a7b919b1cb6004c7209217e", 1000);
+
+            DecodedEvent decoded = decoder.decode(log);
+            EventValues expected = caver.abi.decodeLog(transferEvent().getInputs(), log.getData(), log.getTopics());
+
+            assertSame(log, decoded.getLog());
+            assertEquals(Arrays.asList("from", "to", "value"), decoded.getNames());
+            assertEquals(expected.getIndexedValues().get(0), decoded.getValue("from"));
+            assertEquals(expected.getIndexedValues().get(1), decoded.getValue("to"));
+            assertEquals(expected.getNonIndexedValues().get(0), decoded.getValue(2));
+
+            Address to = decoded.getValue("to");
+            assertEquals("0xe97f27e9a5765ce36a7b919b1cb6004c7209217e", to.getValue());
+        }
+
+        @Test
+        public void decodeSelectedFields() throws ClassNotFoundException {
+            EventDecoder decoder = new EventDecoder(transferEvent(), Arrays.asList("value", "to"));
+
+            DecodedEvent decoded = decoder.decode(transferLog("0xe97f27e9a5765ce36a7b919b1cb6004c7209217e", 1000));
+            assertEquals(Arrays.asList("value", "to"), decoded.getNames());
+            assertEquals(new Uint256(1000), decoded.getValue(0));
+            assertEquals(new Address("0xe97f27e9a5765ce36a7b919b1cb6004c7209217e"), decoded.getValue(1));
+
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("The field 'from' is not decoded.");
+            decoded.getValue("from");
+        }
+
+        @Test
+        public void skipDataIfNoDataFieldSelected() throws ClassNotFoundException {
+            EventDecoder decoder = new EventDecoder(transferEvent(), Collections.singletonList("to"));
+            KlayLogs.Log log = new KlayLogs.LogObject("0x0", "0x0", "0x", "0x", "0x1", "0x7b65b75d204abed71587c9e519a89277766ee1d0", "0x",
+                    transferLog("0xe97f27e9a5765ce36a7b919b1cb6004c7209217e", 0).getTopics());
+
+            assertEquals(new Address("0xe97f27e9a5765ce36a7b919b1cb6004c7209217e"), decoder.decode(log).getValue("to"));
+        }
+
+        @Test
+        public void decodeAll() throws ClassNotFoundException {
+            EventDecoder decoder = new EventDecoder(transferEvent());
+
+            // A KIP-17 Transfer event has the same signature, but its tokenId is indexed.
+            KlayLogs.LogObject kip17Transfer = new KlayLogs.LogObject("0x0", "0x0", "0x", "0x", "0x1", "0x7b65b75d204abed71587c9e519a89277766ee1d0", "0x",
+                    Arrays.asList(
+                            TRANSFER_TOPIC,
+                            "0x0000000000000000000000002c8ad0ea2e0781db8b8c9242e07de3a5beabb71a",
+                            "0x000000000000000000000000e97f27e9a5765ce36a7b919b1cb6004c7209217e",
+                            "0x0000000000000000000000000000000000000000000000000000000000000001"
+                    ));
+            KlayLogs.LogObject unknown = new KlayLogs.LogObject("0x0", "0x0", "0x", "0x", "0x1", "0x7b65b75d204abed71587c9e519a89277766ee1d0", "0x",
+                    Collections.singletonList("0x0000000000000000000000000000000000000000000000000000000000000001"));
+
+            List<KlayLogs.LogResult> logs = Arrays.asList(
+                    transferLog("0x0000000000000000000000000000000000000001", 1),
+                    kip17Transfer,
+                    new KlayLogs.Hash("0x01"),
+                    unknown,
+                    transferLog("0x0000000000000000000000000000000000000002", Long.MAX_VALUE)
+            );
+
+            Iterator<DecodedEvent> iterator = decoder.decodeAll(logs.iterator());
+            assertTrue(iterator.hasNext());
+            DecodedEvent first = iterator.next();
+            DecodedEvent second = iterator.next();
+            assertFalse(iterator.hasNext());
+
+            assertSame(logs.get(0), first.getLog());
+            assertEquals(new Address("0x0000000000000000000000000000000000000001"), first.getValue("to"));
+            assertEquals(new Uint256(1), first.getValue("value"));
+            assertEquals(new Address("0x0000000000000000000000000000000000000002"), second.getValue("to"));
+            assertEquals(new Uint256(Long.MAX_VALUE), second.getValue("value"));
+
+            List<Object> values = decoder.decodeAll(logs.stream())
+                    .map(decoded -> decoded.getValue("value").getValue())
+                    .collect(Collectors.toList());
+            assertEquals(Arrays.asList(BigInteger.ONE, BigInteger.valueOf(Long.MAX_VALUE)), values);
+
+            assertFalse(decoder.matches(kip17Transfer));
+            assertNull(decoder.decode(unknown));
+        }
+
+        @Test
+        public void decodeDynamicFields() throws Exception {
+            ContractEvent event = new ContractEvent("event", "Listed", null, Arrays.asList(
+                    new ContractIOType("name", "string", true),
+                    new ContractIOType("id", "uint256", false),
+                    new ContractIOType("memo", "string", false),
+                    new ContractIOType("amounts", "uint256[]", false),
+                    new ContractIOType("item", "tuple", false)
+            ));
+            event.getInputs().get(4).setComponents(Arrays.asList(
+                    new ContractIOType("price", "uint256", false),
+                    new ContractIOType("url", "string", false)
+            ));
+
+            String data = caver.abi.encodeParameters(
+                    Arrays.asList("uint256", "string", "uint256[]", "tuple(uint256,string)"),
+                    Arrays.asList(BigInteger.TEN, "memo", Arrays.asList(BigInteger.ONE, BigInteger.valueOf(2)), Arrays.asList(BigInteger.valueOf(3), "url"))
+            );
+            List<String> topics = Arrays.asList(
+                    caver.abi.encodeEventSignature(event),
+                    "0x6c4a2ea6a4d6aa2d0d9f6bdb0fbbd0cc7b6ef8ea7e6ee8b7fbb5c7b6f3e0d8a1"
+            );
+            KlayLogs.Log log = new KlayLogs.LogObject("0x0", "0x0", "0x", "0x", "0x1", "0x7b65b75d204abed71587c9e519a89277766ee1d0", data, topics);
+
+            EventValues expected = caver.abi.decodeLog(event.getInputs(), data, topics);
+            DecodedEvent decoded = new EventDecoder(event).decode(log);
+
+            assertEquals(expected.getIndexedValues().get(0), decoded.getValue("name"));
+            assertEquals(expected.getNonIndexedValues(), decoded.getValues().subList(1, 5));
+
+            DecodedEvent selected = new EventDecoder(event, Arrays.asList("amounts", "memo")).decode(log);
+            assertEquals(expected.getNonIndexedValues().get(2), selected.getValue("amounts"));
+            assertEquals(new Utf8String("memo"), selected.getValue("memo"));
+        }
+
+        @Test
+        public void throwException_unknownField() throws ClassNotFoundException {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("The event Transfer does not have the field 'amount'.");
+
+            new EventDecoder(transferEvent(), Arrays.asList("from", "amount"));
+        }
+    }
 }
@@ -859,6 +859,29 @@ public class ContractTest {
         contract.getEvent("noEvent");
     }
 
+    @Test
+    public void sharedDefinitionTest() throws IOException {
+        Caver caver = new Caver(Caver.DEFAULT_URL);
+        Contract contract = caver.contract.create(jsonObj, contractAddress);
+        Contract other = caver.contract.create(jsonObj, "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a");
+
+        assertNotSame(contract.getMethod("transfer"), other.getMethod("transfer"));
+        assertNotSame(contract.getMethod("transfer").getInputs().get(0), other.getMethod("transfer").getInputs().get(0));
+        assertEquals(contract.getMethod("transfer").getSignature(), other.getMethod("transfer").getSignature());
+        assertNotSame(contract.getEvent("Transfer"), other.getEvent("Transfer"));
+        assertNotSame(contract.getEvent("Transfer").getInputs().get(0), other.getEvent("Transfer").getInputs().get(0));
+
+        contract.getMethod("transfer").getInputs().get(0).setName("changed");
+        contract.getEvent("Transfer").getInputs().get(0).setIndexed(false);
+        assertEquals("changed", contract.getMethod("transfer").getInputs().get(0).getName());
+        assertNotEquals("changed", other.getMethod("transfer").getInputs().get(0).getName());
+        assertTrue(other.getEvent("Transfer").getInputs().get(0).isIndexed());
+        assertNotEquals("changed", caver.contract.create(jsonObj, contractAddress).getMethod("transfer").getInputs().get(0).getName());
+
+        assertEquals(contractAddress, contract.getMethod("transfer").getContractAddress());
+        assertEquals("0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a", other.getMethod("transfer").getContractAddress());
+    }
+
     @Test
     public void call() throws IOException, ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
         Caver caver = new Caver(Caver.DEFAULT_URL);
@@ -1756,6 +1779,66 @@ public class ContractTest {
         assertEquals(0, decoded.size());
     }
 
+    @Test
+    public void decodeFunctionCalls() throws IOException, ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        Caver caver = new Caver(Caver.DEFAULT_URL);
+        Contract contract = caver.contract.create(jsonObj);
+
+        String to = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+        String spender = "0xe97f27e9a5765ce36a7b919b1cb6004c7209217e";
+        BigInteger amount = BigInteger.valueOf(1000);
+        List<String> inputs = Arrays.asList(
+                contract.encodeABI("transfer", to, amount),
+                "0x12345678",
+                contract.encodeABI("approve", spender, amount),
+                "0x"
+        );
+
+        List<DecodedFunctionCall> decoded = contract.decodeFunctionCalls(inputs);
+        assertEquals(4, decoded.size());
+
+        assertEquals("transfer", decoded.get(0).getMethod().getName());
+        assertEquals(to, decoded.get(0).getParameters().get(0).toString());
+        assertEquals(amount, decoded.get(0).getParameters().get(1).getValue());
+        assertNull(decoded.get(1));
+        assertEquals("approve", decoded.get(2).getMethod().getName());
+        assertEquals(spender, decoded.get(2).getParameters().get(0).toString());
+        assertNull(decoded.get(3));
+
+        assertSame(contract.getMethod("transfer"), contract.findContractMethodBySignature(contract.getMethod("transfer").getSignature()));
+    }
+
+    @Test
+    public void decodeLogs() throws IOException, ClassNotFoundException {
+        Caver caver = new Caver(Caver.DEFAULT_URL);
+        Contract contract = caver.contract.create(jsonObj);
+
+        String transferTopic = "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef";
+        KlayLogs.LogObject transfer = new KlayLogs.LogObject("0x0", "0x0", "0x", "0x", "0x1", contractAddress,
+                "0x00000000000000000000000000000000000000000000000000000000000003e8",
+                Arrays.asList(
+                        transferTopic,
+                        "0x0000000000000000000000002c8ad0ea2e0781db8b8c9242e07de3a5beabb71a",
+                        "0x000000000000000000000000e97f27e9a5765ce36a7b919b1cb6004c7209217e"
+                ));
+        KlayLogs.LogObject unknown = new KlayLogs.LogObject("0x1", "0x0", "0x", "0x", "0x1", contractAddress,
+                "0x", Collections.singletonList("0x0000000000000000000000000000000000000000000000000000000000000001"));
+
+        List<KlayLogs.LogResult> logs = Arrays.asList(transfer, unknown, new KlayLogs.Hash("0x01"));
+        List<DecodedLog> decoded = contract.decodeLogs(logs);
+
+        assertEquals(3, decoded.size());
+        assertEquals("Transfer", decoded.get(0).getEvent().getName());
+        assertSame(transfer, decoded.get(0).getLog());
+        assertEquals("0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a", decoded.get(0).getValues().getIndexedValues().get(0).toString());
+        assertEquals("0xe97f27e9a5765ce36a7b919b1cb6004c7209217e", decoded.get(0).getValues().getIndexedValues().get(1).toString());
+        assertEquals(BigInteger.valueOf(1000), decoded.get(0).getValues().getNonIndexedValues().get(0).getValue());
+        assertNull(decoded.get(1));
+        assertNull(decoded.get(2));
+
+        assertSame(contract.getEvent("Transfer"), contract.findContractEventBySignature(transferTopic));
+    }
+
     @Test
     public void onceWithTopic() throws Exception {
         WebSocketService webSocketService = new WebSocketService("ws://localhost:8552", false);
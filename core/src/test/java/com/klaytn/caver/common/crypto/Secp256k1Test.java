@@ -0,0 +1,78 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.crypto;
+
+import com.klaytn.caver.crypto.DefaultSecp256k1;
+import com.klaytn.caver.crypto.Secp256k1;
+import com.klaytn.caver.utils.Utils;
+import org.junit.Test;
+import org.web3j.crypto.ECDSASignature;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.Sign;
+
+import java.math.BigInteger;
+
+import static org.junit.Assert.*;
+
+public class Secp256k1Test {
+
+    @Test
+    public void defaultImplementation() {
+        assertTrue(Secp256k1.implementation() instanceof DefaultSecp256k1);
+    }
+
+    @Test
+    public void signSameAsWeb3j() {
+        for(int i = 0; i < 50; i++) {
+            BigInteger privateKey = new BigInteger(1, Utils.generateRandomBytes(32));
+            ECKeyPair keyPair = ECKeyPair.create(privateKey);
+            byte[] hash = Hash.sha3(Utils.generateRandomBytes(64));
+
+            Sign.SignatureData expected = Sign.signMessage(hash, keyPair, false);
+            Sign.SignatureData actual = Secp256k1.sign(hash, keyPair);
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void recoverSameAsWeb3j() {
+        for(int i = 0; i < 50; i++) {
+            BigInteger privateKey = new BigInteger(1, Utils.generateRandomBytes(32));
+            ECKeyPair keyPair = ECKeyPair.create(privateKey);
+            byte[] hash = Hash.sha3(Utils.generateRandomBytes(64));
+
+            Sign.SignatureData signatureData = Secp256k1.sign(hash, keyPair);
+            BigInteger r = new BigInteger(1, signatureData.getR());
+            BigInteger s = new BigInteger(1, signatureData.getS());
+            int recId = signatureData.getV()[0] - 27;
+
+            BigInteger expected = Sign.recoverFromSignature(recId, new ECDSASignature(r, s), hash);
+            assertEquals(keyPair.getPublicKey(), expected);
+            assertEquals(expected, Secp256k1.recoverPublicKey(recId, r, s, hash));
+        }
+    }
+
+    @Test
+    public void publicKeyFromPrivate() {
+        for(int i = 0; i < 50; i++) {
+            BigInteger privateKey = new BigInteger(1, Utils.generateRandomBytes(32));
+            assertEquals(Sign.publicKeyFromPrivate(privateKey), Secp256k1.publicKeyFromPrivate(privateKey));
+        }
+    }
+}
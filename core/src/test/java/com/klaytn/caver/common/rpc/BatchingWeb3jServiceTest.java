@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.rpc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.klaytn.caver.base.FakeWeb3jService;
+import com.klaytn.caver.methods.response.Boolean;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.rpc.BatchingWeb3jService;
+import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.rpc.LogSubscriptionHub;
+import com.klaytn.caver.rpc.RPC;
+import org.junit.Test;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BatchingWeb3jServiceTest {
+
+    static class FakeService extends FakeWeb3jService {
+        @Override
+        protected Response<?> respond(Request<?, ?> request) {
+            if(request.getMethod().equals("klay_isContractAccount")) {
+                Boolean response = new Boolean();
+                response.setId(request.getId());
+                response.setResult(true);
+                return response;
+            }
+
+            Quantity quantity = new Quantity();
+            quantity.setId(request.getId());
+            quantity.setResult("0x" + Long.toHexString(request.getId()));
+            return quantity;
+        }
+
+        @Override
+        public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+            batchCount.incrementAndGet();
+            batchSizes.add(batchRequest.getRequests().size());
+
+            // The node returns the responses in reverse order, which JSON-RPC 2.0 allows.
+            List<JsonNode> replies = new ArrayList<>();
+            for(Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+                replies.add(ObjectMapperFactory.getObjectMapper().valueToTree(respond(request)));
+            }
+            Collections.reverse(replies);
+            return parseBatch(batchRequest, replies);
+        }
+    }
+
+    @Test
+    public void mergeRequestsByCount() throws Exception {
+        FakeService fakeService = new FakeService();
+        BatchingWeb3jService service = new BatchingWeb3jService(fakeService, 5, 60000);
+        Klay klay = new Klay(service);
+
+        List<Request<?, Quantity>> requests = new ArrayList<>();
+        List<CompletableFuture<Quantity>> futures = new ArrayList<>();
+        for(int i = 0; i < 10; i++) {
+            Request<?, Quantity> request = klay.getBalance("0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a");
+            requests.add(request);
+            futures.add(request.sendAsync());
+        }
+
+        for(int i = 0; i < 10; i++) {
+            Quantity quantity = futures.get(i).get();
+            assertEquals(requests.get(i).getId(), quantity.getId());
+        }
+        assertEquals(2, fakeService.batchCount.get());
+        assertEquals(0, fakeService.singleCount.get());
+        assertEquals(Integer.valueOf(5), fakeService.batchSizes.get(0));
+    }
+
+    @Test
+    public void mergeRequestsByTimeWindow() throws Exception {
+        FakeService fakeService = new FakeService();
+        BatchingWeb3jService service = new BatchingWeb3jService(fakeService, 100, 50);
+        Klay klay = new Klay(service);
+
+        Request<?, Quantity> request1 = klay.getBalance("0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a");
+        Request<?, Quantity> request2 = klay.getGasPrice();
+        CompletableFuture<Quantity> future1 = request1.sendAsync();
+        CompletableFuture<Quantity> future2 = request2.sendAsync();
+
+        assertEquals(request1.getId(), future1.get().getId());
+        assertEquals(request2.getId(), future2.get().getId());
+        assertEquals(1, fakeService.batchCount.get());
+        assertEquals(Integer.valueOf(2), fakeService.batchSizes.get(0));
+    }
+
+    @Test
+    public void routeResponsesOfDifferentTypesById() throws Exception {
+        FakeService fakeService = new FakeService();
+        BatchingWeb3jService service = new BatchingWeb3jService(fakeService, 2, 60000);
+        Klay klay = new Klay(service);
+
+        Request<?, Quantity> request1 = klay.getBalance("0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a");
+        Request<?, Boolean> request2 = klay.isContractAccount("0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a");
+        CompletableFuture<Quantity> future1 = request1.sendAsync();
+        CompletableFuture<Boolean> future2 = request2.sendAsync();
+
+        assertEquals(request1.getId(), future1.get().getId());
+        assertEquals("0x" + Long.toHexString(request1.getId()), future1.get().getResult());
+        assertEquals(request2.getId(), future2.get().getId());
+        assertTrue(future2.get().getResult());
+        assertEquals(1, fakeService.batchCount.get());
+    }
+
+    @Test
+    public void sendSingleRequestWithoutBatch() throws IOException {
+        FakeService fakeService = new FakeService();
+        BatchingWeb3jService service = new BatchingWeb3jService(fakeService, 100, 1);
+        Klay klay = new Klay(service);
+
+        Request<?, Quantity> request = klay.getGasPrice();
+        Quantity quantity = request.send();
+
+        assertEquals(request.getId(), quantity.getId());
+        assertEquals(1, fakeService.singleCount.get());
+        assertEquals(0, fakeService.batchCount.get());
+    }
+
+    @Test
+    public void reconfigureWhenBatchingIsEnabledAgain() throws Exception {
+        FakeService fakeService = new FakeService();
+        RPC rpc = new RPC(fakeService);
+        LogSubscriptionHub hub = rpc.klay.getLogSubscriptionHub();
+
+        rpc.enableBatching(100, 60000);
+        BatchingWeb3jService service = (BatchingWeb3jService)rpc.getWeb3jService();
+        assertSame(hub, rpc.klay.getLogSubscriptionHub());
+
+        CompletableFuture<Quantity> future = rpc.klay.getGasPrice().sendAsync();
+        Klay klay = rpc.klay;
+        rpc.enableBatching(2, 10);
+
+        // The waiting request is sent, and the same service is reused with the new options.
+        future.get();
+        assertSame(service, rpc.getWeb3jService());
+        assertSame(fakeService, service.getWeb3jService());
+        assertSame(klay, rpc.klay);
+        assertEquals(2, service.getMaxBatchSize());
+        assertEquals(10, service.getBatchWindow());
+    }
+}
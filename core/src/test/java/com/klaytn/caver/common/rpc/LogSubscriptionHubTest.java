@@ -0,0 +1,290 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.klaytn.caver.common.rpc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.methods.request.KlayFilter;
+import com.klaytn.caver.methods.response.LogsNotification;
+import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.rpc.LogSubscriptionHub;
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.schedulers.TestScheduler;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.http.HttpService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class LogSubscriptionHubTest {
+    static final String TRANSFER = "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef";
+    static final String APPROVAL = "0x8c5be1e5ebec7d5bd14f71427d1e84f3dd0314c0f7b2291e5b200ac8c7c3b925";
+
+    static class FakeKlay extends Klay {
+        List<KlayFilter> filters = new ArrayList<>();
+        List<PublishProcessor<LogsNotification>> processors = new ArrayList<>();
+
+        FakeKlay() {
+            super(null);
+        }
+
+        @Override
+        public Flowable<LogsNotification> subscribeFlowable(String type, KlayFilter filter) {
+            PublishProcessor<LogsNotification> processor = PublishProcessor.create();
+            filters.add(filter);
+            processors.add(processor);
+            return processor;
+        }
+
+        PublishProcessor<LogsNotification> last() {
+            return processors.get(processors.size() - 1);
+        }
+
+        KlayFilter lastFilter() {
+            return filters.get(filters.size() - 1);
+        }
+    }
+
+    FakeKlay klay;
+    TestScheduler scheduler;
+    LogSubscriptionHub hub;
+
+    @Before
+    public void setUp() {
+        klay = new FakeKlay();
+        scheduler = new TestScheduler();
+        hub = new LogSubscriptionHub(klay, scheduler);
+    }
+
+    static String address(int i) {
+        return String.format("0x%040x", i);
+    }
+
+    static KlayFilter filter(String address, String... topics) {
+        KlayFilter filter = new KlayFilter();
+        if(address != null) {
+            filter.setAddress(address);
+        }
+        for(String topic : topics) {
+            if(topic == null) {
+                filter.addNullTopic();
+            } else {
+                filter.addSingleTopic(topic);
+            }
+        }
+        return filter;
+    }
+
+    static LogsNotification notification(String address, int logIndex, String... topics) throws IOException {
+        String json = "{\"jsonrpc\":\"2.0\",\"method\":\"klay_subscription\",\"params\":{\"subscription\":\"0x1\",\"result\":{" +
+                "\"address\":\"" + address + "\"," +
+                "\"blockHash\":\"0x0000000000000000000000000000000000000000000000000000000000000001\"," +
+                "\"logIndex\":\"0x" + Integer.toHexString(logIndex) + "\"," +
+                "\"data\":\"0x\"," +
+                "\"topics\":" + new ObjectMapper().writeValueAsString(Arrays.asList(topics)) + "," +
+                "\"removed\":false}}}";
+        return new ObjectMapper().readValue(json, LogsNotification.class);
+    }
+
+    void flush() {
+        scheduler.advanceTimeBy(hub.getCoalescingDelay(), TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void mergeListenersIntoOneSubscription() throws IOException {
+        List<List<LogsNotification>> received = new ArrayList<>();
+        for(int i = 0; i < 100; i++) {
+            List<LogsNotification> logs = new ArrayList<>();
+            received.add(logs);
+            hub.subscribe(filter(address(i), TRANSFER), logs::add);
+        }
+        flush();
+
+        assertEquals(1, klay.filters.size());
+        assertEquals(1, hub.getSubscriptionCount());
+        assertEquals(100, hub.getListenerCount());
+        assertEquals(100, klay.lastFilter().getAddress().size());
+        assertEquals(TRANSFER, klay.lastFilter().getTopics().get(0).getValue());
+
+        klay.last().onNext(notification(address(5), 0, TRANSFER));
+
+        for(int i = 0; i < 100; i++) {
+            assertEquals(i == 5 ? 1 : 0, received.get(i).size());
+        }
+    }
+
+    @Test
+    public void mergeTopicsAndMatchLocally() throws IOException {
+        String from = "0x0000000000000000000000002c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+        String to = "0x000000000000000000000000e97f27e9a5765ce36a7b919b1cb6004c7209217e";
+
+        List<LogsNotification> approvals = new ArrayList<>();
+        List<LogsNotification> transfers = new ArrayList<>();
+        hub.subscribe(filter(address(1), APPROVAL), approvals::add);
+        hub.subscribe(filter(address(1), TRANSFER, from), transfers::add);
+        flush();
+
+        assertEquals(1, klay.filters.size());
+        List<?> topic0 = (List<?>)klay.lastFilter().getTopics().get(0).getValue();
+        assertEquals(2, topic0.size());
+        // The second position is not filtered by the node, since the Approval listener doesn't filter it.
+        assertEquals(1, klay.lastFilter().getTopics().size());
+
+        klay.last().onNext(notification(address(1), 0, TRANSFER, to, from));
+        klay.last().onNext(notification(address(1), 1, TRANSFER, from, to));
+        klay.last().onNext(notification(address(1), 2, APPROVAL, from, to));
+
+        assertEquals(1, transfers.size());
+        assertEquals(from, transfers.get(0).getParams().getResult().getTopics().get(1));
+        assertEquals(1, approvals.size());
+    }
+
+    @Test
+    public void splitSubscriptionsByMaxAddresses() {
+        hub.setMaxAddressesPerSubscription(10);
+        for(int i = 0; i < 25; i++) {
+            hub.subscribe(filter(address(i)), log -> {});
+        }
+        // The listener of an address already in a subscription shares it.
+        hub.subscribe(filter(address(3), TRANSFER), log -> {});
+        flush();
+
+        assertEquals(3, klay.filters.size());
+        assertEquals(3, hub.getSubscriptionCount());
+        assertEquals(10, klay.filters.get(0).getAddress().size());
+        assertEquals(5, klay.filters.get(2).getAddress().size());
+    }
+
+    @Test
+    public void resubscribeWhenClosed() throws IOException {
+        List<LogsNotification> logs = new ArrayList<>();
+        hub.subscribe(filter(address(1)), logs::add);
+        flush();
+        assertEquals(1, klay.filters.size());
+
+        klay.last().onError(new IOException("Connection was closed"));
+        scheduler.advanceTimeBy(hub.getRetryDelay(), TimeUnit.MILLISECONDS);
+        assertEquals(2, klay.filters.size());
+
+        klay.last().onNext(notification(address(1), 0));
+        assertEquals(1, logs.size());
+    }
+
+    @Test
+    public void replaceSubscriptionWhenListenerAdded() throws IOException {
+        List<LogsNotification> logs = new ArrayList<>();
+        hub.subscribe(filter(address(1)), logs::add);
+        flush();
+        PublishProcessor<LogsNotification> previous = klay.last();
+
+        hub.subscribe(filter(address(2)), log -> {});
+        flush();
+
+        assertEquals(2, klay.filters.size());
+        assertEquals(Arrays.asList(address(1), address(2)), klay.lastFilter().getAddress());
+        assertFalse(previous.hasSubscribers());
+
+        // A log delivered by both subscriptions while replacing them is notified once.
+        klay.last().onNext(notification(address(1), 0));
+        klay.last().onNext(notification(address(1), 0));
+        assertEquals(1, logs.size());
+    }
+
+    @Test
+    public void unsubscribeWhenNoListener() {
+        Disposable first = hub.subscribe(filter(address(1)), log -> {});
+        Disposable second = hub.subscribe(filter(null, TRANSFER), log -> {});
+        flush();
+        assertEquals(2, hub.getSubscriptionCount());
+
+        first.dispose();
+        second.dispose();
+        flush();
+
+        assertEquals(0, hub.getSubscriptionCount());
+        for(PublishProcessor<LogsNotification> processor : klay.processors) {
+            assertFalse(processor.hasSubscribers());
+        }
+    }
+
+    @Test
+    public void subscribeBlockRangeFilterAsItIs() {
+        KlayFilter filter = filter(address(1));
+        filter.setFromBlock(DefaultBlockParameterName.EARLIEST);
+
+        hub.subscribe(filter, log -> {});
+
+        assertEquals(1, klay.filters.size());
+        assertSame(filter, klay.lastFilter());
+        assertEquals(0, hub.getSubscriptionCount());
+    }
+
+    @Test
+    public void subscribeInvalidFilterAsItIs() {
+        hub.subscribe(filter(address(1), TRANSFER), log -> {});
+        KlayFilter invalid = filter("0x1234", TRANSFER);
+        hub.subscribe(invalid, log -> {});
+        hub.subscribe(filter(address(2), "0xddf252ad"), log -> {});
+        flush();
+
+        assertEquals(3, klay.filters.size());
+        assertSame(invalid, klay.filters.get(0));
+        assertEquals(1, hub.getSubscriptionCount());
+        assertEquals(Arrays.asList(address(1)), klay.lastFilter().getAddress());
+    }
+
+    @Test
+    public void failListenersWhenFilterIsRejected() {
+        hub.setMaxSubscribeAttempts(2);
+        List<Throwable> errors = new ArrayList<>();
+        hub.subscribeFlowable(filter(address(1))).subscribe(log -> {}, errors::add);
+        flush();
+
+        klay.last().onError(new IOException("Subscription request failed with error: invalid argument"));
+        scheduler.advanceTimeBy(hub.getRetryDelay(), TimeUnit.MILLISECONDS);
+        assertEquals(2, klay.filters.size());
+        assertTrue(errors.isEmpty());
+
+        klay.last().onError(new IOException("Subscription request failed with error: invalid argument"));
+        scheduler.advanceTimeBy(hub.getRetryDelay(), TimeUnit.MILLISECONDS);
+
+        assertEquals(2, klay.filters.size());
+        assertEquals(1, errors.size());
+        assertEquals(0, hub.getSubscriptionCount());
+    }
+
+    @Test
+    public void throwWhenProviderDoesNotSupportSubscription() {
+        Klay httpKlay = new Klay(new HttpService("http://localhost:8551"));
+
+        try {
+            httpKlay.subscribe("logs", filter(address(1)), log -> {});
+            fail();
+        } catch(UnsupportedOperationException e) {
+            assertEquals(0, httpKlay.getLogSubscriptionHub().getSubscriptionCount());
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.transaction;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.base.FakeWeb3jService;
+import com.klaytn.caver.methods.response.BlockHeader;
+import com.klaytn.caver.methods.response.BlockTransactionReceipts;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.methods.response.TransactionReceipt;
+import com.klaytn.caver.transaction.response.NewHeadsTransactionReceiptProcessor;
+import io.reactivex.processors.PublishProcessor;
+import org.junit.Test;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class NewHeadsTransactionReceiptProcessorTest {
+
+    static class FakeService extends FakeWeb3jService {
+        Map<String, List<String>> blocks = new ConcurrentHashMap<>();
+        List<String> chain = new CopyOnWriteArrayList<>();
+        Set<String> minedTransactions = ConcurrentHashMap.newKeySet();
+        AtomicInteger receiptCount = new AtomicInteger();
+        AtomicInteger blockReceiptsCount = new AtomicInteger();
+        AtomicInteger blockReceiptsFailures = new AtomicInteger();
+
+        static TransactionReceipt.TransactionReceiptData makeReceipt(String txHash) {
+            TransactionReceipt.TransactionReceiptData receiptData = new TransactionReceipt.TransactionReceiptData();
+            receiptData.setTransactionHash(txHash);
+            return receiptData;
+        }
+
+        @Override
+        protected Response<?> respond(Request<?, ?> request) throws IOException {
+            if(request.getMethod().equals("klay_getTransactionReceipt")) {
+                receiptCount.incrementAndGet();
+                TransactionReceipt response = new TransactionReceipt();
+                String txHash = (String)request.getParams().get(0);
+                if(minedTransactions.contains(txHash)) {
+                    response.setResult(makeReceipt(txHash));
+                }
+                return response;
+            } else if(request.getMethod().equals("klay_getBlockReceipts")) {
+                blockReceiptsCount.incrementAndGet();
+                if(blockReceiptsFailures.getAndUpdate(count -> Math.max(count - 1, 0)) > 0) {
+                    throw new IOException("Connection reset");
+                }
+                List<TransactionReceipt.TransactionReceiptData> receipts = new ArrayList<>();
+                for(String txHash : blocks.getOrDefault((String)request.getParams().get(0), Collections.emptyList())) {
+                    receipts.add(makeReceipt(txHash));
+                }
+                BlockTransactionReceipts response = new BlockTransactionReceipts();
+                response.setResult(receipts);
+                return response;
+            } else if(request.getMethod().equals("klay_blockNumber")) {
+                Quantity response = new Quantity();
+                response.setResult("0x" + Integer.toHexString(chain.size() - 1));
+                return response;
+            } else if(request.getMethod().equals("klay_getHeaderByNumber")) {
+                String number = ((DefaultBlockParameter)request.getParams().get(0)).getValue();
+                BlockHeader.BlockHeaderData header = new BlockHeader.BlockHeaderData();
+                header.setHash(chain.get(Integer.decode(number)));
+                BlockHeader response = new BlockHeader();
+                response.setResult(header);
+                return response;
+            }
+            throw new UnsupportedOperationException(request.getMethod());
+        }
+    }
+
+    static String txHash(int i) {
+        return String.format("0x%064x", i);
+    }
+
+    @Test
+    public void completeReceiptsWithOneCallPerBlock() throws Exception {
+        FakeService fakeService = new FakeService();
+        PublishProcessor<String> newHeads = PublishProcessor.create();
+        NewHeadsTransactionReceiptProcessor processor = new NewHeadsTransactionReceiptProcessor(new Caver(fakeService), newHeads, 15);
+
+        List<CompletableFuture<TransactionReceipt.TransactionReceiptData>> futures = new ArrayList<>();
+        List<String> block1 = new ArrayList<>();
+        List<String> block2 = new ArrayList<>();
+        for(int i = 0; i < 100; i++) {
+            futures.add(processor.getTransactionReceiptAsync(txHash(i)));
+            (i % 2 == 0 ? block1 : block2).add(txHash(i));
+        }
+        fakeService.blocks.put("0x01", block1);
+        fakeService.blocks.put("0x02", block2);
+        assertEquals(100, processor.getPendingCount());
+
+        newHeads.onNext("0x01");
+        assertEquals(50, processor.getPendingCount());
+        newHeads.onNext("0x02");
+        assertEquals(0, processor.getPendingCount());
+
+        for(int i = 0; i < 100; i++) {
+            assertEquals(txHash(i), futures.get(i).get().getTransactionHash());
+        }
+        assertEquals(2, fakeService.blockReceiptsCount.get());
+        assertEquals(100, fakeService.receiptCount.get());
+    }
+
+    @Test
+    public void failAfterBlockAttempts() throws Exception {
+        FakeService fakeService = new FakeService();
+        PublishProcessor<String> newHeads = PublishProcessor.create();
+        NewHeadsTransactionReceiptProcessor processor = new NewHeadsTransactionReceiptProcessor(new Caver(fakeService), newHeads, 2);
+
+        CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.getTransactionReceiptAsync(txHash(1));
+        newHeads.onNext("0x01");
+        newHeads.onNext("0x02");
+        assertFalse(future.isDone());
+        newHeads.onNext("0x03");
+
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TransactionException);
+        }
+        assertEquals(0, processor.getPendingCount());
+    }
+
+    @Test
+    public void retryBlockAfterTransientError() throws Exception {
+        FakeService fakeService = new FakeService();
+        PublishProcessor<String> newHeads = PublishProcessor.create();
+        NewHeadsTransactionReceiptProcessor processor = new NewHeadsTransactionReceiptProcessor(new Caver(fakeService), newHeads, 2);
+
+        CompletableFuture<TransactionReceipt.TransactionReceiptData> future1 = processor.getTransactionReceiptAsync(txHash(1));
+        CompletableFuture<TransactionReceipt.TransactionReceiptData> future2 = processor.getTransactionReceiptAsync(txHash(2));
+        fakeService.blocks.put("0x01", Collections.singletonList(txHash(1)));
+        fakeService.blocks.put("0x02", Collections.singletonList(txHash(2)));
+
+        fakeService.blockReceiptsFailures.set(2);
+        newHeads.onNext("0x01");
+        newHeads.onNext("0x02");
+        assertFalse(future1.isDone());
+        assertFalse(future2.isDone());
+        assertTrue(newHeads.hasSubscribers());
+
+        // Both failed blocks are fetched again with the next block.
+        newHeads.onNext("0x03");
+        assertEquals(txHash(1), future1.get().getTransactionHash());
+        assertEquals(txHash(2), future2.get().getTransactionHash());
+        assertEquals(0, processor.getPendingCount());
+    }
+
+    @Test
+    public void checkReceiptBeforeFailing() throws Exception {
+        FakeService fakeService = new FakeService();
+        PublishProcessor<String> newHeads = PublishProcessor.create();
+        NewHeadsTransactionReceiptProcessor processor = new NewHeadsTransactionReceiptProcessor(new Caver(fakeService), newHeads, 2);
+
+        CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.getTransactionReceiptAsync(txHash(1));
+        for(int i = 0; i < 100 && fakeService.receiptCount.get() == 0; i++) {
+            Thread.sleep(10);
+        }
+
+        // The transaction is mined in a block before the subscription sees new blocks.
+        fakeService.minedTransactions.add(txHash(1));
+        newHeads.onNext("0x01");
+        newHeads.onNext("0x02");
+        assertFalse(future.isDone());
+        newHeads.onNext("0x03");
+
+        assertEquals(txHash(1), future.get().getTransactionHash());
+        assertEquals(2, fakeService.receiptCount.get());
+        assertEquals(0, processor.getPendingCount());
+        assertTrue(newHeads.hasSubscribers());
+    }
+
+    @Test
+    public void pollBlocksMinedBeforeFirstTick() throws Exception {
+        FakeService fakeService = new FakeService();
+        fakeService.chain.add("0x00");
+        NewHeadsTransactionReceiptProcessor processor = new NewHeadsTransactionReceiptProcessor(new Caver(fakeService), 200, 15);
+
+        CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.getTransactionReceiptAsync(txHash(1));
+
+        // The transaction is included in the block right after its registration, and another block follows before the first tick.
+        fakeService.blocks.put("0x01", Collections.singletonList(txHash(1)));
+        fakeService.chain.add("0x01");
+        fakeService.chain.add("0x02");
+
+        try {
+            assertEquals(txHash(1), future.get(5, TimeUnit.SECONDS).getTransactionHash());
+        } finally {
+            processor.close();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.transaction;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.methods.response.Callback;
+import com.klaytn.caver.methods.response.TransactionReceipt;
+import com.klaytn.caver.transaction.response.QueuingTransactionReceiptProcessor;
+import org.junit.Test;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.klaytn.caver.common.transaction.NewHeadsTransactionReceiptProcessorTest.txHash;
+import static org.junit.Assert.*;
+
+public class QueuingTransactionReceiptProcessorTest {
+
+    static class ReceiptCollector implements Callback<TransactionReceipt.TransactionReceiptData> {
+        List<TransactionReceipt.TransactionReceiptData> receipts = new CopyOnWriteArrayList<>();
+        List<Exception> exceptions = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void accept(TransactionReceipt.TransactionReceiptData result) {
+            receipts.add(result);
+        }
+
+        @Override
+        public void exception(Exception exception) {
+            exceptions.add(exception);
+        }
+    }
+
+    @Test
+    public void pollPendingTransactionsWithBatches() throws Exception {
+        NewHeadsTransactionReceiptProcessorTest.FakeService fakeService = new NewHeadsTransactionReceiptProcessorTest.FakeService();
+        ReceiptCollector collector = new ReceiptCollector();
+        QueuingTransactionReceiptProcessor processor = new QueuingTransactionReceiptProcessor.Builder(new Caver(fakeService), collector)
+                .setPollingFrequency(20)
+                .setBatchSize(10)
+                .build();
+
+        for(int i = 0; i < 25; i++) {
+            fakeService.minedTransactions.add(txHash(i));
+            processor.waitForTransactionReceipt(txHash(i));
+        }
+
+        for(int i = 0; i < 100 && (collector.receipts.size() < 25 || processor.getQueueDepth() > 0); i++) {
+            Thread.sleep(20);
+        }
+        processor.shutdown();
+
+        assertEquals(25, collector.receipts.size());
+        assertEquals(25, processor.getReceivedCount());
+        assertEquals(0, processor.getQueueDepth());
+        assertEquals(25, fakeService.receiptCount.get());
+        assertTrue(fakeService.batchCount.get() >= 3 && fakeService.batchCount.get() < 25);
+        assertTrue(processor.getMaxTimeToReceipt() >= processor.getAverageTimeToReceipt());
+    }
+
+    @Test
+    public void failAfterPollingAttempts() throws Exception {
+        NewHeadsTransactionReceiptProcessorTest.FakeService fakeService = new NewHeadsTransactionReceiptProcessorTest.FakeService();
+        ReceiptCollector collector = new ReceiptCollector();
+        QueuingTransactionReceiptProcessor processor = new QueuingTransactionReceiptProcessor.Builder(new Caver(fakeService), collector)
+                .setPollingFrequency(10)
+                .setPollingAttemptsPerTxHash(2)
+                .setBackoffMultiplier(2)
+                .build();
+
+        processor.waitForTransactionReceipt(txHash(1));
+        for(int i = 0; i < 100 && collector.exceptions.isEmpty(); i++) {
+            Thread.sleep(20);
+        }
+        processor.shutdown();
+
+        assertEquals(1, collector.exceptions.size());
+        assertTrue(collector.exceptions.get(0) instanceof TransactionException);
+        assertEquals(3, fakeService.receiptCount.get());
+        assertEquals(1, processor.getFailedCount());
+    }
+
+    @Test
+    public void keepProcessingWhenCallbackThrows() throws Exception {
+        NewHeadsTransactionReceiptProcessorTest.FakeService fakeService = new NewHeadsTransactionReceiptProcessorTest.FakeService();
+        ReceiptCollector collector = new ReceiptCollector() {
+            @Override
+            public void accept(TransactionReceipt.TransactionReceiptData result) {
+                super.accept(result);
+                throw new IllegalStateException("callback error");
+            }
+        };
+        QueuingTransactionReceiptProcessor processor = new QueuingTransactionReceiptProcessor.Builder(new Caver(fakeService), collector)
+                .setPollingFrequency(20)
+                .setBatchSize(10)
+                .build();
+
+        for(int i = 0; i < 10; i++) {
+            fakeService.minedTransactions.add(txHash(i));
+            processor.waitForTransactionReceipt(txHash(i));
+        }
+
+        for(int i = 0; i < 100 && (collector.receipts.size() < 10 || processor.getQueueDepth() > 0); i++) {
+            Thread.sleep(20);
+        }
+        processor.shutdown();
+
+        assertEquals(10, collector.receipts.size());
+        assertTrue(collector.exceptions.isEmpty());
+        assertEquals(10, processor.getReceivedCount());
+        assertEquals(0, processor.getFailedCount());
+        assertEquals(0, processor.getQueueDepth());
+    }
+
+    @Test
+    public void throwWhenQueueIsFull() throws Exception {
+        NewHeadsTransactionReceiptProcessorTest.FakeService fakeService = new NewHeadsTransactionReceiptProcessorTest.FakeService();
+        QueuingTransactionReceiptProcessor processor = new QueuingTransactionReceiptProcessor.Builder(new Caver(fakeService), new ReceiptCollector())
+                .setPollingFrequency(60000)
+                .setMaxQueueSize(2)
+                .build();
+
+        processor.waitForTransactionReceipt(txHash(1));
+        processor.waitForTransactionReceipt(txHash(2));
+        try {
+            processor.waitForTransactionReceipt(txHash(3));
+            fail();
+        } catch (TransactionException e) {
+            assertEquals(2, processor.getQueueDepth());
+        } finally {
+            processor.shutdown();
+        }
+    }
+}
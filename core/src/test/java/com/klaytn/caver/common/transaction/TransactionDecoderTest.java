@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.transaction;
+
+import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.transaction.type.*;
+import org.junit.Test;
+import org.web3j.utils.Numeric;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class TransactionDecoderTest {
+    static final String[] RLP_ENCODED = {
+            "0x08f87a8204d219830f4240947b65b75d204abed71587c9e519a89277766ee1d00a94a94f5374fce5edbc8e2a8697c15331677e6ebf0bf845f84325a0f3d0cd43661cabf53425535817c5058c27781f478cb5459874feaa462ed3a29aa06748abe186269ff10b8100a4b7d7fea274b53ea2905acbf498dc8b5ab1bf4fbc",
+            "0x12f8dd8204d219830f4240947b65b75d204abed71587c9e519a89277766ee1d00a94a94f5374fce5edbc8e2a8697c15331677e6ebf0b8568656c6c6f1ef845f84326a0769f0afdc310289f9b24decb5bb765c8d7a87a6a4ae28edffb8b7085bbd9bc78a06a7b970eea026e60ac29bb52aee10661a4222e6bdcdfb3839a80586e584586b4945a0043070275d9f6054307ee7348bd660849d90ff845f84325a0c1c54bdc72ce7c08821329bf50542535fac74f4bba5de5b7881118a461d52834a03a3a64878d784f9af91c2e3ab9c90f17144c47cfd9951e3588c75063c0649ecd",
+            "0x7802f9010f822710258505d21dba008505d21dba00829c40941fc92c23f71a7de4cdb4394a37fc636986a0f48401b844a9059cbb0000000000000000000000008a4c9c443bb0645df646a2d5bb55def0ed1e885a0000000000000000000000000000000000000000000000000000000000003039f85bf8599467116062f1626f7b3019631f03d301b8f701f709f842a00000000000000000000000000000000000000000000000000000000000000003a0000000000000000000000000000000000000000000000000000000000000000701a02e07db45b088d6a2cabce6c250b94252dd505789a3912e4fe08a2566973b208fa076cbcc2f02063ee6c79ffea7f2078267405c3819e8ac4db0c504223d55892ba4",
+            "0x7801f9015701040a8301e24194095e7baea6a6c7c4c2dfeb977efac326af552d870186616263646566f8eef7940000000000000000000000000000000000000001e1a00000000000000000000000000000000000000000000000000000000000000000f85994284e47e6130523b2507ba38cea17dd40a20a0cd0f842a0d2b691e13d4c3754fbe5dc75439f25dd11a908d89f5bbc55cd5bc4978f078b7ca0d2db659067b2b322f7010149472b81f172b9e331e1831ebee11c7b73facb0761f859940000000000000000000000000000000000000003f842a046d62a62fb985e2e7691a9044b8fae9149311c7f3dcf669265fe5c96072ba4fca06eab5ba2ea17e1ef4eac404d25f1fe9224421e3b639aec73d3b99c39f098368101a0bf84d5909e08e2e2bb1d5fa975fc2886fa0306c3279f1ad44ade0b8c5c094e7fa064bb96aea6a5b42fc0ef65365b7eb2b347de4e9a58167975307173b7bd52a4a8",
+            "0xf8668204d219830f4240947b65b75d204abed71587c9e519a89277766ee1d00a843132333425a0b2a5a15550ec298dc7dddde3774429ed75f864c82caeb5ee24399649ad731be9a029da1014d16f2011b3307f7bbe1035b6e699a4204fc416c763def6cefd976567",
+            "0x20f8888204d219830f424094a94f5374fce5edbc8e2a8697c15331677e6ebf0ba302a1033a514176466fa815ed481ffad09110a2d344f6c9b78c1d14afc351c3a51be33df845f84325a0f7d479628f05f51320f0842193e3f7ae55a5b49d3645bf55c35bee1e8fd2593aa04de8eab5338fdc86e96f8c49ed516550f793fc2c4007614ce3d2a6b33cf9e451",
+    };
+
+    static final Class[] TYPES = {
+            ValueTransfer.class,
+            FeeDelegatedValueTransferMemoWithRatio.class,
+            EthereumDynamicFee.class,
+            EthereumAccessList.class,
+            LegacyTransaction.class,
+            AccountUpdate.class,
+    };
+
+    static List<byte[]> makeRawTransactions(int count) {
+        List<byte[]> rawTransactions = new ArrayList<>();
+        for(int i = 0; i < count; i++) {
+            rawTransactions.add(Numeric.hexStringToByteArray(RLP_ENCODED[i % RLP_ENCODED.length]));
+        }
+        return rawTransactions;
+    }
+
+    @Test
+    public void decode() {
+        for(int i = 0; i < RLP_ENCODED.length; i++) {
+            AbstractTransaction transaction = TransactionDecoder.decode(RLP_ENCODED[i]);
+            assertEquals(TYPES[i], transaction.getClass());
+            assertEquals(RLP_ENCODED[i], transaction.getRLPEncoding());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decode_throwException_empty() {
+        TransactionDecoder.decode(new byte[0]);
+    }
+
+    @Test
+    public void decodeAll() {
+        List<AbstractTransaction> transactions = TransactionDecoder.decodeAll(makeRawTransactions(300));
+
+        assertEquals(300, transactions.size());
+        for(int i = 0; i < transactions.size(); i++) {
+            assertEquals(TYPES[i % TYPES.length], transactions.get(i).getClass());
+            assertEquals(RLP_ENCODED[i % RLP_ENCODED.length], transactions.get(i).getRLPEncoding());
+        }
+    }
+
+    @Test
+    public void decodeAll_withPool() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            List<AbstractTransaction> transactions = TransactionDecoder.decodeAll(makeRawTransactions(60).stream(), pool);
+
+            assertEquals(60, transactions.size());
+            for(int i = 0; i < transactions.size(); i++) {
+                assertEquals(RLP_ENCODED[i % RLP_ENCODED.length], transactions.get(i).getRLPEncoding());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
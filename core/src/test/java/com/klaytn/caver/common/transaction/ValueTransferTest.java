@@ -480,6 +480,35 @@ public class ValueTransferTest {
             assertEquals(expectedEncoded, valueTransfer.getRLPEncoding());
         }
 
+        @Test
+        public void getRLPEncoding_afterSetters() {
+            String expectedEncoded = "0x08f87a8204d219830f4240947b65b75d204abed71587c9e519a89277766ee1d00a94a94f5374fce5edbc8e2a8697c15331677e6ebf0bf845f84325a0f3d0cd43661cabf53425535817c5058c27781f478cb5459874feaa462ed3a29aa06748abe186269ff10b8100a4b7d7fea274b53ea2905acbf498dc8b5ab1bf4fbc";
+
+            ValueTransfer valueTransfer = caver.transaction.valueTransfer.create(
+                    TxPropertyBuilder.valueTransfer()
+                            .setFrom("0x3e6e3b7fa4e7a4d0ea7a4cfd0e09b1b9ad9bea8f")
+                            .setTo(from)
+                            .setValue("0x1")
+                            .setGas("0x1")
+                            .setGasPrice("0x1")
+                            .setChainId("0x2")
+                            .setNonce("0x1")
+                            .setSignatures(signatureData)
+            );
+            valueTransfer.setFrom(from);
+            valueTransfer.setTo(to);
+            valueTransfer.setValue(value);
+            valueTransfer.setGas(gas);
+            valueTransfer.setGasPrice(gasPrice);
+            valueTransfer.setChainId(chainId);
+            valueTransfer.setNonce(BigInteger.valueOf(nonce));
+
+            assertEquals(expectedEncoded, valueTransfer.getRLPEncoding());
+            assertEquals(value, valueTransfer.getValue());
+            assertEquals(BigInteger.valueOf(nonce), valueTransfer.getNonceInteger());
+            assertArrayEquals(Numeric.hexStringToByteArray(from), valueTransfer.getFromBytes());
+        }
+
         @Test
         public void throwException_NoNonce() {
             expectedException.expect(RuntimeException.class);
@@ -1140,6 +1169,44 @@ public class ValueTransferTest {
             assertEquals(expectedHash, txHash);
         }
 
+        @Test
+        public void getTransactionHash_invalidatedByChanges() {
+            mValueTransfer = caver.transaction.valueTransfer.create(
+                    TxPropertyBuilder.valueTransfer()
+                            .setNonce(BigInteger.valueOf(nonce))
+                            .setGas(gas)
+                            .setGasPrice(gasPrice)
+                            .setTo(to)
+                            .setChainId(chainId)
+                            .setValue(value)
+                            .setFrom(from)
+                            .setSignatures(signatureData)
+            );
+            assertEquals(expectedHash, mValueTransfer.getTransactionHash());
+            String rlpEncodingForSignature = mValueTransfer.getRLPEncodingForSignature();
+            String hashForSignature = TransactionHasher.getHashForSignature(mValueTransfer);
+            assertSame(hashForSignature, TransactionHasher.getHashForSignature(mValueTransfer));
+
+            mValueTransfer.setNonce(BigInteger.valueOf(nonce + 1));
+            assertNotEquals(expectedHash, mValueTransfer.getTransactionHash());
+            assertNotEquals(rlpEncodingForSignature, mValueTransfer.getRLPEncodingForSignature());
+            assertNotEquals(hashForSignature, TransactionHasher.getHashForSignature(mValueTransfer));
+
+            mValueTransfer.setNonce(BigInteger.valueOf(nonce));
+            assertEquals(expectedHash, mValueTransfer.getTransactionHash());
+            assertEquals(rlpEncodingForSignature, mValueTransfer.getRLPEncodingForSignature());
+
+            mValueTransfer.appendSignatures(new SignatureData("0x26", "0x01", "0x02"));
+            assertNotEquals(expectedHash, mValueTransfer.getTransactionHash());
+            assertEquals(rlpEncodingForSignature, mValueTransfer.getRLPEncodingForSignature());
+            assertEquals(hashForSignature, TransactionHasher.getHashForSignature(mValueTransfer));
+            assertEquals(mValueTransfer.getTransactionHash(), mValueTransfer.getSenderTxHash());
+
+            byte[] encoded = mValueTransfer.getRLPEncodingBytes();
+            encoded[0] = 0;
+            assertEquals(TransactionType.TxTypeValueTransfer.getType(), mValueTransfer.getRLPEncodingBytes()[0]);
+        }
+
         @Test
         public void throwException_NotDefined_Nonce() {
             expectedException.expect(RuntimeException.class);
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.utils;
+
+import com.klaytn.caver.utils.RlpReader;
+import com.klaytn.caver.utils.RlpWriter;
+import org.junit.Test;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class RlpReaderTest {
+    @Test
+    public void readValues() {
+        byte[] longBytes = new byte[1024];
+        Arrays.fill(longBytes, (byte)0x11);
+
+        RlpWriter writer = new RlpWriter();
+        writer.writeRaw((byte)0x08);
+        writer.startList();
+        writer.writeLong(0);
+        writer.writeLong(0x7f);
+        writer.writeBigInteger(new BigInteger("123456789012345678901234567890"));
+        writer.writeHexBytes("0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a");
+        writer.startList();
+        writer.writeBytes(longBytes);
+        writer.endList();
+        writer.writeBytes(new byte[0]);
+        writer.endList();
+
+        RlpReader values = RlpReader.ofList(writer.toByteArray(), 1);
+        assertEquals(BigInteger.ZERO, values.readBigInteger());
+        assertEquals(BigInteger.valueOf(0x7f), values.readBigInteger());
+        assertEquals(new BigInteger("123456789012345678901234567890"), values.readBigInteger());
+        assertEquals("0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a", values.readHexString());
+
+        assertTrue(values.isNextList());
+        RlpReader inner = values.readList();
+        assertArrayEquals(longBytes, inner.readBytes());
+        assertFalse(inner.hasNext());
+
+        assertEquals("0x", values.readHexString());
+        assertFalse(values.hasNext());
+    }
+
+    @Test
+    public void skip() {
+        RlpReader values = RlpReader.ofList(Numeric.hexStringToByteArray("0xc6c20102820304"), 0);
+        values.skip();
+        assertEquals("0x0304", values.readHexString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwException_lengthExceedsData() {
+        RlpReader.ofList(Numeric.hexStringToByteArray("0xc58203"), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwException_readStringAsList() {
+        RlpReader.ofList(Numeric.hexStringToByteArray("0xc20102"), 0).readList();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwException_noItemLeft() {
+        RlpReader values = RlpReader.ofList(Numeric.hexStringToByteArray("0xc101"), 0);
+        values.readBigInteger();
+        values.readBigInteger();
+    }
+}
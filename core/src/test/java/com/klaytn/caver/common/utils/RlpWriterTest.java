@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.utils;
+
+import com.klaytn.caver.utils.RlpWriter;
+import com.klaytn.caver.wallet.keyring.SignatureData;
+import org.junit.Test;
+import org.web3j.rlp.RlpEncoder;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class RlpWriterTest {
+    static final String[] HEX_VALUES = {
+            "0x", "0x0", "0x00", "0x1", "0x7f", "0x80", "0xff", "0x0100", "0x3a699d00", "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a",
+            "0x0000000000000000000000000000000000000000000000000000000000000001",
+            "0x608060405234801561001057600080fd5b5060405161011e38038061011e8339810180604052602081101561003357600080fd5b8101908080519060200190929190505050"
+    };
+
+    @Test
+    public void writeHexBytes() {
+        for(String hex : HEX_VALUES) {
+            RlpWriter writer = new RlpWriter();
+            writer.writeHexBytes(hex);
+            assertArrayEquals(hex, RlpEncoder.encode(RlpString.create(Numeric.hexStringToByteArray(hex))), writer.toByteArray());
+        }
+    }
+
+    @Test
+    public void writeHexNumber() {
+        for(String hex : HEX_VALUES) {
+            if(hex.equals("0x")) {
+                continue;
+            }
+            RlpWriter writer = new RlpWriter();
+            writer.writeHexNumber(hex);
+            assertArrayEquals(hex, RlpEncoder.encode(RlpString.create(Numeric.toBigInt(hex))), writer.toByteArray());
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void writeHexNumber_throwException_invalidHex() {
+        new RlpWriter().writeHexNumber("0xzz");
+    }
+
+    @Test
+    public void writeIntegers() {
+        long[] values = {0, 1, 0x7f, 0x80, 0xff, 0x100, 25000, Long.MAX_VALUE};
+        for(long value : values) {
+            RlpWriter writer = new RlpWriter();
+            writer.writeLong(value);
+            assertArrayEquals(RlpEncoder.encode(RlpString.create(value)), writer.toByteArray());
+
+            writer.reset();
+            writer.writeBigInteger(BigInteger.valueOf(value));
+            assertArrayEquals(RlpEncoder.encode(RlpString.create(BigInteger.valueOf(value))), writer.toByteArray());
+        }
+    }
+
+    @Test
+    public void writeNestedList() {
+        byte[] longBytes = new byte[1024];
+        Arrays.fill(longBytes, (byte)0x11);
+
+        List<RlpType> inner = new ArrayList<>();
+        inner.add(RlpString.create(longBytes));
+        inner.add(RlpString.create((byte)0x08));
+        RlpList expected = new RlpList(new RlpList(inner), new RlpList(), RlpString.create(new byte[0]));
+
+        RlpWriter writer = new RlpWriter(16);
+        writer.startList();
+        writer.startList();
+        writer.writeBytes(longBytes);
+        writer.writeByte((byte)0x08);
+        writer.endList();
+        writer.startList();
+        writer.endList();
+        writer.writeBytes(new byte[0]);
+        writer.endList();
+
+        assertArrayEquals(RlpEncoder.encode(expected), writer.toByteArray());
+        assertEquals(Numeric.toHexString(RlpEncoder.encode(expected)), writer.toHexString());
+        assertEquals(writer.size(), writer.toByteBuffer().remaining());
+    }
+
+    @Test
+    public void writeEmbeddedString() {
+        for(String hex : new String[] {"0x01", "0x80", "0xc0", "0xf86c0a"}) {
+            RlpWriter writer = new RlpWriter();
+            writer.startString();
+            writer.writeRaw(Numeric.hexStringToByteArray(hex));
+            writer.endString();
+            assertArrayEquals(RlpEncoder.encode(RlpString.create(Numeric.hexStringToByteArray(hex))), writer.toByteArray());
+        }
+    }
+
+    @Test
+    public void writeSignatureData() {
+        SignatureData[] signatures = {
+                new SignatureData("0x0fea", "0xade9480f584fe481bf070ab758ecc010afa15debc33e1bd75af637d834073a6e", "0x38160105d78cef4529d765941ad6637d8dcf6bd99310e165fee1c39fff2aa27e"),
+                new SignatureData("0x0", "0x00ad", "0x0000"),
+                new SignatureData("0x01", "0x01", "0x7f"),
+        };
+        for(SignatureData signature : signatures) {
+            RlpWriter writer = new RlpWriter();
+            signature.writeRlp(writer);
+            assertArrayEquals(RlpEncoder.encode(signature.toRlpList()), writer.toByteArray());
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.klaytn.caver.common.wallet;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.klaytn.caver.Caver;
 import com.klaytn.caver.account.AccountKeyRoleBased;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
@@ -25,16 +26,34 @@ import com.klaytn.caver.transaction.type.AccountUpdate;
 import com.klaytn.caver.transaction.type.FeeDelegatedValueTransfer;
 import com.klaytn.caver.transaction.type.ValueTransfer;
 import com.klaytn.caver.utils.Utils;
+import com.klaytn.caver.wallet.KeyStoreLoader;
+import com.klaytn.caver.wallet.KeyringContainer;
+import com.klaytn.caver.wallet.SignResult;
 import com.klaytn.caver.wallet.keyring.*;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
+import org.web3j.crypto.CipherException;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.junit.Assert.*;
 
@@ -996,4 +1015,288 @@ public class KeyringContainerTest {
 
     }
 
+    public static class signAllTest {
+        Caver caver = new Caver(Caver.DEFAULT_URL);
+
+        @Test
+        public void signAll() throws IOException {
+            List<AbstractKeyring> keyrings = new ArrayList<>();
+            for(int i = 0; i < 3; i++) {
+                keyrings.add(caver.wallet.add(caver.wallet.keyring.generate()));
+            }
+            SingleKeyring notInWallet = caver.wallet.keyring.generate();
+
+            List<ValueTransfer> transactions = new ArrayList<>();
+            for(int i = 0; i < 150; i++) {
+                transactions.add(generateValueTransfer(keyrings.get(i % keyrings.size())));
+            }
+            transactions.add(generateValueTransfer(notInWallet));
+
+            ForkJoinPool pool = new ForkJoinPool(4);
+            List<SignResult<ValueTransfer>> results;
+            try {
+                results = caver.wallet.signAll(transactions, pool);
+            } finally {
+                pool.shutdown();
+            }
+
+            assertEquals(transactions.size(), results.size());
+            for(int i = 0; i < 150; i++) {
+                SignResult<ValueTransfer> result = results.get(i);
+                assertTrue(result.isSuccess());
+                assertSame(transactions.get(i), result.getTransaction());
+
+                ValueTransfer expected = generateValueTransfer(keyrings.get(i % keyrings.size()));
+                expected.sign(keyrings.get(i % keyrings.size()));
+                assertEquals(expected.getRawTransaction(), result.getTransaction().getRawTransaction());
+            }
+
+            SignResult<ValueTransfer> failed = results.get(150);
+            assertFalse(failed.isSuccess());
+            assertTrue(failed.getError() instanceof NullPointerException);
+            assertTrue(Utils.isEmptySig(failed.getTransaction().getSignatures()));
+        }
+
+        @Test
+        public void signAllAsFeePayer() throws IOException {
+            AbstractKeyring sender = caver.wallet.add(caver.wallet.keyring.generate());
+            AbstractKeyring feePayer = caver.wallet.add(caver.wallet.keyring.generate());
+
+            List<FeeDelegatedValueTransfer> transactions = new ArrayList<>();
+            for(int i = 0; i < 100; i++) {
+                FeeDelegatedValueTransfer transaction = generateFeeDelegatedValueTransfer(sender);
+                transaction.setFeePayer(feePayer.getAddress());
+                transactions.add(transaction);
+            }
+            transactions.add(generateFeeDelegatedValueTransfer(sender));
+
+            List<SignResult<FeeDelegatedValueTransfer>> results = caver.wallet.signAllAsFeePayer(transactions);
+
+            assertEquals(transactions.size(), results.size());
+            for(int i = 0; i < 100; i++) {
+                assertTrue(results.get(i).isSuccess());
+
+                FeeDelegatedValueTransfer expected = generateFeeDelegatedValueTransfer(sender);
+                expected.setFeePayer(feePayer.getAddress());
+                expected.signAsFeePayer(feePayer);
+                assertEquals(expected.getFeePayerSignatures(), results.get(i).getTransaction().getFeePayerSignatures());
+            }
+            assertFalse(results.get(100).isSuccess());
+        }
+    }
+
+    public static class storageModeTest {
+        static String toAddress(int index) {
+            return String.format("0x%040x", index);
+        }
+
+        @Test
+        public void compactSingleKeyring() {
+            KeyringContainer container = new KeyringContainer(KeyringContainer.StorageMode.COMPACT);
+            SingleKeyring keyring = KeyringFactory.generate();
+
+            AbstractKeyring added = container.add(keyring);
+            validateSingleKeyring(added, keyring.getAddress(), keyring.getKey().getPrivateKey());
+            validateSingleKeyring(container.getKeyring(keyring.getAddress()), keyring.getAddress(), keyring.getKey().getPrivateKey());
+            validateSingleKeyring(container.getKeyring(keyring.getAddress().toUpperCase().replace("0X", "0x")), keyring.getAddress(), keyring.getKey().getPrivateKey());
+            assertEquals(KeyringContainer.StorageMode.COMPACT, container.getStorageMode());
+            assertEquals(1, container.length());
+        }
+
+        @Test
+        public void compactKeepsOtherKeyrings() {
+            KeyringContainer container = new KeyringContainer(KeyringContainer.StorageMode.COMPACT);
+            String address = KeyringFactory.generate().getAddress();
+            String[] keys = KeyringFactory.generateMultipleKeys(3);
+
+            AbstractKeyring added = container.add(KeyringFactory.createWithMultipleKey(address, keys));
+
+            assertSame(added, container.getKeyring(address));
+            validateMultipleKeyring(container.getKeyring(address), address, keys);
+        }
+
+        @Test
+        public void compactUpdateAndRemove() {
+            KeyringContainer container = new KeyringContainer(KeyringContainer.StorageMode.COMPACT);
+            SingleKeyring keyring = container.keyring.generate();
+            String newKey = container.keyring.generateSingleKey();
+            container.add(keyring);
+
+            container.updateKeyring(KeyringFactory.create(keyring.getAddress(), newKey));
+            validateSingleKeyring(container.getKeyring(keyring.getAddress()), keyring.getAddress(), newKey);
+
+            assertTrue(container.remove(keyring.getAddress()));
+            assertFalse(container.remove(keyring.getAddress()));
+            assertFalse(container.isExisted(keyring.getAddress()));
+            assertNull(container.getKeyring(keyring.getAddress()));
+            assertEquals(0, container.length());
+        }
+
+        @Test
+        public void manyKeyrings() {
+            String privateKey = PrivateKey.generate().getPrivateKey();
+            for(KeyringContainer.StorageMode mode : KeyringContainer.StorageMode.values()) {
+                KeyringContainer container = new KeyringContainer(mode);
+                for(int i = 0; i < 3000; i++) {
+                    container.add(KeyringFactory.create(toAddress(i), privateKey));
+                }
+                for(int i = 0; i < 3000; i += 2) {
+                    assertTrue(container.remove(toAddress(i)));
+                }
+                for(int i = 3000; i < 4000; i++) {
+                    container.add(KeyringFactory.create(toAddress(i), privateKey));
+                }
+
+                assertEquals(2500, container.length());
+                for(int i = 0; i < 4000; i++) {
+                    boolean exists = i >= 3000 || i % 2 == 1;
+                    assertEquals(exists, container.isExisted(toAddress(i)));
+                    if(exists) {
+                        validateSingleKeyring(container.getKeyring(toAddress(i)), toAddress(i), privateKey);
+                    }
+                }
+            }
+        }
+
+        @Test
+        public void concurrentReadAndWrite() throws Exception {
+            KeyringContainer container = new KeyringContainer(KeyringContainer.StorageMode.COMPACT);
+            String privateKey = PrivateKey.generate().getPrivateKey();
+            for(int i = 0; i < 100; i++) {
+                container.add(KeyringFactory.create(toAddress(i), privateKey));
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            AtomicBoolean writing = new AtomicBoolean(true);
+            try {
+                Future<?> writer = executor.submit(() -> {
+                    for(int i = 100; i < 5000; i++) {
+                        container.add(KeyringFactory.create(toAddress(i), privateKey));
+                        if(i % 3 == 0) {
+                            container.remove(toAddress(i));
+                        }
+                    }
+                    writing.set(false);
+                });
+
+                List<Future<?>> readers = new ArrayList<>();
+                for(int t = 0; t < 3; t++) {
+                    readers.add(executor.submit(() -> {
+                        do {
+                            for(int i = 0; i < 100; i++) {
+                                assertEquals(toAddress(i), container.getKeyring(toAddress(i)).getAddress());
+                            }
+                        } while(writing.get());
+                    }));
+                }
+
+                writer.get();
+                for(Future<?> reader : readers) {
+                    reader.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            assertEquals(5000 - 1633, container.length());
+        }
+
+        @Test
+        public void signAllWithCompact() throws IOException {
+            KeyringContainer container = new KeyringContainer(KeyringContainer.StorageMode.COMPACT);
+            SingleKeyring keyring = KeyringFactory.generate();
+            container.add(keyring);
+
+            List<ValueTransfer> transactions = new ArrayList<>();
+            for(int i = 0; i < 10; i++) {
+                transactions.add(generateValueTransfer(keyring));
+            }
+            List<SignResult<ValueTransfer>> results = container.signAll(transactions);
+
+            ValueTransfer expected = generateValueTransfer(keyring);
+            expected.sign(keyring);
+            for(SignResult<ValueTransfer> result : results) {
+                assertTrue(result.isSuccess());
+                assertEquals(expected.getRawTransaction(), result.getTransaction().getRawTransaction());
+            }
+        }
+    }
+
+    public static class keyStoreLoaderTest {
+        @Rule
+        public TemporaryFolder folder = new TemporaryFolder();
+
+        static List<AbstractKeyring> writeKeyStores(File directory) throws CipherException, IOException {
+            ObjectMapper mapper = new ObjectMapper();
+            List<AbstractKeyring> keyrings = new ArrayList<>();
+            for(int i = 0; i < 10; i++) {
+                keyrings.add(KeyringFactory.generate());
+            }
+            keyrings.add(KeyringFactory.createWithMultipleKey(KeyringFactory.generate().getAddress(), KeyringFactory.generateMultipleKeys(3)));
+            keyrings.add(KeyringFactory.createWithRoleBasedKey(KeyringFactory.generate().getAddress(), KeyringFactory.generateRoleBasedKeys(new int[]{2, 1, 1})));
+
+            for(int i = 0; i < keyrings.size(); i++) {
+                KeyStore keyStore = i == 0 ? keyrings.get(i).encryptV3("password") : keyrings.get(i).encrypt("password");
+                mapper.writeValue(new File(directory, "keystore-" + i), keyStore);
+            }
+            Files.write(new File(directory, "invalid.json").toPath(), "{\"version\":4}".getBytes(StandardCharsets.UTF_8));
+            mapper.writeValue(new File(directory, "wrong-password"), KeyringFactory.generate().encrypt("other password"));
+            Files.write(new File(directory, ".hidden").toPath(), "hidden".getBytes(StandardCharsets.UTF_8));
+            return keyrings;
+        }
+
+        static void checkLoaded(KeyStoreLoader.Result result, KeyringContainer container, List<AbstractKeyring> keyrings) {
+            assertEquals(14, result.getProcessed());
+            assertEquals(12, result.getLoaded());
+            assertEquals(2, result.getFailed());
+            assertEquals(2, result.getFailures().size());
+            for(KeyStoreLoader.Failure failure : result.getFailures()) {
+                assertTrue(failure.getSource().endsWith("invalid.json") || failure.getSource().endsWith("wrong-password"));
+            }
+
+            assertEquals(12, container.length());
+            for(AbstractKeyring keyring : keyrings) {
+                assertNotNull(container.getKeyring(keyring.getAddress()));
+            }
+        }
+
+        @Test
+        public void loadDirectory() throws CipherException, IOException {
+            File directory = folder.newFolder();
+            List<AbstractKeyring> keyrings = writeKeyStores(directory);
+
+            List<KeyStoreLoader.Progress> reports = Collections.synchronizedList(new ArrayList<>());
+            KeyStoreLoader loader = new KeyStoreLoader();
+            loader.setMaxPending(2);
+            loader.setProgressInterval(5);
+            loader.setProgressListener(reports::add);
+
+            KeyringContainer container = new KeyringContainer();
+            KeyStoreLoader.Result result = loader.load(directory.toPath(), "password", container);
+
+            checkLoaded(result, container, keyrings);
+            assertEquals(3, reports.size());
+            assertSame(result, reports.get(2));
+        }
+
+        @Test
+        public void loadZip() throws CipherException, IOException {
+            File directory = folder.newFolder();
+            List<AbstractKeyring> keyrings = writeKeyStores(directory);
+
+            File archive = folder.newFile("keystores.zip");
+            try(ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(archive))) {
+                for(File file : directory.listFiles()) {
+                    zip.putNextEntry(new ZipEntry("keystores/" + file.getName()));
+                    zip.write(Files.readAllBytes(file.toPath()));
+                    zip.closeEntry();
+                }
+            }
+
+            KeyringContainer container = new KeyringContainer(KeyringContainer.StorageMode.COMPACT);
+            KeyStoreLoader.Result result = new KeyStoreLoader().load(archive.toPath(), "password", container);
+
+            checkLoaded(result, container, keyrings);
+        }
+    }
 }
@@ -19,19 +19,25 @@ package com.klaytn.caver.common.wallet;
 import com.klaytn.caver.account.*;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.*;
+import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.web3j.crypto.CipherException;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.crypto.Sign;
 import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
 import java.security.SignatureException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -156,6 +162,106 @@ public class KeyringTest {
 
             assertTrue(Utils.isAddress(keyring.getAddress()));
         }
+
+        @Test
+        public void generateMultiple() {
+            List<SingleKeyring> keyrings = KeyringFactory.generate(100, null);
+
+            assertEquals(100, keyrings.size());
+            assertEquals(100, keyrings.stream().map(SingleKeyring::getAddress).distinct().count());
+            for(SingleKeyring keyring : keyrings) {
+                assertEquals(keyring.getKey().getDerivedAddress(), keyring.getAddress());
+            }
+        }
+
+        @Test
+        public void generateInBatches() throws IOException, CipherException {
+            KeyringGenerator generator = new KeyringGenerator();
+            generator.setBatchSize(40);
+
+            List<Integer> sizes = new ArrayList<>();
+            List<String> addresses = new ArrayList<>();
+            generator.generate(100, batch -> {
+                sizes.add(batch.size());
+                addresses.addAll(batch.getAddresses());
+                assertNull(batch.getKeyStores());
+            });
+
+            assertEquals(Arrays.asList(40, 40, 20), sizes);
+            assertEquals(100, addresses.stream().distinct().count());
+        }
+
+        @Test
+        public void generateEncrypted() throws IOException, CipherException {
+            KeyringGenerator generator = new KeyringGenerator();
+            generator.setBatchSize(2);
+            generator.setEncryption("password", KeyStore.Pbkdf2KdfParams.getName());
+
+            List<KeyringGenerator.Batch> batches = new ArrayList<>();
+            generator.generate(3, batches::add);
+
+            assertEquals(2, batches.size());
+            for(KeyringGenerator.Batch batch : batches) {
+                for(int i = 0; i < batch.size(); i++) {
+                    SingleKeyring decrypted = (SingleKeyring)KeyringFactory.decrypt(batch.getKeyStores().get(i), "password");
+                    assertEquals(batch.getKeyrings().get(i).getAddress(), decrypted.getAddress());
+                    assertEquals(batch.getKeyrings().get(i).getKey().getPrivateKey(), decrypted.getKey().getPrivateKey());
+                }
+            }
+        }
+
+        @Test
+        public void generateStopsOnHandlerException() throws CipherException {
+            KeyringGenerator generator = new KeyringGenerator();
+            generator.setBatchSize(10);
+
+            List<KeyringGenerator.Batch> batches = new ArrayList<>();
+            try {
+                generator.generate(100, batch -> {
+                    batches.add(batch);
+                    throw new IOException("stop");
+                });
+                fail();
+            } catch(IOException e) {
+                assertEquals("stop", e.getMessage());
+            }
+            assertEquals(1, batches.size());
+        }
+
+        @Test
+        public void stopNextBatchOnHandlerException() throws CipherException {
+            // The first batch is generated right away, and the next one is deferred until the handler has thrown.
+            AtomicInteger submitted = new AtomicInteger();
+            List<Runnable> deferred = new ArrayList<>();
+            KeyringGenerator generator = new KeyringGenerator(task -> {
+                if(submitted.getAndIncrement() == 0) {
+                    task.run();
+                } else {
+                    deferred.add(task);
+                }
+            });
+            generator.setBatchSize(2);
+            generator.setEncryption("password", KeyStore.Pbkdf2KdfParams.getName());
+
+            // Every encryption caches its derived key, so the cache size is the number of encrypted keyrings.
+            KeyDerivation.enableCache(10);
+            try {
+                generator.generate(4, batch -> {
+                    throw new IOException("stop");
+                });
+                fail();
+            } catch(IOException e) {
+                assertEquals("stop", e.getMessage());
+            }
+
+            try {
+                deferred.forEach(Runnable::run);
+                assertEquals(1, deferred.size());
+                assertEquals(2, KeyDerivation.getCacheSize());
+            } finally {
+                KeyDerivation.disableCache();
+            }
+        }
     }
 
     public static class createFromPrivateKeyTest {
@@ -1559,6 +1665,89 @@ public class KeyringTest {
 
 
 
+    public static class keyDerivationTest {
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @After
+        public void restore() {
+            KeyDerivation.disableCache();
+            KeyDerivation.setExecutor(ForkJoinPool.commonPool());
+        }
+
+        @Test
+        public void decryptKeysWithDifferentSalts() throws CipherException {
+            String address = KeyringFactory.generate().getAddress();
+            String[] privateKeys = KeyringFactory.generateMultipleKeys(4);
+
+            List<KeyStore.Crypto> cryptoList = new ArrayList<>();
+            for(String privateKey : privateKeys) {
+                cryptoList.addAll(KeyringFactory.create(address, privateKey).encrypt("password").getKeyring());
+            }
+            KeyStore keyStore = new KeyStore();
+            keyStore.setAddress(address);
+            keyStore.setVersion(KeyStore.KEY_STORE_VERSION_V4);
+            keyStore.setKeyring(cryptoList);
+
+            AtomicInteger executed = new AtomicInteger();
+            KeyDerivation.setExecutor(task -> {
+                executed.incrementAndGet();
+                ForkJoinPool.commonPool().execute(task);
+            });
+
+            MultipleKeyring decrypted = (MultipleKeyring)KeyringFactory.decrypt(keyStore, "password");
+            checkValidateMultipleKey(decrypted, address, privateKeys);
+            assertEquals(4, executed.get());
+        }
+
+        @Test
+        public void cacheDerivedKeys() throws CipherException {
+            KeyDerivation.enableCache(10);
+
+            String address = KeyringFactory.generate().getAddress();
+            List<String[]> privateKeys = KeyringFactory.generateRoleBasedKeys(new int[]{3, 2, 1});
+            KeyStore keyStore = KeyringFactory.createWithRoleBasedKey(address, privateKeys).encrypt("password");
+            assertEquals(1, KeyDerivation.getCacheSize());
+
+            RoleBasedKeyring decrypted = (RoleBasedKeyring)KeyringFactory.decrypt(keyStore, "password");
+            checkValidateRoleBasedKey(decrypted, address, privateKeys);
+            assertEquals(1, KeyDerivation.getCacheSize());
+
+            KeyDerivation.clearCache();
+            assertEquals(0, KeyDerivation.getCacheSize());
+            assertTrue(KeyDerivation.isCacheEnabled());
+        }
+
+        @Test
+        public void cacheWithInvalidPassword() throws CipherException {
+            expectedException.expect(CipherException.class);
+            expectedException.expectMessage("Invalid password provided");
+
+            KeyDerivation.enableCache(10);
+            KeyStore keyStore = KeyringFactory.generate().encrypt("password");
+            KeyringFactory.decrypt(keyStore, "password");
+
+            KeyringFactory.decrypt(keyStore, "wrong password");
+        }
+
+        @Test
+        public void notCacheKeysOfInvalidPassword() throws CipherException {
+            KeyStore keyStore = KeyringFactory.generate().encrypt("password");
+            KeyDerivation.enableCache(10);
+
+            try {
+                KeyringFactory.decrypt(keyStore, "wrong password");
+                fail();
+            } catch(CipherException e) {
+                assertEquals("Invalid password provided", e.getMessage());
+            }
+            assertEquals(0, KeyDerivation.getCacheSize());
+
+            KeyringFactory.decrypt(keyStore, "password");
+            assertEquals(1, KeyDerivation.getCacheSize());
+        }
+    }
+
     public static class encryptTest {
         @Rule
         public ExpectedException expectedException = ExpectedException.none();
@@ -2826,4 +3015,32 @@ public class KeyringTest {
             checkSignature(expectedList, actualList);
         }
     }
+
+    public static class privateKeySignTest {
+        static final String HASH = "0xe9a11d9ef95fb437f75d07ce768d43e74f158dd54b106e7d3746ce29d545b550";
+        static final String PRIVATE_KEY = "0x45a915e4d060149eb4365960e6a7a45f334393093061116b197e3240065ff2d8";
+
+        @Test
+        public void signWithBytesHash() {
+            PrivateKey privateKey = new PrivateKey(PRIVATE_KEY);
+
+            ECKeyPair keyPair = ECKeyPair.create(Numeric.toBigInt(PRIVATE_KEY));
+            Sign.SignatureData expected = Sign.signMessage(Numeric.hexStringToByteArray(HASH), keyPair, false);
+            SignatureData expectedSignature = new SignatureData(expected.getV(), expected.getR(), expected.getS());
+            expectedSignature.makeEIP155Signature(1001);
+
+            assertEquals(expectedSignature, privateKey.sign(Numeric.hexStringToByteArray(HASH), 1001));
+            assertEquals(expectedSignature, privateKey.sign(HASH, 1001));
+        }
+
+        @Test
+        public void reuseKeyPair() {
+            PrivateKey privateKey = new PrivateKey(PRIVATE_KEY);
+
+            assertSame(privateKey.getKeyPair(), privateKey.getKeyPair());
+            assertEquals(Numeric.toBigInt(PRIVATE_KEY), privateKey.getKeyPair().getPrivateKey());
+            assertEquals("0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b", privateKey.getDerivedAddress());
+            assertSame(privateKey.getDerivedAddress(), privateKey.getDerivedAddress());
+        }
+    }
 }